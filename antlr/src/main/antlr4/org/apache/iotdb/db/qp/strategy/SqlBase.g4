@@ -66,6 +66,7 @@ statement
     | UNSET TTL TO path=prefixPath #unsetTTLStatement
     | SHOW TTL ON prefixPath (COMMA prefixPath)* #showTTLStatement
     | SHOW ALL TTL #showAllTTLStatement
+    | SET ALIGNED TO path=prefixPath #setAlignedStatement
     | SHOW FLUSH TASK INFO #showFlushTaskInfo
     | SHOW DYNAMIC PARAMETER #showDynamicParameter
     | SHOW VERSION #showVersion
@@ -158,6 +159,8 @@ compressor
     | SDT
     | PAA
     | PLA
+    | LZ4
+    | ZSTD
     ;
 
 attributeClause
@@ -465,6 +468,7 @@ nodeName
     | LAST
     | DISABLE
     | ALIGN
+    | ALIGNED
     | COMPRESSION
     | TIME
     | ATTRIBUTES
@@ -575,6 +579,7 @@ nodeNameWithoutStar
     | LAST
     | DISABLE
     | ALIGN
+    | ALIGNED
     | COMPRESSION
     | TIME
     | ATTRIBUTES
@@ -620,7 +625,7 @@ dateExpression
     ;
 
 encoding
-    : PLAIN | PLAIN_DICTIONARY | RLE | DIFF | TS_2DIFF | GORILLA | REGULAR
+    : PLAIN | PLAIN_DICTIONARY | RLE | DIFF | TS_2DIFF | GORILLA | CHIMP | ALP | REGULAR | AUTO
     ;
 
 realLiteral
@@ -837,6 +842,18 @@ GORILLA
     : G O R I L L A
     ;
 
+CHIMP
+    : C H I M P
+    ;
+
+ALP
+    : A L P
+    ;
+
+AUTO
+    : A U T O
+    ;
+
 
 REGULAR
     : R E G U L A R
@@ -1050,6 +1067,10 @@ ALIGN
     : A L I G N
     ;
 
+ALIGNED
+    : A L I G N E D
+    ;
+
 COMPRESSION
     : C O M P R E S S I O N
     ;
@@ -1123,6 +1144,14 @@ PLA
    : P L A
    ;
 
+LZ4
+   : L Z '4'
+   ;
+
+ZSTD
+   : Z S T D
+   ;
+
 LATEST
     : L A T E S T
     ;
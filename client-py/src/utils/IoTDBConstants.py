@@ -39,6 +39,9 @@ class TSEncoding(Enum):
     BITMAP = 5
     GORILLA = 6
     REGULAR = 7
+    CHIMP = 8
+    ALP = 9
+    AUTO = 10
 
 
 @unique
@@ -80,8 +80,8 @@ public class TsFileSequenceRead {
             ByteBuffer pageData = reader.readPage(pageHeader, header.getCompressionType());
             System.out
                 .println("\t\tUncompressed page data size: " + pageHeader.getUncompressedSize());
-            PageReader reader1 = new PageReader(pageData, header.getDataType(), valueDecoder,
-                defaultTimeDecoder, null);
+            PageReader reader1 = new PageReader(pageHeader, pageData, header.getDataType(),
+                valueDecoder, defaultTimeDecoder, null);
             BatchData batchData = reader1.getAllSatisfiedPageData();
             while (batchData.hasCurrent()) {
               System.out.println(
@@ -18,11 +18,13 @@
  */
 package org.apache.iotdb.db.concurrent;
 
+import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.SynchronousQueue;
 import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import org.apache.thrift.server.TThreadPoolServer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -53,6 +55,20 @@ public class IoTDBThreadPoolFactory {
     return Executors.newFixedThreadPool(nthreads, new IoTThreadFactory(poolName, handler));
   }
 
+  /**
+   * see {@link Executors#newFixedThreadPool(int, java.util.concurrent.ThreadFactory)}, except that
+   * the queued tasks are taken from the given queue, e.g., a PriorityBlockingQueue.
+   *
+   * @param poolName - the name of thread pool
+   * @return fixed size thread pool
+   */
+  public static ThreadPoolExecutor newFixedThreadPool(int nthreads, String poolName,
+      BlockingQueue<Runnable> workQueue) {
+    logger.info("new fixed thread pool: {}, thread number: {}", poolName, nthreads);
+    return new ThreadPoolExecutor(nthreads, nthreads, 0L, TimeUnit.MILLISECONDS, workQueue,
+        new IoTThreadFactory(poolName));
+  }
+
   /**
    * see {@link Executors#newSingleThreadExecutor(java.util.concurrent.ThreadFactory)}.
    *
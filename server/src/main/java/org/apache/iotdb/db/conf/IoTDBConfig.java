@@ -23,14 +23,19 @@ import static org.apache.iotdb.tsfile.common.constant.TsFileConstant.PATH_SEPARA
 
 import java.io.File;
 import java.time.ZoneId;
+import java.util.Collections;
+import java.util.Map;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import org.apache.iotdb.db.conf.directories.DirectoryManager;
+import org.apache.iotdb.db.engine.compaction.CompactionStrategy;
+import org.apache.iotdb.db.engine.merge.manage.RecompressionPolicy;
 import org.apache.iotdb.db.engine.merge.selector.MergeFileStrategy;
 import org.apache.iotdb.db.exception.LoadConfigurationException;
 import org.apache.iotdb.db.metadata.MManager;
 import org.apache.iotdb.db.service.TSServiceImpl;
 import org.apache.iotdb.tsfile.common.conf.TSFileDescriptor;
+import org.apache.iotdb.tsfile.file.metadata.enums.CompressionType;
 import org.apache.iotdb.tsfile.file.metadata.enums.TSDataType;
 import org.apache.iotdb.tsfile.file.metadata.enums.TSEncoding;
 import org.apache.iotdb.tsfile.fileSystem.FSType;
@@ -199,6 +204,23 @@ public class IoTDBConfig {
    */
   private String[] dataDirs = {"data" + File.separator + "data"};
 
+  /**
+   * Data directories of the slow storage tier. New files are always written into dataDirs, and the
+   * closed files whose data are older than slowTierDataAgeInMs are moved here in the background.
+   * Empty if the data are not tiered.
+   */
+  private String[] slowTierDataDirs = {};
+
+  /**
+   * The closed files whose data are all older than this are moved to the slow tier, in ms.
+   */
+  private long slowTierDataAgeInMs = 7 * 24 * 3600 * 1000L;
+
+  /**
+   * How often the files are checked for moving to the slow tier, in seconds.
+   */
+  private long tierMigrationIntervalSec = 600;
+
   /**
    * Strategy of multiple directories.
    */
@@ -246,6 +268,12 @@ public class IoTDBConfig {
    */
   private int avgSeriesPointNumberThreshold = 100000;
 
+  /**
+   * The number of points sampled from a chunk of a series whose encoding is AUTO to choose the
+   * encoding of the chunk when it is flushed.
+   */
+  private int autoEncodingSampleSize = 1024;
+
   /**
    * When merge point number reaches this, merge the vmfile to the tsfile.
    */
@@ -471,9 +499,10 @@ public class IoTDBConfig {
   private int mergeThreadNum = 1;
 
   /**
-   * How many threads will be set up to perform merge chunk sub-tasks.
+   * How many threads will be set up to perform merge chunk sub-tasks, the number of cores by
+   * default.
    */
-  private int mergeChunkSubThreadNum = 4;
+  private int mergeChunkSubThreadNum = Runtime.getRuntime().availableProcessors();
 
   /**
    * If one merge file selection runs for more than this time, it will be ended and its current
@@ -508,8 +537,96 @@ public class IoTDBConfig {
    */
   private int chunkMergePointThreshold = 20480;
 
+  /**
+   * A merge appends the merged chunks to a seqFile instead of rewriting its unmerged chunks when
+   * that writes fewer bytes, which leaves the old versions of the merged chunks in the file as
+   * obsolete. A seqFile is rewritten anyway once its obsolete bytes would exceed this ratio of its
+   * size.
+   */
+  private double mergeMaxObsoleteRatio = 0.5;
+
+  /**
+   * How the data of storage groups is stored once it gets cold, see RecompressionPolicy. The key is
+   * a storage group or a prefix of storage groups.
+   */
+  private Map<String, RecompressionPolicy> recompressionPolicies = Collections.emptyMap();
+
   private MergeFileStrategy mergeFileStrategy = MergeFileStrategy.MAX_SERIES_NUM;
 
+  /**
+   * How the closed sequence files of each time partition are compacted, only NO_COMPACTION and
+   * LEVELED are allowed as the compacted files must stay adjacent. The VM files are disabled once
+   * either of the compaction strategies is enabled.
+   */
+  private CompactionStrategy seqCompactionStrategy = CompactionStrategy.NO_COMPACTION;
+
+  /**
+   * How the closed unsequence files of each time partition are compacted.
+   */
+  private CompactionStrategy unseqCompactionStrategy = CompactionStrategy.NO_COMPACTION;
+
+  /**
+   * The LEVELED strategy compacts this number of adjacent files of the same level into one file of
+   * the next level.
+   */
+  private int compactionLevelFileNum = 10;
+
+  /**
+   * Files of this level are not compacted by the LEVELED strategy any more.
+   */
+  private int maxCompactionLevel = 4;
+
+  /**
+   * The SIZE_TIERED strategy compacts this number of files of similar sizes into one file.
+   */
+  private int compactionTierFileNum = 10;
+
+  /**
+   * How many compaction tasks of all storage groups may run at the same time.
+   */
+  private int compactionThreadNum = 2;
+
+  /**
+   * A closed file whose deleted points are estimated to take at least this ratio of all its points
+   * is rewritten without them. Purging is disabled if it is not in (0, 1], which is the default.
+   */
+  private double purgeDeletedRatio = 0;
+
+  /**
+   * A closed file is rewritten without its data out of TTL once this ratio of the time span of its
+   * data is out of TTL. Such rewrites are disabled if it is not in (0, 1], which is the default.
+   */
+  private double ttlRewriteExpiredRatio = 0;
+
+  /**
+   * The bytes that flushes may write per second, in MB. Non-positive values mean unlimited.
+   */
+  private int flushThroughputMbPerSec = 0;
+
+  /**
+   * The bytes that queries may read per second, in MB. Non-positive values mean unlimited.
+   */
+  private int queryThroughputMbPerSec = 0;
+
+  /**
+   * The bytes that merges, VM merges and compactions may read and write per second, in MB.
+   * Non-positive values mean unlimited.
+   */
+  private int mergeThroughputMbPerSec = 0;
+
+  /**
+   * The bytes that flushes, queries and merges may read and write per second altogether, in MB.
+   * Merges wait for this budget while flushes and queries do not. Non-positive values mean
+   * unlimited.
+   */
+  private int diskThroughputMbPerSec = 0;
+
+  /**
+   * The bytes that the migrations of files to the slow tier may copy per second, in MB.
+   * Non-positive values mean unlimited.
+   */
+  private int migrationThroughputMbPerSec = 0;
+
   /**
    * Default system file storage is in local file system (unsupported)
    */
@@ -585,6 +702,35 @@ public class IoTDBConfig {
    */
   private int defaultFillInterval = -1;
 
+  /**
+   * Whether concurrent raw data queries over the same series, files and time range share one scan
+   * of the data.
+   */
+  private boolean enableSharedScan = false;
+
+  /**
+   * The max number of decoded batches a shared scan buffers because its queries read at different
+   * speeds. When it is exceeded, the scan accepts no new queries.
+   */
+  private int sharedScanMaxBufferedBatchNum = 1000;
+
+  /**
+   * The number of decoded batches at the beginning of a shared scan kept for queries that join it
+   * late. Once all queries of the scan have read past them, they are dropped and the scan accepts no
+   * new queries.
+   */
+  private int sharedScanReplayBatchNum = 16;
+
+  /**
+   * Whether to cache the results of aggregation, group by and last queries over sealed data.
+   */
+  private boolean enableQueryResultCache = false;
+
+  /**
+   * Memory allocated for the query result cache in kb
+   */
+  private long queryResultCacheMemoryInKB = 64 * 1024L;
+
   /**
    * default TTL for storage groups that are not set TTL by statements, in ms
    * Notice: if this property is changed, previous created storage group which are not set TTL
@@ -592,6 +738,12 @@ public class IoTDBConfig {
    */
   private long defaultTTL = Long.MAX_VALUE;
 
+  /**
+   * The default compressor of the time series created in some storage groups, overriding the
+   * compressor of TSFileConfig. Series created with an explicit compressor are not affected.
+   */
+  private Map<String, CompressionType> storageGroupCompressors = Collections.emptyMap();
+
   /**
    * The default value of primitive array size in array pool
    */
@@ -660,6 +812,46 @@ public class IoTDBConfig {
     this.defaultFillInterval = defaultFillInterval;
   }
 
+  public boolean isEnableSharedScan() {
+    return enableSharedScan;
+  }
+
+  public void setEnableSharedScan(boolean enableSharedScan) {
+    this.enableSharedScan = enableSharedScan;
+  }
+
+  public int getSharedScanMaxBufferedBatchNum() {
+    return sharedScanMaxBufferedBatchNum;
+  }
+
+  public void setSharedScanMaxBufferedBatchNum(int sharedScanMaxBufferedBatchNum) {
+    this.sharedScanMaxBufferedBatchNum = sharedScanMaxBufferedBatchNum;
+  }
+
+  public int getSharedScanReplayBatchNum() {
+    return sharedScanReplayBatchNum;
+  }
+
+  public void setSharedScanReplayBatchNum(int sharedScanReplayBatchNum) {
+    this.sharedScanReplayBatchNum = sharedScanReplayBatchNum;
+  }
+
+  public boolean isEnableQueryResultCache() {
+    return enableQueryResultCache;
+  }
+
+  public void setEnableQueryResultCache(boolean enableQueryResultCache) {
+    this.enableQueryResultCache = enableQueryResultCache;
+  }
+
+  public long getQueryResultCacheMemoryInKB() {
+    return queryResultCacheMemoryInKB;
+  }
+
+  public void setQueryResultCacheMemoryInKB(long queryResultCacheMemoryInKB) {
+    this.queryResultCacheMemoryInKB = queryResultCacheMemoryInKB;
+  }
+
   public boolean isEnablePartition() {
     return enablePartition;
   }
@@ -721,11 +913,17 @@ public class IoTDBConfig {
       for (int i = 0; i < dataDirs.length; i++) {
         dataDirs[i] = hdfsDir + File.separatorChar + dataDirs[i];
       }
+      for (int i = 0; i < slowTierDataDirs.length; i++) {
+        slowTierDataDirs[i] = hdfsDir + File.separatorChar + slowTierDataDirs[i];
+      }
     } else {
       queryDir = addHomeDir(queryDir);
       for (int i = 0; i < dataDirs.length; i++) {
         dataDirs[i] = addHomeDir(dataDirs[i]);
       }
+      for (int i = 0; i < slowTierDataDirs.length; i++) {
+        slowTierDataDirs[i] = addHomeDir(slowTierDataDirs[i]);
+      }
     }
   }
 
@@ -808,6 +1006,30 @@ public class IoTDBConfig {
     this.dataDirs = dataDirs;
   }
 
+  public String[] getSlowTierDataDirs() {
+    return slowTierDataDirs;
+  }
+
+  public void setSlowTierDataDirs(String[] slowTierDataDirs) {
+    this.slowTierDataDirs = slowTierDataDirs;
+  }
+
+  public long getSlowTierDataAgeInMs() {
+    return slowTierDataAgeInMs;
+  }
+
+  public void setSlowTierDataAgeInMs(long slowTierDataAgeInMs) {
+    this.slowTierDataAgeInMs = slowTierDataAgeInMs;
+  }
+
+  public long getTierMigrationIntervalSec() {
+    return tierMigrationIntervalSec;
+  }
+
+  void setTierMigrationIntervalSec(long tierMigrationIntervalSec) {
+    this.tierMigrationIntervalSec = tierMigrationIntervalSec;
+  }
+
   public String getRpcAddress() {
     return rpcAddress;
   }
@@ -1090,7 +1312,7 @@ public class IoTDBConfig {
     return mergeMemoryBudget;
   }
 
-  void setMergeMemoryBudget(long mergeMemoryBudget) {
+  public void setMergeMemoryBudget(long mergeMemoryBudget) {
     this.mergeMemoryBudget = mergeMemoryBudget;
   }
 
@@ -1214,6 +1436,39 @@ public class IoTDBConfig {
     this.chunkMergePointThreshold = chunkMergePointThreshold;
   }
 
+  public double getMergeMaxObsoleteRatio() {
+    return mergeMaxObsoleteRatio;
+  }
+
+  public void setMergeMaxObsoleteRatio(double mergeMaxObsoleteRatio) {
+    this.mergeMaxObsoleteRatio = mergeMaxObsoleteRatio;
+  }
+
+  public Map<String, RecompressionPolicy> getRecompressionPolicies() {
+    return recompressionPolicies;
+  }
+
+  public void setRecompressionPolicies(Map<String, RecompressionPolicy> recompressionPolicies) {
+    this.recompressionPolicies = recompressionPolicies;
+  }
+
+  /**
+   * @return the policy of the storage group or of its nearest configured prefix, or null if none
+   */
+  public RecompressionPolicy getRecompressionPolicy(String storageGroupName) {
+    RecompressionPolicy policy = null;
+    int matchedLength = -1;
+    for (Map.Entry<String, RecompressionPolicy> entry : recompressionPolicies.entrySet()) {
+      String prefix = entry.getKey();
+      if (prefix.length() > matchedLength && (storageGroupName.equals(prefix)
+          || storageGroupName.startsWith(prefix + PATH_SEPARATOR))) {
+        policy = entry.getValue();
+        matchedLength = prefix.length();
+      }
+    }
+    return policy;
+  }
+
   public long getMemtableSizeThreshold() {
     return memtableSizeThreshold;
   }
@@ -1230,6 +1485,14 @@ public class IoTDBConfig {
     this.avgSeriesPointNumberThreshold = avgSeriesPointNumberThreshold;
   }
 
+  public int getAutoEncodingSampleSize() {
+    return autoEncodingSampleSize;
+  }
+
+  public void setAutoEncodingSampleSize(int autoEncodingSampleSize) {
+    this.autoEncodingSampleSize = autoEncodingSampleSize;
+  }
+
   public int getMergeChunkPointNumberThreshold() {
     return mergeChunkPointNumberThreshold;
   }
@@ -1254,6 +1517,110 @@ public class IoTDBConfig {
     this.mergeFileStrategy = mergeFileStrategy;
   }
 
+  public CompactionStrategy getSeqCompactionStrategy() {
+    return seqCompactionStrategy;
+  }
+
+  public void setSeqCompactionStrategy(CompactionStrategy seqCompactionStrategy) {
+    this.seqCompactionStrategy = seqCompactionStrategy;
+  }
+
+  public CompactionStrategy getUnseqCompactionStrategy() {
+    return unseqCompactionStrategy;
+  }
+
+  public void setUnseqCompactionStrategy(CompactionStrategy unseqCompactionStrategy) {
+    this.unseqCompactionStrategy = unseqCompactionStrategy;
+  }
+
+  public int getCompactionLevelFileNum() {
+    return compactionLevelFileNum;
+  }
+
+  public void setCompactionLevelFileNum(int compactionLevelFileNum) {
+    this.compactionLevelFileNum = compactionLevelFileNum;
+  }
+
+  public int getMaxCompactionLevel() {
+    return maxCompactionLevel;
+  }
+
+  public void setMaxCompactionLevel(int maxCompactionLevel) {
+    this.maxCompactionLevel = maxCompactionLevel;
+  }
+
+  public int getCompactionTierFileNum() {
+    return compactionTierFileNum;
+  }
+
+  public void setCompactionTierFileNum(int compactionTierFileNum) {
+    this.compactionTierFileNum = compactionTierFileNum;
+  }
+
+  public int getCompactionThreadNum() {
+    return compactionThreadNum;
+  }
+
+  public void setCompactionThreadNum(int compactionThreadNum) {
+    this.compactionThreadNum = compactionThreadNum;
+  }
+
+  public double getPurgeDeletedRatio() {
+    return purgeDeletedRatio;
+  }
+
+  public void setPurgeDeletedRatio(double purgeDeletedRatio) {
+    this.purgeDeletedRatio = purgeDeletedRatio;
+  }
+
+  public double getTtlRewriteExpiredRatio() {
+    return ttlRewriteExpiredRatio;
+  }
+
+  public void setTtlRewriteExpiredRatio(double ttlRewriteExpiredRatio) {
+    this.ttlRewriteExpiredRatio = ttlRewriteExpiredRatio;
+  }
+
+  public int getMigrationThroughputMbPerSec() {
+    return migrationThroughputMbPerSec;
+  }
+
+  public void setMigrationThroughputMbPerSec(int migrationThroughputMbPerSec) {
+    this.migrationThroughputMbPerSec = migrationThroughputMbPerSec;
+  }
+
+  public int getFlushThroughputMbPerSec() {
+    return flushThroughputMbPerSec;
+  }
+
+  public void setFlushThroughputMbPerSec(int flushThroughputMbPerSec) {
+    this.flushThroughputMbPerSec = flushThroughputMbPerSec;
+  }
+
+  public int getQueryThroughputMbPerSec() {
+    return queryThroughputMbPerSec;
+  }
+
+  public void setQueryThroughputMbPerSec(int queryThroughputMbPerSec) {
+    this.queryThroughputMbPerSec = queryThroughputMbPerSec;
+  }
+
+  public int getMergeThroughputMbPerSec() {
+    return mergeThroughputMbPerSec;
+  }
+
+  public void setMergeThroughputMbPerSec(int mergeThroughputMbPerSec) {
+    this.mergeThroughputMbPerSec = mergeThroughputMbPerSec;
+  }
+
+  public int getDiskThroughputMbPerSec() {
+    return diskThroughputMbPerSec;
+  }
+
+  public void setDiskThroughputMbPerSec(int diskThroughputMbPerSec) {
+    this.diskThroughputMbPerSec = diskThroughputMbPerSec;
+  }
+
   public boolean isEnableVm() {
     return enableVm;
   }
@@ -1274,7 +1641,7 @@ public class IoTDBConfig {
     return mergeChunkSubThreadNum;
   }
 
-  void setMergeChunkSubThreadNum(int mergeChunkSubThreadNum) {
+  public void setMergeChunkSubThreadNum(int mergeChunkSubThreadNum) {
     this.mergeChunkSubThreadNum = mergeChunkSubThreadNum;
   }
 
@@ -1647,6 +2014,28 @@ public class IoTDBConfig {
     this.defaultTTL = defaultTTL;
   }
 
+  public Map<String, CompressionType> getStorageGroupCompressors() {
+    return storageGroupCompressors;
+  }
+
+  public void setStorageGroupCompressors(Map<String, CompressionType> storageGroupCompressors) {
+    this.storageGroupCompressors = storageGroupCompressors;
+  }
+
+  /**
+   * @param path the full path of a time series
+   * @return the compressor of the storage group the series belongs to if configured, otherwise the
+   * compressor of TSFileConfig
+   */
+  public CompressionType getDefaultCompressor(String path) {
+    for (Map.Entry<String, CompressionType> entry : storageGroupCompressors.entrySet()) {
+      if (path.startsWith(entry.getKey() + PATH_SEPARATOR)) {
+        return entry.getValue();
+      }
+    }
+    return TSFileDescriptor.getInstance().getConfig().getCompressor();
+  }
+
   public int getThriftServerAwaitTimeForStopService() {
     return thriftServerAwaitTimeForStopService;
   }
@@ -25,6 +25,8 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.net.URL;
 import java.time.ZoneId;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Properties;
 import org.apache.commons.cli.CommandLine;
 import org.apache.commons.cli.CommandLineParser;
@@ -33,9 +35,12 @@ import org.apache.commons.cli.Option;
 import org.apache.commons.cli.Options;
 import org.apache.commons.cli.ParseException;
 import org.apache.iotdb.db.conf.directories.DirectoryManager;
+import org.apache.iotdb.db.engine.compaction.CompactionStrategy;
+import org.apache.iotdb.db.engine.merge.manage.RecompressionPolicy;
 import org.apache.iotdb.db.exception.query.QueryProcessException;
 import org.apache.iotdb.db.utils.FilePathUtils;
 import org.apache.iotdb.tsfile.common.conf.TSFileDescriptor;
+import org.apache.iotdb.tsfile.file.metadata.enums.CompressionType;
 import org.apache.iotdb.tsfile.file.metadata.enums.TSDataType;
 import org.apache.iotdb.tsfile.fileSystem.FSType;
 import org.slf4j.Logger;
@@ -217,6 +222,7 @@ public class IoTDBDescriptor {
 
       conf.setDataDirs(properties.getProperty("data_dirs", conf.getDataDirs()[0])
           .split(","));
+      loadTieredStorageProps(properties);
 
       conf.setWalDir(properties.getProperty("wal_dir", conf.getWalDir()));
 
@@ -250,6 +256,10 @@ public class IoTDBDescriptor {
           .getProperty("avg_series_point_number_threshold",
               Integer.toString(conf.getAvgSeriesPointNumberThreshold()))));
 
+      conf.setAutoEncodingSampleSize(Integer.parseInt(properties
+          .getProperty("auto_encoding_sample_size",
+              Integer.toString(conf.getAutoEncodingSampleSize()))));
+
       conf.setMergeChunkPointNumberThreshold(Integer.parseInt(properties
           .getProperty("merge_chunk_point_number",
               Integer.toString(conf.getMergeChunkPointNumberThreshold()))));
@@ -336,6 +346,14 @@ public class IoTDBDescriptor {
           Boolean.toString(conf.isForceFullMerge()))));
       conf.setChunkMergePointThreshold(Integer.parseInt(properties.getProperty(
           "chunk_merge_point_threshold", Integer.toString(conf.getChunkMergePointThreshold()))));
+      conf.setMergeMaxObsoleteRatio(Double.parseDouble(properties.getProperty(
+          "merge_max_obsolete_ratio", Double.toString(conf.getMergeMaxObsoleteRatio()))));
+      String recompressionPolicies = properties.getProperty("recompression_policies");
+      if (recompressionPolicies != null && !recompressionPolicies.trim().isEmpty()) {
+        conf.setRecompressionPolicies(parseRecompressionPolicies(recompressionPolicies));
+      }
+      loadCompactionProps(properties);
+      loadIOThrottleProps(properties);
 
       conf.setEnablePartialInsert(
           Boolean.parseBoolean(properties.getProperty("enable_partial_insert",
@@ -410,6 +428,11 @@ public class IoTDBDescriptor {
       conf.setDefaultTTL(Long.parseLong(properties.getProperty("default_ttl",
           String.valueOf(conf.getDefaultTTL()))));
 
+      String storageGroupCompressors = properties.getProperty("storage_group_compressors");
+      if (storageGroupCompressors != null && !storageGroupCompressors.trim().isEmpty()) {
+        conf.setStorageGroupCompressors(parseStorageGroupCompressors(storageGroupCompressors));
+      }
+
 //      conf.setEnablePartition(Boolean.parseBoolean(
 //          properties.getProperty("enable_partition", String.valueOf(conf.isEnablePartition()))));
 
@@ -427,6 +450,23 @@ public class IoTDBDescriptor {
           Integer.parseInt(properties.getProperty("default_fill_interval",
               String.valueOf(conf.getDefaultFillInterval()))));
 
+      conf.setEnableSharedScan(
+          Boolean.parseBoolean(properties.getProperty("enable_shared_scan",
+              String.valueOf(conf.isEnableSharedScan())).trim()));
+      conf.setSharedScanMaxBufferedBatchNum(
+          Integer.parseInt(properties.getProperty("shared_scan_max_buffered_batch_num",
+              String.valueOf(conf.getSharedScanMaxBufferedBatchNum())).trim()));
+      conf.setSharedScanReplayBatchNum(
+          Integer.parseInt(properties.getProperty("shared_scan_replay_batch_num",
+              String.valueOf(conf.getSharedScanReplayBatchNum())).trim()));
+
+      conf.setEnableQueryResultCache(
+          Boolean.parseBoolean(properties.getProperty("enable_query_result_cache",
+              String.valueOf(conf.isEnableQueryResultCache())).trim()));
+      conf.setQueryResultCacheMemoryInKB(
+          Long.parseLong(properties.getProperty("query_result_cache_memory_in_kb",
+              String.valueOf(conf.getQueryResultCacheMemoryInKB())).trim()));
+
       conf.setTagAttributeTotalSize(
           Integer.parseInt(properties.getProperty("tag_attribute_total_size",
               String.valueOf(conf.getTagAttributeTotalSize())))
@@ -510,6 +550,60 @@ public class IoTDBDescriptor {
     }
   }
 
+  private void loadIOThrottleProps(Properties properties) {
+    conf.setFlushThroughputMbPerSec(Integer.parseInt(properties.getProperty(
+        "flush_throughput_mb_per_sec", Integer.toString(conf.getFlushThroughputMbPerSec()))));
+    conf.setQueryThroughputMbPerSec(Integer.parseInt(properties.getProperty(
+        "query_throughput_mb_per_sec", Integer.toString(conf.getQueryThroughputMbPerSec()))));
+    conf.setMergeThroughputMbPerSec(Integer.parseInt(properties.getProperty(
+        "merge_throughput_mb_per_sec", Integer.toString(conf.getMergeThroughputMbPerSec()))));
+    conf.setDiskThroughputMbPerSec(Integer.parseInt(properties.getProperty(
+        "disk_throughput_mb_per_sec", Integer.toString(conf.getDiskThroughputMbPerSec()))));
+    conf.setMigrationThroughputMbPerSec(Integer.parseInt(properties.getProperty(
+        "migration_throughput_mb_per_sec",
+        Integer.toString(conf.getMigrationThroughputMbPerSec()))));
+  }
+
+  private void loadTieredStorageProps(Properties properties) {
+    String slowTierDataDirs = properties.getProperty("slow_tier_data_dirs", "").trim();
+    if (!slowTierDataDirs.isEmpty()) {
+      conf.setSlowTierDataDirs(slowTierDataDirs.split(","));
+    }
+    conf.setSlowTierDataAgeInMs(Long.parseLong(properties.getProperty(
+        "slow_tier_data_age_in_ms", Long.toString(conf.getSlowTierDataAgeInMs()))));
+    conf.setTierMigrationIntervalSec(Long.parseLong(properties.getProperty(
+        "tier_migration_interval_sec", Long.toString(conf.getTierMigrationIntervalSec()))));
+  }
+
+  private void loadCompactionProps(Properties properties) {
+    conf.setSeqCompactionStrategy(CompactionStrategy.valueOf(properties.getProperty(
+        "seq_compaction_strategy", conf.getSeqCompactionStrategy().toString()).trim()));
+    if (conf.getSeqCompactionStrategy() == CompactionStrategy.SIZE_TIERED) {
+      logger.warn("SIZE_TIERED does not keep sequence files adjacent, use LEVELED for the "
+          + "sequence files instead");
+      conf.setSeqCompactionStrategy(CompactionStrategy.LEVELED);
+    }
+    conf.setUnseqCompactionStrategy(CompactionStrategy.valueOf(properties.getProperty(
+        "unseq_compaction_strategy", conf.getUnseqCompactionStrategy().toString()).trim()));
+    conf.setCompactionLevelFileNum(Integer.parseInt(properties.getProperty(
+        "compaction_level_file_num", Integer.toString(conf.getCompactionLevelFileNum()))));
+    conf.setMaxCompactionLevel(Integer.parseInt(properties.getProperty(
+        "max_compaction_level", Integer.toString(conf.getMaxCompactionLevel()))));
+    conf.setCompactionTierFileNum(Integer.parseInt(properties.getProperty(
+        "compaction_tier_file_num", Integer.toString(conf.getCompactionTierFileNum()))));
+    conf.setCompactionThreadNum(Integer.parseInt(properties.getProperty(
+        "compaction_thread_num", Integer.toString(conf.getCompactionThreadNum()))));
+    conf.setPurgeDeletedRatio(Double.parseDouble(properties.getProperty(
+        "purge_deleted_ratio", Double.toString(conf.getPurgeDeletedRatio()))));
+    conf.setTtlRewriteExpiredRatio(Double.parseDouble(properties.getProperty(
+        "ttl_rewrite_expired_ratio", Double.toString(conf.getTtlRewriteExpiredRatio()))));
+    if (conf.isEnableVm() && (conf.getSeqCompactionStrategy() != CompactionStrategy.NO_COMPACTION
+        || conf.getUnseqCompactionStrategy() != CompactionStrategy.NO_COMPACTION)) {
+      logger.warn("enable_vm is ignored, the closed files are compacted instead of merging VM files");
+      conf.setEnableVm(false);
+    }
+  }
+
   private void loadWALProps(Properties properties) {
     conf.setEnableWal(Boolean.parseBoolean(properties.getProperty("enable_wal",
         Boolean.toString(conf.isEnableWal()))));
@@ -580,12 +674,23 @@ public class IoTDBDescriptor {
         .parseInt(properties.getProperty("max_number_of_points_in_page",
             Integer.toString(
                 TSFileDescriptor.getInstance().getConfig().getMaxNumberOfPointsInPage()))));
+    TSFileDescriptor.getInstance().getConfig().setSubPageStatisticsInterval(Long
+        .parseLong(properties.getProperty("sub_page_statistics_interval",
+            Long.toString(
+                TSFileDescriptor.getInstance().getConfig().getSubPageStatisticsInterval()))));
+    TSFileDescriptor.getInstance().getConfig().setPageTimeIndexInterval(Integer
+        .parseInt(properties.getProperty("page_time_index_interval",
+            Integer.toString(
+                TSFileDescriptor.getInstance().getConfig().getPageTimeIndexInterval()))));
     TSFileDescriptor.getInstance().getConfig().setTimeSeriesDataType(properties
         .getProperty("time_series_data_type",
             TSFileDescriptor.getInstance().getConfig().getTimeSeriesDataType()));
     TSFileDescriptor.getInstance().getConfig().setMaxStringLength(Integer
         .parseInt(properties.getProperty("max_string_length",
             Integer.toString(TSFileDescriptor.getInstance().getConfig().getMaxStringLength()))));
+    TSFileDescriptor.getInstance().getConfig().setMaxDictionarySize(Integer
+        .parseInt(properties.getProperty("max_dictionary_size",
+            Integer.toString(TSFileDescriptor.getInstance().getConfig().getMaxDictionarySize()))));
     TSFileDescriptor.getInstance().getConfig().setBloomFilterErrorRate(Double
         .parseDouble(properties.getProperty("bloom_filter_error_rate",
             Double.toString(
@@ -603,6 +708,9 @@ public class IoTDBDescriptor {
     TSFileDescriptor.getInstance().getConfig().setCompressor(properties
         .getProperty("compressor",
             TSFileDescriptor.getInstance().getConfig().getCompressor().toString()));
+    TSFileDescriptor.getInstance().getConfig().setCompressionLevel(Integer.parseInt(properties
+        .getProperty("compression_level", Integer
+            .toString(TSFileDescriptor.getInstance().getConfig().getCompressionLevel()))));
     TSFileDescriptor.getInstance().getConfig().setMaxDegreeOfIndexNode(Integer.parseInt(properties
         .getProperty("max_degree_of_index_node", Integer
             .toString(TSFileDescriptor.getInstance().getConfig().getMaxDegreeOfIndexNode()))));
@@ -725,6 +833,45 @@ public class IoTDBDescriptor {
 
   }
 
+  /**
+   * @param storageGroupCompressors e.g., "root.sg1:ZSTD,root.sg2:GZIP"
+   */
+  private Map<String, CompressionType> parseStorageGroupCompressors(
+      String storageGroupCompressors) {
+    Map<String, CompressionType> result = new HashMap<>();
+    for (String item : storageGroupCompressors.split(",")) {
+      int index = item.lastIndexOf(':');
+      if (index <= 0) {
+        throw new RuntimeException(
+            "Each item of configuration item storage_group_compressors should be like "
+                + "root.sg:ZSTD, which is " + item);
+      }
+      result.put(item.substring(0, index).trim(),
+          CompressionType.valueOf(item.substring(index + 1).trim().toUpperCase()));
+    }
+    return result;
+  }
+
+  /**
+   * @param recompressionPolicies e.g., "root.sg1:after=604800000,compressor=ZSTD,level=9;
+   *                              root.sg2:after=86400000,compressor=GZIP,FLOAT=GORILLA"
+   */
+  private Map<String, RecompressionPolicy> parseRecompressionPolicies(
+      String recompressionPolicies) {
+    Map<String, RecompressionPolicy> result = new HashMap<>();
+    for (String item : recompressionPolicies.split(";")) {
+      int index = item.indexOf(':');
+      if (index <= 0) {
+        throw new RuntimeException(
+            "Each item of configuration item recompression_policies should be like "
+                + "root.sg:after=604800000,compressor=ZSTD, which is " + item);
+      }
+      result.put(item.substring(0, index).trim(),
+          RecompressionPolicy.parse(item.substring(index + 1)));
+    }
+    return result;
+  }
+
   private static class IoTDBDescriptorHolder {
 
     private static final IoTDBDescriptor INSTANCE = new IoTDBDescriptor();
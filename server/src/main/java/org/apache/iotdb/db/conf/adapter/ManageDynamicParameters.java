@@ -22,6 +22,8 @@ import org.apache.iotdb.db.conf.IoTDBConfig;
 import org.apache.iotdb.db.conf.IoTDBConstant;
 import org.apache.iotdb.db.conf.IoTDBDescriptor;
 import org.apache.iotdb.db.exception.StartupException;
+import org.apache.iotdb.db.rescon.IOThrottle;
+import org.apache.iotdb.db.rescon.IOThrottle.IOType;
 import org.apache.iotdb.db.service.IService;
 import org.apache.iotdb.db.service.IoTDB;
 import org.apache.iotdb.db.service.JMXService;
@@ -102,6 +104,61 @@ public class ManageDynamicParameters implements ManageDynamicParametersMBean, IS
     CONFIG.setTsFileSizeThreshold(tsfileSizeThreshold);
   }
 
+  @Override
+  public int getFlushThroughputMbPerSec() {
+    return CONFIG.getFlushThroughputMbPerSec();
+  }
+
+  @Override
+  public void setFlushThroughputMbPerSec(int flushThroughputMbPerSec) {
+    CONFIG.setFlushThroughputMbPerSec(flushThroughputMbPerSec);
+    IOThrottle.getInstance().setThroughputMbPerSec(IOType.FLUSH, flushThroughputMbPerSec);
+  }
+
+  @Override
+  public int getQueryThroughputMbPerSec() {
+    return CONFIG.getQueryThroughputMbPerSec();
+  }
+
+  @Override
+  public void setQueryThroughputMbPerSec(int queryThroughputMbPerSec) {
+    CONFIG.setQueryThroughputMbPerSec(queryThroughputMbPerSec);
+    IOThrottle.getInstance().setThroughputMbPerSec(IOType.QUERY, queryThroughputMbPerSec);
+  }
+
+  @Override
+  public int getMergeThroughputMbPerSec() {
+    return CONFIG.getMergeThroughputMbPerSec();
+  }
+
+  @Override
+  public void setMergeThroughputMbPerSec(int mergeThroughputMbPerSec) {
+    CONFIG.setMergeThroughputMbPerSec(mergeThroughputMbPerSec);
+    IOThrottle.getInstance().setThroughputMbPerSec(IOType.MERGE, mergeThroughputMbPerSec);
+  }
+
+  @Override
+  public int getMigrationThroughputMbPerSec() {
+    return CONFIG.getMigrationThroughputMbPerSec();
+  }
+
+  @Override
+  public void setMigrationThroughputMbPerSec(int migrationThroughputMbPerSec) {
+    CONFIG.setMigrationThroughputMbPerSec(migrationThroughputMbPerSec);
+    IOThrottle.getInstance().setThroughputMbPerSec(IOType.MIGRATION, migrationThroughputMbPerSec);
+  }
+
+  @Override
+  public int getDiskThroughputMbPerSec() {
+    return CONFIG.getDiskThroughputMbPerSec();
+  }
+
+  @Override
+  public void setDiskThroughputMbPerSec(int diskThroughputMbPerSec) {
+    CONFIG.setDiskThroughputMbPerSec(diskThroughputMbPerSec);
+    IOThrottle.getInstance().setDiskThroughputMbPerSec(diskThroughputMbPerSec);
+  }
+
   @Override
   public void start() throws StartupException {
     try {
@@ -43,4 +43,27 @@ public interface ManageDynamicParametersMBean {
 
   void setTsfileSizeThreshold(long tsfileSizeThreshold);
 
+  /**
+   * The following I/O budgets are in MB per second, and non-positive values mean unlimited.
+   */
+  int getFlushThroughputMbPerSec();
+
+  void setFlushThroughputMbPerSec(int flushThroughputMbPerSec);
+
+  int getQueryThroughputMbPerSec();
+
+  void setQueryThroughputMbPerSec(int queryThroughputMbPerSec);
+
+  int getMergeThroughputMbPerSec();
+
+  void setMergeThroughputMbPerSec(int mergeThroughputMbPerSec);
+
+  int getMigrationThroughputMbPerSec();
+
+  void setMigrationThroughputMbPerSec(int migrationThroughputMbPerSec);
+
+  int getDiskThroughputMbPerSec();
+
+  void setDiskThroughputMbPerSec(int diskThroughputMbPerSec);
+
 }
@@ -33,6 +33,10 @@ import org.slf4j.LoggerFactory;
 
 /**
  * The main class of multiple directories. Used to allocate folders to data files.
+ * <p>
+ * New data files are always allocated in the data dirs. If slow tier data dirs are configured,
+ * they hold the closed files that have been moved out of the data dirs because of their age, and
+ * the folders of both tiers are searched when the data files are recovered.
  */
 public class DirectoryManager {
 
@@ -42,6 +46,10 @@ public class DirectoryManager {
   private List<String> unsequenceFileFolders;
   private DirectoryStrategy sequenceStrategy;
   private DirectoryStrategy unsequenceStrategy;
+  private List<String> slowSequenceFileFolders;
+  private List<String> slowUnsequenceFileFolders;
+  private DirectoryStrategy slowSequenceStrategy;
+  private DirectoryStrategy slowUnsequenceStrategy;
 
   private DirectoryManager() {
     sequenceFileFolders =
@@ -60,6 +68,8 @@ public class DirectoryManager {
     }
     mkDataDirs(unsequenceFileFolders);
 
+    loadSlowTierFolders();
+
     String strategyName = "";
     try {
       strategyName = IoTDBDescriptor.getInstance().getConfig().getMultiDirStrategyClassName();
@@ -68,6 +78,12 @@ public class DirectoryManager {
       sequenceStrategy.setFolders(sequenceFileFolders);
       unsequenceStrategy = (DirectoryStrategy) clazz.newInstance();
       unsequenceStrategy.setFolders(unsequenceFileFolders);
+      if (hasSlowTier()) {
+        slowSequenceStrategy = (DirectoryStrategy) clazz.newInstance();
+        slowSequenceStrategy.setFolders(slowSequenceFileFolders);
+        slowUnsequenceStrategy = (DirectoryStrategy) clazz.newInstance();
+        slowUnsequenceStrategy.setFolders(slowUnsequenceFileFolders);
+      }
     } catch (DiskSpaceInsufficientException e) {
       logger.error("All disks of folders are full.", e);
     } catch (Exception e) {
@@ -97,6 +113,46 @@ public class DirectoryManager {
     }
   }
 
+  /**
+   * Reload the slow tier data dirs from the config, e.g., when the slow tier is attached or
+   * detached.
+   */
+  public void updateSlowTierFolders() throws LoadConfigurationException {
+    loadSlowTierFolders();
+    if (!hasSlowTier()) {
+      return;
+    }
+    String strategyName = "";
+    try {
+      strategyName = IoTDBDescriptor.getInstance().getConfig().getMultiDirStrategyClassName();
+      Class<?> clazz = Class.forName(strategyName);
+      slowSequenceStrategy = (DirectoryStrategy) clazz.newInstance();
+      slowSequenceStrategy.setFolders(slowSequenceFileFolders);
+      slowUnsequenceStrategy = (DirectoryStrategy) clazz.newInstance();
+      slowUnsequenceStrategy.setFolders(slowUnsequenceFileFolders);
+      logger.info("Success to update slow tier folders.");
+    } catch (Exception e) {
+      logger.error("Fail to update slow tier folders with strategy {}", strategyName, e);
+      throw new LoadConfigurationException(String.format(
+          "Fail to update slow tier folders because of strategy %s", strategyName));
+    }
+  }
+
+  private void loadSlowTierFolders() {
+    List<String> sequenceFolders = new ArrayList<>();
+    List<String> unsequenceFolders = new ArrayList<>();
+    for (String slowTierDataDir : IoTDBDescriptor.getInstance().getConfig()
+        .getSlowTierDataDirs()) {
+      sequenceFolders.add(slowTierDataDir + File.separator + IoTDBConstant.SEQUENCE_FLODER_NAME);
+      unsequenceFolders
+          .add(slowTierDataDir + File.separator + IoTDBConstant.UNSEQUENCE_FLODER_NAME);
+    }
+    mkDataDirs(sequenceFolders);
+    mkDataDirs(unsequenceFolders);
+    slowSequenceFileFolders = sequenceFolders;
+    slowUnsequenceFileFolders = unsequenceFolders;
+  }
+
   public void updateDirectoryStrategy() throws LoadConfigurationException {
     String strategyName = "";
     try {
@@ -106,6 +162,12 @@ public class DirectoryManager {
       sequenceStrategy.setFolders(sequenceFileFolders);
       unsequenceStrategy = (DirectoryStrategy) clazz.newInstance();
       unsequenceStrategy.setFolders(unsequenceFileFolders);
+      if (hasSlowTier()) {
+        slowSequenceStrategy = (DirectoryStrategy) clazz.newInstance();
+        slowSequenceStrategy.setFolders(slowSequenceFileFolders);
+        slowUnsequenceStrategy = (DirectoryStrategy) clazz.newInstance();
+        slowUnsequenceStrategy.setFolders(slowUnsequenceFileFolders);
+      }
       logger.info("Success to update directory strategy.");
     } catch (Exception e) {
       logger.error("Fail to update directory strategy {}, use previous strategy", strategyName, e);
@@ -148,8 +210,13 @@ public class DirectoryManager {
     return sequenceFileFolders.get(index);
   }
 
+  /**
+   * @return the sequence folders of both tiers
+   */
   public List<String> getAllSequenceFileFolders() {
-    return new ArrayList<>(sequenceFileFolders);
+    List<String> folders = new ArrayList<>(sequenceFileFolders);
+    folders.addAll(slowSequenceFileFolders);
+    return folders;
   }
 
   private static class DirectoriesHolder {
@@ -182,8 +249,45 @@ public class DirectoryManager {
     return unsequenceFileFolders.indexOf(folder);
   }
 
+  /**
+   * @return the unsequence folders of both tiers
+   */
   public List<String> getAllUnSequenceFileFolders() {
-    return new ArrayList<>(unsequenceFileFolders);
+    List<String> folders = new ArrayList<>(unsequenceFileFolders);
+    folders.addAll(slowUnsequenceFileFolders);
+    return folders;
+  }
+
+  public boolean hasSlowTier() {
+    return !slowSequenceFileFolders.isEmpty();
+  }
+
+  public String getNextSlowFolderForSequenceFile() throws DiskSpaceInsufficientException {
+    return slowSequenceFileFolders.get(slowSequenceStrategy.nextFolderIndex());
+  }
+
+  public String getNextSlowFolderForUnSequenceFile() throws DiskSpaceInsufficientException {
+    return slowUnsequenceFileFolders.get(slowUnsequenceStrategy.nextFolderIndex());
+  }
+
+  /**
+   * @return whether the data file is in one of the slow tier folders
+   */
+  public boolean isSlowTierFile(File file) {
+    String path = file.getAbsolutePath();
+    for (String folder : slowSequenceFileFolders) {
+      if (path.startsWith(FSFactoryProducer.getFSFactory().getFile(folder).getAbsolutePath()
+          + File.separator)) {
+        return true;
+      }
+    }
+    for (String folder : slowUnsequenceFileFolders) {
+      if (path.startsWith(FSFactoryProducer.getFSFactory().getFile(folder).getAbsolutePath()
+          + File.separator)) {
+        return true;
+      }
+    }
+    return false;
   }
 
 }
@@ -23,6 +23,7 @@ import org.apache.iotdb.db.concurrent.IoTDBThreadPoolFactory;
 import org.apache.iotdb.db.conf.IoTDBConfig;
 import org.apache.iotdb.db.conf.IoTDBDescriptor;
 import org.apache.iotdb.db.conf.ServerConfigConsistent;
+import org.apache.iotdb.db.conf.directories.DirectoryManager;
 import org.apache.iotdb.db.engine.fileSystem.SystemFileFactory;
 import org.apache.iotdb.db.engine.flush.TsFileFlushPolicy;
 import org.apache.iotdb.db.engine.flush.TsFileFlushPolicy.DirectFlushPolicy;
@@ -105,6 +106,10 @@ public class StorageEngine implements IService {
   }
 
   private ScheduledExecutorService ttlCheckThread;
+  /**
+   * moves the old closed files to the slow tier data dirs, null if the data are not tiered
+   */
+  private ScheduledExecutorService tierMigrationThread;
   private TsFileFlushPolicy fileFlushPolicy = new DirectFlushPolicy();
 
   /**
@@ -209,6 +214,40 @@ public class StorageEngine implements IService {
     ttlCheckThread = Executors.newSingleThreadScheduledExecutor();
     ttlCheckThread.scheduleAtFixedRate(this::checkTTL, TTL_CHECK_INTERVAL, TTL_CHECK_INTERVAL
         , TimeUnit.MILLISECONDS);
+    if (DirectoryManager.getInstance().hasSlowTier()) {
+      long interval = config.getTierMigrationIntervalSec();
+      tierMigrationThread = IoTDBThreadPoolFactory
+          .newSingleThreadScheduledExecutor("Tier-Migration");
+      tierMigrationThread.scheduleWithFixedDelay(this::migrateToSlowTier, interval, interval,
+          TimeUnit.SECONDS);
+    }
+  }
+
+  private void migrateToSlowTier() {
+    long timeUpperBound = System.currentTimeMillis() - config.getSlowTierDataAgeInMs();
+    try {
+      for (StorageGroupProcessor processor : processorMap.values()) {
+        processor.migrateFilesToSlowTier(timeUpperBound);
+        if (Thread.currentThread().isInterrupted()) {
+          return;
+        }
+      }
+    } catch (Exception e) {
+      logger.error("An error occurred when moving files to the slow tier", e);
+    }
+  }
+
+  private void stopTierMigration() {
+    if (tierMigrationThread != null) {
+      tierMigrationThread.shutdownNow();
+      try {
+        tierMigrationThread.awaitTermination(30, TimeUnit.SECONDS);
+      } catch (InterruptedException e) {
+        logger.warn("Tier migration thread still doesn't exit after 30s");
+        Thread.currentThread().interrupt();
+      }
+      tierMigrationThread = null;
+    }
   }
 
   private void checkTTL() {
@@ -229,6 +268,7 @@ public class StorageEngine implements IService {
 
   @Override
   public void stop() {
+    stopTierMigration();
     syncCloseAllProcessor();
     if (ttlCheckThread != null) {
       ttlCheckThread.shutdownNow();
@@ -247,6 +287,7 @@ public class StorageEngine implements IService {
 
   @Override
   public void shutdown(long millseconds) throws ShutdownException {
+    stopTierMigration();
     try {
       forceCloseAllProcessor();
     } catch (TsFileProcessorException e) {
@@ -642,6 +683,10 @@ public class StorageEngine implements IService {
     getProcessor(storageGroupName).removePartitions(filter);
   }
 
+  public static boolean isEnablePartition() {
+    return enablePartition;
+  }
+
   @TestOnly
   public static void setEnablePartition(boolean enablePartition) {
     StorageEngine.enablePartition = enablePartition;
@@ -25,6 +25,8 @@ import java.util.concurrent.locks.ReadWriteLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 import org.apache.iotdb.db.conf.IoTDBConfig;
 import org.apache.iotdb.db.conf.IoTDBDescriptor;
+import org.apache.iotdb.db.rescon.IOThrottle;
+import org.apache.iotdb.db.rescon.IOThrottle.IOType;
 import org.apache.iotdb.db.utils.TestOnly;
 import org.apache.iotdb.tsfile.file.metadata.ChunkMetadata;
 import org.apache.iotdb.tsfile.read.TsFileSequenceReader;
@@ -85,7 +87,8 @@ public class ChunkCache {
   public Chunk get(ChunkMetadata chunkMetaData, TsFileSequenceReader reader) throws IOException {
     if (!CACHE_ENABLE) {
       Chunk chunk = reader.readMemChunk(chunkMetaData);
-      return new Chunk(chunk.getHeader(), chunk.getData().duplicate(), chunk.getDeleteIntervalList());
+      IOThrottle.getInstance().acquire(IOType.QUERY, chunk.getHeader().getDataSize());
+      return chunk.duplicate();
     }
 
     cacheRequestNum.incrementAndGet();
@@ -104,6 +107,7 @@ public class ChunkCache {
       printCacheLog(false);
       try {
         chunk = reader.readMemChunk(chunkMetaData);
+        IOThrottle.getInstance().acquire(IOType.QUERY, chunk.getHeader().getDataSize());
       } catch (IOException e) {
         logger.error("something wrong happened while reading {}", reader.getFileName());
         throw e;
@@ -115,7 +119,7 @@ public class ChunkCache {
         lock.writeLock().unlock();
       }
     }
-    return new Chunk(chunk.getHeader(), chunk.getData().duplicate(), chunk.getDeleteIntervalList());
+    return chunk.duplicate();
 
   }
 
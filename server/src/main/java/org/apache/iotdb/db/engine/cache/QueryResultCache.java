@@ -0,0 +1,331 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iotdb.db.engine.cache;
+
+import java.io.File;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import org.apache.iotdb.db.conf.IoTDBConfig;
+import org.apache.iotdb.db.conf.IoTDBDescriptor;
+import org.apache.iotdb.db.engine.querycontext.QueryDataSource;
+import org.apache.iotdb.db.engine.storagegroup.TsFileResource;
+import org.apache.iotdb.db.exception.StorageEngineException;
+import org.apache.iotdb.db.exception.query.QueryProcessException;
+import org.apache.iotdb.db.qp.physical.crud.AggregationPlan;
+import org.apache.iotdb.db.qp.physical.crud.GroupByTimeFillPlan;
+import org.apache.iotdb.db.qp.physical.crud.GroupByTimePlan;
+import org.apache.iotdb.db.qp.physical.crud.LastQueryPlan;
+import org.apache.iotdb.db.qp.physical.crud.QueryPlan;
+import org.apache.iotdb.db.qp.physical.crud.RawDataQueryPlan;
+import org.apache.iotdb.db.query.context.QueryContext;
+import org.apache.iotdb.db.query.control.QueryResourceManager;
+import org.apache.iotdb.db.utils.TestOnly;
+import org.apache.iotdb.tsfile.file.metadata.enums.TSDataType;
+import org.apache.iotdb.tsfile.read.common.Field;
+import org.apache.iotdb.tsfile.read.common.Path;
+import org.apache.iotdb.tsfile.read.common.RowRecord;
+import org.apache.iotdb.tsfile.read.expression.ExpressionType;
+import org.apache.iotdb.tsfile.read.expression.IExpression;
+import org.apache.iotdb.tsfile.read.expression.impl.GlobalTimeExpression;
+import org.apache.iotdb.tsfile.read.filter.TimeFilter;
+import org.apache.iotdb.tsfile.read.filter.basic.Filter;
+import org.apache.iotdb.tsfile.read.filter.factory.FilterFactory;
+import org.apache.iotdb.tsfile.utils.RamUsageEstimator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * This class caches the results of aggregation, group by and last queries in IoTDB. The caching
+ * strategy is LRU.
+ * <p>
+ * A result is cached under a key made of the query plan, and is stored with the version of the data
+ * it was computed from: the path, length and historical versions of every TsFile read and the
+ * length of its modification file. Only queries without value filters whose data is all in sealed
+ * TsFiles are cached. Flush and load add files to the version, merge rewrites files and deletion
+ * appends to modification files, so the version of a cached result no longer matches once its data
+ * changes, and the result is dropped when it is looked up.
+ */
+public class QueryResultCache {
+
+  private static final Logger logger = LoggerFactory.getLogger(QueryResultCache.class);
+  private static final IoTDBConfig config = IoTDBDescriptor.getInstance().getConfig();
+  private static final long MEMORY_THRESHOLD_IN_QUERY_RESULT_CACHE =
+      config.getQueryResultCacheMemoryInKB() * 1024;
+  private static final boolean CACHE_ENABLE = config.isEnableQueryResultCache();
+  // estimated sizes of a RowRecord with its field list and of a Field
+  private static final long ROW_RECORD_SIZE = 64;
+  private static final long FIELD_SIZE = 48;
+
+  private final LRULinkedHashMap<AccountableString, QueryResult> lruCache;
+
+  private final AtomicLong cacheHitNum = new AtomicLong();
+  private final AtomicLong cacheRequestNum = new AtomicLong();
+
+  private QueryResultCache() {
+    if (CACHE_ENABLE) {
+      logger.info("QueryResultCache size = " + MEMORY_THRESHOLD_IN_QUERY_RESULT_CACHE);
+    }
+    lruCache = new LRULinkedHashMap<AccountableString, QueryResult>(
+        MEMORY_THRESHOLD_IN_QUERY_RESULT_CACHE) {
+      @Override
+      protected long calEntrySize(AccountableString key, QueryResult value) {
+        return RamUsageEstimator.sizeOf(key.getString()) + value.size;
+      }
+    };
+  }
+
+  public static QueryResultCache getInstance() {
+    return QueryResultCacheHolder.INSTANCE;
+  }
+
+  /**
+   * @return the key of the plan in the cache, or null if the results of the plan are not cached
+   */
+  public String getPlanKey(QueryPlan plan) {
+    if (!CACHE_ENABLE || !plan.isAlignByTime() || plan instanceof GroupByTimeFillPlan
+        || !(plan instanceof AggregationPlan || plan instanceof LastQueryPlan)) {
+      return null;
+    }
+    IExpression expression = ((RawDataQueryPlan) plan).getExpression();
+    if (expression != null && expression.getType() != ExpressionType.GLOBAL_TIME) {
+      return null;
+    }
+    StringBuilder builder = new StringBuilder(plan.getClass().getSimpleName());
+    builder.append(((RawDataQueryPlan) plan).getDeduplicatedPaths())
+        .append(((RawDataQueryPlan) plan).getDeduplicatedDataTypes());
+    if (plan instanceof AggregationPlan) {
+      AggregationPlan aggregationPlan = (AggregationPlan) plan;
+      builder.append(aggregationPlan.getDeduplicatedAggregations())
+          .append(aggregationPlan.getLevel());
+    }
+    if (plan instanceof GroupByTimePlan) {
+      GroupByTimePlan groupByTimePlan = (GroupByTimePlan) plan;
+      builder.append('[').append(groupByTimePlan.getStartTime())
+          .append(',').append(groupByTimePlan.getEndTime())
+          .append(',').append(groupByTimePlan.getInterval())
+          .append(',').append(groupByTimePlan.getSlidingStep())
+          .append(',').append(groupByTimePlan.isLeftCRightO()).append(']');
+    }
+    return builder.append(expression).toString();
+  }
+
+  /**
+   * Get the version of the data read by the plan. The files are registered for the query in the
+   * same way as the query itself would do.
+   *
+   * @return the version, or null if the data is not all in sealed files or may expire by TTL
+   */
+  public String getDataVersion(QueryPlan plan, QueryContext context)
+      throws StorageEngineException, QueryProcessException {
+    Filter timeFilter = getTimeFilter((RawDataQueryPlan) plan);
+    Map<String, TsFileResource> resources = new LinkedHashMap<>();
+    for (Path path : ((RawDataQueryPlan) plan).getDeduplicatedPaths()) {
+      QueryDataSource dataSource = QueryResourceManager.getInstance()
+          .getQueryDataSource(path, context, timeFilter);
+      if (dataSource.getDataTTL() != Long.MAX_VALUE) {
+        return null;
+      }
+      for (TsFileResource resource : dataSource.getSeqResources()) {
+        resources.put(resource.getTsFilePath(), resource);
+      }
+      for (TsFileResource resource : dataSource.getUnseqResources()) {
+        resources.put(resource.getTsFilePath(), resource);
+      }
+    }
+    StringBuilder builder = new StringBuilder();
+    for (TsFileResource resource : resources.values()) {
+      if (!resource.isClosed()) {
+        return null;
+      }
+      builder.append(resource.getTsFilePath())
+          .append(':').append(resource.getTsFileSize())
+          .append(':').append(resource.getHistoricalVersions())
+          .append(':').append(new File(resource.getModFile().getFilePath()).length())
+          .append(';');
+    }
+    return builder.toString();
+  }
+
+  private Filter getTimeFilter(RawDataQueryPlan plan) {
+    Filter timeFilter = plan.getExpression() == null ? null
+        : ((GlobalTimeExpression) plan.getExpression()).getFilter();
+    if (plan instanceof GroupByTimePlan) {
+      GroupByTimePlan groupByTimePlan = (GroupByTimePlan) plan;
+      Filter groupByFilter = FilterFactory.and(TimeFilter.gtEq(groupByTimePlan.getStartTime()),
+          TimeFilter.lt(groupByTimePlan.getEndTime()));
+      timeFilter = timeFilter == null ? groupByFilter : FilterFactory.and(timeFilter,
+          groupByFilter);
+    }
+    return timeFilter;
+  }
+
+  /**
+   * @return the cached result of the plan, or null if there is no result computed from the given
+   * version of data
+   */
+  public QueryResult get(String planKey, String dataVersion) {
+    cacheRequestNum.incrementAndGet();
+    QueryResult result;
+    synchronized (lruCache) {
+      result = lruCache.get(new AccountableString(planKey));
+      if (result != null) {
+        // an outdated result will never be used again
+        lruCache.remove(result.key);
+        if (result.dataVersion.equals(dataVersion)) {
+          // move it to the most recently used end
+          lruCache.put(result.key, result);
+        } else {
+          result = null;
+        }
+      }
+    }
+    if (result != null) {
+      cacheHitNum.incrementAndGet();
+    }
+    printCacheLog(result != null);
+    return result;
+  }
+
+  public void put(String planKey, String dataVersion, QueryResult result) {
+    result.key = new AccountableString(planKey);
+    result.dataVersion = dataVersion;
+    synchronized (lruCache) {
+      QueryResult previous = lruCache.get(result.key);
+      if (previous != null) {
+        lruCache.remove(previous.key);
+      }
+      lruCache.put(result.key, result);
+    }
+  }
+
+  /**
+   * @return whether a result of the given size is small enough to be cached
+   */
+  public boolean isCacheable(long resultSize) {
+    // a single result may take at most 1/10 of the cache so that it does not evict the others
+    return resultSize <= MEMORY_THRESHOLD_IN_QUERY_RESULT_CACHE / 10;
+  }
+
+  private void printCacheLog(boolean isHit) {
+    if (!logger.isDebugEnabled()) {
+      return;
+    }
+    logger.debug(
+        "[QueryResult cache {}hit] The number of requests for cache is {}, hit rate is {}.",
+        isHit ? "" : "didn't ", cacheRequestNum.get(),
+        cacheHitNum.get() * 1.0 / cacheRequestNum.get());
+  }
+
+  public double calculateQueryResultHitRatio() {
+    if (cacheRequestNum.get() != 0) {
+      return cacheHitNum.get() * 1.0 / cacheRequestNum.get();
+    } else {
+      return 0;
+    }
+  }
+
+  public long getUsedMemory() {
+    synchronized (lruCache) {
+      return lruCache.getUsedMemory();
+    }
+  }
+
+  public long getMaxMemory() {
+    return lruCache.getMaxMemory();
+  }
+
+  /**
+   * clear LRUCache.
+   */
+  public void clear() {
+    synchronized (lruCache) {
+      lruCache.clear();
+    }
+  }
+
+  @TestOnly
+  public boolean isEmpty() {
+    synchronized (lruCache) {
+      return lruCache.isEmpty();
+    }
+  }
+
+  /**
+   * The rows of a query result with the columns of its data set.
+   */
+  public static class QueryResult {
+
+    private AccountableString key;
+    private String dataVersion;
+    private final List<Path> paths;
+    private final List<TSDataType> dataTypes;
+    private final List<RowRecord> records;
+    private final long size;
+
+    public QueryResult(List<Path> paths, List<TSDataType> dataTypes, List<RowRecord> records,
+        long size) {
+      this.paths = paths;
+      this.dataTypes = dataTypes;
+      this.records = records;
+      this.size = size;
+    }
+
+    public List<Path> getPaths() {
+      return paths;
+    }
+
+    public List<TSDataType> getDataTypes() {
+      return dataTypes;
+    }
+
+    public List<RowRecord> getRecords() {
+      return records;
+    }
+  }
+
+  /**
+   * @return a copy of the record that shares no mutable objects with it
+   */
+  public static RowRecord copyRecord(RowRecord record) {
+    RowRecord copy = new RowRecord(record.getTimestamp());
+    for (Field field : record.getFields()) {
+      copy.addField(field == null ? null : Field.copy(field));
+    }
+    return copy;
+  }
+
+  public static long estimateRecordSize(RowRecord record) {
+    long size = ROW_RECORD_SIZE;
+    for (Field field : record.getFields()) {
+      size += FIELD_SIZE;
+      if (field != null && field.getDataType() == TSDataType.TEXT
+          && field.getBinaryV() != null) {
+        size += field.getBinaryV().getLength();
+      }
+    }
+    return size;
+  }
+
+  private static class QueryResultCacheHolder {
+
+    private static final QueryResultCache INSTANCE = new QueryResultCache();
+  }
+}
@@ -0,0 +1,200 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iotdb.db.engine.compaction;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.apache.iotdb.db.concurrent.IoTDBThreadPoolFactory;
+import org.apache.iotdb.db.concurrent.ThreadName;
+import org.apache.iotdb.db.conf.IoTDBConstant;
+import org.apache.iotdb.db.conf.IoTDBDescriptor;
+import org.apache.iotdb.db.service.IService;
+import org.apache.iotdb.db.service.JMXService;
+import org.apache.iotdb.db.service.ServiceType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * CompactionManager runs the compaction tasks of all storage groups with a bounded number of
+ * threads, the tasks of the partitions read most often first, and collects the write
+ * amplification of each level. The I/O of compactions is limited by the MERGE budget of
+ * IOThrottle.
+ */
+public class CompactionManager implements IService, CompactionManagerMBean {
+
+  private static final Logger logger = LoggerFactory.getLogger(CompactionManager.class);
+  private static final CompactionManager INSTANCE = new CompactionManager();
+  private final String mbeanName = String
+      .format("%s:%s=%s", IoTDBConstant.IOTDB_PACKAGE, IoTDBConstant.JMX_TYPE,
+          getID().getJmxName());
+
+  private ThreadPoolExecutor compactionTaskPool;
+
+  // the queued and running tasks of each storage group
+  private Map<String, Set<CompactionTask>> storageGroupTasks = new ConcurrentHashMap<>();
+
+  // the bytes of the files generated by flushes, which are the files of level 0
+  private AtomicLong flushedBytes = new AtomicLong();
+  // level -> the bytes of the files generated by compactions into the level
+  private Map<Integer, AtomicLong> levelCompactedBytes = new ConcurrentSkipListMap<>();
+
+  private CompactionManager() {
+  }
+
+  public static CompactionManager getInstance() {
+    return INSTANCE;
+  }
+
+  /**
+   * @return whether the task is queued, false if the manager is not started
+   */
+  public boolean submit(CompactionTask task) {
+    if (compactionTaskPool == null) {
+      logger.warn("CompactionManager is not started, {} is discarded", task.getTaskName());
+      return false;
+    }
+    storageGroupTasks.computeIfAbsent(task.getStorageGroupName(),
+        k -> ConcurrentHashMap.newKeySet()).add(task);
+    compactionTaskPool.execute(task);
+    return true;
+  }
+
+  void taskEnded(CompactionTask task) {
+    storageGroupTasks.getOrDefault(task.getStorageGroupName(), Collections.emptySet())
+        .remove(task);
+  }
+
+  public void recordFlushedBytes(long bytes) {
+    flushedBytes.addAndGet(bytes);
+  }
+
+  public void recordCompactedBytes(int level, long bytes) {
+    levelCompactedBytes.computeIfAbsent(level, l -> new AtomicLong()).addAndGet(bytes);
+  }
+
+  /**
+   * @return the bytes compacted into the level divided by the bytes flushed, 0 if nothing is
+   * flushed
+   */
+  public double getWriteAmplification(int level) {
+    long flushed = flushedBytes.get();
+    AtomicLong compacted = levelCompactedBytes.get(level);
+    if (flushed == 0) {
+      return 0;
+    }
+    return level == 0 ? 1 : (compacted == null ? 0 : (double) compacted.get() / flushed);
+  }
+
+  @Override
+  public String getWriteAmplificationReport() {
+    long flushed = flushedBytes.get();
+    long total = flushed;
+    StringBuilder builder = new StringBuilder("level 0: ").append(flushed).append(" bytes");
+    for (Entry<Integer, AtomicLong> entry : levelCompactedBytes.entrySet()) {
+      long compacted = entry.getValue().get();
+      total += compacted;
+      builder.append(String.format(", level %d: %d bytes (%.2f)", entry.getKey(), compacted,
+          getWriteAmplification(entry.getKey())));
+    }
+    builder.append(String.format(", total: %.2f", flushed == 0 ? 0 : (double) total / flushed));
+    return builder.toString();
+  }
+
+  @Override
+  public int getQueuedTaskNum() {
+    return compactionTaskPool == null ? 0 : compactionTaskPool.getQueue().size();
+  }
+
+  @Override
+  public int getRunningTaskNum() {
+    return compactionTaskPool == null ? 0 : compactionTaskPool.getActiveCount();
+  }
+
+  /**
+   * Abort the queued and running compactions of a storage group, which give up their target files
+   * when they notice it.
+   */
+  @Override
+  public void abortCompaction(String storageGroup) {
+    for (CompactionTask task : storageGroupTasks
+        .getOrDefault(storageGroup, Collections.emptySet())) {
+      task.abort();
+    }
+  }
+
+  @Override
+  public void start() {
+    JMXService.registerMBean(this, mbeanName);
+    if (compactionTaskPool == null) {
+      int threadNum = IoTDBDescriptor.getInstance().getConfig().getCompactionThreadNum();
+      if (threadNum <= 0) {
+        threadNum = 1;
+      }
+      // the tasks of the partitions read most often run first
+      compactionTaskPool = IoTDBThreadPoolFactory.newFixedThreadPool(threadNum,
+          ThreadName.COMPACTION_SERVICE.getName(), new PriorityBlockingQueue<>());
+      logger.info("CompactionManager started");
+    }
+  }
+
+  @Override
+  public void stop() {
+    if (compactionTaskPool != null) {
+      compactionTaskPool.shutdownNow();
+      awaitTermination(60_000);
+    }
+    JMXService.deregisterMBean(mbeanName);
+  }
+
+  @Override
+  public void waitAndStop(long milliseconds) {
+    if (compactionTaskPool != null) {
+      compactionTaskPool.shutdown();
+      awaitTermination(milliseconds);
+    }
+  }
+
+  private void awaitTermination(long milliseconds) {
+    try {
+      if (!compactionTaskPool.awaitTermination(milliseconds, TimeUnit.MILLISECONDS)) {
+        logger.warn("CompactionThreadPool can not be closed in {} ms", milliseconds);
+      }
+    } catch (InterruptedException e) {
+      logger.warn("Interrupted when waiting for the compactions to stop");
+      Thread.currentThread().interrupt();
+    }
+    compactionTaskPool.shutdownNow();
+    compactionTaskPool = null;
+    storageGroupTasks.clear();
+    logger.info("CompactionManager stopped");
+  }
+
+  @Override
+  public ServiceType getID() {
+    return ServiceType.COMPACTION_SERVICE;
+  }
+}
@@ -16,20 +16,15 @@
  * specific language governing permissions and limitations
  * under the License.
  */
+package org.apache.iotdb.db.engine.compaction;
 
-package org.apache.iotdb.db.engine.merge.selector;
+public interface CompactionManagerMBean {
 
-import java.io.IOException;
-import org.apache.iotdb.db.engine.storagegroup.TsFileResource;
+  String getWriteAmplificationReport();
 
+  int getQueuedTaskNum();
 
-@FunctionalInterface
-/**
- * Estimate how much memory a file may occupy when being queried during merge.
- * @param resource
- * @return
- * @throws IOException
- */
-interface IFileQueryMemMeasurement {
-  long measure(TsFileResource resource) throws IOException;
+  int getRunningTaskNum();
+
+  void abortCompaction(String storageGroup);
 }
@@ -0,0 +1,327 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iotdb.db.engine.compaction;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongUnaryOperator;
+import org.apache.iotdb.db.conf.IoTDBConfig;
+import org.apache.iotdb.db.conf.IoTDBDescriptor;
+import org.apache.iotdb.db.engine.compaction.selector.ICompactionSelector;
+import org.apache.iotdb.db.engine.compaction.selector.LeveledCompactionSelector;
+import org.apache.iotdb.db.engine.compaction.selector.SizeTieredCompactionSelector;
+import org.apache.iotdb.db.engine.storagegroup.TsFileResource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * CompactionScheduler selects the closed files to be compacted in each time partition of a storage
+ * group with the configured strategies and submits the tasks to CompactionManager. At most one
+ * task runs for the sequence files and one for the unsequence files of a partition at a time, and
+ * the tasks of the partitions read more often since their last compaction run first.
+ * <p>
+ * Besides, the closed files touched by deletions are purged one at a time in each time partition:
+ * a purge compacts a single file, which drops the deleted points and chunks and the modifications
+ * applied to them, if enough of its points are deleted. The closed files partly out of TTL are
+ * purged the same way, which also drops the points out of TTL.
+ */
+public class CompactionScheduler {
+
+  private static final Logger logger = LoggerFactory.getLogger(CompactionScheduler.class);
+
+  private final String storageGroupName;
+  private final String storageGroupSysDir;
+  // null if the files are not compacted
+  private final ICompactionSelector seqSelector;
+  private final ICompactionSelector unseqSelector;
+  private final CompactionCallback replaceCallback;
+  private final Runnable scheduleCallback;
+  // time partition -> a new file version of the partition
+  private final LongUnaryOperator versionAllocator;
+
+  // time partition -> how many times the files of the partition are read since its last compaction
+  private final Map<Long, LongAdder> partitionReadCounts = new ConcurrentHashMap<>();
+  // the names of the queued and running tasks
+  private final Set<String> runningTasks = ConcurrentHashMap.newKeySet();
+
+  // not positive if the files are not purged
+  private final double purgeDeletedRatio;
+  // the files with deletions that are not checked by a purge yet
+  private final Set<TsFileResource> purgeCandidates = ConcurrentHashMap.newKeySet();
+  // the files partly out of TTL that are not purged yet -> the TTL bound of the purge
+  private final Map<TsFileResource, Long> expiryCandidates = new ConcurrentHashMap<>();
+
+  /**
+   * @param replaceCallback  replaces the source files of a finished compaction with the target
+   *                         file in the storage group
+   * @param scheduleCallback schedules the following compactions once a compaction is done
+   * @param versionAllocator allocates a new file version of a time partition, which names the
+   *                         target file of a purge as it keeps the level of the source file
+   */
+  public CompactionScheduler(String storageGroupName, String storageGroupSysDir,
+      CompactionCallback replaceCallback, Runnable scheduleCallback,
+      LongUnaryOperator versionAllocator) {
+    this(storageGroupName, storageGroupSysDir,
+        getSelector(IoTDBDescriptor.getInstance().getConfig().getSeqCompactionStrategy()),
+        getSelector(IoTDBDescriptor.getInstance().getConfig().getUnseqCompactionStrategy()),
+        replaceCallback, scheduleCallback, versionAllocator);
+  }
+
+  public CompactionScheduler(String storageGroupName, String storageGroupSysDir,
+      ICompactionSelector seqSelector, ICompactionSelector unseqSelector,
+      CompactionCallback replaceCallback, Runnable scheduleCallback,
+      LongUnaryOperator versionAllocator) {
+    this.storageGroupName = storageGroupName;
+    this.storageGroupSysDir = storageGroupSysDir;
+    this.seqSelector = seqSelector;
+    this.unseqSelector = unseqSelector;
+    this.replaceCallback = replaceCallback;
+    this.scheduleCallback = scheduleCallback;
+    this.versionAllocator = versionAllocator;
+    double ratio = IoTDBDescriptor.getInstance().getConfig().getPurgeDeletedRatio();
+    this.purgeDeletedRatio = ratio > 0 && ratio <= 1 ? ratio : 0;
+  }
+
+  private static ICompactionSelector getSelector(CompactionStrategy strategy) {
+    IoTDBConfig config = IoTDBDescriptor.getInstance().getConfig();
+    switch (strategy) {
+      case NO_COMPACTION:
+        return null;
+      case LEVELED:
+        return new LeveledCompactionSelector(config.getCompactionLevelFileNum(),
+            config.getMaxCompactionLevel());
+      case SIZE_TIERED:
+        return new SizeTieredCompactionSelector(config.getCompactionTierFileNum());
+      default:
+        throw new UnsupportedOperationException("Unknown CompactionStrategy " + strategy);
+    }
+  }
+
+  /**
+   * @return whether the files are compacted by any strategy, purges excluded
+   */
+  public boolean isEnabled() {
+    return seqSelector != null || unseqSelector != null;
+  }
+
+  /**
+   * @return whether schedule() may submit any task, i.e., the files are compacted or some files
+   * wait for a purge
+   */
+  public boolean needsSchedule() {
+    return isEnabled() || !purgeCandidates.isEmpty() || !expiryCandidates.isEmpty();
+  }
+
+  public boolean isPurgeEnabled() {
+    return purgeDeletedRatio > 0;
+  }
+
+  public boolean isCompacting() {
+    return !runningTasks.isEmpty();
+  }
+
+  /**
+   * Record that a query reads the files, so that the partitions of them are compacted earlier.
+   */
+  public void recordRead(List<TsFileResource> resources) {
+    for (TsFileResource resource : resources) {
+      partitionReadCounts.computeIfAbsent(resource.getTimePartition(), p -> new LongAdder())
+          .increment();
+    }
+  }
+
+  /**
+   * Record that a deletion is written to the modification file of the file, so that the file will
+   * be checked by a purge.
+   */
+  public void recordDeletion(TsFileResource resource) {
+    if (isPurgeEnabled()) {
+      purgeCandidates.add(resource);
+    }
+  }
+
+  /**
+   * Forget that the file has deletions, e.g., before the path of the file changes.
+   *
+   * @return whether the deletions of the file were recorded
+   */
+  public boolean removeDeletionRecord(TsFileResource resource) {
+    return purgeCandidates.remove(resource);
+  }
+
+  /**
+   * Record that part of the data of the file is out of TTL, so that a purge will rewrite the file
+   * without the data older than the bound.
+   */
+  public void recordExpiry(TsFileResource resource, long timeLowerBound) {
+    expiryCandidates.merge(resource, timeLowerBound, Math::max);
+  }
+
+  /**
+   * Forget that the file is partly out of TTL, e.g., before the path of the file changes.
+   *
+   * @return the recorded TTL bound, or null if the expiry of the file was not recorded
+   */
+  public Long removeExpiryRecord(TsFileResource resource) {
+    return expiryCandidates.remove(resource);
+  }
+
+  /**
+   * Select the files to be compacted in each time partition and submit the tasks. The caller must
+   * hold the write lock of the storage group and ensure no merge is running.
+   *
+   * @param seqFiles   all sequence files of the storage group in order
+   * @param unseqFiles all unsequence files of the storage group in order
+   */
+  public void schedule(Collection<TsFileResource> seqFiles,
+      Collection<TsFileResource> unseqFiles) {
+    if (seqSelector != null) {
+      schedule(seqFiles, true, seqSelector);
+    }
+    if (unseqSelector != null) {
+      schedule(unseqFiles, false, unseqSelector);
+    }
+    if (!purgeCandidates.isEmpty() || !expiryCandidates.isEmpty()) {
+      purgeCandidates.removeIf(TsFileResource::isDeleted);
+      expiryCandidates.keySet().removeIf(TsFileResource::isDeleted);
+      schedulePurge(seqFiles, true);
+      schedulePurge(unseqFiles, false);
+    }
+  }
+
+  /**
+   * Submit a purge for the first candidate of each time partition that can be compacted now. The
+   * candidates that are unclosed or being merged are kept for the next schedule.
+   */
+  private void schedulePurge(Collection<TsFileResource> files, boolean sequence) {
+    for (TsFileResource file : files) {
+      Long timeLowerBound = expiryCandidates.get(file);
+      if ((!purgeCandidates.contains(file) && timeLowerBound == null)
+          || !ICompactionSelector.canCompact(file)) {
+        continue;
+      }
+      long timePartition = file.getTimePartition();
+      String taskName = storageGroupName + "-" + timePartition + (sequence ? "-seq" : "-unseq")
+          + "-purge";
+      if (runningTasks.contains(taskName)) {
+        continue;
+      }
+      LongAdder readCount = partitionReadCounts.get(timePartition);
+      CompactionTask task = new CompactionTask(this, taskName, Collections.singletonList(file),
+          sequence, readCount == null ? 0 : readCount.sum(), true,
+          timeLowerBound == null ? Long.MIN_VALUE : timeLowerBound);
+      if (!submit(task)) {
+        return;
+      }
+      purgeCandidates.remove(file);
+      expiryCandidates.remove(file);
+    }
+  }
+
+  private boolean submit(CompactionTask task) {
+    for (TsFileResource file : task.getSourceFiles()) {
+      file.setMerging(true);
+    }
+    runningTasks.add(task.getTaskName());
+    if (!CompactionManager.getInstance().submit(task)) {
+      runningTasks.remove(task.getTaskName());
+      for (TsFileResource file : task.getSourceFiles()) {
+        file.setMerging(false);
+      }
+      return false;
+    }
+    logger.info("{} submits compaction {} of {} files", storageGroupName, task.getTaskName(),
+        task.getSourceFiles().size());
+    return true;
+  }
+
+  private void schedule(Collection<TsFileResource> files, boolean sequence,
+      ICompactionSelector selector) {
+    Map<Long, List<TsFileResource>> partitionFiles = new TreeMap<>();
+    for (TsFileResource file : files) {
+      partitionFiles.computeIfAbsent(file.getTimePartition(), p -> new ArrayList<>()).add(file);
+    }
+    for (Entry<Long, List<TsFileResource>> entry : partitionFiles.entrySet()) {
+      long timePartition = entry.getKey();
+      String taskName = storageGroupName + "-" + timePartition + (sequence ? "-seq" : "-unseq");
+      if (runningTasks.contains(taskName)) {
+        continue;
+      }
+      List<TsFileResource> selected = selector.select(entry.getValue());
+      if (selected.size() < 2) {
+        continue;
+      }
+      LongAdder readCount = partitionReadCounts.get(timePartition);
+      CompactionTask task = new CompactionTask(this, taskName, selected, sequence,
+          readCount == null ? 0 : readCount.sum(), false);
+      if (!submit(task)) {
+        return;
+      }
+    }
+  }
+
+  boolean replace(CompactionTask task) {
+    return replaceCallback.call(task);
+  }
+
+  void taskEnded(CompactionTask task, boolean replaced) {
+    runningTasks.remove(task.getTaskName());
+    if (replaced) {
+      if (!task.isPurge()) {
+        partitionReadCounts.remove(task.getTimePartition());
+      }
+      // the compacted file may complete the next level
+      scheduleCallback.run();
+    }
+  }
+
+  long allocateVersion(long timePartition) {
+    return versionAllocator.applyAsLong(timePartition);
+  }
+
+  double getPurgeDeletedRatio() {
+    return purgeDeletedRatio;
+  }
+
+  public String getStorageGroupName() {
+    return storageGroupName;
+  }
+
+  public String getStorageGroupSysDir() {
+    return storageGroupSysDir;
+  }
+
+  @FunctionalInterface
+  public interface CompactionCallback {
+
+    /**
+     * @return whether the source files are replaced by the target file, false if the source files
+     * are no longer in the storage group
+     */
+    boolean call(CompactionTask task);
+  }
+}
@@ -0,0 +1,446 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iotdb.db.engine.compaction;
+
+import static org.apache.iotdb.tsfile.common.constant.TsFileConstant.PATH_SEPARATOR;
+import static org.apache.iotdb.tsfile.common.constant.TsFileConstant.TSFILE_SUFFIX;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.atomic.AtomicLong;
+import org.apache.iotdb.db.conf.IoTDBConstant;
+import org.apache.iotdb.db.engine.cache.ChunkMetadataCache;
+import org.apache.iotdb.db.engine.compaction.recover.CompactionLogger;
+import org.apache.iotdb.db.engine.compaction.selector.ICompactionSelector;
+import org.apache.iotdb.db.engine.modification.Modification;
+import org.apache.iotdb.db.engine.modification.ModificationFile;
+import org.apache.iotdb.db.engine.modification.SeriesDeletions;
+import org.apache.iotdb.db.engine.storagegroup.TsFileResource;
+import org.apache.iotdb.db.query.control.FileReaderManager;
+import org.apache.iotdb.db.rescon.IOThrottle;
+import org.apache.iotdb.db.rescon.IOThrottle.IOType;
+import org.apache.iotdb.db.utils.MergeUtils;
+import org.apache.iotdb.db.utils.QueryUtils;
+import org.apache.iotdb.tsfile.file.header.ChunkHeader;
+import org.apache.iotdb.tsfile.file.metadata.ChunkMetadata;
+import org.apache.iotdb.tsfile.fileSystem.FSFactoryProducer;
+import org.apache.iotdb.tsfile.read.TsFileSequenceReader;
+import org.apache.iotdb.tsfile.read.common.Chunk;
+import org.apache.iotdb.tsfile.read.common.TimeRange;
+import org.apache.iotdb.tsfile.write.chunk.ChunkWriterImpl;
+import org.apache.iotdb.tsfile.write.chunk.IChunkWriter;
+import org.apache.iotdb.tsfile.write.schema.MeasurementSchema;
+import org.apache.iotdb.tsfile.write.writer.TsFileIOWriter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * CompactionTask compacts closed files of a time partition into one file of a higher level. The
+ * chunks are copied with their versions, so the result is the same as reading the source files
+ * even if they overlap, and the chunks touched by deletions are rewritten without the deleted
+ * points. The target file is written as "{name}.compaction" and renamed once it replaces the source
+ * files, which is recorded by a CompactionLogger for the recovery.
+ * <p>
+ * A purge is a CompactionTask of a single file, which only runs if enough points of the file are
+ * deleted, so that the deleted data stops taking disk space and being decoded by queries. The
+ * target file of a purge keeps the level of the source file, so it is named with a new version
+ * instead. A purge of a file partly out of TTL always runs, and it also drops the points older
+ * than the TTL bound.
+ */
+public class CompactionTask implements Runnable, Comparable<CompactionTask> {
+
+  public static final String COMPACTION_SUFFIX = ".compaction";
+
+  private static final Logger logger = LoggerFactory.getLogger(CompactionTask.class);
+  private static final AtomicLong taskCnt = new AtomicLong();
+
+  private final CompactionScheduler scheduler;
+  private final String taskName;
+  private final List<TsFileResource> sourceFiles;
+  private final boolean sequence;
+  private final long timePartition;
+  // the tasks of higher priorities run first, and then the earlier submitted ones
+  private final long priority;
+  private final long serialNum = taskCnt.getAndIncrement();
+  private final boolean purge;
+  // the points before it are dropped, Long.MIN_VALUE if no point is out of TTL
+  private final long timeLowerBound;
+
+  private final int targetLevel;
+  private final TsFileResource targetFile;
+  private final File tempFile;
+
+  private CompactionLogger compactionLogger;
+  // the number of modifications of each source file when the compaction starts
+  private int[] modificationNums;
+
+  private volatile boolean aborted = false;
+
+  CompactionTask(CompactionScheduler scheduler, String taskName, List<TsFileResource> sourceFiles,
+      boolean sequence, long priority, boolean purge) {
+    this(scheduler, taskName, sourceFiles, sequence, priority, purge, Long.MIN_VALUE);
+  }
+
+  /**
+   * @param timeLowerBound the points before it are out of TTL and dropped, Long.MIN_VALUE if none
+   */
+  CompactionTask(CompactionScheduler scheduler, String taskName, List<TsFileResource> sourceFiles,
+      boolean sequence, long priority, boolean purge, long timeLowerBound) {
+    this.scheduler = scheduler;
+    this.taskName = taskName;
+    this.sourceFiles = sourceFiles;
+    this.sequence = sequence;
+    this.timePartition = sourceFiles.get(0).getTimePartition();
+    this.priority = priority;
+    this.purge = purge;
+    this.timeLowerBound = timeLowerBound;
+
+    int maxLevel = 0;
+    for (TsFileResource sourceFile : sourceFiles) {
+      maxLevel = Math.max(maxLevel, ICompactionSelector.getLevel(sourceFile.getTsFile()));
+    }
+    this.targetLevel = purge ? maxLevel : maxLevel + 1;
+    // the target file takes the place of the first source file
+    File firstFile = sourceFiles.get(0).getTsFile();
+    String[] items = firstFile.getName().replace(TSFILE_SUFFIX, "")
+        .split(IoTDBConstant.FILE_NAME_SEPARATOR);
+    String version = purge ? Long.toString(scheduler.allocateVersion(timePartition)) : items[1];
+    this.targetFile = new TsFileResource(new File(firstFile.getParentFile(),
+        items[0] + IoTDBConstant.FILE_NAME_SEPARATOR + version
+            + IoTDBConstant.FILE_NAME_SEPARATOR + targetLevel + TSFILE_SUFFIX));
+    this.tempFile = new File(targetFile.getTsFilePath() + COMPACTION_SUFFIX);
+  }
+
+  @Override
+  public void run() {
+    boolean replaced = false;
+    try {
+      long startTime = System.currentTimeMillis();
+      if (purge && timeLowerBound == Long.MIN_VALUE) {
+        double deletedRatio = estimateDeletedRatio(sourceFiles.get(0));
+        if (deletedRatio < scheduler.getPurgeDeletedRatio()) {
+          logger.debug("{} skips purging {} as only {} of its points are deleted", taskName,
+              sourceFiles.get(0), deletedRatio);
+          return;
+        }
+      }
+      compact();
+      replaced = !aborted && scheduler.replace(this);
+      if (replaced) {
+        removeSourceFiles();
+        CompactionManager.getInstance().recordCompactedBytes(targetLevel,
+            targetFile.getTsFileSize());
+        logger.info("{} compacted {} files into {} of level {} in {}ms, write amplification: {}",
+            taskName, sourceFiles.size(), targetFile, targetLevel,
+            System.currentTimeMillis() - startTime,
+            CompactionManager.getInstance().getWriteAmplificationReport());
+      }
+    } catch (Exception e) {
+      logger.error("{} compaction failed", taskName, e);
+    } finally {
+      if (!replaced) {
+        cleanUp();
+      }
+      scheduler.taskEnded(this, replaced);
+      CompactionManager.getInstance().taskEnded(this);
+    }
+  }
+
+  private void compact() throws IOException {
+    compactionLogger = new CompactionLogger(scheduler.getStorageGroupSysDir(), taskName);
+    compactionLogger.logFiles(sourceFiles, targetFile.getTsFile());
+    modificationNums = new int[sourceFiles.size()];
+    Set<String> devices = new TreeSet<>();
+    Set<Long> historicalVersions = new HashSet<>();
+    for (int i = 0; i < sourceFiles.size(); i++) {
+      TsFileResource sourceFile = sourceFiles.get(i);
+      modificationNums[i] = sourceFile.getModFile().getModifications().size();
+      devices.addAll(sourceFile.getDeviceToIndexMap().keySet());
+      historicalVersions.addAll(sourceFile.getHistoricalVersions());
+    }
+
+    List<TsFileSequenceReader> readers = new ArrayList<>();
+    TsFileIOWriter writer = new TsFileIOWriter(tempFile);
+    try {
+      for (TsFileResource sourceFile : sourceFiles) {
+        readers.add(new TsFileSequenceReader(sourceFile.getTsFilePath()));
+      }
+      for (String device : devices) {
+        if (aborted || Thread.currentThread().isInterrupted()) {
+          throw new IOException(taskName + " is aborted");
+        }
+        for (int i = 0; i < sourceFiles.size(); i++) {
+          TsFileResource sourceFile = sourceFiles.get(i);
+          if (sourceFile.getDeviceToIndexMap().containsKey(device)
+              && sourceFile.getEndTime(device) >= timeLowerBound) {
+            compactDevice(device, sourceFile, readers.get(i), writer);
+            targetFile.updateStartTime(device,
+                Math.max(sourceFile.getStartTime(device), timeLowerBound));
+            targetFile.updateEndTime(device, sourceFile.getEndTime(device));
+          }
+        }
+      }
+      targetFile.updateMetadataStatistics(writer);
+      writer.endFile();
+    } finally {
+      writer.close();
+      for (TsFileSequenceReader reader : readers) {
+        reader.close();
+      }
+    }
+    targetFile.setHistoricalVersions(historicalVersions);
+    targetFile.setSeq(sequence);
+    targetFile.setClosed(true);
+    targetFile.serialize();
+  }
+
+  /**
+   * Estimate the ratio of the deleted points in a file from the time ranges of its chunks, assuming
+   * the points of a chunk are evenly distributed in its time range.
+   */
+  private static double estimateDeletedRatio(TsFileResource file) throws IOException {
+    long totalPoints = 0;
+    double deletedPoints = 0;
+    try (TsFileSequenceReader reader = new TsFileSequenceReader(file.getTsFilePath())) {
+      for (String device : file.getDeviceToIndexMap().keySet()) {
+        for (Entry<String, List<ChunkMetadata>> entry : reader.readChunkMetadataInDevice(device)
+            .entrySet()) {
+          SeriesDeletions deletions = file.getModFile()
+              .getSeriesDeletions(device + PATH_SEPARATOR + entry.getKey());
+          for (ChunkMetadata chunkMetadata : entry.getValue()) {
+            totalPoints += chunkMetadata.getNumOfPoints();
+            if (!deletions.isEmpty()) {
+              deletedPoints += estimateDeletedPoints(chunkMetadata,
+                  deletions.getDeletedRanges(chunkMetadata.getVersion()));
+            }
+          }
+        }
+      }
+    }
+    return totalPoints == 0 ? 0 : deletedPoints / totalPoints;
+  }
+
+  /**
+   * @param deletedRanges sorted and disjoint
+   */
+  private static double estimateDeletedPoints(ChunkMetadata chunkMetadata,
+      List<TimeRange> deletedRanges) {
+    long startTime = chunkMetadata.getStartTime();
+    long endTime = chunkMetadata.getEndTime();
+    double timeSpan = (double) endTime - startTime + 1;
+    double deletedSpan = 0;
+    for (TimeRange range : deletedRanges) {
+      if (range.getMin() > endTime) {
+        break;
+      }
+      if (range.getMax() >= startTime) {
+        deletedSpan += (double) Math.min(range.getMax(), endTime)
+            - Math.max(range.getMin(), startTime) + 1;
+      }
+    }
+    return chunkMetadata.getNumOfPoints() * Math.min(1, deletedSpan / timeSpan);
+  }
+
+  /**
+   * Copy the chunks of a device in a source file, one chunk group for each version so that the
+   * versions are kept. The points out of TTL are dropped like the deleted ones.
+   */
+  private void compactDevice(String device, TsFileResource sourceFile,
+      TsFileSequenceReader reader, TsFileIOWriter writer) throws IOException {
+    Map<Long, List<ChunkMetadata>> versionChunks = new TreeMap<>();
+    for (Entry<String, List<ChunkMetadata>> entry : reader.readChunkMetadataInDevice(device)
+        .entrySet()) {
+      List<ChunkMetadata> chunkMetadataList = entry.getValue();
+      QueryUtils.modifyChunkMetaData(chunkMetadataList, sourceFile.getModFile()
+          .getSeriesDeletions(device + PATH_SEPARATOR + entry.getKey()));
+      if (timeLowerBound != Long.MIN_VALUE) {
+        removeExpiredData(chunkMetadataList);
+      }
+      for (ChunkMetadata chunkMetadata : chunkMetadataList) {
+        versionChunks.computeIfAbsent(chunkMetadata.getVersion(), v -> new ArrayList<>())
+            .add(chunkMetadata);
+      }
+    }
+    for (Entry<Long, List<ChunkMetadata>> entry : versionChunks.entrySet()) {
+      writer.startChunkGroup(device);
+      for (ChunkMetadata chunkMetadata : entry.getValue()) {
+        writeChunk(chunkMetadata, reader, writer);
+      }
+      writer.endChunkGroup();
+      writer.writeVersion(entry.getKey());
+    }
+  }
+
+  /**
+   * Remove the chunks out of TTL and attach the expired time range to the chunks partly out of TTL
+   * like a deletion, so that they are rewritten without the expired points.
+   */
+  private void removeExpiredData(List<ChunkMetadata> chunkMetadataList) {
+    chunkMetadataList.removeIf(chunkMetadata -> chunkMetadata.getEndTime() < timeLowerBound);
+    for (ChunkMetadata chunkMetadata : chunkMetadataList) {
+      if (chunkMetadata.getStartTime() >= timeLowerBound) {
+        continue;
+      }
+      List<TimeRange> deletedRanges = new ArrayList<>();
+      deletedRanges.add(new TimeRange(Long.MIN_VALUE, timeLowerBound - 1));
+      if (chunkMetadata.getDeleteIntervalList() != null) {
+        deletedRanges.addAll(chunkMetadata.getDeleteIntervalList());
+      }
+      chunkMetadata.setDeleteIntervalList(TimeRange.sortAndMerge(deletedRanges));
+      chunkMetadata.setModified(true);
+    }
+  }
+
+  private void writeChunk(ChunkMetadata chunkMetadata, TsFileSequenceReader reader,
+      TsFileIOWriter writer) throws IOException {
+    Chunk chunk = reader.readMemChunk(chunkMetadata);
+    // the chunk is both read and written
+    IOThrottle.getInstance().acquire(IOType.MERGE, 2L * chunk.getHeader().getDataSize());
+    if (chunk.getDeleteIntervalList() == null || chunk.getDeleteIntervalList().isEmpty()) {
+      writer.writeChunk(chunk, chunkMetadata);
+      return;
+    }
+    ChunkHeader header = chunk.getHeader();
+    IChunkWriter chunkWriter = new ChunkWriterImpl(new MeasurementSchema(
+        header.getMeasurementID(), header.getDataType(), header.getEncodingType(),
+        header.getCompressionType()));
+    if (MergeUtils.writeChunkWithoutUnseq(chunk, chunkWriter) > 0) {
+      chunkWriter.writeToFileWriter(writer);
+    }
+  }
+
+  /**
+   * Make the target file replace the source files. The caller must block queries and deletions of
+   * the storage group.
+   */
+  public void commit() throws IOException {
+    // the deletions written to the source files during the compaction apply to the target file
+    ModificationFile targetModFile = null;
+    for (int i = 0; i < sourceFiles.size(); i++) {
+      List<Modification> modifications = new ArrayList<>(
+          sourceFiles.get(i).getModFile().getModifications());
+      for (int j = modificationNums[i]; j < modifications.size(); j++) {
+        targetModFile = targetFile.getModFile();
+        targetModFile.write(modifications.get(j));
+      }
+    }
+    if (targetModFile != null) {
+      targetModFile.close();
+    }
+    FSFactoryProducer.getFSFactory().moveFile(tempFile, targetFile.getTsFile());
+    compactionLogger.logFinish();
+  }
+
+  private void removeSourceFiles() throws IOException {
+    for (TsFileResource sourceFile : sourceFiles) {
+      // wait for the queries reading the file
+      sourceFile.writeLock();
+      try {
+        ChunkMetadataCache.getInstance().remove(sourceFile);
+        FileReaderManager.getInstance().closeFileAndRemoveReader(sourceFile.getTsFilePath());
+        sourceFile.remove();
+      } finally {
+        sourceFile.writeUnlock();
+      }
+    }
+    compactionLogger.remove();
+  }
+
+  private void cleanUp() {
+    tempFile.delete();
+    targetFile.remove();
+    try {
+      if (compactionLogger != null) {
+        compactionLogger.remove();
+      }
+    } catch (IOException e) {
+      logger.error("{} cannot remove the compaction log", taskName, e);
+    }
+    for (TsFileResource sourceFile : sourceFiles) {
+      sourceFile.setMerging(false);
+    }
+  }
+
+  /**
+   * Stop the task before it replaces the source files.
+   */
+  public void abort() {
+    aborted = true;
+  }
+
+  @Override
+  public int compareTo(CompactionTask o) {
+    int cmp = Long.compare(o.priority, priority);
+    return cmp != 0 ? cmp : Long.compare(serialNum, o.serialNum);
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    return this == o;
+  }
+
+  @Override
+  public int hashCode() {
+    return Long.hashCode(serialNum);
+  }
+
+  public String getTaskName() {
+    return taskName;
+  }
+
+  public String getStorageGroupName() {
+    return scheduler.getStorageGroupName();
+  }
+
+  public List<TsFileResource> getSourceFiles() {
+    return sourceFiles;
+  }
+
+  public TsFileResource getTargetFile() {
+    return targetFile;
+  }
+
+  public boolean isPurge() {
+    return purge;
+  }
+
+  public long getTimeLowerBound() {
+    return timeLowerBound;
+  }
+
+  public boolean isSequence() {
+    return sequence;
+  }
+
+  public long getTimePartition() {
+    return timePartition;
+  }
+
+  public int getTargetLevel() {
+    return targetLevel;
+  }
+}
@@ -0,0 +1,109 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iotdb.db.engine.compaction.recover;
+
+import static org.apache.iotdb.db.engine.compaction.recover.CompactionLogger.STR_FINISH;
+import static org.apache.iotdb.db.engine.compaction.recover.CompactionLogger.STR_SOURCE;
+import static org.apache.iotdb.db.engine.compaction.recover.CompactionLogger.STR_TARGET;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileReader;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import org.apache.iotdb.db.engine.compaction.CompactionTask;
+import org.apache.iotdb.db.engine.storagegroup.TsFileResource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * CompactionLogAnalyzer recovers from a compaction log left by a crash before the data files of the
+ * storage group are loaded. An example of compacting 2 files is:
+ * source data/sequence/root.sg/0/1590000000000-1-0.tsfile
+ * source data/sequence/root.sg/0/1590000000001-2-0.tsfile
+ * target data/sequence/root.sg/0/1590000000000-1-1.tsfile
+ * finish
+ * Without "finish", the target file may be incomplete, so it is removed and the source files are
+ * kept. Otherwise the target file has replaced the source files, and the remaining source files
+ * are removed.
+ */
+public class CompactionLogAnalyzer {
+
+  private static final Logger logger = LoggerFactory.getLogger(CompactionLogAnalyzer.class);
+
+  private File logFile;
+  private List<File> sourceFiles = new ArrayList<>();
+  private File targetFile;
+  private boolean finished = false;
+
+  public CompactionLogAnalyzer(File logFile) {
+    this.logFile = logFile;
+  }
+
+  public void analyze() throws IOException {
+    try (BufferedReader reader = new BufferedReader(new FileReader(logFile))) {
+      String line;
+      while ((line = reader.readLine()) != null) {
+        if (line.startsWith(STR_SOURCE + " ")) {
+          sourceFiles.add(new File(line.substring(STR_SOURCE.length() + 1)));
+        } else if (line.startsWith(STR_TARGET + " ")) {
+          targetFile = new File(line.substring(STR_TARGET.length() + 1));
+        } else if (line.equals(STR_FINISH)) {
+          finished = true;
+        }
+      }
+    }
+  }
+
+  public void recover() throws IOException {
+    analyze();
+    if (finished) {
+      for (File sourceFile : sourceFiles) {
+        removeDataFile(sourceFile);
+      }
+      logger.info("Finished the compaction of {} from log {}", targetFile, logFile);
+    } else if (targetFile != null) {
+      removeDataFile(new File(targetFile.getPath() + CompactionTask.COMPACTION_SUFFIX));
+      removeDataFile(targetFile);
+      logger.info("Undid the compaction of {} from log {}", targetFile, logFile);
+    }
+    if (!logFile.delete()) {
+      throw new IOException("Cannot delete the compaction log " + logFile);
+    }
+  }
+
+  private void removeDataFile(File file) {
+    new TsFileResource(file).remove();
+    new File(file.getPath() + TsFileResource.RESOURCE_SUFFIX + TsFileResource.TEMP_SUFFIX)
+        .delete();
+  }
+
+  public List<File> getSourceFiles() {
+    return sourceFiles;
+  }
+
+  public File getTargetFile() {
+    return targetFile;
+  }
+
+  public boolean isFinished() {
+    return finished;
+  }
+}
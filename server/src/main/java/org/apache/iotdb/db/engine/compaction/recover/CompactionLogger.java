@@ -0,0 +1,78 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iotdb.db.engine.compaction.recover;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.util.List;
+import org.apache.iotdb.db.engine.storagegroup.TsFileResource;
+
+/**
+ * CompactionLogger records the files of a compaction as text lines in the system directory of the
+ * storage group, so that a compaction interrupted by a crash can be undone or finished.
+ */
+public class CompactionLogger {
+
+  public static final String COMPACTION_LOG_SUFFIX = ".compaction.log";
+
+  static final String STR_SOURCE = "source";
+  static final String STR_TARGET = "target";
+  static final String STR_FINISH = "finish";
+
+  private File logFile;
+  private BufferedWriter logStream;
+
+  public CompactionLogger(String storageGroupSysDir, String taskName) throws IOException {
+    logFile = new File(storageGroupSysDir, taskName + COMPACTION_LOG_SUFFIX);
+    logStream = new BufferedWriter(new FileWriter(logFile, false));
+  }
+
+  public void logFiles(List<TsFileResource> sourceFiles, File targetFile) throws IOException {
+    for (TsFileResource sourceFile : sourceFiles) {
+      logStream.write(STR_SOURCE + " " + sourceFile.getTsFile().getAbsolutePath());
+      logStream.newLine();
+    }
+    logStream.write(STR_TARGET + " " + targetFile.getAbsolutePath());
+    logStream.newLine();
+    logStream.flush();
+  }
+
+  /**
+   * Called once the target file has replaced the source files, after which only the source files
+   * remain to be removed.
+   */
+  public void logFinish() throws IOException {
+    logStream.write(STR_FINISH);
+    logStream.newLine();
+    logStream.flush();
+  }
+
+  public void close() throws IOException {
+    logStream.close();
+  }
+
+  public void remove() throws IOException {
+    close();
+    if (!logFile.delete()) {
+      throw new IOException("Cannot delete the compaction log " + logFile);
+    }
+  }
+}
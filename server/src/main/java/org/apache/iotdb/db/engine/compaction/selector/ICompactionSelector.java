@@ -0,0 +1,58 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iotdb.db.engine.compaction.selector;
+
+import static org.apache.iotdb.tsfile.common.constant.TsFileConstant.TSFILE_SUFFIX;
+
+import java.io.File;
+import java.util.List;
+import org.apache.iotdb.db.conf.IoTDBConstant;
+import org.apache.iotdb.db.engine.storagegroup.TsFileResource;
+
+/**
+ * ICompactionSelector selects the files of a time partition to be compacted into one file.
+ */
+public interface ICompactionSelector {
+
+  /**
+   * @param files all files of a time partition in the order of their versions, including the ones
+   *              that cannot be compacted now
+   * @return the files to be compacted into one file in the order of their versions, or an empty
+   * list if no file should be compacted
+   */
+  List<TsFileResource> select(List<TsFileResource> files);
+
+  /**
+   * @return whether the file is closed and no merge or compaction is using it
+   */
+  static boolean canCompact(TsFileResource resource) {
+    return resource.isClosed() && !resource.isMerging() && !resource.isDeleted();
+  }
+
+  /**
+   * @return the level of a file, which is the last number of its name
+   * ({systemTime}-{versionNum}-{level}.tsfile). It is 0 for flushed files, increased by one for
+   * each compaction and also by a merge that rewrites the file.
+   */
+  static int getLevel(File file) {
+    String[] items = file.getName().replace(TSFILE_SUFFIX, "")
+        .split(IoTDBConstant.FILE_NAME_SEPARATOR);
+    return Integer.parseInt(items[2]);
+  }
+}
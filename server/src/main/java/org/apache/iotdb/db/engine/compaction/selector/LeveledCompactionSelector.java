@@ -0,0 +1,60 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iotdb.db.engine.compaction.selector;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import org.apache.iotdb.db.engine.storagegroup.TsFileResource;
+
+/**
+ * LeveledCompactionSelector selects levelFileNum adjacent files of the same level, starting from
+ * the lowest level, so that a file of level n covers about levelFileNum^n flushed files. Only
+ * adjacent files are selected as the sequence files compacted together must not leave another file
+ * between them.
+ */
+public class LeveledCompactionSelector implements ICompactionSelector {
+
+  private final int levelFileNum;
+  private final int maxLevel;
+
+  public LeveledCompactionSelector(int levelFileNum, int maxLevel) {
+    this.levelFileNum = Math.max(levelFileNum, 2);
+    this.maxLevel = maxLevel;
+  }
+
+  @Override
+  public List<TsFileResource> select(List<TsFileResource> files) {
+    for (int level = 0; level < maxLevel; level++) {
+      List<TsFileResource> selected = new ArrayList<>();
+      for (TsFileResource file : files) {
+        if (ICompactionSelector.canCompact(file)
+            && ICompactionSelector.getLevel(file.getTsFile()) == level) {
+          selected.add(file);
+          if (selected.size() == levelFileNum) {
+            return selected;
+          }
+        } else {
+          selected.clear();
+        }
+      }
+    }
+    return Collections.emptyList();
+  }
+}
@@ -0,0 +1,73 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iotdb.db.engine.compaction.selector;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import org.apache.iotdb.db.engine.storagegroup.TsFileResource;
+
+/**
+ * SizeTieredCompactionSelector puts the files into tiers of similar sizes and selects tierFileNum
+ * files of the tier with the smallest files, which reduces the most files with the least I/O. The
+ * files need not be adjacent, so it is only used for unsequence files.
+ */
+public class SizeTieredCompactionSelector implements ICompactionSelector {
+
+  // a file joins a tier if its size is within these ratios of the average size of the tier
+  private static final double TIER_LOW = 0.5;
+  private static final double TIER_HIGH = 1.5;
+
+  private final int tierFileNum;
+
+  public SizeTieredCompactionSelector(int tierFileNum) {
+    this.tierFileNum = Math.max(tierFileNum, 2);
+  }
+
+  @Override
+  public List<TsFileResource> select(List<TsFileResource> files) {
+    List<TsFileResource> candidates = new ArrayList<>();
+    for (TsFileResource file : files) {
+      if (ICompactionSelector.canCompact(file)) {
+        candidates.add(file);
+      }
+    }
+    candidates.sort(Comparator.comparingLong(TsFileResource::getTsFileSize));
+
+    List<TsFileResource> tier = new ArrayList<>();
+    long tierSize = 0;
+    for (TsFileResource candidate : candidates) {
+      long size = candidate.getTsFileSize();
+      double average = tier.isEmpty() ? size : (double) tierSize / tier.size();
+      if (size < average * TIER_LOW || size > average * TIER_HIGH) {
+        tier.clear();
+        tierSize = 0;
+      }
+      tier.add(candidate);
+      tierSize += size;
+      if (tier.size() == tierFileNum) {
+        // keep the order of versions
+        tier.sort(Comparator.comparingInt(files::indexOf));
+        return tier;
+      }
+    }
+    return Collections.emptyList();
+  }
+}
@@ -23,6 +23,8 @@ import static org.apache.iotdb.tsfile.common.constant.TsFileConstant.FLUSH_SUFFI
 import java.io.File;
 import java.io.IOException;
 import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
@@ -33,12 +35,27 @@ import org.apache.iotdb.db.engine.flush.pool.FlushSubTaskPoolManager;
 import org.apache.iotdb.db.engine.memtable.IMemTable;
 import org.apache.iotdb.db.engine.memtable.IWritableMemChunk;
 import org.apache.iotdb.db.exception.runtime.FlushRunTimeException;
+import org.apache.iotdb.db.rescon.IOThrottle;
+import org.apache.iotdb.db.rescon.IOThrottle.IOType;
+import org.apache.iotdb.db.service.IoTDB;
 import org.apache.iotdb.db.utils.datastructure.TVList;
+import org.apache.iotdb.tsfile.encoding.encoder.EncodingSelector;
+import org.apache.iotdb.tsfile.exception.write.UnSupportedDataTypeException;
+import org.apache.iotdb.tsfile.exception.write.WriteProcessException;
 import org.apache.iotdb.tsfile.file.metadata.enums.TSDataType;
+import org.apache.iotdb.tsfile.file.metadata.enums.TSEncoding;
 import org.apache.iotdb.tsfile.fileSystem.FSFactoryProducer;
 import org.apache.iotdb.tsfile.utils.Pair;
+import org.apache.iotdb.tsfile.write.chunk.AlignedChunkWriterImpl;
 import org.apache.iotdb.tsfile.write.chunk.ChunkWriterImpl;
 import org.apache.iotdb.tsfile.write.chunk.IChunkWriter;
+import org.apache.iotdb.tsfile.write.record.datapoint.BooleanDataPoint;
+import org.apache.iotdb.tsfile.write.record.datapoint.DataPoint;
+import org.apache.iotdb.tsfile.write.record.datapoint.DoubleDataPoint;
+import org.apache.iotdb.tsfile.write.record.datapoint.FloatDataPoint;
+import org.apache.iotdb.tsfile.write.record.datapoint.IntDataPoint;
+import org.apache.iotdb.tsfile.write.record.datapoint.LongDataPoint;
+import org.apache.iotdb.tsfile.write.record.datapoint.StringDataPoint;
 import org.apache.iotdb.tsfile.write.schema.MeasurementSchema;
 import org.apache.iotdb.tsfile.write.writer.RestorableTsFileIOWriter;
 import org.slf4j.Logger;
@@ -49,6 +66,11 @@ public class MemTableFlushTask {
   private static final Logger logger = LoggerFactory.getLogger(MemTableFlushTask.class);
   private static final FlushSubTaskPoolManager subTaskPoolManager = FlushSubTaskPoolManager
       .getInstance();
+  /**
+   * the number of evenly spaced runs of consecutive points sampled from a chunk of a series whose
+   * encoding is AUTO
+   */
+  private static final int AUTO_ENCODING_SAMPLE_RUN_NUM = 4;
   private final Future<?> encodingTaskFuture;
   private final Future<?> ioTaskFuture;
   private RestorableTsFileIOWriter writer;
@@ -97,18 +119,29 @@ public class MemTableFlushTask {
 
     for (String deviceId : memTable.getMemTableMap().keySet()) {
       encodingTaskQueue.add(new StartFlushGroupIOTask(deviceId));
+      // the VM merge concatenates chunks, so aligned chunks are only flushed into the TsFile
+      AlignedEncodingTask alignedEncodingTask =
+          writer == tsFileIOWriter && IoTDB.metaManager.isAligned(deviceId)
+              ? new AlignedEncodingTask() : null;
       for (String measurementId : memTable.getMemTableMap().get(deviceId).keySet()) {
         long startTime = System.currentTimeMillis();
         IWritableMemChunk series = memTable.getMemTableMap().get(deviceId).get(measurementId);
         MeasurementSchema desc = series.getSchema();
         TVList tvList = series.getSortedTVList();
         sortTime += System.currentTimeMillis() - startTime;
-        encodingTaskQueue.add(new Pair<>(tvList, desc));
+        if (alignedEncodingTask != null) {
+          alignedEncodingTask.seriesList.add(new Pair<>(tvList, desc));
+        } else {
+          encodingTaskQueue.add(new Pair<>(tvList, desc));
+        }
         // register active time series to the ActiveTimeSeriesCounter
         if (IoTDBDescriptor.getInstance().getConfig().isEnableParameterAdapter()) {
           ActiveTimeSeriesCounter.getInstance().offer(storageGroup, deviceId, measurementId);
         }
       }
+      if (alignedEncodingTask != null) {
+        encodingTaskQueue.add(alignedEncodingTask);
+      }
       encodingTaskQueue.add(new EndChunkGroupIoTask());
     }
     if (IoTDBDescriptor.getInstance().getConfig().isEnableParameterAdapter()) {
@@ -183,6 +216,76 @@ public class MemTableFlushTask {
       }
     }
 
+    /**
+     * merge the sorted series of an aligned device into rows by their times, a measurement has no
+     * value in the rows of the times it does not have
+     */
+    private AlignedChunkWriterImpl writeAlignedSeries(
+        List<Pair<TVList, MeasurementSchema>> seriesList)
+        throws IOException, WriteProcessException {
+      AlignedChunkWriterImpl chunkWriter = new AlignedChunkWriterImpl();
+      for (Pair<TVList, MeasurementSchema> series : seriesList) {
+        MeasurementSchema schema = series.right;
+        if (schema.getEncodingType() == TSEncoding.AUTO) {
+          schema = schema.withEncoding(selectEncoding(series.left, schema));
+        }
+        chunkWriter.tryToAddValueChunkWriter(schema);
+      }
+      int[] indexes = new int[seriesList.size()];
+      List<DataPoint> row = new ArrayList<>(seriesList.size());
+      while (true) {
+        long time = Long.MAX_VALUE;
+        boolean hasRow = false;
+        for (int i = 0; i < seriesList.size(); i++) {
+          TVList tvList = seriesList.get(i).left;
+          if (indexes[i] < tvList.size()) {
+            time = Math.min(time, tvList.getTime(indexes[i]));
+            hasRow = true;
+          }
+        }
+        if (!hasRow) {
+          break;
+        }
+        row.clear();
+        for (int i = 0; i < seriesList.size(); i++) {
+          TVList tvList = seriesList.get(i).left;
+          if (indexes[i] < tvList.size() && tvList.getTime(indexes[i]) == time) {
+            // skip duplicated data
+            while (indexes[i] + 1 < tvList.size() && tvList.getTime(indexes[i] + 1) == time) {
+              indexes[i]++;
+            }
+            row.add(getDataPoint(tvList, indexes[i], seriesList.get(i).right));
+            indexes[i]++;
+          }
+        }
+        chunkWriter.write(time, row);
+      }
+      // the sealed pages are measured by the io task
+      chunkWriter.sealCurrentPage();
+      return chunkWriter;
+    }
+
+    private DataPoint getDataPoint(TVList tvList, int index, MeasurementSchema schema) {
+      String measurementId = schema.getMeasurementId();
+      switch (schema.getType()) {
+        case BOOLEAN:
+          return new BooleanDataPoint(measurementId, tvList.getBoolean(index));
+        case INT32:
+          return new IntDataPoint(measurementId, tvList.getInt(index));
+        case INT64:
+          return new LongDataPoint(measurementId, tvList.getLong(index));
+        case FLOAT:
+          return new FloatDataPoint(measurementId, tvList.getFloat(index));
+        case DOUBLE:
+          return new DoubleDataPoint(measurementId, tvList.getDouble(index));
+        case TEXT:
+          return new StringDataPoint(measurementId, tvList.getBinary(index));
+        default:
+          throw new UnSupportedDataTypeException(
+              String.format("Data type %s is not supported.", schema.getType()));
+      }
+    }
+
     @SuppressWarnings("squid:S135")
     @Override
     public void run() {
@@ -210,10 +313,24 @@ public class MemTableFlushTask {
         } else {
           if (task instanceof StartFlushGroupIOTask || task instanceof EndChunkGroupIoTask) {
             ioTaskQueue.add(task);
+          } else if (task instanceof AlignedEncodingTask) {
+            long starTime = System.currentTimeMillis();
+            try {
+              ioTaskQueue.add(writeAlignedSeries(((AlignedEncodingTask) task).seriesList));
+            } catch (IOException | WriteProcessException e) {
+              logger.error("Storage group {} memtable {}, encoding task meets error.",
+                  storageGroup, memTable.getVersion(), e);
+              throw new FlushRunTimeException(e);
+            }
+            memSerializeTime += System.currentTimeMillis() - starTime;
           } else {
             long starTime = System.currentTimeMillis();
             Pair<TVList, MeasurementSchema> encodingMessage = (Pair<TVList, MeasurementSchema>) task;
-            IChunkWriter seriesWriter = new ChunkWriterImpl(encodingMessage.right);
+            MeasurementSchema schema = encodingMessage.right;
+            if (schema.getEncodingType() == TSEncoding.AUTO) {
+              schema = schema.withEncoding(selectEncoding(encodingMessage.left, schema));
+            }
+            IChunkWriter seriesWriter = new ChunkWriterImpl(schema);
             writeOneSeries(encodingMessage.left, seriesWriter, encodingMessage.right.getType());
             ioTaskQueue.add(seriesWriter);
             memSerializeTime += System.currentTimeMillis() - starTime;
@@ -227,6 +344,61 @@ public class MemTableFlushTask {
     }
   };
 
+  /**
+   * choose the encoding of a chunk of a series whose encoding is AUTO by trial-encoding evenly
+   * spaced runs of its sorted points, the chosen encoding is recorded in the chunk header.
+   */
+  private static TSEncoding selectEncoding(TVList tvList, MeasurementSchema schema) {
+    int size = tvList.size();
+    int sampleSize = IoTDBDescriptor.getInstance().getConfig().getAutoEncodingSampleSize();
+    if (size == 0 || sampleSize <= 0) {
+      return EncodingSelector.getDefaultEncoding(schema.getType());
+    }
+    EncodingSelector selector = new EncodingSelector(schema.getType(), schema.getProps());
+    if (size <= sampleSize) {
+      sampleRun(tvList, 0, size, schema.getType(), selector);
+    } else {
+      int runLength = Math.max(1, sampleSize / AUTO_ENCODING_SAMPLE_RUN_NUM);
+      for (int i = 0; i < AUTO_ENCODING_SAMPLE_RUN_NUM; i++) {
+        int start = (int) ((long) (size - runLength) * i / (AUTO_ENCODING_SAMPLE_RUN_NUM - 1));
+        sampleRun(tvList, start, start + runLength, schema.getType(), selector);
+        selector.endRun();
+      }
+    }
+    TSEncoding encoding = selector.select();
+    logger.debug("Encoding {} is chosen for a chunk of {} points of {}", encoding, size,
+        schema.getMeasurementId());
+    return encoding;
+  }
+
+  private static void sampleRun(TVList tvList, int start, int end, TSDataType dataType,
+      EncodingSelector selector) {
+    for (int i = start; i < end; i++) {
+      switch (dataType) {
+        case BOOLEAN:
+          selector.encode(tvList.getBoolean(i));
+          break;
+        case INT32:
+          selector.encode(tvList.getInt(i));
+          break;
+        case INT64:
+          selector.encode(tvList.getLong(i));
+          break;
+        case FLOAT:
+          selector.encode(tvList.getFloat(i));
+          break;
+        case DOUBLE:
+          selector.encode(tvList.getDouble(i));
+          break;
+        case TEXT:
+          selector.encode(tvList.getBinary(i));
+          break;
+        default:
+          break;
+      }
+    }
+  }
+
   public static File getFlushLogFile(RestorableTsFileIOWriter writer) {
     File parent = writer.getFile().getParentFile();
     return FSFactoryProducer.getFSFactory()
@@ -262,6 +434,11 @@ public class MemTableFlushTask {
             this.writer.startChunkGroup(((StartFlushGroupIOTask) ioMessage).deviceId);
           } else if (ioMessage instanceof IChunkWriter) {
             ChunkWriterImpl chunkWriter = (ChunkWriterImpl) ioMessage;
+            IOThrottle.getInstance().acquire(IOType.FLUSH, chunkWriter.getCurrentChunkSize());
+            chunkWriter.writeToFileWriter(this.writer);
+          } else if (ioMessage instanceof AlignedChunkWriterImpl) {
+            AlignedChunkWriterImpl chunkWriter = (AlignedChunkWriterImpl) ioMessage;
+            IOThrottle.getInstance().acquire(IOType.FLUSH, chunkWriter.getCurrentChunkSize());
             chunkWriter.writeToFileWriter(this.writer);
           } else {
             this.writer.endChunkGroup();
@@ -285,6 +462,14 @@ public class MemTableFlushTask {
     }
   }
 
+  /**
+   * the sorted series of an aligned device, which are encoded together into rows
+   */
+  static class AlignedEncodingTask {
+
+    private final List<Pair<TVList, MeasurementSchema>> seriesList = new ArrayList<>();
+  }
+
   static class StartFlushGroupIOTask {
 
     private final String deviceId;
@@ -28,6 +28,8 @@ import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
 import java.util.TreeMap;
+import org.apache.iotdb.db.rescon.IOThrottle;
+import org.apache.iotdb.db.rescon.IOThrottle.IOType;
 import org.apache.iotdb.tsfile.file.metadata.ChunkMetadata;
 import org.apache.iotdb.tsfile.read.TimeValuePair;
 import org.apache.iotdb.tsfile.read.TsFileSequenceReader;
@@ -73,6 +75,7 @@ public class VmMergeUtils {
       }
       for (ChunkMetadata chunkMetadata : chunkMetadataList) {
         Chunk chunk = reader.readMemChunk(chunkMetadata);
+        IOThrottle.getInstance().acquire(IOType.MERGE, chunk.getHeader().getDataSize());
         if (newChunkMetadata == null) {
           newChunkMetadata = chunkMetadata;
           newChunk = chunk;
@@ -100,8 +103,9 @@ public class VmMergeUtils {
           measurementId, entry.getValue().getType());
       for (ChunkMetadata chunkMetadata : chunkMetadataList) {
         maxVersion = Math.max(chunkMetadata.getVersion(), maxVersion);
-        IChunkReader chunkReader = new ChunkReaderByTimestamp(
-            reader.readMemChunk(chunkMetadata));
+        Chunk chunk = reader.readMemChunk(chunkMetadata);
+        IOThrottle.getInstance().acquire(IOType.MERGE, chunk.getHeader().getDataSize());
+        IChunkReader chunkReader = new ChunkReaderByTimestamp(chunk);
         while (chunkReader.hasNextSatisfiedPage()) {
           IPointReader iPointReader = new BatchDataIterator(
               chunkReader.nextPageData());
@@ -164,6 +168,7 @@ public class VmMergeUtils {
           for (TimeValuePair timeValuePair : timeValuePairMap.values()) {
             writeTVPair(timeValuePair, chunkWriter);
           }
+          IOThrottle.getInstance().acquire(IOType.MERGE, chunkWriter.getCurrentChunkSize());
           chunkWriter.writeToFileWriter(writer);
         }
         writer.writeVersion(maxVersion);
@@ -185,6 +190,7 @@ public class VmMergeUtils {
           ChunkMetadata newChunkMetadata = chunkPair.left;
           Chunk newChunk = chunkPair.right;
           if (newChunkMetadata != null && newChunk != null) {
+            IOThrottle.getInstance().acquire(IOType.MERGE, newChunk.getHeader().getDataSize());
             writer.writeChunk(newChunk, newChunkMetadata);
           }
         }
@@ -34,14 +34,19 @@ public class MergeContext {
 
   private Map<TsFileResource, Integer> mergedChunkCnt = new HashMap<>();
   private Map<TsFileResource, Integer> unmergedChunkCnt = new HashMap<>();
+  // the bytes of the chunks of each seqFile that are replaced by the merged chunks
+  private Map<TsFileResource, Long> mergedChunkSize = new HashMap<>();
   private Map<TsFileResource, Map<Path, List<Long>>> unmergedChunkStartTimes = new HashMap<>();
 
   private AtomicInteger totalChunkWritten = new AtomicInteger();
   private AtomicLong totalPointWritten = new AtomicLong();
+  // pages copied without being uncompressed as no unseq point overlaps them
+  private AtomicLong totalPageCopied = new AtomicLong();
 
   public void clear() {
     mergedChunkCnt.clear();
     unmergedChunkCnt.clear();
+    mergedChunkSize.clear();
     unmergedChunkStartTimes.clear();
   }
 
@@ -54,6 +59,10 @@ public class MergeContext {
     this.mergedChunkCnt = mergedChunkCnt;
   }
 
+  public Map<TsFileResource, Long> getMergedChunkSize() {
+    return mergedChunkSize;
+  }
+
   public Map<TsFileResource, Integer> getUnmergedChunkCnt() {
     return unmergedChunkCnt;
   }
@@ -87,4 +96,12 @@ public class MergeContext {
   public long getTotalPointWritten() {
     return totalPointWritten.get();
   }
+
+  public void incTotalPageCopied() {
+    totalPageCopied.incrementAndGet();
+  }
+
+  public long getTotalPageCopied() {
+    return totalPageCopied.get();
+  }
 }
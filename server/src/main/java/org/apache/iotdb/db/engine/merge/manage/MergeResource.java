@@ -24,12 +24,14 @@ import static org.apache.iotdb.db.engine.merge.task.MergeTask.MERGE_SUFFIX;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 import org.apache.iotdb.db.engine.modification.Modification;
@@ -59,10 +61,17 @@ public class MergeResource {
 
   private Map<TsFileResource, TsFileSequenceReader> fileReaderCache = new HashMap<>();
   private Map<TsFileResource, RestorableTsFileIOWriter> fileWriterCache = new HashMap<>();
-  private Map<TsFileResource, List<Modification>> modificationCache = new HashMap<>();
+  private Map<TsFileResource, Map<String, List<Modification>>> modificationCache =
+      new HashMap<>();
   private Map<Path, MeasurementSchema> measurementSchemaMap = new HashMap<>(); //is this too waste?
   private Map<MeasurementSchema, IChunkWriter> chunkWriterCache = new ConcurrentHashMap<>();
 
+  // the chunks of the cold seqFiles are rewritten with the schemas of the policy
+  private RecompressionPolicy recompressionPolicy;
+  private Set<TsFileResource> coldSeqFiles = Collections.emptySet();
+  private Map<Path, MeasurementSchema> coldMeasurementSchemaMap = new ConcurrentHashMap<>();
+  private Map<MeasurementSchema, IChunkWriter> coldChunkWriterCache = new ConcurrentHashMap<>();
+
   private long timeLowerBound = Long.MIN_VALUE;
 
   private boolean cacheDeviceMeta = false;
@@ -100,12 +109,26 @@ public class MergeResource {
     modificationCache.clear();
     measurementSchemaMap.clear();
     chunkWriterCache.clear();
+    coldMeasurementSchemaMap.clear();
+    coldChunkWriterCache.clear();
   }
 
   public MeasurementSchema getSchema(Path path) {
     return measurementSchemaMap.get(path);
   }
 
+  /**
+   * @return the schema to rewrite the chunks of the series in the seqFile with, which is given by
+   * the RecompressionPolicy if the seqFile is cold
+   */
+  public MeasurementSchema getSchema(Path path, TsFileResource seqFile) {
+    if (!isCold(seqFile)) {
+      return getSchema(path);
+    }
+    return coldMeasurementSchemaMap
+        .computeIfAbsent(path, p -> recompressionPolicy.apply(getSchema(p)));
+  }
+
   /**
    * Construct a new or get an existing RestorableTsFileIOWriter of a merge temp file for a
    * SeqFile. The path of the merge temp file will be the seqFile's + ".merge".
@@ -169,6 +192,43 @@ public class MergeResource {
     return chunkWriterCache.computeIfAbsent(measurementSchema, ChunkWriterImpl::new);
   }
 
+  /**
+   * Like getChunkWriter(MeasurementSchema), but the ChunkWriters of cold seqFiles are cached
+   * separately, as a policy may only change the compression level, which MeasurementSchemas do not
+   * tell apart.
+   */
+  public IChunkWriter getChunkWriter(MeasurementSchema measurementSchema,
+      TsFileResource seqFile) {
+    if (!isCold(seqFile)) {
+      return getChunkWriter(measurementSchema);
+    }
+    return coldChunkWriterCache.computeIfAbsent(measurementSchema, ChunkWriterImpl::new);
+  }
+
+  /**
+   * Apply the policy to the seqFiles that are cold now. The seqFiles should have been selected, as
+   * they are not checked again during the merge.
+   */
+  public void setRecompressionPolicy(RecompressionPolicy recompressionPolicy) {
+    this.recompressionPolicy = recompressionPolicy;
+    long currentTime = System.currentTimeMillis();
+    // the file of a TsFileResource, which its hash code depends on, may change after the merge
+    this.coldSeqFiles = Collections.newSetFromMap(new IdentityHashMap<>());
+    for (TsFileResource seqFile : seqFiles) {
+      if (recompressionPolicy.isCold(seqFile, currentTime)) {
+        coldSeqFiles.add(seqFile);
+      }
+    }
+  }
+
+  public RecompressionPolicy getRecompressionPolicy() {
+    return recompressionPolicy;
+  }
+
+  public boolean isCold(TsFileResource seqFile) {
+    return coldSeqFiles.contains(seqFile);
+  }
+
   /**
    * Get the modifications of a timeseries in the ModificationFile of a TsFile. Once the
    * modifications of the timeseries are found out, they will be removed from the list to boost
@@ -177,17 +237,19 @@ public class MergeResource {
    */
   public List<Modification> getModifications(TsFileResource tsFileResource, Path path) {
     // copy from TsFileResource so queries are not affected
-    List<Modification> modifications = modificationCache.computeIfAbsent(tsFileResource,
-        resource -> new LinkedList<>(resource.getModFile().getModifications()));
-    List<Modification> pathModifications = new ArrayList<>();
-    Iterator<Modification> modificationIterator = modifications.iterator();
+    Map<String, List<Modification>> modifications = modificationCache.computeIfAbsent(
+        tsFileResource, resource -> groupByPath(resource.getModFile().getModifications()));
     // each path is visited only once in a merge, so the modifications can be removed after visiting
-    while (modificationIterator.hasNext()) {
-      Modification modification = modificationIterator.next();
-      if (modification.getPath().equals(path)) {
-        pathModifications.add(modification);
-        modificationIterator.remove();
-      }
+    List<Modification> pathModifications = modifications.remove(path.getFullPath());
+    return pathModifications != null ? pathModifications : Collections.emptyList();
+  }
+
+  private static Map<String, List<Modification>> groupByPath(
+      Collection<Modification> modifications) {
+    Map<String, List<Modification>> pathModifications = new HashMap<>();
+    for (Modification modification : modifications) {
+      pathModifications.computeIfAbsent(modification.getPathString(), k -> new ArrayList<>())
+          .add(modification);
     }
     return pathModifications;
   }
@@ -257,6 +319,7 @@ public class MergeResource {
 
   public void clearChunkWriterCache() {
     this.chunkWriterCache.clear();
+    this.coldChunkWriterCache.clear();
   }
 
 }
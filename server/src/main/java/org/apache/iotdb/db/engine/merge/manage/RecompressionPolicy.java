@@ -0,0 +1,161 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iotdb.db.engine.merge.manage;
+
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+import org.apache.iotdb.db.engine.storagegroup.TsFileResource;
+import org.apache.iotdb.db.exception.metadata.MetadataException;
+import org.apache.iotdb.db.utils.SchemaUtils;
+import org.apache.iotdb.tsfile.compress.ICompressor;
+import org.apache.iotdb.tsfile.file.metadata.enums.CompressionType;
+import org.apache.iotdb.tsfile.file.metadata.enums.TSDataType;
+import org.apache.iotdb.tsfile.file.metadata.enums.TSEncoding;
+import org.apache.iotdb.tsfile.write.schema.MeasurementSchema;
+
+/**
+ * RecompressionPolicy describes how the data of a storage group is stored once it gets cold, e.g.,
+ * "after 7 days, compress with ZSTD level 9 and encode FLOAT with GORILLA". A seqFile is cold when
+ * all of its data is older than the given age, and merges rewrite the chunks of cold seqFiles with
+ * the compressor and encodings of the policy.
+ * <p>
+ * The policy is written like "after=604800000,compressor=ZSTD,level=9,FLOAT=GORILLA", where the age
+ * is in milliseconds, the level is optional and each data type can be given a new encoding.
+ */
+public class RecompressionPolicy {
+
+  private long age;
+  private CompressionType compressor;
+  private int compressionLevel;
+  private Map<TSDataType, TSEncoding> encodings = new EnumMap<>(TSDataType.class);
+
+  public RecompressionPolicy(long age, CompressionType compressor, int compressionLevel,
+      Map<TSDataType, TSEncoding> encodings) {
+    this.age = age;
+    this.compressor = compressor;
+    this.compressionLevel = compressionLevel;
+    this.encodings.putAll(encodings);
+  }
+
+  public static RecompressionPolicy parse(String policy) {
+    Long age = null;
+    CompressionType compressor = null;
+    int compressionLevel = 0;
+    Map<TSDataType, TSEncoding> encodings = new EnumMap<>(TSDataType.class);
+    for (String item : policy.split(",")) {
+      String[] keyValue = item.split("=");
+      if (keyValue.length != 2) {
+        throw new IllegalArgumentException("Illegal recompression policy item " + item);
+      }
+      String key = keyValue[0].trim();
+      String value = keyValue[1].trim();
+      if ("after".equalsIgnoreCase(key)) {
+        age = Long.parseLong(value);
+      } else if ("compressor".equalsIgnoreCase(key)) {
+        compressor = CompressionType.valueOf(value.toUpperCase());
+      } else if ("level".equalsIgnoreCase(key)) {
+        compressionLevel = Integer.parseInt(value);
+      } else {
+        TSDataType dataType = TSDataType.valueOf(key.toUpperCase());
+        TSEncoding encoding = TSEncoding.valueOf(value.toUpperCase());
+        try {
+          SchemaUtils.checkDataTypeWithEncoding(dataType, encoding);
+        } catch (MetadataException e) {
+          throw new IllegalArgumentException(e.getMessage());
+        }
+        encodings.put(dataType, encoding);
+      }
+    }
+    if (age == null || compressor == null) {
+      throw new IllegalArgumentException(
+          "A recompression policy requires both \"after\" and \"compressor\": " + policy);
+    }
+    return new RecompressionPolicy(age, compressor, compressionLevel, encodings);
+  }
+
+  /**
+   * @return true if all data in the seqFile is older than the age of the policy
+   */
+  public boolean isCold(TsFileResource seqFile, long currentTime) {
+    return seqFile.isClosed() && !seqFile.stillLives(currentTime - age);
+  }
+
+  /**
+   * @return the schema of the series in cold seqFiles, which keeps the props of the series but
+   * overrides the compression level if the policy gives one
+   */
+  public MeasurementSchema apply(MeasurementSchema schema) {
+    Map<String, String> props = new HashMap<>();
+    if (schema.getProps() != null) {
+      props.putAll(schema.getProps());
+    }
+    if (compressionLevel != 0) {
+      props.put(ICompressor.COMPRESSION_LEVEL, String.valueOf(compressionLevel));
+    }
+    return new MeasurementSchema(schema.getMeasurementId(), schema.getType(),
+        encodings.getOrDefault(schema.getType(), schema.getEncodingType()), compressor, props);
+  }
+
+  /**
+   * @return the compressor, compression level and encodings of the policy, which is recorded in the
+   * TsFileResources of the seqFiles rewritten with it. The age is left out, as changing it does not
+   * change how the data is stored.
+   */
+  public String getForm() {
+    StringBuilder builder = new StringBuilder("compressor=").append(compressor);
+    if (compressionLevel != 0) {
+      builder.append(",level=").append(compressionLevel);
+    }
+    for (Entry<TSDataType, TSEncoding> entry : encodings.entrySet()) {
+      builder.append(',').append(entry.getKey()).append('=').append(entry.getValue());
+    }
+    return builder.toString();
+  }
+
+  /**
+   * A merge rewrites every chunk of a cold seqFile and records the form of the policy in its
+   * TsFileResource, so the chunks, whose headers do not have the compression level, are not checked.
+   */
+  public boolean isAppliedTo(TsFileResource seqFile) {
+    return getForm().equals(seqFile.getRecompressionForm());
+  }
+
+  public long getAge() {
+    return age;
+  }
+
+  public CompressionType getCompressor() {
+    return compressor;
+  }
+
+  public int getCompressionLevel() {
+    return compressionLevel;
+  }
+
+  public Map<TSDataType, TSEncoding> getEncodings() {
+    return encodings;
+  }
+
+  @Override
+  public String toString() {
+    return "after=" + age + "," + getForm();
+  }
+}
@@ -16,17 +16,15 @@
  * specific language governing permissions and limitations
  * under the License.
  */
-
 package org.apache.iotdb.db.engine.merge.selector;
 
 import java.io.IOException;
 import java.util.ArrayList;
-import java.util.Collection;
-import java.util.HashMap;
-import java.util.HashSet;
+import java.util.Collections;
 import java.util.List;
-import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Set;
+import java.util.TreeSet;
 import org.apache.iotdb.db.conf.IoTDBDescriptor;
 import org.apache.iotdb.db.engine.merge.manage.MergeResource;
 import org.apache.iotdb.db.engine.storagegroup.TsFileResource;
@@ -37,41 +35,33 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
- * MaxFileMergeFileSelector selects the most files from given seqFiles and unseqFiles which can be
- * merged without exceeding given memory budget. It always assume the number of timeseries being
- * queried at the same time is 1 to maximize the number of file merged.
+ * MaxFileMergeFileSelector selects the files from given seqFiles and unseqFiles which merge the
+ * most unseq data per byte rewritten without exceeding given memory budget. It always assume the
+ * number of timeseries being queried at the same time is 1 to maximize the number of file merged.
  */
 public class MaxFileMergeFileSelector implements IMergeFileSelector {
 
   private static final Logger logger = LoggerFactory.getLogger(MaxFileMergeFileSelector.class);
-  private static final String LOG_FILE_COST = "Memory cost of file {} is {}";
 
   MergeResource resource;
 
   long totalCost;
   private long memoryBudget;
-  private long maxSeqFileCost;
+  private long maxSeqReadCost;
 
   // the number of timeseries being queried at the same time
   int concurrentMergeNum = 1;
 
-  /**
-   * Total metadata size of each file.
-   */
-  private Map<TsFileResource, Long> fileMetaSizeMap = new HashMap<>();
-  /**
-   * Maximum memory cost of querying a timeseries in each file.
-   */
-  private Map<TsFileResource, Long> maxSeriesQueryCostMap = new HashMap<>();
-
   List<TsFileResource> selectedUnseqFiles;
   List<TsFileResource> selectedSeqFiles;
 
-  private Collection<Integer> tmpSelectedSeqFiles;
-  private long tempMaxSeqFileCost;
+  /**
+   * The indexes of the seqFiles that each unseqFile overlaps, or null if the unseqFile cannot be
+   * merged because it or one of the seqFiles is not closed.
+   */
+  private List<List<Integer>> overlappedSeqFiles;
 
   private boolean[] seqSelected;
-  private int seqSelectedNum;
 
   public MaxFileMergeFileSelector(MergeResource resource, long memoryBudget) {
     this.resource = resource;
@@ -79,23 +69,15 @@ public class MaxFileMergeFileSelector implements IMergeFileSelector {
   }
 
   /**
-   * Select merge candidates from seqFiles and unseqFiles under the given memoryBudget. This process
-   * iteratively adds the next unseqFile from unseqFiles and its overlapping seqFiles as newly-added
-   * candidates and computes their estimated memory cost. If the current cost pluses the new cost is
-   * still under the budget, accept the unseqFile and the seqFiles as candidates, otherwise go to
-   * the next iteration. The memory cost of a file is calculated in two ways: The rough estimation:
-   * for a seqFile, the size of its metadata is used for estimation. Since in the worst case, the
-   * file only contains one timeseries and all its metadata will be loaded into memory with at most
-   * one actual data chunk (which is negligible) and writing the timeseries into a new file generate
-   * metadata of the similar size, so the size of all seqFiles' metadata (generated when writing new
-   * chunks) pluses the largest one (loaded when reading a timeseries from the seqFiles) is the
-   * total estimation of all seqFiles; for an unseqFile, since the merge reader may read all chunks
-   * of a series to perform a merge read, the whole file may be loaded into memory, so we use the
-   * file's length as the maximum estimation. The tight estimation: based on the rough estimation,
-   * we scan the file's metadata to count the number of chunks for each series, find the series
-   * which have the most chunks in the file and use its chunk proportion to refine the rough
-   * estimation. The rough estimation is performed first, if no candidates can be found using rough
-   * estimation, we run the selection again with tight estimation.
+   * Select merge candidates from seqFiles and unseqFiles under the given memoryBudget. Each
+   * unseqFile is a candidate along with the seqFiles it overlaps. The memory cost of merging the
+   * candidates is estimated from the metadata statistics of the files, which are recorded when the
+   * files are written: the chunks of the merged series are loaded from all unseqFiles, but only
+   * from one seqFile at a time, and the ChunkMetadata of all seqFiles are generated again when
+   * writing them. Among the candidates that fit in the remaining budget, the one merging the most
+   * unseq data per byte rewritten, i.e., the size of the unseqFile over the size of itself and its
+   * seqFiles that are not selected yet, is selected greedily until no candidate fits in the
+   * budget. So the unseqFiles overlapping fewer or already selected seqFiles are merged first.
    *
    * @return two lists of TsFileResource, the former is selected seqFiles and the latter is selected
    * unseqFiles or an empty array if there are no proper candidates by the budget.
@@ -106,10 +88,7 @@ public class MaxFileMergeFileSelector implements IMergeFileSelector {
     try {
       logger.info("Selecting merge candidates from {} seqFile, {} unseqFiles",
           resource.getSeqFiles().size(), resource.getUnseqFiles().size());
-      select(false);
-      if (selectedUnseqFiles.isEmpty()) {
-        select(true);
-      }
+      selectCandidates();
       resource.setSeqFiles(selectedSeqFiles);
       resource.setUnseqFiles(selectedUnseqFiles);
       resource.removeOutdatedSeqReaders();
@@ -129,203 +108,170 @@ public class MaxFileMergeFileSelector implements IMergeFileSelector {
     return new List[]{selectedSeqFiles, selectedUnseqFiles};
   }
 
-  void select(boolean useTightBound) throws IOException {
-    tmpSelectedSeqFiles = new HashSet<>();
-    seqSelected = new boolean[resource.getSeqFiles().size()];
-    seqSelectedNum = 0;
+  void selectCandidates() throws IOException {
+    List<TsFileResource> seqFiles = resource.getSeqFiles();
+    List<TsFileResource> unseqFiles = resource.getUnseqFiles();
+    if (overlappedSeqFiles == null) {
+      findOverlappedSeqFiles();
+    }
+    seqSelected = new boolean[seqFiles.size()];
+    boolean[] unseqSelected = new boolean[unseqFiles.size()];
     selectedSeqFiles = new ArrayList<>();
     selectedUnseqFiles = new ArrayList<>();
-    maxSeqFileCost = 0;
-    tempMaxSeqFileCost = 0;
-
+    maxSeqReadCost = 0;
     totalCost = 0;
 
-    int unseqIndex = 0;
     long startTime = System.currentTimeMillis();
-    long timeConsumption = 0;
     long timeLimit = IoTDBDescriptor.getInstance().getConfig().getMergeFileSelectionTimeBudget();
     if (timeLimit < 0) {
       timeLimit = Long.MAX_VALUE;
     }
-    while (unseqIndex < resource.getUnseqFiles().size() && timeConsumption < timeLimit) {
-      // select next unseq files
-      TsFileResource unseqFile = resource.getUnseqFiles().get(unseqIndex);
-
-      if (seqSelectedNum != resource.getSeqFiles().size() && !UpgradeUtils
-          .isNeedUpgrade(unseqFile)) {
-        selectOverlappedSeqFiles(unseqFile);
+    while (System.currentTimeMillis() - startTime < timeLimit) {
+      int bestIndex = -1;
+      double bestRatio = -1;
+      long bestCost = 0;
+      for (int i = 0; i < unseqFiles.size(); i++) {
+        List<Integer> seqIndexes = overlappedSeqFiles.get(i);
+        if (unseqSelected[i] || seqIndexes == null) {
+          continue;
+        }
+        long newCost = calculateMemoryCost(unseqFiles.get(i), seqIndexes);
+        if (totalCost + newCost >= memoryBudget) {
+          continue;
+        }
+        double ratio = calculateMergeRatio(unseqFiles.get(i), seqIndexes);
+        if (ratio > bestRatio) {
+          bestIndex = i;
+          bestRatio = ratio;
+          bestCost = newCost;
+        }
       }
-      boolean isClosed = checkClosed(unseqFile);
-      if (!isClosed) {
-        tmpSelectedSeqFiles.clear();
-        unseqIndex++;
-        timeConsumption = System.currentTimeMillis() - startTime;
-        continue;
+      if (bestIndex < 0) {
+        break;
       }
 
-      tempMaxSeqFileCost = maxSeqFileCost;
-      long newCost = useTightBound ? calculateTightMemoryCost(unseqFile, tmpSelectedSeqFiles,
-          startTime, timeLimit) :
-          calculateLooseMemoryCost(unseqFile, tmpSelectedSeqFiles, startTime, timeLimit);
-      updateSelectedFiles(newCost, unseqFile);
-
-      tmpSelectedSeqFiles.clear();
-      unseqIndex++;
-      timeConsumption = System.currentTimeMillis() - startTime;
+      unseqSelected[bestIndex] = true;
+      for (Integer seqIndex : overlappedSeqFiles.get(bestIndex)) {
+        if (!seqSelected[seqIndex]) {
+          seqSelected[seqIndex] = true;
+          maxSeqReadCost = Math.max(maxSeqReadCost,
+              MergeUtils.estimateSeqReadMemory(seqFiles.get(seqIndex), concurrentMergeNum));
+        }
+      }
+      totalCost += bestCost;
+      logger.debug("Adding a new unseqFile {} and seqFiles {} as candidates, new cost {}, merge "
+              + "ratio {}, total cost {}", unseqFiles.get(bestIndex),
+          overlappedSeqFiles.get(bestIndex), bestCost, bestRatio, totalCost);
     }
     for (int i = 0; i < seqSelected.length; i++) {
       if (seqSelected[i]) {
-        selectedSeqFiles.add(resource.getSeqFiles().get(i));
+        selectedSeqFiles.add(seqFiles.get(i));
       }
     }
-  }
-
-  private void updateSelectedFiles(long newCost, TsFileResource unseqFile) {
-    if (totalCost + newCost < memoryBudget) {
-      selectedUnseqFiles.add(unseqFile);
-      maxSeqFileCost = tempMaxSeqFileCost;
-
-      for (Integer seqIdx : tmpSelectedSeqFiles) {
-        seqSelected[seqIdx] = true;
-        seqSelectedNum++;
+    for (int i = 0; i < unseqSelected.length; i++) {
+      if (unseqSelected[i]) {
+        selectedUnseqFiles.add(unseqFiles.get(i));
       }
-      totalCost += newCost;
-      logger.debug("Adding a new unseqFile {} and seqFiles {} as candidates, new cost {}, total"
-              + " cost {}",
-          unseqFile, tmpSelectedSeqFiles, newCost, totalCost);
     }
   }
 
-  private boolean checkClosed(TsFileResource unseqFile) {
-    boolean isClosed = unseqFile.isClosed();
-    if (!isClosed) {
-      return false;
-    }
-    for (Integer seqIdx : tmpSelectedSeqFiles) {
-      if (!resource.getSeqFiles().get(seqIdx).isClosed()) {
-        isClosed = false;
-        break;
+  /**
+   * Find the seqFiles that each unseqFile overlaps and load the metadata statistics of the files
+   * that can be merged.
+   */
+  private void findOverlappedSeqFiles() throws IOException {
+    overlappedSeqFiles = new ArrayList<>();
+    for (TsFileResource unseqFile : resource.getUnseqFiles()) {
+      List<Integer> seqIndexes = UpgradeUtils.isNeedUpgrade(unseqFile) ? Collections.emptyList()
+          : findOverlappedSeqFiles(unseqFile);
+      if (!checkClosed(unseqFile, seqIndexes)) {
+        overlappedSeqFiles.add(null);
+        continue;
       }
+      MergeUtils.loadMetadataStatistics(unseqFile, resource.getFileReader(unseqFile));
+      for (Integer seqIndex : seqIndexes) {
+        TsFileResource seqFile = resource.getSeqFiles().get(seqIndex);
+        MergeUtils.loadMetadataStatistics(seqFile, resource.getFileReader(seqFile));
+      }
+      overlappedSeqFiles.add(seqIndexes);
     }
-    return isClosed;
   }
 
-  private void selectOverlappedSeqFiles(TsFileResource unseqFile) {
-
-    int tmpSelectedNum = 0;
+  private List<Integer> findOverlappedSeqFiles(TsFileResource unseqFile) {
+    Set<Integer> seqIndexes = new TreeSet<>();
     for (Entry<String, Integer> deviceStartTimeEntry : unseqFile.getDeviceToIndexMap().entrySet()) {
       String deviceId = deviceStartTimeEntry.getKey();
       int deviceIndex = deviceStartTimeEntry.getValue();
       long unseqStartTime = unseqFile.getStartTime(deviceIndex);
       long unseqEndTime = unseqFile.getEndTime(deviceIndex);
 
-      boolean noMoreOverlap = false;
-      for (int i = 0; i < resource.getSeqFiles().size() && !noMoreOverlap; i++) {
+      for (int i = 0; i < resource.getSeqFiles().size(); i++) {
         TsFileResource seqFile = resource.getSeqFiles().get(i);
-        if (seqSelected[i] || !seqFile.getDeviceToIndexMap().containsKey(deviceId)) {
+        if (!seqFile.getDeviceToIndexMap().containsKey(deviceId)) {
           continue;
         }
         long seqEndTime = seqFile.getEndTime(deviceId);
         if (unseqEndTime <= seqEndTime) {
           // the unseqFile overlaps current seqFile
-          tmpSelectedSeqFiles.add(i);
-          tmpSelectedNum++;
+          seqIndexes.add(i);
           // the device of the unseqFile can not merge with later seqFiles
-          noMoreOverlap = true;
+          break;
         } else if (unseqStartTime <= seqEndTime) {
           // the device of the unseqFile may merge with later seqFiles
           // and the unseqFile overlaps current seqFile
-          tmpSelectedSeqFiles.add(i);
-          tmpSelectedNum++;
+          seqIndexes.add(i);
         }
       }
-      if (tmpSelectedNum + seqSelectedNum == resource.getSeqFiles().size()) {
-        break;
-      }
     }
+    return new ArrayList<>(seqIndexes);
   }
 
-  private long calculateMemoryCost(TsFileResource tmpSelectedUnseqFile,
-      Collection<Integer> tmpSelectedSeqFiles, IFileQueryMemMeasurement unseqMeasurement,
-      IFileQueryMemMeasurement seqMeasurement, long startTime, long timeLimit) throws IOException {
-    long cost = 0;
-    Long fileCost = unseqMeasurement.measure(tmpSelectedUnseqFile);
-    cost += fileCost;
-
-    for (Integer seqFileIdx : tmpSelectedSeqFiles) {
-      TsFileResource seqFile = resource.getSeqFiles().get(seqFileIdx);
-      fileCost = seqMeasurement.measure(seqFile);
-      if (fileCost > tempMaxSeqFileCost) {
-        // only one file will be read at the same time, so only the largest one is recorded here
-        cost -= tempMaxSeqFileCost;
-        cost += fileCost;
-        tempMaxSeqFileCost = fileCost;
-      }
-      // but writing data into a new file may generate the same amount of metadata in memory
-      cost += calculateMetadataSize(seqFile);
-      long timeConsumption = System.currentTimeMillis() - startTime;
-      if (timeConsumption > timeLimit) {
-        return Long.MAX_VALUE;
+  private boolean checkClosed(TsFileResource unseqFile, List<Integer> seqIndexes) {
+    if (!unseqFile.isClosed()) {
+      return false;
+    }
+    for (Integer seqIndex : seqIndexes) {
+      if (!resource.getSeqFiles().get(seqIndex).isClosed()) {
+        return false;
       }
     }
-    return cost;
-  }
-
-  private long calculateLooseMemoryCost(TsFileResource tmpSelectedUnseqFile,
-      Collection<Integer> tmpSelectedSeqFiles, long startTime, long timeLimit) throws IOException {
-    return calculateMemoryCost(tmpSelectedUnseqFile, tmpSelectedSeqFiles,
-        TsFileResource::getTsFileSize, this::calculateMetadataSize, startTime, timeLimit);
+    return true;
   }
 
-  private long calculateTightMemoryCost(TsFileResource tmpSelectedUnseqFile,
-      Collection<Integer> tmpSelectedSeqFiles, long startTime, long timeLimit) throws IOException {
-    return calculateMemoryCost(tmpSelectedUnseqFile, tmpSelectedSeqFiles,
-        this::calculateTightUnseqMemoryCost, this::calculateTightSeqMemoryCost, startTime,
-        timeLimit);
-  }
-
-  private long calculateMetadataSize(TsFileResource seqFile) throws IOException {
-    Long cost = fileMetaSizeMap.get(seqFile);
-    if (cost == null) {
-      cost = MergeUtils.getFileMetaSize(seqFile, resource.getFileReader(seqFile));
-      fileMetaSizeMap.put(seqFile, cost);
-      logger.debug(LOG_FILE_COST, seqFile, cost);
+  /**
+   * @return how much more memory merging the unseqFile and its seqFiles takes besides the selected
+   * files
+   */
+  private long calculateMemoryCost(TsFileResource unseqFile, List<Integer> seqIndexes) {
+    long cost = MergeUtils.estimateUnseqReadMemory(unseqFile, concurrentMergeNum);
+    long seqReadCost = maxSeqReadCost;
+    for (Integer seqIndex : seqIndexes) {
+      if (seqSelected[seqIndex]) {
+        continue;
+      }
+      TsFileResource seqFile = resource.getSeqFiles().get(seqIndex);
+      // only one seqFile is read at the same time, so only the largest one is counted
+      seqReadCost = Math.max(seqReadCost,
+          MergeUtils.estimateSeqReadMemory(seqFile, concurrentMergeNum));
+      // but writing data into a new file generates all its metadata again
+      cost += MergeUtils.estimateSeqWriteMemory(seqFile);
     }
-    return cost;
+    return cost + seqReadCost - maxSeqReadCost;
   }
 
-  private long calculateTightFileMemoryCost(TsFileResource seqFile,
-      IFileQueryMemMeasurement measurement)
-      throws IOException {
-    Long cost = maxSeriesQueryCostMap.get(seqFile);
-    if (cost == null) {
-      long[] chunkNums = MergeUtils
-          .findTotalAndLargestSeriesChunkNum(seqFile, resource.getFileReader(seqFile));
-      long totalChunkNum = chunkNums[0];
-      long maxChunkNum = chunkNums[1];
-      cost = measurement.measure(seqFile) * maxChunkNum / totalChunkNum;
-      maxSeriesQueryCostMap.put(seqFile, cost);
-      logger.debug(LOG_FILE_COST, seqFile, cost);
+  /**
+   * @return the size of the unseqFile over the bytes rewritten by merging it, including the
+   * seqFiles it overlaps that are not selected yet
+   */
+  private double calculateMergeRatio(TsFileResource unseqFile, List<Integer> seqIndexes) {
+    long unseqSize = unseqFile.getTsFileSize();
+    long rewrittenSize = unseqSize;
+    for (Integer seqIndex : seqIndexes) {
+      if (!seqSelected[seqIndex]) {
+        rewrittenSize += resource.getSeqFiles().get(seqIndex).getTsFileSize();
+      }
     }
-    return cost;
-  }
-
-  // this method traverses all ChunkMetadata to find out which series has the most chunks and uses
-  // its proportion to all series to get a maximum estimation
-  private long calculateTightSeqMemoryCost(TsFileResource seqFile) throws IOException {
-    long singleSeriesCost = calculateTightFileMemoryCost(seqFile, this::calculateMetadataSize);
-    long multiSeriesCost = concurrentMergeNum * singleSeriesCost;
-    long maxCost = calculateMetadataSize(seqFile);
-    return multiSeriesCost > maxCost ? maxCost : multiSeriesCost;
-  }
-
-  // this method traverses all ChunkMetadata to find out which series has the most chunks and uses
-  // its proportion among all series to get a maximum estimation
-  private long calculateTightUnseqMemoryCost(TsFileResource unseqFile) throws IOException {
-    long singleSeriesCost = calculateTightFileMemoryCost(unseqFile, TsFileResource::getTsFileSize);
-    long multiSeriesCost = concurrentMergeNum * singleSeriesCost;
-    long maxCost = unseqFile.getTsFileSize();
-    return multiSeriesCost > maxCost ? maxCost : multiSeriesCost;
+    return rewrittenSize == 0 ? 1.0 : (double) unseqSize / rewrittenSize;
   }
 
   @Override
@@ -87,10 +87,7 @@ public class MaxSeriesMergeFileSelector extends MaxFileMergeFileSelector {
         break;
       }
       concurrentMergeNum = mid;
-      select(false);
-      if (selectedUnseqFiles.isEmpty()) {
-        select(true);
-      }
+      selectCandidates();
       if (selectedUnseqFiles.isEmpty()) {
         ub = mid;
       } else {
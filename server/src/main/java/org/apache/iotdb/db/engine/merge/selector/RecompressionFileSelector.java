@@ -0,0 +1,89 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iotdb.db.engine.merge.selector;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import org.apache.iotdb.db.engine.merge.manage.MergeResource;
+import org.apache.iotdb.db.engine.merge.manage.RecompressionPolicy;
+import org.apache.iotdb.db.engine.storagegroup.TsFileResource;
+import org.apache.iotdb.db.exception.MergeException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * RecompressionFileSelector selects the cold seqFiles of the oldest time partition that have not
+ * been rewritten with the RecompressionPolicy, so that the partitions are recompressed one by one
+ * in the background. No unseqFile is selected.
+ */
+public class RecompressionFileSelector implements IMergeFileSelector {
+
+  private static final Logger logger = LoggerFactory.getLogger(RecompressionFileSelector.class);
+
+  private MergeResource resource;
+  private RecompressionPolicy policy;
+
+  public RecompressionFileSelector(MergeResource resource, RecompressionPolicy policy) {
+    this.resource = resource;
+    this.policy = policy;
+  }
+
+  @Override
+  public List[] select() throws MergeException {
+    long currentTime = System.currentTimeMillis();
+    List<TsFileResource> selectedSeqFiles = new ArrayList<>();
+    long selectedPartition = Long.MAX_VALUE;
+    try {
+      for (TsFileResource seqFile : resource.getSeqFiles()) {
+        if (!policy.isCold(seqFile, currentTime) || policy.isAppliedTo(seqFile)) {
+          continue;
+        }
+        long partition = seqFile.getTimePartition();
+        if (partition > selectedPartition) {
+          continue;
+        }
+        if (partition < selectedPartition) {
+          selectedPartition = partition;
+          selectedSeqFiles.clear();
+        }
+        selectedSeqFiles.add(seqFile);
+      }
+
+      resource.setSeqFiles(selectedSeqFiles);
+      resource.setUnseqFiles(Collections.emptyList());
+      resource.removeOutdatedSeqReaders();
+    } catch (IOException e) {
+      throw new MergeException(e);
+    }
+    if (selectedSeqFiles.isEmpty()) {
+      return new List[0];
+    }
+    logger.info("Selected {} cold seqFiles of partition {} to be recompressed with {}",
+        selectedSeqFiles.size(), selectedPartition, policy);
+    return new List[]{selectedSeqFiles, Collections.emptyList()};
+  }
+
+  @Override
+  public int getConcurrentMergeNum() {
+    // recompression is a background job, merging one series at a time keeps its memory small
+    return 1;
+  }
+}
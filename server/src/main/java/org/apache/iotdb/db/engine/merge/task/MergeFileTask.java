@@ -29,12 +29,15 @@ import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
 import org.apache.iotdb.db.conf.IoTDBConstant;
+import org.apache.iotdb.db.conf.IoTDBDescriptor;
 import org.apache.iotdb.db.engine.cache.ChunkMetadataCache;
 import org.apache.iotdb.db.engine.merge.manage.MergeContext;
 import org.apache.iotdb.db.engine.merge.manage.MergeResource;
 import org.apache.iotdb.db.engine.merge.recover.MergeLogger;
 import org.apache.iotdb.db.engine.storagegroup.TsFileResource;
 import org.apache.iotdb.db.query.control.FileReaderManager;
+import org.apache.iotdb.db.rescon.IOThrottle;
+import org.apache.iotdb.db.rescon.IOThrottle.IOType;
 import org.apache.iotdb.tsfile.exception.write.TsFileNotCompleteException;
 import org.apache.iotdb.tsfile.file.metadata.ChunkMetadata;
 import org.apache.iotdb.tsfile.fileSystem.FSFactoryProducer;
@@ -91,7 +94,7 @@ class MergeFileTask {
 
       int mergedChunkNum = context.getMergedChunkCnt().getOrDefault(seqFile, 0);
       int unmergedChunkNum = context.getUnmergedChunkCnt().getOrDefault(seqFile, 0);
-      if (mergedChunkNum >= unmergedChunkNum) {
+      if (mergedChunkNum > 0 && shouldRewrite(seqFile)) {
         // move the unmerged data to the new file
         if (logger.isInfoEnabled()) {
           logger.info("{} moving unmerged data of {} to the merged file, {} merged chunks, {} "
@@ -123,6 +126,28 @@ class MergeFileTask {
     mergeLogger.logMergeEnd();
   }
 
+  /**
+   * A seqFile is rewritten by moving its unmerged chunks to the merge file if that writes fewer
+   * bytes than appending the merged chunks to the seqFile, or if appending would leave too many
+   * obsolete chunks in the seqFile. Otherwise, the merged chunks are appended with a new copy of
+   * the metadata, so merging a few points into a large file writes only the chunks involved.
+   */
+  private boolean shouldRewrite(TsFileResource seqFile) throws IOException {
+    long fileSize = seqFile.getTsFileSize();
+    long replacedSize = context.getMergedChunkSize().getOrDefault(seqFile, 0L);
+    long appendedSize = resource.getMergeFileWriter(seqFile).getPos();
+    long unmergedSize = fileSize - seqFile.getObsoleteSize() - replacedSize;
+    double obsoleteRatio =
+        (double) (seqFile.getObsoleteSize() + replacedSize) / (fileSize + appendedSize);
+    if (logger.isDebugEnabled()) {
+      logger.debug("{} {} has {} bytes of merged chunks, {} bytes of unmerged chunks and would be "
+              + "{} obsolete after appending", taskName, seqFile.getTsFile().getName(),
+          appendedSize, unmergedSize, obsoleteRatio);
+    }
+    return appendedSize > unmergedSize
+        || obsoleteRatio > IoTDBDescriptor.getInstance().getConfig().getMergeMaxObsoleteRatio();
+  }
+
   private void logProgress() {
     if (logger.isInfoEnabled()) {
       logger.debug("{} has merged {}, processed {}/{} files", taskName, currMergeFile,
@@ -177,9 +202,14 @@ class MergeFileTask {
           }
         }
       }
+      seqFile.updateMetadataStatistics(oldFileWriter);
       oldFileWriter.endFile();
 
       updateHistoricalVersions(seqFile);
+      // the replaced chunks stay in the file until it is rewritten
+      seqFile.setObsoleteSize(seqFile.getObsoleteSize()
+          + context.getMergedChunkSize().getOrDefault(seqFile, 0L));
+      recordRecompression(seqFile);
       seqFile.serialize();
       mergeLogger.logFileMergeEnd();
       logger.debug("{} moved merged chunks of {} to the old file", taskName, seqFile);
@@ -252,6 +282,16 @@ class MergeFileTask {
     seqFile.setHistoricalVersions(newHistoricalVersions);
   }
 
+  /**
+   * Every chunk of a cold seqFile not yet in the form of the RecompressionPolicy has been rewritten
+   * with the policy, which is recorded so that the seqFile is not selected to be recompressed again.
+   */
+  private void recordRecompression(TsFileResource seqFile) {
+    if (resource.isCold(seqFile)) {
+      seqFile.setRecompressionForm(resource.getRecompressionPolicy().getForm());
+    }
+  }
+
   private void writeMergedChunkGroup(List<ChunkMetadata> chunkMetadataList, String device,
       TsFileSequenceReader reader, TsFileIOWriter fileWriter)
       throws IOException {
@@ -259,6 +299,8 @@ class MergeFileTask {
     long maxVersion = 0;
     for (ChunkMetadata chunkMetaData : chunkMetadataList) {
       Chunk chunk = reader.readMemChunk(chunkMetaData);
+      // the chunk is both read and written
+      IOThrottle.getInstance().acquire(IOType.MERGE, 2L * chunk.getHeader().getDataSize());
       fileWriter.writeChunk(chunk, chunkMetaData);
       maxVersion =
           chunkMetaData.getVersion() > maxVersion ? chunkMetaData.getVersion() : maxVersion;
@@ -306,9 +348,12 @@ class MergeFileTask {
       }
     }
 
+    seqFile.updateMetadataStatistics(fileWriter);
     fileWriter.endFile();
 
     updateHistoricalVersions(seqFile);
+    seqFile.setObsoleteSize(0);
+    recordRecompression(seqFile);
     seqFile.serialize();
     mergeLogger.logFileMergeEnd();
     logger.debug("{} moved unmerged chunks of {} to the new file", taskName, seqFile);
@@ -353,6 +398,7 @@ class MergeFileTask {
         ChunkMetadata metaData = chunkMetadataList.get(chunkIdx);
         if (metaData.getStartTime() == startTime) {
           Chunk chunk = reader.readMemChunk(metaData);
+          IOThrottle.getInstance().acquire(IOType.MERGE, 2L * chunk.getHeader().getDataSize());
           fileWriter.writeChunk(chunk, metaData);
           maxVersion = metaData.getVersion() > maxVersion ? metaData.getVersion() : maxVersion;
           context.incTotalPointWritten(metaData.getNumOfPoints());
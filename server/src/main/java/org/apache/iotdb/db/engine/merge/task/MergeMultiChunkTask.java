@@ -24,14 +24,20 @@ import static org.apache.iotdb.db.utils.MergeUtils.writeTVPair;
 import static org.apache.iotdb.db.utils.QueryUtils.modifyChunkMetaData;
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
-import java.util.PriorityQueue;
+import java.util.Comparator;
+import java.util.Queue;
 import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import org.apache.iotdb.db.conf.IoTDBDescriptor;
 import org.apache.iotdb.db.engine.merge.manage.MergeContext;
 import org.apache.iotdb.db.engine.merge.manage.MergeManager;
@@ -42,8 +48,13 @@ import org.apache.iotdb.db.engine.merge.selector.NaivePathSelector;
 import org.apache.iotdb.db.engine.modification.Modification;
 import org.apache.iotdb.db.engine.storagegroup.TsFileResource;
 import org.apache.iotdb.tsfile.read.reader.IPointReader;
+import org.apache.iotdb.db.rescon.IOThrottle;
+import org.apache.iotdb.db.rescon.IOThrottle.IOType;
 import org.apache.iotdb.db.utils.MergeUtils;
 import org.apache.iotdb.db.utils.MergeUtils.MetaListEntry;
+import org.apache.iotdb.db.utils.TestOnly;
+import org.apache.iotdb.tsfile.exception.write.PageException;
+import org.apache.iotdb.tsfile.file.header.PageHeader;
 import org.apache.iotdb.tsfile.read.TimeValuePair;
 import org.apache.iotdb.tsfile.file.metadata.ChunkMetadata;
 import org.apache.iotdb.tsfile.read.TsFileSequenceReader;
@@ -51,6 +62,7 @@ import org.apache.iotdb.tsfile.read.common.BatchData;
 import org.apache.iotdb.tsfile.read.common.Chunk;
 import org.apache.iotdb.tsfile.read.common.Path;
 import org.apache.iotdb.tsfile.read.reader.chunk.ChunkReader;
+import org.apache.iotdb.tsfile.write.chunk.ChunkWriterImpl;
 import org.apache.iotdb.tsfile.write.chunk.IChunkWriter;
 import org.apache.iotdb.tsfile.write.schema.MeasurementSchema;
 import org.apache.iotdb.tsfile.write.writer.RestorableTsFileIOWriter;
@@ -76,6 +88,7 @@ public class MergeMultiChunkTask {
 
   private AtomicInteger mergedChunkNum = new AtomicInteger();
   private AtomicInteger unmergedChunkNum = new AtomicInteger();
+  private AtomicLong mergedChunkSize = new AtomicLong();
   private int mergedSeriesCnt;
   private double progress;
 
@@ -84,6 +97,11 @@ public class MergeMultiChunkTask {
 
   private String storageGroupName;
 
+  // the chunks being merged by all sub-tasks of this task are accounted against the merge memory
+  // budget, in KB so that the budget fits in the permits of a Semaphore
+  private int memoryBudgetKb;
+  private Semaphore memoryPermits;
+
   public MergeMultiChunkTask(MergeContext context, String taskName, MergeLogger mergeLogger,
       MergeResource mergeResource, boolean fullMerge, List<Path> unmergedSeries,
       int concurrentMergeSeriesNum, String storageGroupName) {
@@ -95,9 +113,12 @@ public class MergeMultiChunkTask {
     this.unmergedSeries = unmergedSeries;
     this.concurrentMergeSeriesNum = concurrentMergeSeriesNum;
     this.storageGroupName = storageGroupName;
+    long memoryBudget = IoTDBDescriptor.getInstance().getConfig().getMergeMemoryBudget();
+    this.memoryBudgetKb = (int) Math.max(1, Math.min(Integer.MAX_VALUE, memoryBudget / 1024));
+    this.memoryPermits = new Semaphore(memoryBudgetKb);
   }
 
-  void mergeSeries() throws IOException {
+  public void mergeSeries() throws IOException {
     if (logger.isInfoEnabled()) {
       logger.info("{} starts to merge {} series", taskName, unmergedSeries.size());
     }
@@ -144,6 +165,16 @@ public class MergeMultiChunkTask {
     return String.format("Processed %d/%d series", mergedSeriesCnt, unmergedSeries.size());
   }
 
+  @TestOnly
+  public int getMemoryBudgetKb() {
+    return memoryBudgetKb;
+  }
+
+  @TestOnly
+  public int getAvailableMemoryKb() {
+    return memoryPermits.availablePermits();
+  }
+
   private void mergePaths() throws IOException {
     mergeLogger.logTSStart(currMergingPaths);
     IPointReader[] unseqReaders;
@@ -210,7 +241,7 @@ public class MergeMultiChunkTask {
 
     RestorableTsFileIOWriter mergeFileWriter = resource.getMergeFileWriter(currTsFile);
     for (Path path : currMergingPaths) {
-      MeasurementSchema schema = resource.getSchema(path);
+      MeasurementSchema schema = resource.getSchema(path, currTsFile);
       mergeFileWriter.addSchema(path, schema);
     }
     // merge unseq data with seq data in this file or small chunks in this file into a larger chunk
@@ -244,16 +275,10 @@ public class MergeMultiChunkTask {
       RestorableTsFileIOWriter mergeFileWriter, TsFileResource currFile)
       throws IOException {
     int[] ptWrittens = new int[seqChunkMeta.length];
-    int mergeChunkSubTaskNum = IoTDBDescriptor.getInstance().getConfig()
-        .getMergeChunkSubThreadNum();
     MetaListEntry[] metaListEntries = new MetaListEntry[currMergingPaths.size()];
-    PriorityQueue<Integer>[] chunkIdxHeaps = new PriorityQueue[mergeChunkSubTaskNum];
-    for (int i = 0; i < mergeChunkSubTaskNum; i++) {
-      chunkIdxHeaps[i] = new PriorityQueue<>();
-    }
-    int idx = 0;
+    List<Integer> units = new ArrayList<>();
     for (int i = 0; i < currMergingPaths.size(); i++) {
-      chunkIdxHeaps[idx % mergeChunkSubTaskNum].add(i);
+      units.add(i);
       if (seqChunkMeta[i].isEmpty()) {
         continue;
       }
@@ -261,37 +286,68 @@ public class MergeMultiChunkTask {
       MetaListEntry entry = new MetaListEntry(i, seqChunkMeta[i]);
       entry.next();
       metaListEntries[i] = entry;
-      idx++;
       ptWrittens[i] = 0;
     }
+    // each series of this file is a merge unit, the units are taken by whichever sub-task is idle
+    // so a few large series no longer keep one sub-task busy while the others have finished;
+    // units are ordered by the offsets of their first chunks to read the file roughly sequentially
+    units.sort(Comparator.comparingLong(i -> metaListEntries[i] == null ? Long.MAX_VALUE
+        : metaListEntries[i].current().getOffsetOfChunkHeader()));
+    Queue<Integer> unitQueue = new ConcurrentLinkedQueue<>(units);
+    int mergeChunkSubTaskNum = Math.max(1, Math.min(units.size(),
+        IoTDBDescriptor.getInstance().getConfig().getMergeChunkSubThreadNum()));
 
     mergedChunkNum.set(0);
     unmergedChunkNum.set(0);
+    mergedChunkSize.set(0);
 
     List<Future<Void>> futures = new ArrayList<>();
-    for (int i = 0; i < mergeChunkSubTaskNum; i++) {
+    boolean interrupted = false;
+    for (int i = 0; i < mergeChunkSubTaskNum && !interrupted; i++) {
       futures.add(MergeManager.getINSTANCE()
-          .submitChunkSubTask(new MergeChunkHeapTask(chunkIdxHeaps[i],
+          .submitChunkSubTask(new MergeChunkHeapTask(unitQueue,
               metaListEntries, ptWrittens,
               reader,
               mergeFileWriter, unseqReaders,
               currFile,
               isLastFile, i)));
-
-      if (Thread.interrupted()) {
-        Thread.currentThread().interrupt();
-        return false;
+      interrupted = Thread.interrupted();
+    }
+    if (interrupted) {
+      unitQueue.clear();
+    }
+    ExecutionException failure = null;
+    // wait for every sub-task even if this task is interrupted or a sub-task fails, so none of
+    // them still writes the merge file or holds memory permits once this method returns
+    for (Future<Void> future : futures) {
+      while (true) {
+        try {
+          future.get();
+          break;
+        } catch (InterruptedException e) {
+          // the sub-tasks stop after their current series
+          interrupted = true;
+          unitQueue.clear();
+        } catch (CancellationException e) {
+          // aborted by MergeManager
+          interrupted = true;
+          unitQueue.clear();
+          break;
+        } catch (ExecutionException e) {
+          failure = failure == null ? e : failure;
+          unitQueue.clear();
+          break;
+        }
       }
     }
-    for (int i = 0; i < mergeChunkSubTaskNum; i++) {
-      try {
-        futures.get(i).get();
-      } catch (InterruptedException e) {
-        Thread.currentThread().interrupt();
-        return false;
-      } catch (ExecutionException e) {
-        throw new IOException(e);
-      }
+    if (interrupted) {
+      Thread.currentThread().interrupt();
+    }
+    if (failure != null) {
+      throw new IOException(failure);
+    }
+    if (interrupted) {
+      return false;
     }
 
     // add merge and unmerged chunk statistic
@@ -299,6 +355,7 @@ public class MergeMultiChunkTask {
         mergedChunkNum.get() : anInt + mergedChunkNum.get());
     mergeContext.getUnmergedChunkCnt().compute(currFile, (tsFileResource, anInt) -> anInt == null ?
         unmergedChunkNum.get() : anInt + unmergedChunkNum.get());
+    mergeContext.getMergedChunkSize().merge(currFile, mergedChunkSize.get(), Long::sum);
 
     return mergedChunkNum.get() > 0;
   }
@@ -309,24 +366,27 @@ public class MergeMultiChunkTask {
    * merge a sequence chunk SK
    * <p>
    * 1. no need to write the chunk to .merge file when: isn't full merge & there isn't unclosed
-   * chunk before & SK is big enough & SK isn't overflowed & SK isn't modified
+   * chunk before & SK is big enough & SK isn't overflowed & SK isn't modified & SK needn't be
+   * recompressed
    * <p>
    * <p>
    * 2. write SK to .merge.file without compressing when: is full merge & there isn't unclosed chunk
-   * before & SK is big enough & SK isn't overflowed & SK isn't modified
+   * before & SK is big enough & SK isn't overflowed & SK isn't modified & SK needn't be
+   * recompressed
    * <p>
    * 3. other cases: need to unCompress the chunk and write 3.1 SK isn't overflowed 3.2 SK is
-   * overflowed
+   * overflowed. If SK isn't modified and needn't be recompressed, only its pages overlapped by
+   * unseq points are uncompressed, and the other pages are copied with their headers
    */
   @SuppressWarnings("java:S2445") // avoid writing the same writer concurrently
   private int mergeChunkV2(ChunkMetadata currMeta, boolean chunkOverflowed,
-      boolean chunkTooSmall, Chunk chunk, int lastUnclosedChunkPoint, int pathIdx,
-      TsFileIOWriter mergeFileWriter, IPointReader unseqReader,
+      boolean chunkTooSmall, boolean chunkRecompressed, Chunk chunk, int lastUnclosedChunkPoint,
+      int pathIdx, TsFileIOWriter mergeFileWriter, IPointReader unseqReader,
       IChunkWriter chunkWriter, TsFileResource currFile) throws IOException {
 
     int unclosedChunkPoint = lastUnclosedChunkPoint;
     boolean chunkModified = (currMeta.getDeleteIntervalList() != null &&
-        !currMeta.getDeleteIntervalList().isEmpty());
+        !currMeta.getDeleteIntervalList().isEmpty()) || chunkRecompressed;
 
     // no need to write the chunk to .merge file
     if (!fullMerge && lastUnclosedChunkPoint == 0 && !chunkTooSmall && !chunkOverflowed
@@ -336,10 +396,13 @@ public class MergeMultiChunkTask {
           .add(currMeta.getStartTime());
       return 0;
     }
+    mergedChunkSize.addAndGet(
+        chunk.getHeader().getSerializedSize() + (long) chunk.getHeader().getDataSize());
 
     // write SK to .merge.file without compressing
     if (fullMerge && lastUnclosedChunkPoint == 0 && !chunkTooSmall && !chunkOverflowed
         && !chunkModified) {
+      IOThrottle.getInstance().acquire(IOType.MERGE, chunk.getHeader().getDataSize());
       synchronized (mergeFileWriter) {
         mergeFileWriter.writeChunk(chunk, currMeta);
       }
@@ -349,8 +412,13 @@ public class MergeMultiChunkTask {
       return 0;
     }
 
-    // 3.1 SK isn't overflowed, just uncompress and write sequence chunk
-    if (!chunkOverflowed) {
+    if (!chunkRecompressed && canCopyPages(chunk, chunkWriter)) {
+      // 3.1 and 3.2 page by page, only the pages overlapped by unseq points are uncompressed
+      unclosedChunkPoint += writeChunkWithUnseqByPage(chunk, (ChunkWriterImpl) chunkWriter,
+          unseqReader, currMeta.getEndTime(), pathIdx);
+      mergedChunkNum.incrementAndGet();
+    } else if (!chunkOverflowed) {
+      // 3.1 SK isn't overflowed, just uncompress and write sequence chunk
       unclosedChunkPoint += MergeUtils.writeChunkWithoutUnseq(chunk, chunkWriter);
       mergedChunkNum.incrementAndGet();
     } else {
@@ -365,6 +433,7 @@ public class MergeMultiChunkTask {
     if (minChunkPointNum > 0 && unclosedChunkPoint >= minChunkPointNum
         || unclosedChunkPoint > 0 && minChunkPointNum < 0) {
       // the new chunk's size is large enough and it should be flushed
+      IOThrottle.getInstance().acquire(IOType.MERGE, chunkWriter.getCurrentChunkSize());
       synchronized (mergeFileWriter) {
         chunkWriter.writeToFileWriter(mergeFileWriter);
       }
@@ -399,6 +468,55 @@ public class MergeMultiChunkTask {
     return cnt;
   }
 
+  private boolean canCopyPages(Chunk chunk, IChunkWriter chunkWriter) {
+    return chunkWriter instanceof ChunkWriterImpl && chunk.getTimeChunk() == null
+        && (chunk.getDeleteIntervalList() == null || chunk.getDeleteIntervalList().isEmpty())
+        && ((ChunkWriterImpl) chunkWriter).canCopyPagesOf(chunk.getHeader());
+  }
+
+  /**
+   * Like writeChunkWithUnseq, but a page is copied as it is when no unseq point falls in its time
+   * range, so only the overlapped pages are uncompressed, merged and encoded again.
+   */
+  private int writeChunkWithUnseqByPage(Chunk chunk, ChunkWriterImpl chunkWriter,
+      IPointReader unseqReader, long chunkLimitTime, int pathIdx) throws IOException {
+    int cnt = 0;
+    ByteBuffer chunkData = chunk.getData().duplicate();
+    while (chunkData.hasRemaining()) {
+      int pageStart = chunkData.position();
+      PageHeader pageHeader = PageHeader.deserializeFrom(chunkData, chunk.getHeader().getDataType());
+      ByteBuffer pageData = chunkData.slice();
+      pageData.limit(pageHeader.getCompressedSize());
+      chunkData.position(chunkData.position() + pageHeader.getCompressedSize());
+
+      // the unseq points before the page go to the page being written
+      cnt += writeRemainingUnseq(chunkWriter, unseqReader, pageHeader.getStartTime(), pathIdx);
+      if (currTimeValuePairs[pathIdx] == null
+          || currTimeValuePairs[pathIdx].getTimestamp() > pageHeader.getEndTime()) {
+        chunkWriter.sealCurrentPage();
+        try {
+          chunkWriter.writePageHeaderAndDataIntoBuff(pageData, pageHeader);
+        } catch (PageException e) {
+          throw new IOException(e);
+        }
+        cnt += pageHeader.getNumOfValues();
+        mergeContext.incTotalPageCopied();
+      } else {
+        // read the page alone as a chunk
+        ByteBuffer page = chunkData.duplicate();
+        page.position(pageStart);
+        page.limit(chunkData.position());
+        ChunkReader pageReader = new ChunkReader(new Chunk(chunk.getHeader(), page.slice(), null),
+            null);
+        while (pageReader.hasNextSatisfiedPage()) {
+          cnt += mergeWriteBatch(pageReader.nextPageData(), chunkWriter, unseqReader, pathIdx);
+        }
+      }
+    }
+    cnt += writeRemainingUnseq(chunkWriter, unseqReader, chunkLimitTime, pathIdx);
+    return cnt;
+  }
+
   private int mergeWriteBatch(BatchData batchData, IChunkWriter chunkWriter,
       IPointReader unseqReader, int pathIdx) throws IOException {
     int cnt = 0;
@@ -430,7 +548,7 @@ public class MergeMultiChunkTask {
 
   public class MergeChunkHeapTask implements Callable<Void> {
 
-    private PriorityQueue<Integer> chunkIdxHeap;
+    private Queue<Integer> unitQueue;
     private MetaListEntry[] metaListEntries;
     private int[] ptWrittens;
     private TsFileSequenceReader reader;
@@ -440,14 +558,14 @@ public class MergeMultiChunkTask {
     private boolean isLastFile;
     private int taskNum;
 
-    private int totalSeriesNum;
+    private int mergedUnitNum;
 
-    public MergeChunkHeapTask(PriorityQueue<Integer> chunkIdxHeap,
+    public MergeChunkHeapTask(Queue<Integer> unitQueue,
         MetaListEntry[] metaListEntries, int[] ptWrittens,
         TsFileSequenceReader reader,
         RestorableTsFileIOWriter mergeFileWriter,
         IPointReader[] unseqReaders, TsFileResource currFile, boolean isLastFile, int taskNum) {
-      this.chunkIdxHeap = chunkIdxHeap;
+      this.unitQueue = unitQueue;
       this.metaListEntries = metaListEntries;
       this.ptWrittens = ptWrittens;
       this.reader = reader;
@@ -456,67 +574,102 @@ public class MergeMultiChunkTask {
       this.currFile = currFile;
       this.isLastFile = isLastFile;
       this.taskNum = taskNum;
-      this.totalSeriesNum = chunkIdxHeap.size();
     }
 
     @Override
     public Void call() throws Exception {
-      mergeChunkHeap();
+      mergeUnits();
       return null;
     }
 
-    @SuppressWarnings("java:S2445") // avoid reading the same reader concurrently
-    private void mergeChunkHeap() throws IOException {
-      while (!chunkIdxHeap.isEmpty()) {
-        int pathIdx = chunkIdxHeap.poll();
-        Path path = currMergingPaths.get(pathIdx);
-        MeasurementSchema measurementSchema = resource.getSchema(path);
-        IChunkWriter chunkWriter = resource.getChunkWriter(measurementSchema);
+    private void mergeUnits() throws IOException, InterruptedException {
+      Integer pathIdx;
+      while ((pathIdx = unitQueue.poll()) != null) {
         if (Thread.interrupted()) {
           Thread.currentThread().interrupt();
           return;
         }
+        mergeUnit(pathIdx);
+        mergedUnitNum++;
+      }
+    }
 
-        if (metaListEntries[pathIdx] != null) {
-          MetaListEntry metaListEntry = metaListEntries[pathIdx];
-          ChunkMetadata currMeta = metaListEntry.current();
-          boolean isLastChunk = !metaListEntry.hasNext();
-          boolean chunkOverflowed = MergeUtils
-              .isChunkOverflowed(currTimeValuePairs[pathIdx], currMeta);
-          boolean chunkTooSmall = MergeUtils
-              .isChunkTooSmall(ptWrittens[pathIdx], currMeta, isLastChunk, minChunkPointNum);
-
-          Chunk chunk;
-          synchronized (reader) {
-            chunk = reader.readMemChunk(currMeta);
-          }
-          ptWrittens[pathIdx] = mergeChunkV2(currMeta, chunkOverflowed, chunkTooSmall, chunk,
-              ptWrittens[pathIdx], pathIdx, mergeFileWriter, unseqReaders[pathIdx], chunkWriter,
-              currFile);
-
-          if (!isLastChunk) {
-            metaListEntry.next();
-            chunkIdxHeap.add(pathIdx);
-            continue;
-          }
+    /**
+     * Merge all chunks of one series in the current seqFile. Only one sub-task works on a series
+     * at a time, so its ChunkWriter, unseq reader and counters need no synchronization.
+     */
+    @SuppressWarnings("java:S2445") // avoid reading the same reader concurrently
+    private void mergeUnit(int pathIdx) throws IOException, InterruptedException {
+      Path path = currMergingPaths.get(pathIdx);
+      MeasurementSchema measurementSchema = resource.getSchema(path, currFile);
+      IChunkWriter chunkWriter = resource.getChunkWriter(measurementSchema, currFile);
+
+      MetaListEntry metaListEntry = metaListEntries[pathIdx];
+      while (metaListEntry != null) {
+        ChunkMetadata currMeta = metaListEntry.current();
+        boolean isLastChunk = !metaListEntry.hasNext();
+        int memoryCost = acquireMemory(currMeta);
+        try {
+          mergeOneChunk(currMeta, isLastChunk, pathIdx, chunkWriter);
+        } finally {
+          memoryPermits.release(memoryCost);
         }
-        // this only happens when the seqFiles do not contain this series, otherwise the remaining
-        // data will be merged with the last chunk in the seqFiles
-        if (isLastFile && currTimeValuePairs[pathIdx] != null) {
-          ptWrittens[pathIdx] += writeRemainingUnseq(chunkWriter, unseqReaders[pathIdx],
-              Long.MAX_VALUE,
-              pathIdx);
-          mergedChunkNum.incrementAndGet();
+        if (isLastChunk) {
+          break;
         }
-        // the last merged chunk may still be smaller than the threshold, flush it anyway
-        if (ptWrittens[pathIdx] > 0) {
-          synchronized (mergeFileWriter) {
-            chunkWriter.writeToFileWriter(mergeFileWriter);
-          }
+        metaListEntry.next();
+      }
+      // this only happens when the seqFiles do not contain this series, otherwise the remaining
+      // data will be merged with the last chunk in the seqFiles
+      if (isLastFile && currTimeValuePairs[pathIdx] != null) {
+        ptWrittens[pathIdx] += writeRemainingUnseq(chunkWriter, unseqReaders[pathIdx],
+            Long.MAX_VALUE,
+            pathIdx);
+        mergedChunkNum.incrementAndGet();
+      }
+      // the last merged chunk may still be smaller than the threshold, flush it anyway
+      if (ptWrittens[pathIdx] > 0) {
+        IOThrottle.getInstance().acquire(IOType.MERGE, chunkWriter.getCurrentChunkSize());
+        synchronized (mergeFileWriter) {
+          chunkWriter.writeToFileWriter(mergeFileWriter);
         }
       }
     }
 
+    /**
+     * Block until the memory of merging the chunk fits in the budget. A chunk larger than the
+     * whole budget takes all of it, so it is merged alone rather than never.
+     *
+     * @return the permits acquired, which should be released after the chunk is merged
+     */
+    private int acquireMemory(ChunkMetadata chunkMetadata) throws InterruptedException {
+      long costKb = MergeUtils.estimateChunkMemory(chunkMetadata) / 1024 + 1;
+      int permits = (int) Math.min(costKb, memoryBudgetKb);
+      memoryPermits.acquire(permits);
+      return permits;
+    }
+
+    @SuppressWarnings("java:S2445") // avoid reading the same reader concurrently
+    private void mergeOneChunk(ChunkMetadata currMeta, boolean isLastChunk, int pathIdx,
+        IChunkWriter chunkWriter) throws IOException {
+      boolean chunkOverflowed = MergeUtils
+          .isChunkOverflowed(currTimeValuePairs[pathIdx], currMeta);
+      boolean chunkTooSmall = MergeUtils
+          .isChunkTooSmall(ptWrittens[pathIdx], currMeta, isLastChunk, minChunkPointNum);
+
+      Chunk chunk;
+      synchronized (reader) {
+        chunk = reader.readMemChunk(currMeta);
+      }
+      IOThrottle.getInstance().acquire(IOType.MERGE, chunk.getHeader().getDataSize());
+      // chunks of cold files not yet in the form of the RecompressionPolicy must be rewritten
+      boolean chunkRecompressed = resource.isCold(currFile)
+          && !resource.getRecompressionPolicy().isAppliedTo(currFile);
+      ptWrittens[pathIdx] = mergeChunkV2(currMeta, chunkOverflowed, chunkTooSmall,
+          chunkRecompressed, chunk, ptWrittens[pathIdx], pathIdx, mergeFileWriter,
+          unseqReaders[pathIdx], chunkWriter, currFile);
+    }
+
     public String getStorageGroupName() {
       return storageGroupName;
     }
@@ -526,8 +679,8 @@ public class MergeMultiChunkTask {
     }
 
     public String getProgress() {
-      return String.format("Processed %d/%d series", totalSeriesNum - chunkIdxHeap.size(),
-          totalSeriesNum);
+      return String.format("Processed %d series, %d series remaining", mergedUnitNum,
+          unitQueue.size());
     }
   }
 }
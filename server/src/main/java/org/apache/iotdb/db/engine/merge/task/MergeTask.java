@@ -170,8 +170,9 @@ public class MergeTask implements Callable<Void> {
           (resource.getSeqFiles().size() + resource.getUnseqFiles().size()) / elapsedTime;
       double ptRate = mergeContext.getTotalPointWritten() / elapsedTime;
       logger.info("{} ends after {}s, byteRate: {}MB/s, seriesRate {}/s, chunkRate: {}/s, "
-              + "fileRate: {}/s, ptRate: {}/s",
-          taskName, elapsedTime, byteRate, seriesRate, chunkRate, fileRate, ptRate);
+              + "fileRate: {}/s, ptRate: {}/s, copied pages: {}",
+          taskName, elapsedTime, byteRate, seriesRate, chunkRate, fileRate, ptRate,
+          mergeContext.getTotalPageCopied());
     }
   }
 
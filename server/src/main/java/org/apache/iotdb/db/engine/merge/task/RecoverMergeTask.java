@@ -137,30 +137,13 @@ public class RecoverMergeTask extends MergeTask {
   }
 
   private void calculateConcurrentSeriesNum() throws IOException {
-    long singleSeriesUnseqCost = 0;
-    long maxUnseqCost = 0;
     for (TsFileResource unseqFile : resource.getUnseqFiles()) {
-      long[] chunkNums = MergeUtils.findTotalAndLargestSeriesChunkNum(unseqFile,
-          resource.getFileReader(unseqFile));
-      long totalChunkNum = chunkNums[0];
-      long maxChunkNum = chunkNums[1];
-      singleSeriesUnseqCost += unseqFile.getTsFileSize() * maxChunkNum / totalChunkNum;
-      maxUnseqCost += unseqFile.getTsFileSize();
+      MergeUtils.loadMetadataStatistics(unseqFile, resource.getFileReader(unseqFile));
     }
-
-    long singleSeriesSeqReadCost = 0;
-    long maxSeqReadCost = 0;
     long seqWriteCost = 0;
     for (TsFileResource seqFile : resource.getSeqFiles()) {
-      long[] chunkNums = MergeUtils.findTotalAndLargestSeriesChunkNum(seqFile,
-          resource.getFileReader(seqFile));
-      long totalChunkNum = chunkNums[0];
-      long maxChunkNum = chunkNums[1];
-      long fileMetaSize = MergeUtils.getFileMetaSize(seqFile, resource.getFileReader(seqFile));
-      long newSingleSeriesSeqReadCost =  fileMetaSize * maxChunkNum / totalChunkNum;
-      singleSeriesSeqReadCost = Math.max(newSingleSeriesSeqReadCost, singleSeriesSeqReadCost);
-      maxSeqReadCost = Math.max(fileMetaSize, maxSeqReadCost);
-      seqWriteCost += fileMetaSize;
+      MergeUtils.loadMetadataStatistics(seqFile, resource.getFileReader(seqFile));
+      seqWriteCost += MergeUtils.estimateSeqWriteMemory(seqFile);
     }
 
     long memBudget = IoTDBDescriptor.getInstance().getConfig().getMergeMemoryBudget();
@@ -168,9 +151,15 @@ public class RecoverMergeTask extends MergeTask {
     int ub = MaxSeriesMergeFileSelector.MAX_SERIES_NUM;
     int mid = (lb + ub) / 2;
     while (mid != lb) {
-      long unseqCost = Math.min(singleSeriesUnseqCost * mid, maxUnseqCost);
-      long seqReadCos = Math.min(singleSeriesSeqReadCost * mid, maxSeqReadCost);
-      long totalCost = unseqCost + seqReadCos + seqWriteCost;
+      long unseqCost = 0;
+      for (TsFileResource unseqFile : resource.getUnseqFiles()) {
+        unseqCost += MergeUtils.estimateUnseqReadMemory(unseqFile, mid);
+      }
+      long seqReadCost = 0;
+      for (TsFileResource seqFile : resource.getSeqFiles()) {
+        seqReadCost = Math.max(seqReadCost, MergeUtils.estimateSeqReadMemory(seqFile, mid));
+      }
+      long totalCost = unseqCost + seqReadCost + seqWriteCost;
       if (totalCost <= memBudget) {
         lb = mid;
       } else {
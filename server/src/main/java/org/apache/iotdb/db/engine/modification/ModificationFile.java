@@ -26,7 +26,9 @@ import java.nio.file.Files;
 import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Random;
 import org.apache.iotdb.db.engine.modification.io.LocalTextModificationAccessor;
 import org.apache.iotdb.db.engine.modification.io.ModificationReader;
@@ -45,6 +47,10 @@ public class ModificationFile implements AutoCloseable {
   public static final String FILE_SUFFIX = ".mods";
 
   private List<Modification> modifications;
+  // the modifications of each timeseries, grouped on the first call of getSeriesDeletions()
+  private Map<String, List<Modification>> pathModifications;
+  // built on demand and dropped when the timeseries is modified again
+  private Map<String, SeriesDeletions> seriesDeletions = new HashMap<>();
   private ModificationWriter writer;
   private ModificationReader reader;
   private String filePath;
@@ -81,6 +87,8 @@ public class ModificationFile implements AutoCloseable {
     synchronized (this) {
       writer.close();
       modifications = null;
+      pathModifications = null;
+      seriesDeletions.clear();
     }
   }
 
@@ -88,7 +96,12 @@ public class ModificationFile implements AutoCloseable {
     synchronized (this) {
       if (!modifications.isEmpty()) {
         writer.abort();
-        modifications.remove(modifications.size() - 1);
+        Modification mod = modifications.remove(modifications.size() - 1);
+        if (pathModifications != null) {
+          List<Modification> modsOfPath = pathModifications.get(mod.getPathString());
+          modsOfPath.remove(modsOfPath.size() - 1);
+        }
+        seriesDeletions.remove(mod.getPathString());
       }
     }
   }
@@ -105,6 +118,10 @@ public class ModificationFile implements AutoCloseable {
       checkInit();
       writer.write(mod);
       modifications.add(mod);
+      if (pathModifications != null) {
+        pathModifications.computeIfAbsent(mod.getPathString(), k -> new ArrayList<>()).add(mod);
+      }
+      seriesDeletions.remove(mod.getPathString());
     }
   }
 
@@ -120,6 +137,36 @@ public class ModificationFile implements AutoCloseable {
     }
   }
 
+  /**
+   * Get the Deletions of a timeseries stored in this file. The result is cached until another
+   * modification of the timeseries is written, so repeated queries neither parse the file nor scan
+   * the modifications of other timeseries.
+   *
+   * @param path the full path of the timeseries
+   */
+  public SeriesDeletions getSeriesDeletions(String path) {
+    synchronized (this) {
+      checkInit();
+      if (modifications.isEmpty()) {
+        return SeriesDeletions.EMPTY;
+      }
+      if (pathModifications == null) {
+        pathModifications = new HashMap<>();
+        for (Modification modification : modifications) {
+          pathModifications.computeIfAbsent(modification.getPathString(), k -> new ArrayList<>())
+              .add(modification);
+        }
+      }
+      List<Modification> modsOfPath = pathModifications.get(path);
+      if (modsOfPath == null) {
+        // not cached, the timeseries that are never deleted may be many
+        return SeriesDeletions.EMPTY;
+      }
+      return seriesDeletions
+          .computeIfAbsent(path, k -> new SeriesDeletions(new ArrayList<>(modsOfPath)));
+    }
+  }
+
   public String getFilePath() {
     return filePath;
   }
@@ -0,0 +1,116 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iotdb.db.engine.modification;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import org.apache.iotdb.tsfile.read.common.TimeRange;
+
+/**
+ * SeriesDeletions indexes the Deletions of one timeseries in a ModificationFile. A Deletion only
+ * applies to the chunks written before it, i.e., the chunks whose versions are smaller than the
+ * version of the Deletion, so the Deletions are sorted by version and, for each chunk version met,
+ * the time ranges of the newer Deletions are merged into a sorted list of disjoint TimeRanges once.
+ * <p>
+ * A SeriesDeletions is an immutable snapshot of the file, so it can be shared by queries and stays
+ * valid after new Deletions are appended to the file.
+ */
+public class SeriesDeletions {
+
+  public static final SeriesDeletions EMPTY = new SeriesDeletions(Collections.emptyList());
+
+  // in the order of the file
+  private final List<Modification> modifications;
+  // sorted by version
+  private final Deletion[] deletions;
+  private final long[] versions;
+  // the i-th element is the merged TimeRanges of deletions[i..], null before it is first used
+  private final AtomicReferenceArray<List<TimeRange>> mergedRanges;
+
+  /**
+   * @param modifications the Modifications of one timeseries in the order of the file
+   */
+  public SeriesDeletions(List<Modification> modifications) {
+    this.modifications = Collections.unmodifiableList(modifications);
+    List<Deletion> deletionList = new ArrayList<>();
+    for (Modification modification : modifications) {
+      if (modification instanceof Deletion) {
+        deletionList.add((Deletion) modification);
+      }
+    }
+    deletionList.sort(Comparator.comparingLong(Modification::getVersionNum));
+    this.deletions = deletionList.toArray(new Deletion[0]);
+    this.versions = new long[deletions.length];
+    for (int i = 0; i < deletions.length; i++) {
+      versions[i] = deletions[i].getVersionNum();
+    }
+    this.mergedRanges = new AtomicReferenceArray<>(deletions.length);
+  }
+
+  public List<Modification> getModifications() {
+    return modifications;
+  }
+
+  public boolean isEmpty() {
+    return deletions.length == 0;
+  }
+
+  /**
+   * @return the sorted and disjoint TimeRanges deleted from a chunk of the given version, the same
+   * list is returned for chunks with the same newer Deletions and it must not be modified
+   */
+  public List<TimeRange> getDeletedRanges(long chunkVersion) {
+    int index = firstNewerDeletion(chunkVersion);
+    if (index == deletions.length) {
+      return Collections.emptyList();
+    }
+    List<TimeRange> ranges = mergedRanges.get(index);
+    if (ranges == null) {
+      List<TimeRange> candidates = new ArrayList<>(deletions.length - index);
+      for (int i = index; i < deletions.length; i++) {
+        candidates.add(new TimeRange(deletions[i].getStartTime(), deletions[i].getEndTime()));
+      }
+      ranges = Collections.unmodifiableList(TimeRange.sortAndMerge(candidates));
+      // concurrent queries may both build the list, which is harmless as the lists are equal
+      mergedRanges.compareAndSet(index, null, ranges);
+      ranges = mergedRanges.get(index);
+    }
+    return ranges;
+  }
+
+  /**
+   * @return the index of the first Deletion whose version is larger than the given version
+   */
+  private int firstNewerDeletion(long version) {
+    int low = 0;
+    int high = versions.length;
+    while (low < high) {
+      int mid = (low + high) >>> 1;
+      if (versions[mid] <= version) {
+        low = mid + 1;
+      } else {
+        high = mid;
+      }
+    }
+    return low;
+  }
+}
@@ -37,6 +37,13 @@ public class QueryDataSource {
    */
   private long dataTTL = Long.MAX_VALUE;
 
+  /**
+   * the number of insertions and deletions done in the storage group before the resources were
+   * collected, changing whenever the data in memory or the deletions may differ.
+   */
+  private long insertVersion = 0;
+  private long deletionVersion = 0;
+
   public QueryDataSource(Path seriesPath, List<TsFileResource> seqResources, List<TsFileResource> unseqResources) {
     this.seriesPath = seriesPath;
     this.seqResources = seqResources;
@@ -63,6 +70,19 @@ public class QueryDataSource {
     this.dataTTL = dataTTL;
   }
 
+  public long getInsertVersion() {
+    return insertVersion;
+  }
+
+  public long getDeletionVersion() {
+    return deletionVersion;
+  }
+
+  public void setDataVersions(long insertVersion, long deletionVersion) {
+    this.insertVersion = insertVersion;
+    this.deletionVersion = deletionVersion;
+  }
+
   /**
    * @return an updated filter concerning TTL
    */
@@ -27,6 +27,8 @@ import static org.apache.iotdb.tsfile.common.constant.TsFileConstant.VM_SUFFIX;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.nio.file.Files;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -50,14 +52,22 @@ import org.apache.iotdb.db.conf.IoTDBConstant;
 import org.apache.iotdb.db.conf.IoTDBDescriptor;
 import org.apache.iotdb.db.conf.directories.DirectoryManager;
 import org.apache.iotdb.db.engine.StorageEngine;
+import org.apache.iotdb.db.engine.cache.ChunkMetadataCache;
+import org.apache.iotdb.db.engine.compaction.CompactionManager;
+import org.apache.iotdb.db.engine.compaction.CompactionScheduler;
+import org.apache.iotdb.db.engine.compaction.CompactionTask;
+import org.apache.iotdb.db.engine.compaction.recover.CompactionLogAnalyzer;
+import org.apache.iotdb.db.engine.compaction.recover.CompactionLogger;
 import org.apache.iotdb.db.engine.fileSystem.SystemFileFactory;
 import org.apache.iotdb.db.engine.flush.TsFileFlushPolicy;
 import org.apache.iotdb.db.engine.merge.manage.MergeManager;
 import org.apache.iotdb.db.engine.merge.manage.MergeResource;
+import org.apache.iotdb.db.engine.merge.manage.RecompressionPolicy;
 import org.apache.iotdb.db.engine.merge.selector.IMergeFileSelector;
 import org.apache.iotdb.db.engine.merge.selector.MaxFileMergeFileSelector;
 import org.apache.iotdb.db.engine.merge.selector.MaxSeriesMergeFileSelector;
 import org.apache.iotdb.db.engine.merge.selector.MergeFileStrategy;
+import org.apache.iotdb.db.engine.merge.selector.RecompressionFileSelector;
 import org.apache.iotdb.db.engine.merge.task.MergeTask;
 import org.apache.iotdb.db.engine.merge.task.RecoverMergeTask;
 import org.apache.iotdb.db.engine.modification.Deletion;
@@ -83,7 +93,10 @@ import org.apache.iotdb.db.qp.physical.crud.DeletePlan;
 import org.apache.iotdb.db.qp.physical.crud.InsertRowPlan;
 import org.apache.iotdb.db.qp.physical.crud.InsertTabletPlan;
 import org.apache.iotdb.db.query.context.QueryContext;
+import org.apache.iotdb.db.query.control.FileReaderManager;
 import org.apache.iotdb.db.query.control.QueryFileManager;
+import org.apache.iotdb.db.rescon.IOThrottle;
+import org.apache.iotdb.db.rescon.IOThrottle.IOType;
 import org.apache.iotdb.db.service.IoTDB;
 import org.apache.iotdb.db.service.UpgradeSevice;
 import org.apache.iotdb.db.utils.CopyOnReadLinkedList;
@@ -133,6 +146,13 @@ public class StorageGroupProcessor {
    */
   private static final int MERGE_MOD_START_VERSION_NUM = 1;
 
+  /**
+   * the suffix of the files being copied to the slow tier, which are removed during recovery
+   */
+  private static final String MIGRATING_SUFFIX = ".migrating";
+
+  private static final int MIGRATION_BUFFER_SIZE = 64 * 1024;
+
   private static final Logger logger = LoggerFactory.getLogger(StorageGroupProcessor.class);
 
   /**
@@ -150,6 +170,12 @@ public class StorageGroupProcessor {
    * partitionLatestFlushedTimeForEachDevice)
    */
   private final ReadWriteLock insertLock = new ReentrantReadWriteLock();
+  /**
+   * the numbers of insertions and deletions, guarded by insertLock and given to each query so that
+   * queries can tell whether they see the same data
+   */
+  private long insertVersion = 0;
+  private long deletionVersion = 0;
   /**
    * closeStorageGroupCondition is used to wait for all currently closing TsFiles to be done.
    */
@@ -232,11 +258,22 @@ public class StorageGroupProcessor {
   private ModificationFile mergingModification;
   private volatile boolean isMerging = false;
   private long mergeStartTime;
+  /**
+   * compacts the closed files of each time partition, which never runs together with a merge
+   */
+  private CompactionScheduler compactionScheduler;
   /**
    * when the data in a storage group is older than dataTTL, it is considered invalid and will be
    * eventually removed.
    */
   private long dataTTL = Long.MAX_VALUE;
+  // the closed files in the order of their end times, only maintained when dataTTL is set
+  private TsFileExpiryQueue expiryQueue = new TsFileExpiryQueue();
+  /*
+   * the closed files in the order of the time when enough of their data are out of TTL to rewrite
+   * them without those data, null if such rewrites are disabled
+   */
+  private TsFileExpiryQueue ttlRewriteQueue = createTTLRewriteQueue();
   private FSFactory fsFactory = FSFactoryProducer.getFSFactory();
   private TsFileFlushPolicy fileFlushPolicy;
 
@@ -271,6 +308,9 @@ public class StorageGroupProcessor {
       logger.error("create Storage Group system Directory {} failed",
           storageGroupSysDir.getPath());
     }
+    compactionScheduler = new CompactionScheduler(storageGroupName,
+        storageGroupSysDir.getPath(), this::compactionEndAction, this::tryScheduleCompaction,
+        timePartitionId -> getVersionControllerByTimePartitionId(timePartitionId).nextVersion());
 
     recover();
 
@@ -289,6 +329,15 @@ public class StorageGroupProcessor {
     logger.info("recover Storage Group  {}", storageGroupName);
 
     try {
+      // undo or finish the compactions interrupted by the last crash before loading the files
+      File[] compactionLogs = fsFactory.listFilesBySuffix(storageGroupSysDir.getAbsolutePath(),
+          CompactionLogger.COMPACTION_LOG_SUFFIX);
+      if (compactionLogs != null) {
+        for (File compactionLog : compactionLogs) {
+          new CompactionLogAnalyzer(compactionLog).recover();
+        }
+      }
+
       // collect candidate TsFiles from sequential and unsequential data directory
       Pair<List<TsFileResource>, List<TsFileResource>> seqTsFilesPair = getAllFiles(
           DirectoryManager.getInstance().getAllSequenceFileFolders());
@@ -330,6 +379,19 @@ public class StorageGroupProcessor {
             .addAll(resource.getHistoricalVersions());
         updatePartitionFileVersion(partitionNum, Collections.max(resource.getHistoricalVersions()));
       }
+      if (compactionScheduler.isPurgeEnabled()) {
+        // the deletions before the restart may have left files worth purging
+        for (TsFileResource resource : sequenceFileTreeSet) {
+          if (resource.getModFile().exists()) {
+            compactionScheduler.recordDeletion(resource);
+          }
+        }
+        for (TsFileResource resource : unSequenceFileList) {
+          if (resource.getModFile().exists()) {
+            compactionScheduler.recordDeletion(resource);
+          }
+        }
+      }
 
       String taskName = storageGroupName + "-" + System.currentTimeMillis();
       File mergingMods = SystemFileFactory.INSTANCE.getFile(storageGroupSysDir,
@@ -517,6 +579,9 @@ public class StorageGroupProcessor {
             // the process was interrupted before the merged files could be named
             continueFailedRenames(partitionFolder, MERGE_SUFFIX);
 
+            // some TsFiles were being moved to the slow tier when the system crashed
+            removeFailedMigrations(partitionFolder);
+
             Collections.addAll(tsFiles,
                 fsFactory.listFilesBySuffix(partitionFolder.getAbsolutePath(), TSFILE_SUFFIX));
           }
@@ -524,6 +589,7 @@ public class StorageGroupProcessor {
       }
 
     }
+    removeMigratedDuplicates(tsFiles);
     tsFiles.sort(this::compareFileName);
     List<TsFileResource> ret = new ArrayList<>();
     tsFiles.forEach(f -> ret.add(new TsFileResource(f)));
@@ -539,6 +605,54 @@ public class StorageGroupProcessor {
     return new Pair<>(ret, upgradeRet);
   }
 
+  /**
+   * Remove the copies of the files that had not been moved to the slow tier completely. A copied
+   * TsFile is named last, so the copied resource and modification files are also removed if it
+   * was not named.
+   */
+  private void removeFailedMigrations(File partitionFolder) throws IOException {
+    for (File file : fsFactory.listFilesBySuffix(partitionFolder.getAbsolutePath(),
+        MIGRATING_SUFFIX)) {
+      String originName = file.getName().substring(0,
+          file.getName().length() - MIGRATING_SUFFIX.length());
+      if (originName.endsWith(TSFILE_SUFFIX)
+          && !fsFactory.getFile(partitionFolder, originName).exists()) {
+        Files.deleteIfExists(fsFactory.getFile(partitionFolder,
+            originName + TsFileResource.RESOURCE_SUFFIX).toPath());
+        Files.deleteIfExists(fsFactory.getFile(partitionFolder,
+            originName + ModificationFile.FILE_SUFFIX).toPath());
+      }
+      Files.deleteIfExists(file.toPath());
+    }
+  }
+
+  /**
+   * If the system crashed after a TsFile was moved to the slow tier and before the original one
+   * was removed, both exist, and the original one is removed.
+   */
+  private void removeMigratedDuplicates(List<File> tsFiles) {
+    DirectoryManager directoryManager = DirectoryManager.getInstance();
+    if (!directoryManager.hasSlowTier()) {
+      return;
+    }
+    Set<String> slowTierFiles = new HashSet<>();
+    for (File tsFile : tsFiles) {
+      if (directoryManager.isSlowTierFile(tsFile)) {
+        slowTierFiles.add(tsFile.getParentFile().getName() + File.separator + tsFile.getName());
+      }
+    }
+    Iterator<File> iterator = tsFiles.iterator();
+    while (iterator.hasNext()) {
+      File tsFile = iterator.next();
+      if (!directoryManager.isSlowTierFile(tsFile) && slowTierFiles
+          .contains(tsFile.getParentFile().getName() + File.separator + tsFile.getName())) {
+        logger.info("{} has been moved to the slow tier, remove it", tsFile);
+        new TsFileResource(tsFile).remove();
+        iterator.remove();
+      }
+    }
+  }
+
   private Map<String, List<List<TsFileResource>>> getAllVms(List<String> folders)
       throws IOException {
     List<File> vmFiles = new ArrayList<>();
@@ -726,6 +840,7 @@ public class StorageGroupProcessor {
     }
     writeLock();
     try {
+      insertVersion++;
       // init map
       long timePartitionId = StorageEngine.getTimePartition(insertRowPlan.getTime());
 
@@ -751,6 +866,7 @@ public class StorageGroupProcessor {
   public void insertTablet(InsertTabletPlan insertTabletPlan) throws BatchInsertionException {
     writeLock();
     try {
+      insertVersion++;
       TSStatus[] results = new TSStatus[insertTabletPlan.getRowCount()];
       Arrays.fill(results, RpcUtils.SUCCESS_STATUS);
       boolean noFailure = true;
@@ -1209,7 +1325,11 @@ public class StorageGroupProcessor {
   }
 
   /**
-   * Iterate each TsFile and try to lock and remove those out of TTL.
+   * Remove the files out of TTL. Only the files polled from the expiryQueue are checked, so a check
+   * takes no lock when nothing expires. The time partitions that end before the TTL bound are
+   * detached as a whole with their working TsFileProcessors, and the other expired files are
+   * removed one by one. The expired files that are being merged or read are checked again next
+   * time.
    */
   public synchronized void checkFilesTTL() {
     if (dataTTL == Long.MAX_VALUE) {
@@ -1221,32 +1341,160 @@ public class StorageGroupProcessor {
       logger.debug("{}: TTL removing files before {}", storageGroupName, new Date(timeLowerBound));
     }
 
-    // copy to avoid concurrent modification of deletion
-    List<TsFileResource> seqFiles = new ArrayList<>(sequenceFileTreeSet);
-    List<TsFileResource> unseqFiles = new ArrayList<>(unSequenceFileList);
+    List<TsFileResource> expiredFiles = expiryQueue.pollExpired(timeLowerBound);
+    if (!expiredFiles.isEmpty()) {
+      removeExpiredFiles(expiredFiles, timeLowerBound);
+    }
+    if (ttlRewriteQueue != null) {
+      scheduleTTLRewrites(timeLowerBound);
+    }
+  }
 
-    for (TsFileResource tsFileResource : seqFiles) {
-      checkFileTTL(tsFileResource, timeLowerBound, true);
+  private void removeExpiredFiles(List<TsFileResource> expiredFiles, long timeLowerBound) {
+    Set<Long> expiredPartitions = new HashSet<>();
+    for (TsFileResource resource : expiredFiles) {
+      if (isPartitionExpired(resource.getTimePartition(), timeLowerBound)) {
+        expiredPartitions.add(resource.getTimePartition());
+      }
     }
-    for (TsFileResource tsFileResource : unseqFiles) {
-      checkFileTTL(tsFileResource, timeLowerBound, false);
+    if (!expiredPartitions.isEmpty()) {
+      removeExpiredPartitions(expiredPartitions, timeLowerBound);
+    }
+    for (TsFileResource resource : expiredFiles) {
+      if (!expiredPartitions.contains(resource.getTimePartition())
+          && !checkFileTTL(resource, timeLowerBound)) {
+        expiryQueue.add(resource);
+      }
     }
   }
 
-  private void checkFileTTL(TsFileResource resource, long timeLowerBound, boolean isSeq) {
-    if (resource.isMerging() || !resource.isClosed()
-        || !resource.isDeleted() && resource.stillLives(timeLowerBound)) {
-      return;
+  /**
+   * Rewrite the files whose expired part reaches ttl_rewrite_expired_ratio without the data out of
+   * TTL, so that the space is freed before the whole files expire. The fully expired files are left
+   * to the expiryQueue.
+   */
+  private void scheduleTTLRewrites(long timeLowerBound) {
+    boolean recorded = false;
+    for (TsFileResource resource : ttlRewriteQueue.pollExpired(timeLowerBound)) {
+      if (!resource.isDeleted() && resource.getMaxEndTime() >= timeLowerBound) {
+        compactionScheduler.recordExpiry(resource, timeLowerBound);
+        recorded = true;
+      }
+    }
+    if (recorded) {
+      tryScheduleCompaction();
+    }
+  }
+
+  private static TsFileExpiryQueue createTTLRewriteQueue() {
+    double expiredRatio = IoTDBDescriptor.getInstance().getConfig().getTtlRewriteExpiredRatio();
+    return expiredRatio > 0 && expiredRatio <= 1 ? TsFileExpiryQueue.partlyExpiring(expiredRatio)
+        : null;
+  }
+
+  /**
+   * @return whether all data of the time partition are older than the bound
+   */
+  private boolean isPartitionExpired(long partitionId, long timeLowerBound) {
+    // without time partitions, partition 0 holds all data
+    return StorageEngine.isEnablePartition() && timeLowerBound > 0
+        && partitionId < timeLowerBound / StorageEngine.getTimePartitionInterval();
+  }
+
+  /**
+   * Detach the expired time partitions like removePartitions(), except that the partitions whose
+   * files are being merged or read are skipped instead of aborting the merges or the queries.
+   *
+   * @param expiredPartitions the partitions that are not detached are removed from it
+   */
+  private void removeExpiredPartitions(Set<Long> expiredPartitions, long timeLowerBound) {
+    insertLock.writeLock().lock();
+    mergeLock.writeLock().lock();
+    List<TsFileResource> lockedFiles = new ArrayList<>();
+    try {
+      Map<Long, List<TsFileResource>> partitionFiles = new HashMap<>();
+      for (Collection<TsFileResource> files : Arrays.asList(sequenceFileTreeSet,
+          unSequenceFileList)) {
+        for (TsFileResource resource : files) {
+          if (expiredPartitions.contains(resource.getTimePartition())) {
+            partitionFiles.computeIfAbsent(resource.getTimePartition(), p -> new ArrayList<>())
+                .add(resource);
+          }
+        }
+      }
+      for (Entry<Long, List<TsFileResource>> entry : partitionFiles.entrySet()) {
+        if (!lockPartitionFiles(entry.getValue(), lockedFiles)) {
+          expiredPartitions.remove(entry.getKey());
+        }
+      }
+      if (expiredPartitions.isEmpty()) {
+        return;
+      }
+      TimePartitionFilter filter = (sg, partitionId) -> expiredPartitions.contains(partitionId);
+      removePartitions(filter, workSequenceTsFileProcessors.entrySet());
+      removePartitions(filter, workUnsequenceTsFileProcessors.entrySet());
+      removePartitions(filter, sequenceFileTreeSet.iterator());
+      removePartitions(filter, unSequenceFileList.iterator());
+      if (logger.isInfoEnabled()) {
+        logger.info("{} removed partitions {} before {} by ttl ({}ms)", storageGroupName,
+            expiredPartitions, new Date(timeLowerBound), dataTTL);
+      }
+    } finally {
+      for (TsFileResource resource : lockedFiles) {
+        resource.writeUnlock();
+      }
+      mergeLock.writeLock().unlock();
+      insertLock.writeLock().unlock();
+    }
+  }
+
+  /**
+   * Lock all closed files of a partition so that no query is reading them, which fails if any of
+   * them is being merged or read.
+   *
+   * @param lockedFiles collects the locked files, which the caller unlocks
+   */
+  private boolean lockPartitionFiles(List<TsFileResource> files, List<TsFileResource> lockedFiles) {
+    int lockedNum = lockedFiles.size();
+    for (TsFileResource resource : files) {
+      if (!resource.isClosed()) {
+        // a working file, which is closed before it is removed
+        continue;
+      }
+      if (resource.isMerging() || !resource.tryWriteLock()) {
+        while (lockedFiles.size() > lockedNum) {
+          lockedFiles.remove(lockedFiles.size() - 1).writeUnlock();
+        }
+        return false;
+      }
+      lockedFiles.add(resource);
+    }
+    return true;
+  }
+
+  /**
+   * Try to lock and remove a file out of TTL.
+   *
+   * @return false if the file should be checked again as it is being merged or read
+   */
+  private boolean checkFileTTL(TsFileResource resource, long timeLowerBound) {
+    if (resource.isMerging()) {
+      return false;
     }
 
     writeLock();
     try {
+      boolean isSeq = sequenceFileTreeSet.contains(resource);
+      if (!isSeq && !unSequenceFileList.contains(resource)) {
+        // removed by a merge, a compaction or a deletion of the partition
+        return true;
+      }
       // prevent new merges and queries from choosing this file
       resource.setDeleted(true);
       // the file may be chosen for merge after the last check and before writeLock()
       // double check to ensure the file is not used by a merge
       if (resource.isMerging()) {
-        return;
+        return false;
       }
 
       // ensure that the file is not used by any queries
@@ -1266,12 +1514,26 @@ public class StorageGroupProcessor {
         } finally {
           resource.writeUnlock();
         }
+        return true;
       }
+      return false;
     } finally {
       writeUnlock();
     }
   }
 
+  /**
+   * Track a closed file for the TTL checks if a TTL is set.
+   */
+  private void trackFileTTL(TsFileResource resource) {
+    if (dataTTL != Long.MAX_VALUE) {
+      expiryQueue.add(resource);
+      if (ttlRewriteQueue != null) {
+        ttlRewriteQueue.add(resource);
+      }
+    }
+  }
+
   /**
    * This method will be blocked until all tsfile processors are closed.
    */
@@ -1345,6 +1607,10 @@ public class StorageGroupProcessor {
           upgradeUnseqFileList, deviceId, measurementId, context, timeFilter, false);
       QueryDataSource dataSource = new QueryDataSource(new Path(deviceId, measurementId),
           seqResources, unseqResources);
+      if (compactionScheduler.isEnabled()) {
+        compactionScheduler.recordRead(seqResources);
+        compactionScheduler.recordRead(unseqResources);
+      }
       // used files should be added before mergeLock is unlocked, or they may be deleted by
       // running merge
       // is null only in tests
@@ -1352,6 +1618,7 @@ public class StorageGroupProcessor {
         filePathsManager.addUsedFilesForQuery(context.getQueryId(), dataSource);
       }
       dataSource.setDataTTL(dataTTL);
+      dataSource.setDataVersions(insertVersion, deletionVersion);
       return dataSource;
     } catch (MetadataException e) {
       throw new QueryProcessException(e);
@@ -1467,6 +1734,7 @@ public class StorageGroupProcessor {
     List<ModificationFile> updatedModFiles = new ArrayList<>();
 
     try {
+      deletionVersion++;
       Long lastUpdateTime = null;
       for (Map<String, Long> latestTimeMap : latestTimeForEachDevice.values()) {
         Long curTime = latestTimeMap.get(deviceId);
@@ -1506,6 +1774,8 @@ public class StorageGroupProcessor {
       writeUnlock();
       mergeLock.writeLock().unlock();
     }
+    // purge the files in which enough data is deleted
+    tryScheduleCompaction();
   }
 
   private void logDeletion(long startTime, long endTime, String deviceId, String measurementId)
@@ -1557,6 +1827,7 @@ public class StorageGroupProcessor {
 
       // add a record in case of rollback
       updatedModFiles.add(tsFileResource.getModFile());
+      compactionScheduler.recordDeletion(tsFileResource);
     }
   }
 
@@ -1657,6 +1928,10 @@ public class StorageGroupProcessor {
     } else {
       closingUnSequenceTsFileProcessor.remove(tsFileProcessor);
     }
+    trackFileTTL(tsFileProcessor.getTsFileResource());
+    CompactionManager.getInstance()
+        .recordFlushedBytes(tsFileProcessor.getTsFileResource().getTsFileSize());
+    tryScheduleCompaction();
     logger.info("signal closing storage group condition in {}", storageGroupName);
     synchronized (closeStorageGroupCondition) {
       closeStorageGroupCondition.notifyAll();
@@ -1703,6 +1978,7 @@ public class StorageGroupProcessor {
       unSequenceFileList.addAll(upgradedResources);
       upgradeUnseqFileList.remove(tsFileResource);
     }
+    upgradedResources.forEach(this::trackFileTTL);
     mergeLock.writeLock().unlock();
     insertLock.writeLock().unlock();
 
@@ -1738,62 +2014,173 @@ public class StorageGroupProcessor {
         }
         return;
       }
+      if (compactionScheduler.isCompacting()) {
+        logger.info("{} compactions are ongoing, the merge is skipped", storageGroupName);
+        return;
+      }
       logger.info("{} will close all files for starting a merge (fullmerge = {})", storageGroupName,
           fullMerge);
 
-      if (unSequenceFileList.isEmpty() || sequenceFileTreeSet.isEmpty()) {
+      if (sequenceFileTreeSet.isEmpty()) {
         logger.info("{} no files to be merged", storageGroupName);
         return;
       }
 
-      long budget = IoTDBDescriptor.getInstance().getConfig().getMergeMemoryBudget();
       long timeLowerBound = System.currentTimeMillis() - dataTTL;
-      MergeResource mergeResource = new MergeResource(sequenceFileTreeSet, unSequenceFileList,
-          timeLowerBound);
-
-      IMergeFileSelector fileSelector = getMergeFileSelector(budget, mergeResource);
+      RecompressionPolicy recompressionPolicy = IoTDBDescriptor.getInstance().getConfig()
+          .getRecompressionPolicy(storageGroupName);
       try {
-        List[] mergeFiles = fileSelector.select();
-        if (mergeFiles.length == 0) {
-          logger.info("{} cannot select merge candidates under the budget {}", storageGroupName,
-              budget);
+        if (!unSequenceFileList.isEmpty()
+            && mergeUnseqFiles(fullMerge, timeLowerBound, recompressionPolicy)) {
           return;
         }
-        // avoid pending tasks holds the metadata and streams
-        mergeResource.clear();
-        String taskName = storageGroupName + "-" + System.currentTimeMillis();
-        // do not cache metadata until true candidates are chosen, or too much metadata will be
-        // cached during selection
-        mergeResource.setCacheDeviceMeta(true);
-
-        for (TsFileResource tsFileResource : mergeResource.getSeqFiles()) {
-          tsFileResource.setMerging(true);
-        }
-        for (TsFileResource tsFileResource : mergeResource.getUnseqFiles()) {
-          tsFileResource.setMerging(true);
-        }
-
-        MergeTask mergeTask = new MergeTask(mergeResource, storageGroupSysDir.getPath(),
-            this::mergeEndAction, taskName, fullMerge, fileSelector.getConcurrentMergeNum(),
-            storageGroupName);
-        mergingModification = new ModificationFile(
-            storageGroupSysDir + File.separator + MERGING_MODIFICATION_FILE_NAME);
-        MergeManager.getINSTANCE().submitMainTask(mergeTask);
-        if (logger.isInfoEnabled()) {
-          logger.info("{} submits a merge task {}, merging {} seqFiles, {} unseqFiles",
-              storageGroupName, taskName, mergeFiles[0].size(), mergeFiles[1].size());
+        // when there is no unseqFile to merge, recompress the cold seqFiles instead
+        if (recompressionPolicy != null) {
+          recompressColdFiles(recompressionPolicy, timeLowerBound);
+        } else if (unSequenceFileList.isEmpty()) {
+          logger.info("{} no files to be merged", storageGroupName);
         }
-        isMerging = true;
-        mergeStartTime = System.currentTimeMillis();
-
       } catch (MergeException | IOException e) {
         logger.error("{} cannot select file for merge", storageGroupName, e);
       }
     } finally {
+      if (!isMerging && compactionScheduler.needsSchedule()) {
+        // catch up with the compactions skipped when the storage group was busy
+        compactionScheduler.schedule(sequenceFileTreeSet, unSequenceFileList);
+      }
+      writeUnlock();
+    }
+  }
+
+  /**
+   * Schedule compactions unless the storage group is busy, as this may be called by flush threads
+   * that others holding the write lock are waiting for.
+   */
+  private void tryScheduleCompaction() {
+    if (!compactionScheduler.needsSchedule() || !insertLock.writeLock().tryLock()) {
+      return;
+    }
+    try {
+      if (!isMerging) {
+        compactionScheduler.schedule(sequenceFileTreeSet, unSequenceFileList);
+      }
+    } finally {
+      insertLock.writeLock().unlock();
+    }
+  }
+
+  /**
+   * Replace the source files of a compaction with its target file.
+   *
+   * @return false if some of the source files have been removed
+   */
+  private boolean compactionEndAction(CompactionTask task) {
+    List<TsFileResource> sourceFiles = task.getSourceFiles();
+    writeLock();
+    mergeLock.writeLock().lock();
+    try {
+      Collection<TsFileResource> files = task.isSequence() ? sequenceFileTreeSet
+          : unSequenceFileList;
+      if (!files.containsAll(sourceFiles)) {
+        logger.info("{} the files of compaction {} have been removed", storageGroupName,
+            task.getTaskName());
+        return false;
+      }
+      task.commit();
+      if (task.isSequence()) {
+        // the target file has the same position as the first source file
+        sequenceFileTreeSet.removeAll(sourceFiles);
+        sequenceFileTreeSet.add(task.getTargetFile());
+      } else {
+        int index = unSequenceFileList.indexOf(sourceFiles.get(0));
+        unSequenceFileList.removeAll(sourceFiles);
+        unSequenceFileList.add(index, task.getTargetFile());
+      }
+      trackFileTTL(task.getTargetFile());
+      return true;
+    } catch (IOException e) {
+      logger.error("{} cannot commit compaction {}", storageGroupName, task.getTaskName(), e);
+      return false;
+    } finally {
+      mergeLock.writeLock().unlock();
       writeUnlock();
     }
   }
 
+  /**
+   * @return whether a merge task is submitted
+   */
+  private boolean mergeUnseqFiles(boolean fullMerge, long timeLowerBound,
+      RecompressionPolicy recompressionPolicy) throws MergeException, IOException {
+    long budget = IoTDBDescriptor.getInstance().getConfig().getMergeMemoryBudget();
+    MergeResource mergeResource = new MergeResource(sequenceFileTreeSet, unSequenceFileList,
+        timeLowerBound);
+
+    IMergeFileSelector fileSelector = getMergeFileSelector(budget, mergeResource);
+    List[] mergeFiles = fileSelector.select();
+    if (mergeFiles.length == 0) {
+      logger.info("{} cannot select merge candidates under the budget {}", storageGroupName,
+          budget);
+      return false;
+    }
+    if (recompressionPolicy != null) {
+      // the cold seqFiles in the merge are recompressed along the way
+      mergeResource.setRecompressionPolicy(recompressionPolicy);
+    }
+    submitMergeTask(mergeResource, fullMerge, fileSelector.getConcurrentMergeNum(),
+        storageGroupName + "-" + System.currentTimeMillis());
+    return true;
+  }
+
+  /**
+   * Rewrite the cold seqFiles of the oldest time partition that are not recompressed yet.
+   */
+  private void recompressColdFiles(RecompressionPolicy recompressionPolicy, long timeLowerBound)
+      throws MergeException, IOException {
+    MergeResource mergeResource = new MergeResource(sequenceFileTreeSet,
+        Collections.emptyList(), timeLowerBound);
+    IMergeFileSelector fileSelector = new RecompressionFileSelector(mergeResource,
+        recompressionPolicy);
+    List[] mergeFiles = fileSelector.select();
+    if (mergeFiles.length == 0) {
+      mergeResource.clear();
+      logger.info("{} has no cold files to be recompressed", storageGroupName);
+      return;
+    }
+    mergeResource.setRecompressionPolicy(recompressionPolicy);
+    submitMergeTask(mergeResource, false, fileSelector.getConcurrentMergeNum(),
+        storageGroupName + "-recompress-" + System.currentTimeMillis());
+  }
+
+  private void submitMergeTask(MergeResource mergeResource, boolean fullMerge,
+      int concurrentMergeNum, String taskName) throws IOException {
+    // avoid pending tasks holds the metadata and streams
+    mergeResource.clear();
+    // do not cache metadata until true candidates are chosen, or too much metadata will be
+    // cached during selection
+    mergeResource.setCacheDeviceMeta(true);
+
+    for (TsFileResource tsFileResource : mergeResource.getSeqFiles()) {
+      tsFileResource.setMerging(true);
+    }
+    for (TsFileResource tsFileResource : mergeResource.getUnseqFiles()) {
+      tsFileResource.setMerging(true);
+    }
+
+    MergeTask mergeTask = new MergeTask(mergeResource, storageGroupSysDir.getPath(),
+        this::mergeEndAction, taskName, fullMerge, concurrentMergeNum, storageGroupName);
+    mergingModification = new ModificationFile(
+        storageGroupSysDir + File.separator + MERGING_MODIFICATION_FILE_NAME);
+    MergeManager.getINSTANCE().submitMainTask(mergeTask);
+    if (logger.isInfoEnabled()) {
+      logger.info("{} submits a merge task {}, merging {} seqFiles, {} unseqFiles",
+          storageGroupName, taskName, mergeResource.getSeqFiles().size(),
+          mergeResource.getUnseqFiles().size());
+    }
+    isMerging = true;
+    mergeStartTime = System.currentTimeMillis();
+  }
+
   private IMergeFileSelector getMergeFileSelector(long budget, MergeResource resource) {
     MergeFileStrategy strategy = IoTDBDescriptor.getInstance().getConfig().getMergeFileStrategy();
     switch (strategy) {
@@ -1861,7 +2248,7 @@ public class StorageGroupProcessor {
       File mergeLog) {
     logger.info("{} a merge task is ending...", storageGroupName);
 
-    if (unseqFiles.isEmpty()) {
+    if (seqFiles.isEmpty() && unseqFiles.isEmpty()) {
       // merge runtime exception arose, just end this merge
       isMerging = false;
       logger.info("{} a merge task abnormally ends", storageGroupName);
@@ -2298,6 +2685,7 @@ public class StorageGroupProcessor {
           return false;
         }
         unSequenceFileList.add(tsFileResource);
+        trackFileTTL(tsFileResource);
         logger.info("Load tsfile in unsequence list, move file from {} to {}",
             syncedTsFile.getAbsolutePath(), targetFile.getAbsolutePath());
         break;
@@ -2312,6 +2700,7 @@ public class StorageGroupProcessor {
           return false;
         }
         sequenceFileTreeSet.add(tsFileResource);
+        trackFileTTL(tsFileResource);
         logger.info("Load tsfile in sequence list, move file from {} to {}",
             syncedTsFile.getAbsolutePath(), targetFile.getAbsolutePath());
         break;
@@ -2470,12 +2859,220 @@ public class StorageGroupProcessor {
   }
 
 
+  /**
+   * Move the closed files whose data are all older than the bound to the slow tier. A file is
+   * copied without any lock so that insertions and queries go on, and then the copy replaces it
+   * once no query is reading it. The files being merged or read are tried again next time.
+   *
+   * @param timeUpperBound the files whose end times are all before it are moved
+   */
+  public void migrateFilesToSlowTier(long timeUpperBound) {
+    DirectoryManager directoryManager = DirectoryManager.getInstance();
+    List<TsFileResource> seqCandidates = new ArrayList<>();
+    List<TsFileResource> unseqCandidates = new ArrayList<>();
+    insertLock.readLock().lock();
+    try {
+      for (TsFileResource resource : sequenceFileTreeSet) {
+        if (isMigrationCandidate(resource, timeUpperBound, directoryManager)) {
+          seqCandidates.add(resource);
+        }
+      }
+      for (TsFileResource resource : unSequenceFileList) {
+        if (isMigrationCandidate(resource, timeUpperBound, directoryManager)) {
+          unseqCandidates.add(resource);
+        }
+      }
+    } finally {
+      insertLock.readLock().unlock();
+    }
+
+    for (TsFileResource resource : seqCandidates) {
+      if (Thread.currentThread().isInterrupted()) {
+        return;
+      }
+      migrateFileToSlowTier(resource, true);
+    }
+    for (TsFileResource resource : unseqCandidates) {
+      if (Thread.currentThread().isInterrupted()) {
+        return;
+      }
+      migrateFileToSlowTier(resource, false);
+    }
+  }
+
+  private boolean isMigrationCandidate(TsFileResource resource, long timeUpperBound,
+      DirectoryManager directoryManager) {
+    return resource.isClosed() && !resource.isMerging() && !resource.isDeleted()
+        && resource.getMaxEndTime() < timeUpperBound
+        && !directoryManager.isSlowTierFile(resource.getTsFile());
+  }
+
+  /**
+   * Copy the file and its resource file to the slow tier, and then replace the file with the copy.
+   * The file is marked as merging meanwhile, so merges, compactions and TTL checks leave it alone.
+   */
+  private void migrateFileToSlowTier(TsFileResource resource, boolean sequence) {
+    writeLock();
+    try {
+      if (isMerging || resource.isMerging() || resource.isDeleted()
+          || !containsFile(resource, sequence)) {
+        return;
+      }
+      resource.setMerging(true);
+    } finally {
+      writeUnlock();
+    }
+
+    File tsFile = resource.getTsFile();
+    File targetFile = null;
+    boolean committed = false;
+    try {
+      String baseDir = sequence
+          ? DirectoryManager.getInstance().getNextSlowFolderForSequenceFile()
+          : DirectoryManager.getInstance().getNextSlowFolderForUnSequenceFile();
+      File targetDir = fsFactory.getFile(fsFactory.getFile(baseDir, storageGroupName),
+          tsFile.getParentFile().getName());
+      if (!targetDir.exists() && !targetDir.mkdirs()) {
+        logger.error("{} cannot create the folder {}", storageGroupName, targetDir);
+        return;
+      }
+      targetFile = fsFactory.getFile(targetDir, tsFile.getName());
+      copyForMigration(tsFile, fsFactory.getFile(targetFile.getPath() + MIGRATING_SUFFIX));
+      copyForMigration(fsFactory.getFile(tsFile.getPath() + TsFileResource.RESOURCE_SUFFIX),
+          fsFactory.getFile(targetFile.getPath() + TsFileResource.RESOURCE_SUFFIX
+              + MIGRATING_SUFFIX));
+      committed = commitMigration(resource, sequence, targetFile);
+    } catch (DiskSpaceInsufficientException | IOException e) {
+      logger.error("{} cannot move {} to the slow tier", storageGroupName, tsFile, e);
+    } finally {
+      if (!committed && targetFile != null) {
+        removeMigrationCopies(targetFile);
+      }
+      resource.setMerging(false);
+    }
+  }
+
+  /**
+   * Replace the file with its copy in the slow tier when no query is reading it. The copy of the
+   * TsFile is named last, so a crash before it leaves only the copies to be removed.
+   *
+   * @return false if the file is removed, read or chosen by a merge, and the copy is discarded
+   */
+  private boolean commitMigration(TsFileResource resource, boolean sequence, File targetFile)
+      throws IOException {
+    writeLock();
+    mergeLock.writeLock().lock();
+    try {
+      if (isMerging || resource.isDeleted() || !containsFile(resource, sequence)) {
+        return false;
+      }
+      // do not wait for the queries while holding the locks of the storage group
+      if (!resource.tryWriteLock()) {
+        logger.debug("{} is being read, move it to the slow tier later", resource);
+        return false;
+      }
+      try {
+        File tsFile = resource.getTsFile();
+        File modFile = fsFactory.getFile(tsFile.getPath() + ModificationFile.FILE_SUFFIX);
+        File targetModFile = fsFactory.getFile(targetFile.getPath() + ModificationFile.FILE_SUFFIX);
+        // the modifications are copied under the locks as deletions may append to them
+        if (modFile.exists()) {
+          copyForMigration(modFile, fsFactory.getFile(targetModFile.getPath() + MIGRATING_SUFFIX));
+          nameMigrationCopy(targetModFile);
+        }
+        nameMigrationCopy(fsFactory.getFile(targetFile.getPath() + TsFileResource.RESOURCE_SUFFIX));
+        nameMigrationCopy(targetFile);
+
+        ChunkMetadataCache.getInstance().remove(resource);
+        FileReaderManager.getInstance().closeFileAndRemoveReader(resource.getTsFilePath());
+        // the resource is hashed by its file
+        boolean hasDeletions = compactionScheduler.removeDeletionRecord(resource);
+        Long expiryBound = compactionScheduler.removeExpiryRecord(resource);
+        resource.switchToCopy(targetFile);
+        if (hasDeletions) {
+          compactionScheduler.recordDeletion(resource);
+        }
+        if (expiryBound != null) {
+          compactionScheduler.recordExpiry(resource, expiryBound);
+        }
+        fsFactory.getFile(tsFile.getPath() + TsFileResource.RESOURCE_SUFFIX).delete();
+        modFile.delete();
+        tsFile.delete();
+        logger.info("{} moved {} to the slow tier", storageGroupName, targetFile);
+        return true;
+      } finally {
+        resource.writeUnlock();
+      }
+    } finally {
+      mergeLock.writeLock().unlock();
+      writeUnlock();
+    }
+  }
+
+  private boolean containsFile(TsFileResource resource, boolean sequence) {
+    return sequence ? sequenceFileTreeSet.contains(resource)
+        : unSequenceFileList.contains(resource);
+  }
+
+  private void copyForMigration(File source, File target) throws IOException {
+    byte[] buffer = new byte[MIGRATION_BUFFER_SIZE];
+    try (InputStream inputStream = fsFactory.getBufferedInputStream(source.getPath());
+        OutputStream outputStream = fsFactory.getBufferedOutputStream(target.getPath())) {
+      int readSize;
+      while ((readSize = inputStream.read(buffer)) != -1) {
+        // the bytes are read and written once each
+        IOThrottle.getInstance().acquire(IOType.MIGRATION, 2L * readSize);
+        outputStream.write(buffer, 0, readSize);
+      }
+    }
+  }
+
+  /**
+   * Rename the copy to the target, and the original files are not removed if it fails.
+   */
+  private void nameMigrationCopy(File target) throws IOException {
+    File copy = fsFactory.getFile(target.getPath() + MIGRATING_SUFFIX);
+    Files.deleteIfExists(target.toPath());
+    if (!copy.renameTo(target)) {
+      throw new IOException(String.format("Cannot rename %s to %s", copy, target));
+    }
+  }
+
+  private void removeMigrationCopies(File targetFile) {
+    for (String suffix : new String[]{"", TsFileResource.RESOURCE_SUFFIX,
+        ModificationFile.FILE_SUFFIX}) {
+      File copy = fsFactory.getFile(targetFile.getPath() + suffix + MIGRATING_SUFFIX);
+      if (copy.exists() && !copy.delete()) {
+        logger.warn("{} cannot remove {}", storageGroupName, copy);
+      }
+    }
+  }
+
   public Collection<TsFileProcessor> getWorkUnsequenceTsFileProcessor() {
     return workUnsequenceTsFileProcessors.values();
   }
 
   public void setDataTTL(long dataTTL) {
-    this.dataTTL = dataTTL;
+    insertLock.readLock().lock();
+    try {
+      this.dataTTL = dataTTL;
+      expiryQueue.clear();
+      if (ttlRewriteQueue != null) {
+        ttlRewriteQueue.clear();
+      }
+      for (TsFileResource resource : sequenceFileTreeSet) {
+        if (resource.isClosed()) {
+          trackFileTTL(resource);
+        }
+      }
+      for (TsFileResource resource : unSequenceFileList) {
+        if (resource.isClosed()) {
+          trackFileTTL(resource);
+        }
+      }
+    } finally {
+      insertLock.readLock().unlock();
+    }
     checkFilesTTL();
   }
 
@@ -2557,8 +3154,9 @@ public class StorageGroupProcessor {
     insertLock.writeLock().lock();
     mergeLock.writeLock().lock();
     try {
-      // abort ongoing merges
+      // abort ongoing merges and compactions
       MergeManager.getINSTANCE().abortMerge(storageGroupName);
+      CompactionManager.getInstance().abortCompaction(storageGroupName);
       // close all working files that should be removed
       removePartitions(filter, workSequenceTsFileProcessors.entrySet());
       removePartitions(filter, workUnsequenceTsFileProcessors.entrySet());
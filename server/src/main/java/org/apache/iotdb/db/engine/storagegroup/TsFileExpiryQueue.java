@@ -0,0 +1,125 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iotdb.db.engine.storagegroup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.function.ToLongFunction;
+
+/**
+ * TsFileExpiryQueue orders the closed files of a storage group by their largest end times, so that
+ * a TTL check only visits the files that may have expired instead of all files. A file is added
+ * when it is closed and leaves the queue once it is polled as expired, so the caller re-adds the
+ * expired files it cannot remove yet. The files whose end times have grown since they were queued
+ * (e.g., by a merge) are re-queued when they are polled.
+ * <p>
+ * A queue may order the files by another expiry time instead, e.g., the time when a given part of
+ * a file expires, see partlyExpiring().
+ */
+class TsFileExpiryQueue {
+
+  private final PriorityQueue<Entry> heap = new PriorityQueue<>();
+  // the TTL bound beyond which a file is polled
+  private final ToLongFunction<TsFileResource> expiryTime;
+
+  TsFileExpiryQueue() {
+    this(TsFileResource::getMaxEndTime);
+  }
+
+  private TsFileExpiryQueue(ToLongFunction<TsFileResource> expiryTime) {
+    this.expiryTime = expiryTime;
+  }
+
+  /**
+   * @return a queue polling a file once the given ratio of the time span of its data is older than
+   * the TTL bound, assuming the data are evenly distributed in the span
+   */
+  static TsFileExpiryQueue partlyExpiring(double expiredRatio) {
+    return new TsFileExpiryQueue(resource -> {
+      long minStartTime = resource.getMinStartTime();
+      long maxEndTime = resource.getMaxEndTime();
+      if (minStartTime > maxEndTime) {
+        // no data
+        return Long.MAX_VALUE;
+      }
+      return minStartTime + (long) Math.ceil(expiredRatio * ((double) maxEndTime - minStartTime));
+    });
+  }
+
+  synchronized void add(TsFileResource resource) {
+    heap.add(new Entry(resource, expiryTime.applyAsLong(resource)));
+  }
+
+  /**
+   * Remove and return the files whose expiry times are before the bound, i.e., whose data are all
+   * older than the bound by default. They may include the files that have been removed from the
+   * storage group by other means.
+   */
+  synchronized List<TsFileResource> pollExpired(long timeLowerBound) {
+    List<TsFileResource> expired = new ArrayList<>();
+    List<Entry> grown = new ArrayList<>();
+    while (!heap.isEmpty() && heap.peek().expiryTime < timeLowerBound) {
+      TsFileResource resource = heap.poll().resource;
+      long time = expiryTime.applyAsLong(resource);
+      if (time < timeLowerBound) {
+        expired.add(resource);
+      } else {
+        grown.add(new Entry(resource, time));
+      }
+    }
+    heap.addAll(grown);
+    return expired;
+  }
+
+  synchronized void clear() {
+    heap.clear();
+  }
+
+  synchronized int size() {
+    return heap.size();
+  }
+
+  private static class Entry implements Comparable<Entry> {
+
+    private final TsFileResource resource;
+    // the expiry time of the file when it is queued
+    private final long expiryTime;
+
+    private Entry(TsFileResource resource, long expiryTime) {
+      this.resource = resource;
+      this.expiryTime = expiryTime;
+    }
+
+    @Override
+    public int compareTo(Entry o) {
+      return Long.compare(expiryTime, o.expiryTime);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      return this == o;
+    }
+
+    @Override
+    public int hashCode() {
+      return System.identityHashCode(this);
+    }
+  }
+}
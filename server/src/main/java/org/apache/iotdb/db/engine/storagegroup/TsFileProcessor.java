@@ -58,8 +58,8 @@ import org.apache.iotdb.db.engine.flush.VmMergeUtils;
 import org.apache.iotdb.db.engine.flush.pool.VmMergeTaskPoolManager;
 import org.apache.iotdb.db.engine.memtable.IMemTable;
 import org.apache.iotdb.db.engine.modification.Deletion;
-import org.apache.iotdb.db.engine.modification.Modification;
 import org.apache.iotdb.db.engine.modification.ModificationFile;
+import org.apache.iotdb.db.engine.modification.SeriesDeletions;
 import org.apache.iotdb.db.engine.querycontext.ReadOnlyMemChunk;
 import org.apache.iotdb.db.engine.storagegroup.StorageGroupProcessor.CloseTsFileCallBack;
 import org.apache.iotdb.db.engine.storagegroup.StorageGroupProcessor.UpdateEndTimeCallBack;
@@ -945,6 +945,7 @@ public class TsFileProcessor {
 
   private void endFile() throws IOException, TsFileProcessorException {
     long closeStartTime = System.currentTimeMillis();
+    tsFileResource.updateMetadataStatistics(writer);
     tsFileResource.serialize();
     writer.endFile();
     tsFileResource.cleanCloseFlag();
@@ -1045,7 +1046,7 @@ public class TsFileProcessor {
       }
 
       ModificationFile modificationFile = tsFileResource.getModFile();
-      List<Modification> modifications = context.getPathModifications(modificationFile,
+      SeriesDeletions modifications = context.getPathDeletions(modificationFile,
           deviceId + IoTDBConstant.PATH_SEPARATOR + measurementId);
 
       List<ChunkMetadata> chunkMetadataList = writer
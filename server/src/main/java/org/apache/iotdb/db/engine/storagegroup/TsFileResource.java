@@ -29,13 +29,17 @@ import org.apache.iotdb.db.service.IoTDB;
 import org.apache.iotdb.db.service.UpgradeSevice;
 import org.apache.iotdb.db.utils.FilePathUtils;
 import org.apache.iotdb.db.utils.UpgradeUtils;
+import org.apache.iotdb.tsfile.file.metadata.ChunkGroupMetadata;
 import org.apache.iotdb.tsfile.file.metadata.ChunkMetadata;
 import org.apache.iotdb.tsfile.file.metadata.TimeseriesMetadata;
 import org.apache.iotdb.tsfile.file.metadata.enums.TSDataType;
 import org.apache.iotdb.tsfile.file.metadata.statistics.Statistics;
 import org.apache.iotdb.tsfile.fileSystem.FSFactoryProducer;
 import org.apache.iotdb.tsfile.fileSystem.fsFactory.FSFactory;
+import org.apache.iotdb.tsfile.read.TsFileSequenceReader;
+import org.apache.iotdb.tsfile.read.common.Path;
 import org.apache.iotdb.tsfile.utils.ReadWriteIOUtils;
+import org.apache.iotdb.tsfile.write.writer.TsFileIOWriter;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -58,8 +62,21 @@ public class TsFileResource {
   private File file;
 
   public static final String RESOURCE_SUFFIX = ".resource";
-  static final String TEMP_SUFFIX = ".temp";
+  public static final String TEMP_SUFFIX = ".temp";
   private static final String CLOSING_SUFFIX = ".closing";
+  /**
+   * precedes the obsolete size in the serialized resource, it never starts a serialized string
+   */
+  private static final int OBSOLETE_SIZE_MARKER = -1;
+  /**
+   * precedes the metadata statistics in the serialized resource, it never starts a serialized
+   * string
+   */
+  private static final int METADATA_STATISTICS_MARKER = -2;
+  /**
+   * precedes the recompression form in the serialized resource, it never starts a serialized string
+   */
+  private static final int RECOMPRESSION_FORM_MARKER = -3;
   protected static final int INIT_ARRAY_SIZE = 64;
 
   /**
@@ -98,6 +115,26 @@ public class TsFileResource {
   // https://issues.apache.org/jira/browse/IOTDB-702 for improve this field.
   private Set<Long> historicalVersions = new HashSet<>();
 
+  // the bytes of the chunks that are no longer referenced by the metadata of the TsFile, as a merge
+  // may append the merged chunks to the file instead of rewriting it. They are reclaimed when the
+  // file is rewritten by a merge or a compaction.
+  private long obsoleteSize = 0;
+
+  // the statistics of the metadata of the TsFile, which are recorded when the TsFile is written
+  // and used to estimate the memory cost of merging it. seriesNum is -1 if they are unknown, e.g.,
+  // for the files of old versions, and then they are collected from the TsFile when needed.
+  private int seriesNum = -1;
+  private int chunkNum;
+  private int maxSeriesChunkNum;
+  // the size of a chunk is measured by the distance to the next chunk, so it is an upper bound
+  private long maxChunkSize;
+  // the memory of all ChunkMetadata of the TsFile
+  private long chunkMetadataSize;
+
+  // the form (compressor, compression level and encodings) of the RecompressionPolicy that all
+  // chunks of the TsFile have been rewritten with, null if the TsFile is not recompressed
+  private String recompressionForm;
+
   private TsFileLock tsFileLock = new TsFileLock();
 
   private Random random = new Random();
@@ -163,6 +200,13 @@ public class TsFileResource {
     this.tsFileLock = other.tsFileLock;
     this.fsFactory = other.fsFactory;
     this.historicalVersions = other.historicalVersions;
+    this.obsoleteSize = other.obsoleteSize;
+    this.seriesNum = other.seriesNum;
+    this.chunkNum = other.chunkNum;
+    this.maxSeriesChunkNum = other.maxSeriesChunkNum;
+    this.maxChunkSize = other.maxChunkSize;
+    this.chunkMetadataSize = other.chunkMetadataSize;
+    this.recompressionForm = other.recompressionForm;
   }
 
   /**
@@ -264,6 +308,25 @@ public class TsFileResource {
         }
       }
 
+      if (obsoleteSize > 0) {
+        ReadWriteIOUtils.write(OBSOLETE_SIZE_MARKER, outputStream);
+        ReadWriteIOUtils.write(obsoleteSize, outputStream);
+      }
+
+      if (hasMetadataStatistics()) {
+        ReadWriteIOUtils.write(METADATA_STATISTICS_MARKER, outputStream);
+        ReadWriteIOUtils.write(seriesNum, outputStream);
+        ReadWriteIOUtils.write(chunkNum, outputStream);
+        ReadWriteIOUtils.write(maxSeriesChunkNum, outputStream);
+        ReadWriteIOUtils.write(maxChunkSize, outputStream);
+        ReadWriteIOUtils.write(chunkMetadataSize, outputStream);
+      }
+
+      if (recompressionForm != null) {
+        ReadWriteIOUtils.write(RECOMPRESSION_FORM_MARKER, outputStream);
+        ReadWriteIOUtils.write(recompressionForm, outputStream);
+      }
+
       if (modFile != null && modFile.exists()) {
         String modFileName = new File(modFile.getFilePath()).getName();
         ReadWriteIOUtils.write(modFileName, outputStream);
@@ -313,6 +376,40 @@ public class TsFileResource {
         historicalVersions = Collections.singleton(version);
       }
 
+      obsoleteSize = 0;
+      if (inputStream.available() > 0) {
+        inputStream.mark(Integer.BYTES);
+        if (ReadWriteIOUtils.readInt(inputStream) == OBSOLETE_SIZE_MARKER) {
+          obsoleteSize = ReadWriteIOUtils.readLong(inputStream);
+        } else {
+          inputStream.reset();
+        }
+      }
+
+      seriesNum = -1;
+      if (inputStream.available() > 0) {
+        inputStream.mark(Integer.BYTES);
+        if (ReadWriteIOUtils.readInt(inputStream) == METADATA_STATISTICS_MARKER) {
+          seriesNum = ReadWriteIOUtils.readInt(inputStream);
+          chunkNum = ReadWriteIOUtils.readInt(inputStream);
+          maxSeriesChunkNum = ReadWriteIOUtils.readInt(inputStream);
+          maxChunkSize = ReadWriteIOUtils.readLong(inputStream);
+          chunkMetadataSize = ReadWriteIOUtils.readLong(inputStream);
+        } else {
+          inputStream.reset();
+        }
+      }
+
+      recompressionForm = null;
+      if (inputStream.available() > 0) {
+        inputStream.mark(Integer.BYTES);
+        if (ReadWriteIOUtils.readInt(inputStream) == RECOMPRESSION_FORM_MARKER) {
+          recompressionForm = ReadWriteIOUtils.readString(inputStream);
+        } else {
+          inputStream.reset();
+        }
+      }
+
       if (inputStream.available() > 0) {
         String modFileName = ReadWriteIOUtils.readString(inputStream);
         File modF = new File(file.getParentFile(), modFileName);
@@ -573,6 +670,19 @@ public class TsFileResource {
     fsFactory.getFile(file.getPath() + ModificationFile.FILE_SUFFIX).delete();
   }
 
+  /**
+   * Point this resource to a copy of its data file, resource file and modification file in
+   * another folder, e.g., after they are moved to another storage tier. The caller must hold the
+   * write lock and remove the old files.
+   */
+  void switchToCopy(File copiedFile) throws IOException {
+    if (modFile != null) {
+      modFile.close();
+      modFile = null;
+    }
+    file = copiedFile;
+  }
+
   @Override
   public String toString() {
     return file.toString();
@@ -607,7 +717,7 @@ public class TsFileResource {
     this.deleted = deleted;
   }
 
-  boolean isMerging() {
+  public boolean isMerging() {
     return isMerging;
   }
 
@@ -615,6 +725,28 @@ public class TsFileResource {
     isMerging = merging;
   }
 
+  /**
+   * @return the smallest start time of the devices in the file, or Long.MAX_VALUE if it has none
+   */
+  public long getMinStartTime() {
+    long minStartTime = Long.MAX_VALUE;
+    for (long startTime : startTimes) {
+      minStartTime = Math.min(minStartTime, startTime);
+    }
+    return minStartTime;
+  }
+
+  /**
+   * @return the largest end time of the devices in the file, or Long.MIN_VALUE if it has none
+   */
+  public long getMaxEndTime() {
+    long maxEndTime = Long.MIN_VALUE;
+    for (long endTime : endTimes) {
+      maxEndTime = Math.max(maxEndTime, endTime);
+    }
+    return maxEndTime;
+  }
+
   /**
    * check if any of the device lives over the given time bound
    */
@@ -674,6 +806,108 @@ public class TsFileResource {
     this.historicalVersions = historicalVersions;
   }
 
+  public long getObsoleteSize() {
+    return obsoleteSize;
+  }
+
+  public void setObsoleteSize(long obsoleteSize) {
+    this.obsoleteSize = obsoleteSize;
+  }
+
+  public String getRecompressionForm() {
+    return recompressionForm;
+  }
+
+  public void setRecompressionForm(String recompressionForm) {
+    this.recompressionForm = recompressionForm;
+  }
+
+  public boolean hasMetadataStatistics() {
+    return seriesNum >= 0;
+  }
+
+  /**
+   * Record the metadata statistics of a TsFile being written, before its metadata is written.
+   */
+  public void updateMetadataStatistics(TsFileIOWriter writer) throws IOException {
+    Map<Path, List<ChunkMetadata>> seriesChunkMetadata = new HashMap<>();
+    for (ChunkGroupMetadata chunkGroupMetadata : writer.getChunkGroupMetadataList()) {
+      for (ChunkMetadata chunkMetadata : chunkGroupMetadata.getChunkMetadataList()) {
+        seriesChunkMetadata.computeIfAbsent(new Path(chunkGroupMetadata.getDevice(),
+            chunkMetadata.getMeasurementUid()), p -> new ArrayList<>()).add(chunkMetadata);
+      }
+    }
+    updateMetadataStatistics(seriesChunkMetadata.values(), writer.getPos());
+  }
+
+  /**
+   * Collect the metadata statistics of a complete TsFile, e.g., one written by an old version.
+   */
+  public void updateMetadataStatistics(TsFileSequenceReader reader) throws IOException {
+    List<List<ChunkMetadata>> seriesChunkMetadata = new ArrayList<>();
+    for (String device : reader.getAllDevices()) {
+      seriesChunkMetadata.addAll(reader.readChunkMetadataInDevice(device).values());
+    }
+    updateMetadataStatistics(seriesChunkMetadata, reader.readFileMetadata().getMetaOffset());
+  }
+
+  /**
+   * @param seriesChunkMetadata the ChunkMetadata of each series
+   * @param dataEndOffset       where the last chunk ends
+   */
+  private void updateMetadataStatistics(Collection<List<ChunkMetadata>> seriesChunkMetadata,
+      long dataEndOffset) {
+    int newChunkNum = 0;
+    int newMaxSeriesChunkNum = 0;
+    long newChunkMetadataSize = 0;
+    for (List<ChunkMetadata> chunkMetadataList : seriesChunkMetadata) {
+      newChunkNum += chunkMetadataList.size();
+      newMaxSeriesChunkNum = Math.max(newMaxSeriesChunkNum, chunkMetadataList.size());
+      for (ChunkMetadata chunkMetadata : chunkMetadataList) {
+        newChunkMetadataSize += chunkMetadata.calculateRamSize();
+      }
+    }
+    long[] chunkOffsets = new long[newChunkNum];
+    int i = 0;
+    for (List<ChunkMetadata> chunkMetadataList : seriesChunkMetadata) {
+      for (ChunkMetadata chunkMetadata : chunkMetadataList) {
+        chunkOffsets[i++] = chunkMetadata.getOffsetOfChunkHeader();
+      }
+    }
+    Arrays.sort(chunkOffsets);
+    long newMaxChunkSize = 0;
+    for (i = 0; i < chunkOffsets.length; i++) {
+      long nextOffset = i + 1 < chunkOffsets.length ? chunkOffsets[i + 1] : dataEndOffset;
+      newMaxChunkSize = Math.max(newMaxChunkSize, nextOffset - chunkOffsets[i]);
+    }
+
+    chunkNum = newChunkNum;
+    maxSeriesChunkNum = newMaxSeriesChunkNum;
+    maxChunkSize = newMaxChunkSize;
+    chunkMetadataSize = newChunkMetadataSize;
+    seriesNum = seriesChunkMetadata.size();
+  }
+
+  public int getSeriesNum() {
+    return seriesNum;
+  }
+
+  public int getChunkNum() {
+    return chunkNum;
+  }
+
+  public int getMaxSeriesChunkNum() {
+    return maxSeriesChunkNum;
+  }
+
+  public long getMaxChunkSize() {
+    return maxChunkSize;
+  }
+
+  public long getChunkMetadataSize() {
+    return chunkMetadataSize;
+  }
+
   public void setProcessor(TsFileProcessor processor) {
     this.processor = processor;
   }
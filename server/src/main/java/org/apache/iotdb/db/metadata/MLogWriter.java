@@ -108,6 +108,11 @@ public class MLogWriter {
     newLine();
   }
 
+  public void setAligned(String device) throws IOException {
+    writer.write(MetadataOperationType.SET_ALIGNED + "," + device);
+    newLine();
+  }
+
   public void changeOffset(String path, long offset) throws IOException {
     writer.write(String.format("%s,%s,%s", MetadataOperationType.CHANGE_OFFSET, path, offset));
     newLine();
@@ -72,7 +72,6 @@ import org.apache.iotdb.db.utils.RandomDeleteCache;
 import org.apache.iotdb.db.utils.SchemaUtils;
 import org.apache.iotdb.db.utils.TestOnly;
 import org.apache.iotdb.db.utils.TypeInferenceUtils;
-import org.apache.iotdb.tsfile.common.conf.TSFileDescriptor;
 import org.apache.iotdb.tsfile.exception.cache.CacheException;
 import org.apache.iotdb.tsfile.exception.write.UnSupportedDataTypeException;
 import org.apache.iotdb.tsfile.file.metadata.enums.CompressionType;
@@ -359,6 +358,9 @@ public class MManager {
       case MetadataOperationType.CHANGE_ALIAS:
         changeAlias(args[1], args[2]);
         break;
+      case MetadataOperationType.SET_ALIGNED:
+        setAligned(args[1]);
+        break;
       default:
         logger.error("Unrecognizable command {}", cmd);
     }
@@ -1186,6 +1188,42 @@ public class MManager {
     }
   }
 
+  /**
+   * Make the measurements of a device share one time column in the files flushed afterwards, the
+   * files flushed before are read as they are. The device is created if it does not exist, but its
+   * storage group must be set.
+   */
+  public void setAligned(String device) throws MetadataException {
+    lock.writeLock().lock();
+    try {
+      // the storage group must be set so that no storage group is created below
+      mtree.getStorageGroupName(device);
+      MNode deviceNode = mtree.getDeviceNodeWithAutoCreating(device, -1);
+      if (deviceNode instanceof StorageGroupMNode || deviceNode instanceof MeasurementMNode) {
+        throw new MetadataException(device + " is not a device below a storage group");
+      }
+      deviceNode.setAligned(true);
+      if (!isRecovering) {
+        logWriter.setAligned(device);
+      }
+    } catch (IOException e) {
+      throw new MetadataException(e.getMessage());
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  /**
+   * @return whether the measurements of the device share one time column when they are flushed
+   */
+  public boolean isAligned(String device) {
+    try {
+      return getDeviceNode(device).isAligned();
+    } catch (MetadataException e) {
+      return false;
+    }
+  }
+
   /**
    * get all storageGroups ttl
    *
@@ -1898,7 +1936,7 @@ public class MManager {
               path.getFullPath(),
               dataType,
               getDefaultEncoding(dataType),
-              TSFileDescriptor.getInstance().getConfig().getCompressor(),
+              config.getDefaultCompressor(path.getFullPath()),
               Collections.emptyMap());
         }
 
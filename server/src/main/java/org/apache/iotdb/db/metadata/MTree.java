@@ -955,6 +955,9 @@ public class MTree implements Serializable {
           node = StorageGroupMNode.deserializeFrom(nodeInfo);
         } else if (nodeType == MetadataConstant.MEASUREMENT_MNODE_TYPE) {
           node = MeasurementMNode.deserializeFrom(nodeInfo);
+        } else if (nodeType == MetadataConstant.ALIGNED_MNODE_TYPE) {
+          node = new MNode(null, nodeInfo[1]);
+          node.setAligned(true);
         } else {
           node = new MNode(null, nodeInfo[1]);
         }
@@ -40,4 +40,5 @@ public class MetadataConstant {
   public static final short MNODE_TYPE = 0;
   public static final short STORAGE_GROUP_MNODE_TYPE = 1;
   public static final short MEASUREMENT_MNODE_TYPE = 2;
+  public static final short ALIGNED_MNODE_TYPE = 3;
 }
@@ -31,4 +31,5 @@ public class MetadataOperationType {
   public static final String DELETE_STORAGE_GROUP = "11";
   public static final String CHANGE_OFFSET = "12";
   public static final String CHANGE_ALIAS = "13";
+  public static final String SET_ALIGNED = "14";
 }
@@ -56,6 +56,11 @@ public class MNode implements Serializable {
   transient Map<String, MNode> children = null;
   transient Map<String, MNode> aliasChildren = null;
 
+  /**
+   * whether the measurements of this device share one time column when they are flushed
+   */
+  private boolean aligned = false;
+
   protected transient ReadWriteLock lock = new ReentrantReadWriteLock();
 
   /**
@@ -206,10 +211,19 @@ public class MNode implements Serializable {
     this.children = children;
   }
 
+  public boolean isAligned() {
+    return aligned;
+  }
+
+  public void setAligned(boolean aligned) {
+    this.aligned = aligned;
+  }
+
   public void serializeTo(BufferedWriter bw) throws IOException {
     serializeChildren(bw);
 
-    StringBuilder s = new StringBuilder(String.valueOf(MetadataConstant.MNODE_TYPE));
+    int nodeType = aligned ? MetadataConstant.ALIGNED_MNODE_TYPE : MetadataConstant.MNODE_TYPE;
+    StringBuilder s = new StringBuilder(String.valueOf(nodeType));
     s.append(",").append(name).append(",");
     s.append(children == null ? "0" : children.size());
     bw.write(s.toString());
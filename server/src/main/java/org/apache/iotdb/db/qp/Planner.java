@@ -103,6 +103,7 @@ public class Planner {
       case SHOW_MERGE_STATUS:
       case DELETE_PARTITION:
       case CREATE_SCHEMA_SNAPSHOT:
+      case SET_ALIGNED:
         return operator;
       case QUERY:
       case UPDATE:
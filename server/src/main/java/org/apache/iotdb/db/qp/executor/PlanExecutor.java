@@ -62,6 +62,8 @@ import org.apache.iotdb.db.conf.adapter.IoTDBConfigDynamicAdapter;
 import org.apache.iotdb.db.engine.StorageEngine;
 import org.apache.iotdb.db.engine.cache.ChunkCache;
 import org.apache.iotdb.db.engine.cache.ChunkMetadataCache;
+import org.apache.iotdb.db.engine.cache.QueryResultCache;
+import org.apache.iotdb.db.engine.cache.QueryResultCache.QueryResult;
 import org.apache.iotdb.db.engine.cache.TimeSeriesMetadataCache;
 import org.apache.iotdb.db.engine.flush.pool.FlushTaskPoolManager;
 import org.apache.iotdb.db.engine.merge.manage.MergeManager;
@@ -107,6 +109,7 @@ import org.apache.iotdb.db.qp.physical.sys.FlushPlan;
 import org.apache.iotdb.db.qp.physical.sys.LoadConfigurationPlan;
 import org.apache.iotdb.db.qp.physical.sys.MergePlan;
 import org.apache.iotdb.db.qp.physical.sys.OperateFilePlan;
+import org.apache.iotdb.db.qp.physical.sys.SetAlignedPlan;
 import org.apache.iotdb.db.qp.physical.sys.SetStorageGroupPlan;
 import org.apache.iotdb.db.qp.physical.sys.SetTTLPlan;
 import org.apache.iotdb.db.qp.physical.sys.ShowChildPathsPlan;
@@ -116,8 +119,11 @@ import org.apache.iotdb.db.qp.physical.sys.ShowTTLPlan;
 import org.apache.iotdb.db.qp.physical.sys.ShowTimeSeriesPlan;
 import org.apache.iotdb.db.qp.physical.sys.TracingPlan;
 import org.apache.iotdb.db.query.context.QueryContext;
+import org.apache.iotdb.db.query.control.TracingManager;
 import org.apache.iotdb.db.query.dataset.AlignByDeviceDataSet;
+import org.apache.iotdb.db.query.dataset.CachedResultDataSet;
 import org.apache.iotdb.db.query.dataset.ListDataSet;
+import org.apache.iotdb.db.query.dataset.ResultCachingDataSet;
 import org.apache.iotdb.db.query.dataset.ShowTimeSeriesResult;
 import org.apache.iotdb.db.query.dataset.SingleDataSet;
 import org.apache.iotdb.db.query.executor.IQueryRouter;
@@ -265,6 +271,9 @@ public class PlanExecutor implements IPlanExecutor {
       case CREATE_SCHEMA_SNAPSHOT:
         operateCreateSnapshot();
         return true;
+      case SET_ALIGNED:
+        operateSetAligned((SetAlignedPlan) plan);
+        return true;
       default:
         throw new UnsupportedOperationException(
             String.format("operation %s is not supported", plan.getOperatorType()));
@@ -284,6 +293,7 @@ public class PlanExecutor implements IPlanExecutor {
     ChunkCache.getInstance().clear();
     ChunkMetadataCache.getInstance().clear();
     TimeSeriesMetadataCache.getInstance().clear();
+    QueryResultCache.getInstance().clear();
   }
 
   private void operateCreateSnapshot() {
@@ -321,6 +331,24 @@ public class PlanExecutor implements IPlanExecutor {
       if (queryPlan.getPaths() == null || queryPlan.getPaths().isEmpty()) {
         // no time series are selected, return EmptyDataSet
         return new EmptyDataSet();
+      }
+      // the result may have been computed by an identical query over the same data
+      String planKey = QueryResultCache.getInstance().getPlanKey(queryPlan);
+      String dataVersion = null;
+      QueryResult cachedResult = null;
+      if (planKey != null) {
+        dataVersion = QueryResultCache.getInstance().getDataVersion(queryPlan, context);
+        if (dataVersion != null) {
+          cachedResult = QueryResultCache.getInstance().get(planKey, dataVersion);
+          if (IoTDBDescriptor.getInstance().getConfig().isEnablePerformanceTracing()) {
+            TracingManager.getInstance()
+                .writeResultCacheInfo(context.getQueryId(), cachedResult != null);
+          }
+        }
+      }
+
+      if (cachedResult != null) {
+        queryDataSet = new CachedResultDataSet(cachedResult);
       } else if (queryPlan instanceof GroupByTimeFillPlan) {
         GroupByTimeFillPlan groupByFillPlan = (GroupByTimeFillPlan) queryPlan;
         queryDataSet = queryRouter.groupByFill(groupByFillPlan, context);
@@ -338,6 +366,9 @@ public class PlanExecutor implements IPlanExecutor {
       } else {
         queryDataSet = queryRouter.rawDataQuery((RawDataQueryPlan) queryPlan, context);
       }
+      if (cachedResult == null && dataVersion != null) {
+        queryDataSet = new ResultCachingDataSet(queryDataSet, planKey, dataVersion);
+      }
     }
     queryDataSet.setRowLimit(queryPlan.getRowLimit());
     queryDataSet.setRowOffset(queryPlan.getRowOffset());
@@ -829,6 +860,14 @@ public class PlanExecutor implements IPlanExecutor {
     }
   }
 
+  private void operateSetAligned(SetAlignedPlan plan) throws QueryProcessException {
+    try {
+      IoTDB.metaManager.setAligned(plan.getDevice());
+    } catch (MetadataException e) {
+      throw new QueryProcessException(e);
+    }
+  }
+
   @Override
   public void update(Path path, long startTime, long endTime, String value) {
     throw new UnsupportedOperationException("update is not supported now");
@@ -62,6 +62,7 @@ import org.apache.iotdb.db.qp.logical.sys.LoadFilesOperator;
 import org.apache.iotdb.db.qp.logical.sys.MergeOperator;
 import org.apache.iotdb.db.qp.logical.sys.MoveFileOperator;
 import org.apache.iotdb.db.qp.logical.sys.RemoveFileOperator;
+import org.apache.iotdb.db.qp.logical.sys.SetAlignedOperator;
 import org.apache.iotdb.db.qp.logical.sys.SetStorageGroupOperator;
 import org.apache.iotdb.db.qp.logical.sys.SetTTLOperator;
 import org.apache.iotdb.db.qp.logical.sys.ShowChildPathsOperator;
@@ -140,6 +141,7 @@ import org.apache.iotdb.db.qp.strategy.SqlBaseParser.RootOrIdContext;
 import org.apache.iotdb.db.qp.strategy.SqlBaseParser.SelectConstElementContext;
 import org.apache.iotdb.db.qp.strategy.SqlBaseParser.SelectElementContext;
 import org.apache.iotdb.db.qp.strategy.SqlBaseParser.SelectStatementContext;
+import org.apache.iotdb.db.qp.strategy.SqlBaseParser.SetAlignedStatementContext;
 import org.apache.iotdb.db.qp.strategy.SqlBaseParser.SetColContext;
 import org.apache.iotdb.db.qp.strategy.SqlBaseParser.SetStorageGroupContext;
 import org.apache.iotdb.db.qp.strategy.SqlBaseParser.SetTTLStatementContext;
@@ -166,7 +168,6 @@ import org.apache.iotdb.db.qp.strategy.SqlBaseParser.WhereClauseContext;
 import org.apache.iotdb.db.query.executor.fill.IFill;
 import org.apache.iotdb.db.query.executor.fill.LinearFill;
 import org.apache.iotdb.db.query.executor.fill.PreviousFill;
-import org.apache.iotdb.tsfile.common.conf.TSFileDescriptor;
 import org.apache.iotdb.tsfile.common.constant.TsFileConstant;
 import org.apache.iotdb.tsfile.file.metadata.enums.CompressionType;
 import org.apache.iotdb.tsfile.file.metadata.enums.TSDataType;
@@ -709,6 +710,15 @@ public class LogicalGenerator extends SqlBaseBaseListener {
     operatorType = SQLConstant.TOK_SET;
   }
 
+  @Override
+  public void enterSetAlignedStatement(SetAlignedStatementContext ctx) {
+    super.enterSetAlignedStatement(ctx);
+    SetAlignedOperator operator = new SetAlignedOperator(SQLConstant.TOK_SET);
+    operator.setDevice(parsePrefixPath(ctx.prefixPath()).getFullPath());
+    initializedOperator = operator;
+    operatorType = SQLConstant.TOK_SET;
+  }
+
   @Override
   public void enterUnsetTTLStatement(UnsetTTLStatementContext ctx) {
     super.enterUnsetTTLStatement(ctx);
@@ -1134,7 +1144,8 @@ public class LogicalGenerator extends SqlBaseBaseListener {
     if (ctx.compressor() != null) {
       compressor = CompressionType.valueOf(ctx.compressor().getText().toUpperCase());
     } else {
-      compressor = TSFileDescriptor.getInstance().getConfig().getCompressor();
+      compressor = IoTDBDescriptor.getInstance().getConfig()
+          .getDefaultCompressor(createTimeSeriesOperator.getPath().getFullPath());
     }
     Map<String, String> props = null;
     if (ctx.property(0) != null) {
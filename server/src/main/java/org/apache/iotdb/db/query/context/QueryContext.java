@@ -19,13 +19,12 @@
 
 package org.apache.iotdb.db.query.context;
 
-import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import org.apache.iotdb.db.engine.modification.Modification;
 import org.apache.iotdb.db.engine.modification.ModificationFile;
+import org.apache.iotdb.db.engine.modification.SeriesDeletions;
 import org.apache.iotdb.tsfile.file.metadata.ChunkMetadata;
 
 /**
@@ -35,15 +34,10 @@ public class QueryContext {
 
   /**
    * The outer key is the path of a ModificationFile, the inner key in the name of a timeseries and
-   * the value is the Modifications of a timeseries in this file.
+   * the value is the Deletions of a timeseries in this file. The Deletions seen first are kept so
+   * that a query sees the same modifications of a file all along.
    */
-  private Map<String, Map<String, List<Modification>>> filePathModCache = new ConcurrentHashMap<>();
-  /**
-   * The key is the path of a ModificationFile and the value is all Modifications in this file. We
-   * use this field because each call of Modification.getModifications() return a copy of the
-   * Modifications, and we do not want it to create multiple copies within a query.
-   */
-  private Map<String, List<Modification>> fileModCache = new HashMap<>();
+  private Map<String, Map<String, SeriesDeletions>> filePathModCache = new ConcurrentHashMap<>();
 
   private long queryId;
 
@@ -61,24 +55,16 @@ public class QueryContext {
    * them from 'modFile' and put then into the cache.
    */
   public List<Modification> getPathModifications(ModificationFile modFile, String path) {
-    Map<String, List<Modification>> fileModifications =
+    return getPathDeletions(modFile, path).getModifications();
+  }
+
+  /**
+   * Find the Deletions of timeseries 'path' in 'modFile', indexed for applying them to chunks.
+   */
+  public SeriesDeletions getPathDeletions(ModificationFile modFile, String path) {
+    Map<String, SeriesDeletions> fileDeletions =
         filePathModCache.computeIfAbsent(modFile.getFilePath(), k -> new ConcurrentHashMap<>());
-    return fileModifications.computeIfAbsent(path, k -> {
-      List<Modification> allModifications = fileModCache.get(modFile.getFilePath());
-      if (allModifications == null) {
-        allModifications = (List<Modification>) modFile.getModifications();
-        fileModCache.put(modFile.getFilePath(), allModifications);
-      }
-      List<Modification> finalPathModifications = new ArrayList<>();
-      if (!allModifications.isEmpty()) {
-        allModifications.forEach(modification -> {
-          if (modification.getPathString().equals(path)) {
-            finalPathModifications.add(modification);
-          }
-        });
-      }
-      return finalPathModifications;
-    });
+    return fileDeletions.computeIfAbsent(path, modFile::getSeriesDeletions);
   }
 
   public long getQueryId() {
@@ -39,6 +39,9 @@ import org.apache.iotdb.db.exception.StorageEngineException;
 import org.apache.iotdb.db.exception.query.QueryProcessException;
 import org.apache.iotdb.db.query.context.QueryContext;
 import org.apache.iotdb.db.query.externalsort.serialize.IExternalSortFileDeserializer;
+import org.apache.iotdb.db.query.reader.series.ManagedSeriesReader;
+import org.apache.iotdb.db.query.reader.series.SeriesRawDataBatchReader;
+import org.apache.iotdb.tsfile.file.metadata.enums.TSDataType;
 import org.apache.iotdb.tsfile.read.common.Path;
 import org.apache.iotdb.tsfile.read.expression.impl.SingleSeriesExpression;
 import org.apache.iotdb.tsfile.read.filter.basic.Filter;
@@ -73,10 +76,17 @@ public class QueryResourceManager {
    * Key: query job id. Value: temporary file list used for external sorting.
    */
   private Map<Long, List<IExternalSortFileDeserializer>> externalSortFileMap;
+  /**
+   * Shares the scans of a series among concurrent raw data queries, used when shared scan is
+   * enabled.
+   */
+  private SharedSeriesScanCoordinator sharedScanCoordinator;
 
   private QueryResourceManager() {
     filePathsManager = new QueryFileManager();
     externalSortFileMap = new ConcurrentHashMap<>();
+    sharedScanCoordinator = new SharedSeriesScanCoordinator(
+        config.getSharedScanMaxBufferedBatchNum(), config.getSharedScanReplayBatchNum());
   }
 
   public static QueryResourceManager getInstance() {
@@ -132,6 +142,21 @@ public class QueryResourceManager {
     return queryDataSource;
   }
 
+  /**
+   * Create a raw data reader of a series. When shared scan is enabled, the reader may share the
+   * disk reading and decoding with other running queries of the same series and files whose time
+   * range covers timeFilter.
+   */
+  public ManagedSeriesReader getSeriesRawDataReader(Path seriesPath, Set<String> allSensors,
+      TSDataType dataType, QueryContext context, QueryDataSource dataSource, Filter timeFilter) {
+    if (config.isEnableSharedScan()) {
+      return sharedScanCoordinator.getSeriesReader(seriesPath, allSensors, dataType, context,
+          dataSource, timeFilter);
+    }
+    return new SeriesRawDataBatchReader(seriesPath, allSensors, dataType, context, dataSource,
+        timeFilter, null, null);
+  }
+
   /**
    * Whenever the jdbc request is closed normally or abnormally, this method must be invoked. All
    * query tokens created by this jdbc request must be cleared.
@@ -170,6 +195,12 @@ public class QueryResourceManager {
       }
       externalSortFileMap.remove(queryId);
     }
+    // detach the query from the scans it shares with other queries
+    try {
+      sharedScanCoordinator.endQuery(queryId);
+    } catch (IOException e) {
+      throw new StorageEngineException(e);
+    }
     // remove usage of opened file paths of current thread
     filePathsManager.removeUsedFilesForQuery(queryId);
   }
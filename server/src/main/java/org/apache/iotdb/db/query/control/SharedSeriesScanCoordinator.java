@@ -0,0 +1,174 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iotdb.db.query.control;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import org.apache.iotdb.db.engine.querycontext.QueryDataSource;
+import org.apache.iotdb.db.engine.storagegroup.TsFileResource;
+import org.apache.iotdb.db.query.context.QueryContext;
+import org.apache.iotdb.db.query.reader.series.ManagedSeriesReader;
+import org.apache.iotdb.db.query.reader.series.SeriesRawDataBatchReader;
+import org.apache.iotdb.db.query.reader.series.SharedSeriesRawDataBatchReader;
+import org.apache.iotdb.db.query.reader.series.SharedSeriesScan;
+import org.apache.iotdb.tsfile.file.metadata.enums.TSDataType;
+import org.apache.iotdb.tsfile.read.common.Path;
+import org.apache.iotdb.tsfile.read.filter.TimeFilter.TimeEq;
+import org.apache.iotdb.tsfile.read.filter.TimeFilter.TimeGt;
+import org.apache.iotdb.tsfile.read.filter.TimeFilter.TimeGtEq;
+import org.apache.iotdb.tsfile.read.filter.TimeFilter.TimeLt;
+import org.apache.iotdb.tsfile.read.filter.TimeFilter.TimeLtEq;
+import org.apache.iotdb.tsfile.read.filter.basic.Filter;
+import org.apache.iotdb.tsfile.read.filter.operator.AndFilter;
+
+/**
+ * SharedSeriesScanCoordinator lets concurrent raw data queries of a series share one
+ * SharedSeriesScan when they read the same files and the time range of a later query is covered by
+ * the time range of the scan, e.g., a dashboard opened by many users at once.
+ * <p>
+ * A scan uses the QueryDataSource of the query that started it. The files of the other queries are
+ * the same ones and are registered in QueryFileManager by those queries themselves, so the files
+ * stay readable as long as any of the queries runs. A query only joins a scan if no data of the
+ * storage group has been deleted, nor inserted into the unsealed files read, since the scan began.
+ */
+public class SharedSeriesScanCoordinator {
+
+  private final int maxBufferedBatchNum;
+  private final int replayBatchNum;
+  // the latest joinable scan of each series and files
+  private final Map<String, SharedSeriesScan> scans = new ConcurrentHashMap<>();
+  // the shared readers of each query, closed when the query ends
+  private final Map<Long, List<SharedSeriesRawDataBatchReader>> queryReaders =
+      new ConcurrentHashMap<>();
+
+  SharedSeriesScanCoordinator(int maxBufferedBatchNum, int replayBatchNum) {
+    this.maxBufferedBatchNum = maxBufferedBatchNum;
+    this.replayBatchNum = replayBatchNum;
+  }
+
+  ManagedSeriesReader getSeriesReader(Path seriesPath, Set<String> allSensors,
+      TSDataType dataType, QueryContext context, QueryDataSource dataSource, Filter timeFilter) {
+    String key = getScanKey(seriesPath, dataType, dataSource);
+    SharedSeriesScan scan = scans.get(key);
+    SharedSeriesRawDataBatchReader reader = null;
+    if (scan != null && covers(scan.getTimeFilter(), timeFilter)) {
+      reader = scan.attach(dataType, timeFilter);
+    }
+    if (reader == null) {
+      SeriesRawDataBatchReader source = new SeriesRawDataBatchReader(seriesPath, allSensors,
+          dataType, context, dataSource, timeFilter, null, null);
+      scan = new SharedSeriesScan(source, timeFilter, maxBufferedBatchNum, replayBatchNum,
+          s -> scans.remove(key, s));
+      reader = scan.attach(dataType, timeFilter);
+      scans.put(key, scan);
+    }
+    queryReaders.computeIfAbsent(context.getQueryId(), k -> new ArrayList<>()).add(reader);
+    return reader;
+  }
+
+  void endQuery(long queryId) throws IOException {
+    List<SharedSeriesRawDataBatchReader> readers = queryReaders.remove(queryId);
+    if (readers != null) {
+      for (SharedSeriesRawDataBatchReader reader : readers) {
+        reader.close();
+      }
+    }
+  }
+
+  /**
+   * The key identifies the series and the data to read. Concurrent queries of the same series
+   * normally get the same files unless a flush or a merge happens between them. A deletion in the
+   * storage group changes the key, and so does an insertion if the data includes unsealed files,
+   * whose memory tables are copied when the query starts.
+   */
+  static String getScanKey(Path seriesPath, TSDataType dataType, QueryDataSource dataSource) {
+    StringBuilder builder = new StringBuilder(seriesPath.getFullPath()).append(':')
+        .append(dataType);
+    boolean hasUnsealedFile = appendResources(builder.append("|seq"),
+        dataSource.getSeqResources());
+    hasUnsealedFile = appendResources(builder.append("|unseq"), dataSource.getUnseqResources())
+        || hasUnsealedFile;
+    builder.append("|d").append(dataSource.getDeletionVersion());
+    if (hasUnsealedFile) {
+      builder.append("|i").append(dataSource.getInsertVersion());
+    }
+    return builder.toString();
+  }
+
+  /**
+   * @return whether any of the resources is unsealed
+   */
+  private static boolean appendResources(StringBuilder builder, List<TsFileResource> resources) {
+    boolean hasUnsealedFile = false;
+    for (TsFileResource resource : resources) {
+      builder.append(',').append(resource.getTsFilePath());
+      if (!resource.isClosed()) {
+        builder.append('*');
+        hasUnsealedFile = true;
+      }
+    }
+    return hasUnsealedFile;
+  }
+
+  /**
+   * @return whether all data selected by readerTimeFilter is selected by scanTimeFilter
+   */
+  private boolean covers(Filter scanTimeFilter, Filter readerTimeFilter) {
+    if (scanTimeFilter == null || Objects.equals(scanTimeFilter, readerTimeFilter)) {
+      return true;
+    }
+    long[] interval = getTimeInterval(readerTimeFilter);
+    return interval != null && interval[0] <= interval[1]
+        && scanTimeFilter.containStartEndTime(interval[0], interval[1]);
+  }
+
+  /**
+   * @return the [start, end] interval selected by a time filter made of comparisons and AND, or
+   * null if the filter is not such a filter
+   */
+  private long[] getTimeInterval(Filter timeFilter) {
+    if (timeFilter instanceof AndFilter) {
+      long[] left = getTimeInterval(((AndFilter) timeFilter).getLeft());
+      long[] right = getTimeInterval(((AndFilter) timeFilter).getRight());
+      if (left == null || right == null) {
+        return null;
+      }
+      return new long[]{Math.max(left[0], right[0]), Math.min(left[1], right[1])};
+    } else if (timeFilter instanceof TimeGt) {
+      long time = (Long) ((TimeGt) timeFilter).getValue();
+      return time == Long.MAX_VALUE ? null : new long[]{time + 1, Long.MAX_VALUE};
+    } else if (timeFilter instanceof TimeGtEq) {
+      return new long[]{(Long) ((TimeGtEq) timeFilter).getValue(), Long.MAX_VALUE};
+    } else if (timeFilter instanceof TimeLt) {
+      long time = (Long) ((TimeLt) timeFilter).getValue();
+      return time == Long.MIN_VALUE ? null : new long[]{Long.MIN_VALUE, time - 1};
+    } else if (timeFilter instanceof TimeLtEq) {
+      return new long[]{Long.MIN_VALUE, (Long) ((TimeLtEq) timeFilter).getValue()};
+    } else if (timeFilter instanceof TimeEq) {
+      long time = (Long) ((TimeEq) timeFilter).getValue();
+      return new long[]{time, time};
+    }
+    return null;
+  }
+}
@@ -113,6 +113,13 @@ public class TracingManager {
     writer.write(builder.toString());
   }
 
+  public void writeResultCacheInfo(long queryId, boolean isHit) throws IOException {
+    StringBuilder builder = new StringBuilder("Query Id: ").append(queryId)
+        .append(" - Result cache: ").append(isHit ? "hit" : "miss")
+        .append("\n");
+    writer.write(builder.toString());
+  }
+
   public void writeEndTime(long queryId) throws IOException {
     StringBuilder builder = new StringBuilder("Query Id: ").append(queryId)
         .append(" - End time: ")
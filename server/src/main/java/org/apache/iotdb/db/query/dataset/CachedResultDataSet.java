@@ -0,0 +1,50 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iotdb.db.query.dataset;
+
+import java.util.List;
+import org.apache.iotdb.db.engine.cache.QueryResultCache;
+import org.apache.iotdb.db.engine.cache.QueryResultCache.QueryResult;
+import org.apache.iotdb.tsfile.read.common.RowRecord;
+import org.apache.iotdb.tsfile.read.query.dataset.QueryDataSet;
+
+/**
+ * Returns a result from QueryResultCache. The records are copied so that the cached ones are not
+ * modified by the consumers, e.g., by watermark encoding.
+ */
+public class CachedResultDataSet extends QueryDataSet {
+
+  private final List<RowRecord> records;
+  private int index = 0;
+
+  public CachedResultDataSet(QueryResult result) {
+    super(result.getPaths(), result.getDataTypes());
+    this.records = result.getRecords();
+  }
+
+  @Override
+  protected boolean hasNextWithoutConstraint() {
+    return index < records.size();
+  }
+
+  @Override
+  protected RowRecord nextWithoutConstraint() {
+    return QueryResultCache.copyRecord(records.get(index++));
+  }
+}
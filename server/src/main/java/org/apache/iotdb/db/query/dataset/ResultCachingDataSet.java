@@ -0,0 +1,77 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iotdb.db.query.dataset;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import org.apache.iotdb.db.engine.cache.QueryResultCache;
+import org.apache.iotdb.db.engine.cache.QueryResultCache.QueryResult;
+import org.apache.iotdb.tsfile.read.common.RowRecord;
+import org.apache.iotdb.tsfile.read.query.dataset.QueryDataSet;
+
+/**
+ * Wraps the data set of a query and puts the result into QueryResultCache once all records are
+ * read. The result is not cached if it is too large or is not read to the end.
+ */
+public class ResultCachingDataSet extends QueryDataSet {
+
+  private final QueryDataSet dataSet;
+  private final String planKey;
+  private final String dataVersion;
+
+  // null once the result turns out not to be cached
+  private List<RowRecord> records = new ArrayList<>();
+  private long resultSize = 0;
+
+  public ResultCachingDataSet(QueryDataSet dataSet, String planKey, String dataVersion) {
+    super(dataSet.getPaths(), dataSet.getDataTypes());
+    this.dataSet = dataSet;
+    this.planKey = planKey;
+    this.dataVersion = dataVersion;
+  }
+
+  @Override
+  protected boolean hasNextWithoutConstraint() throws IOException {
+    if (dataSet.hasNext()) {
+      return true;
+    }
+    if (records != null) {
+      QueryResultCache.getInstance().put(planKey, dataVersion,
+          new QueryResult(getPaths(), getDataTypes(), records, resultSize));
+      records = null;
+    }
+    return false;
+  }
+
+  @Override
+  protected RowRecord nextWithoutConstraint() throws IOException {
+    RowRecord record = dataSet.next();
+    if (records != null) {
+      resultSize += QueryResultCache.estimateRecordSize(record);
+      if (QueryResultCache.getInstance().isCacheable(resultSize)) {
+        // copy before the consumers modify it
+        records.add(QueryResultCache.copyRecord(record));
+      } else {
+        records = null;
+      }
+    }
+    return record;
+  }
+}
@@ -136,6 +136,33 @@ public class LocalGroupByExecutor implements GroupByExecutor {
     }
   }
 
+  private void calcFromSubStatistics(List<Statistics> subStatistics, long curStartTime,
+      long curEndTime) throws QueryProcessException {
+    for (Statistics subStatistic : subStatistics) {
+      if (subStatistic.getStartTime() >= curEndTime) {
+        break;
+      }
+      // the ones before the time range have been calculated by the previous time ranges
+      if (subStatistic.getStartTime() >= curStartTime) {
+        calcFromStatistics(subStatistic);
+      }
+    }
+  }
+
+  private boolean alignedWithTimeRange(List<Statistics> subStatistics, long curStartTime,
+      long curEndTime) {
+    for (Statistics subStatistic : subStatistics) {
+      if (subStatistic.getStartTime() >= curEndTime) {
+        break;
+      }
+      if (subStatistic.getStartTime() < curStartTime && subStatistic.getEndTime() >= curStartTime
+          || subStatistic.getEndTime() >= curEndTime) {
+        return false;
+      }
+    }
+    return true;
+  }
+
   @Override
   public List<AggregateResult> calcResult(long curStartTime, long curEndTime)
       throws IOException, QueryProcessException {
@@ -224,6 +251,21 @@ public class LocalGroupByExecutor implements GroupByExecutor {
           }
           continue;
         }
+        // can use sub-page statistics if none of them crosses the boundaries of the time range
+        List<Statistics> subStatistics = reader.currentPageSubStatistics();
+        if (subStatistics != null && reader.canUseCurrentPageStatistics()
+            && alignedWithTimeRange(subStatistics, curStartTime, curEndTime)) {
+          calcFromSubStatistics(subStatistics, curStartTime, curEndTime);
+          if (pageStatistics.getEndTime() >= curEndTime) {
+            // the rest of the page belongs to the next time ranges, keep it
+            return true;
+          }
+          reader.skipCurrentPage();
+          if (isEndCalc()) {
+            return true;
+          }
+          continue;
+        }
       }
       // calc from page data
       BatchData batchData = reader.nextPage();
@@ -32,7 +32,6 @@ import org.apache.iotdb.tsfile.file.metadata.TimeseriesMetadata;
 import org.apache.iotdb.tsfile.file.metadata.enums.TSDataType;
 import org.apache.iotdb.tsfile.file.metadata.statistics.Statistics;
 import org.apache.iotdb.tsfile.read.TimeValuePair;
-import org.apache.iotdb.tsfile.read.common.BatchData;
 import org.apache.iotdb.tsfile.read.common.Path;
 import org.apache.iotdb.tsfile.read.filter.basic.Filter;
 import org.apache.iotdb.tsfile.read.reader.IPageReader;
@@ -166,8 +165,7 @@ public class LastPointReader {
         lastPoint = constructLastPair(
             pageStatistics.getEndTime(), pageStatistics.getLastValue(), dataType);
       } else {
-        BatchData batchData = pageReader.getAllSatisfiedPageData();
-        lastPoint = batchData.getLastPairBeforeOrEqualTimestamp(queryTime);
+        lastPoint = pageReader.getLastPairBeforeOrEqualTimestamp(queryTime);
       }
       if (lastPoint.getValue() != null) {
         return lastPoint;
@@ -19,7 +19,7 @@
 package org.apache.iotdb.db.query.reader.chunk.metadata;
 
 import org.apache.iotdb.db.engine.cache.ChunkMetadataCache;
-import org.apache.iotdb.db.engine.modification.Modification;
+import org.apache.iotdb.db.engine.modification.SeriesDeletions;
 import org.apache.iotdb.db.engine.storagegroup.TsFileResource;
 import org.apache.iotdb.db.query.context.QueryContext;
 import org.apache.iotdb.db.query.reader.chunk.DiskChunkLoader;
@@ -76,12 +76,9 @@ public class DiskChunkMetadataLoader implements IChunkMetadataLoader {
 
   public static void setDiskChunkLoader(List<ChunkMetadata> chunkMetadataList,
       TsFileResource resource, Path seriesPath, QueryContext context) {
-    List<Modification> pathModifications =
-        context.getPathModifications(resource.getModFile(), seriesPath.getFullPath());
-
-    if (!pathModifications.isEmpty()) {
-      QueryUtils.modifyChunkMetaData(chunkMetadataList, pathModifications);
-    }
+    SeriesDeletions pathDeletions =
+        context.getPathDeletions(resource.getModFile(), seriesPath.getFullPath());
+    QueryUtils.modifyChunkMetaData(chunkMetadataList, pathDeletions);
 
     for (ChunkMetadata data : chunkMetadataList) {
       data.setChunkLoader(new DiskChunkLoader(resource));
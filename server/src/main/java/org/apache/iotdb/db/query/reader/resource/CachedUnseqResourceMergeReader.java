@@ -19,7 +19,6 @@
 
 package org.apache.iotdb.db.query.reader.resource;
 
-import org.apache.iotdb.db.query.reader.chunk.ChunkDataIterator;
 import org.apache.iotdb.db.query.reader.universal.CachedPriorityMergeReader;
 import org.apache.iotdb.tsfile.file.metadata.enums.TSDataType;
 import org.apache.iotdb.tsfile.read.common.Chunk;
@@ -36,7 +35,7 @@ public class CachedUnseqResourceMergeReader extends CachedPriorityMergeReader {
     int priorityValue = 1;
     for (Chunk chunk : chunks) {
       ChunkReader chunkReader = new ChunkReader(chunk, null);
-      addReader(new ChunkDataIterator(chunkReader), priorityValue++);
+      addReader(chunkReader, priorityValue++);
     }
   }
 }
@@ -22,6 +22,7 @@ import org.apache.iotdb.tsfile.file.metadata.statistics.Statistics;
 import org.apache.iotdb.tsfile.read.common.BatchData;
 
 import java.io.IOException;
+import java.util.List;
 
 public interface IAggregateReader {
 
@@ -53,6 +54,14 @@ public interface IAggregateReader {
    */
   Statistics currentPageStatistics() throws IOException;
 
+  /**
+   * only be used without value filter
+   *
+   * @return the statistics of the points within each aligned time interval of current page, or
+   * null if the page does not have them
+   */
+  List<Statistics> currentPageSubStatistics() throws IOException;
+
   void skipCurrentPage();
 
   BatchData nextPage() throws IOException;
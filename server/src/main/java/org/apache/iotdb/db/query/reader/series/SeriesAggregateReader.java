@@ -28,6 +28,7 @@ import org.apache.iotdb.tsfile.read.common.Path;
 import org.apache.iotdb.tsfile.read.filter.basic.Filter;
 
 import java.io.IOException;
+import java.util.List;
 import java.util.Set;
 
 
@@ -106,6 +107,11 @@ public class SeriesAggregateReader implements IAggregateReader {
     return seriesReader.currentPageStatistics();
   }
 
+  @Override
+  public List<Statistics> currentPageSubStatistics() {
+    return seriesReader.currentPageSubStatistics();
+  }
+
   @Override
   public void skipCurrentPage() {
     seriesReader.skipCurrentPage();
@@ -39,7 +39,6 @@ import org.apache.iotdb.tsfile.file.metadata.ChunkMetadata;
 import org.apache.iotdb.tsfile.file.metadata.TimeseriesMetadata;
 import org.apache.iotdb.tsfile.file.metadata.enums.TSDataType;
 import org.apache.iotdb.tsfile.file.metadata.statistics.Statistics;
-import org.apache.iotdb.tsfile.read.TimeValuePair;
 import org.apache.iotdb.tsfile.read.common.BatchData;
 import org.apache.iotdb.tsfile.read.common.Path;
 import org.apache.iotdb.tsfile.read.filter.basic.Filter;
@@ -446,6 +445,13 @@ public class SeriesReader {
     return firstPageReader.getStatistics();
   }
 
+  List<Statistics> currentPageSubStatistics() {
+    if (firstPageReader == null) {
+      return null;
+    }
+    return firstPageReader.getSubStatistics();
+  }
+
   boolean currentPageModified() throws IOException {
     if (firstPageReader == null) {
       throw new IOException("no first page");
@@ -508,29 +514,23 @@ public class SeriesReader {
           /*
            * get current first point in mergeReader, this maybe overlapped latter
            */
-          TimeValuePair timeValuePair = mergeReader.currentTimeValuePair();
+          long currentTime = mergeReader.currentTime();
 
-          if (timeValuePair.getTimestamp() > currentPageEndTime) {
+          if (currentTime > currentPageEndTime) {
             break;
           }
 
-          unpackAllOverlappedTsFilesToTimeSeriesMetadata(timeValuePair.getTimestamp());
-          unpackAllOverlappedTimeSeriesMetadataToCachedChunkMetadata(
-              timeValuePair.getTimestamp(), false);
-          unpackAllOverlappedChunkMetadataToCachedPageReaders(timeValuePair.getTimestamp(), false);
-          unpackAllOverlappedCachedPageReadersToMergeReader(timeValuePair.getTimestamp());
+          unpackAllOverlappedTsFilesToTimeSeriesMetadata(currentTime);
+          unpackAllOverlappedTimeSeriesMetadataToCachedChunkMetadata(currentTime, false);
+          unpackAllOverlappedChunkMetadataToCachedPageReaders(currentTime, false);
+          unpackAllOverlappedCachedPageReadersToMergeReader(currentTime);
 
           /*
-           * get the latest first point in mergeReader
+           * nothing else can be put into mergeReader before the start time of the first data not
+           * unpacked yet, so merge the points till then in one batch
            */
-          timeValuePair = mergeReader.nextTimeValuePair();
-
-          if (valueFilter == null
-              || valueFilter.satisfy(
-              timeValuePair.getTimestamp(), timeValuePair.getValue().getValue())) {
-            cachedBatchData.putAnObject(
-                timeValuePair.getTimestamp(), timeValuePair.getValue().getValue());
-          }
+          long batchEndTime = Math.min(currentPageEndTime, firstNotUnpackedStartTime() - 1);
+          mergeReader.nextBatch(cachedBatchData, batchEndTime, Integer.MAX_VALUE, valueFilter);
         }
         hasCachedNextOverlappedPage = cachedBatchData.hasCurrent();
         /*
@@ -588,11 +588,48 @@ public class SeriesReader {
 
   private void putPageReaderToMergeReader(VersionPageReader pageReader) throws IOException {
     mergeReader.addReader(
-        pageReader.getAllSatisfiedPageData().getBatchDataIterator(),
+        pageReader.getAllSatisfiedPageData(),
         pageReader.version,
         pageReader.getEndTime());
   }
 
+  /**
+   * @return the smallest start time of the files, TimeSeriesMetadata, chunks and pages that are
+   * not put into mergeReader yet, or Long.MAX_VALUE if there are none
+   */
+  private long firstNotUnpackedStartTime() {
+    long startTime = Long.MAX_VALUE;
+    if (!seqFileResource.isEmpty()) {
+      startTime = Math.min(startTime, seqFileResource.get(0).getStartTime(seriesPath.getDevice()));
+    }
+    if (!unseqFileResource.isEmpty()) {
+      startTime = Math
+          .min(startTime, unseqFileResource.get(0).getStartTime(seriesPath.getDevice()));
+    }
+    if (firstTimeSeriesMetadata != null) {
+      startTime = Math.min(startTime, firstTimeSeriesMetadata.getStatistics().getStartTime());
+    }
+    if (!seqTimeSeriesMetadata.isEmpty()) {
+      startTime = Math.min(startTime, seqTimeSeriesMetadata.get(0).getStatistics().getStartTime());
+    }
+    if (!unSeqTimeSeriesMetadata.isEmpty()) {
+      startTime = Math.min(startTime, unSeqTimeSeriesMetadata.peek().getStatistics().getStartTime());
+    }
+    if (firstChunkMetadata != null) {
+      startTime = Math.min(startTime, firstChunkMetadata.getStartTime());
+    }
+    if (!cachedChunkMetadata.isEmpty()) {
+      startTime = Math.min(startTime, cachedChunkMetadata.peek().getStartTime());
+    }
+    if (firstPageReader != null) {
+      startTime = Math.min(startTime, firstPageReader.getStartTime());
+    }
+    if (!cachedPageReaders.isEmpty()) {
+      startTime = Math.min(startTime, cachedPageReaders.peek().getStartTime());
+    }
+    return startTime;
+  }
+
   private BatchData nextOverlappedPage() throws IOException {
     if (hasCachedNextOverlappedPage || hasNextOverlappedPage()) {
       hasCachedNextOverlappedPage = false;
@@ -738,6 +775,10 @@ public class SeriesReader {
       return data.getStatistics();
     }
 
+    List<Statistics> getSubStatistics() {
+      return data.getSubStatistics();
+    }
+
     long getStartTime() {
       return data.getStatistics().getStartTime();
     }
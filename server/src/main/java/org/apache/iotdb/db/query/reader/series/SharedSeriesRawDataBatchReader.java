@@ -0,0 +1,150 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iotdb.db.query.reader.series;
+
+import java.io.IOException;
+import org.apache.iotdb.tsfile.exception.write.UnSupportedDataTypeException;
+import org.apache.iotdb.tsfile.file.metadata.enums.TSDataType;
+import org.apache.iotdb.tsfile.read.common.BatchData;
+import org.apache.iotdb.tsfile.read.filter.basic.Filter;
+
+/**
+ * A reader of a SharedSeriesScan. Each reader gets its own copy of the batches of the scan, with
+ * the points not satisfying its own time filter removed.
+ */
+public class SharedSeriesRawDataBatchReader implements ManagedSeriesReader {
+
+  private final SharedSeriesScan scan;
+  private final TSDataType dataType;
+  // null if the time filter of the scan is enough
+  private final Filter timeFilter;
+
+  // the index of the next batch to read in the scan, guarded by the scan
+  int position = 0;
+
+  private boolean hasRemaining;
+  private boolean managedByQueryManager;
+
+  private BatchData batchData;
+  private boolean hasCachedBatchData = false;
+  private volatile boolean closed = false;
+
+  SharedSeriesRawDataBatchReader(SharedSeriesScan scan, TSDataType dataType, Filter timeFilter) {
+    this.scan = scan;
+    this.dataType = dataType;
+    this.timeFilter = timeFilter;
+  }
+
+  @Override
+  public boolean hasNextBatch() throws IOException {
+    if (hasCachedBatchData) {
+      return true;
+    }
+    while (!closed) {
+      BatchData sharedBatchData = scan.nextBatch(this);
+      if (sharedBatchData == null) {
+        close();
+        break;
+      }
+      batchData = copy(sharedBatchData);
+      if (batchData.hasCurrent()) {
+        hasCachedBatchData = true;
+        return true;
+      }
+    }
+    return false;
+  }
+
+  @Override
+  public BatchData nextBatch() throws IOException {
+    if (hasCachedBatchData || hasNextBatch()) {
+      hasCachedBatchData = false;
+      return batchData;
+    }
+    throw new IOException("no next batch");
+  }
+
+  private BatchData copy(BatchData sharedBatchData) {
+    BatchData result = new BatchData(dataType);
+    int length = sharedBatchData.length();
+    long minTime = sharedBatchData.getTimeByIndex(0);
+    long maxTime = sharedBatchData.getMaxTimestamp();
+    if (timeFilter != null && !timeFilter.satisfyStartEndTime(minTime, maxTime)) {
+      return result;
+    }
+    boolean checkTime = timeFilter != null && !timeFilter.containStartEndTime(minTime, maxTime);
+    for (int i = 0; i < length; i++) {
+      long time = sharedBatchData.getTimeByIndex(i);
+      if (checkTime && !timeFilter.satisfy(time, null)) {
+        continue;
+      }
+      switch (dataType) {
+        case BOOLEAN:
+          result.putBoolean(time, sharedBatchData.getBooleanByIndex(i));
+          break;
+        case INT32:
+          result.putInt(time, sharedBatchData.getIntByIndex(i));
+          break;
+        case INT64:
+          result.putLong(time, sharedBatchData.getLongByIndex(i));
+          break;
+        case FLOAT:
+          result.putFloat(time, sharedBatchData.getFloatByIndex(i));
+          break;
+        case DOUBLE:
+          result.putDouble(time, sharedBatchData.getDoubleByIndex(i));
+          break;
+        case TEXT:
+          result.putBinary(time, sharedBatchData.getBinaryByIndex(i));
+          break;
+        default:
+          throw new UnSupportedDataTypeException(String.valueOf(dataType));
+      }
+    }
+    return result;
+  }
+
+  @Override
+  public void close() throws IOException {
+    if (!closed) {
+      closed = true;
+      scan.detach(this);
+    }
+  }
+
+  @Override
+  public boolean isManagedByQueryManager() {
+    return managedByQueryManager;
+  }
+
+  @Override
+  public void setManagedByQueryManager(boolean managedByQueryManager) {
+    this.managedByQueryManager = managedByQueryManager;
+  }
+
+  @Override
+  public boolean hasRemaining() {
+    return hasRemaining;
+  }
+
+  @Override
+  public void setHasRemaining(boolean hasRemaining) {
+    this.hasRemaining = hasRemaining;
+  }
+}
@@ -0,0 +1,177 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iotdb.db.query.reader.series;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Consumer;
+import org.apache.iotdb.tsfile.file.metadata.enums.TSDataType;
+import org.apache.iotdb.tsfile.read.common.BatchData;
+import org.apache.iotdb.tsfile.read.filter.basic.Filter;
+import org.apache.iotdb.tsfile.read.reader.IBatchReader;
+
+/**
+ * SharedSeriesScan reads a series once with a single source reader and hands the decoded batches
+ * to every SharedSeriesRawDataBatchReader attached to it, so concurrent queries of the same data do
+ * not repeat the disk reading and decoding.
+ * <p>
+ * The first replayBatchNum batches are kept so that a reader attached in the middle of the scan can
+ * catch up from the first batch, and any other batch is dropped once every attached reader has read
+ * it. The scan stops accepting readers when every reader has gone past the replay window, when more
+ * than maxBufferedBatchNum batches are buffered because the readers read at different speeds, or
+ * when the source is exhausted.
+ */
+public class SharedSeriesScan {
+
+  private final IBatchReader source;
+  private final Filter timeFilter;
+  private final int maxBufferedBatchNum;
+  private final int replayBatchNum;
+  // called once, outside the lock of the scan, when the scan stops accepting readers
+  private final Consumer<SharedSeriesScan> onUnjoinable;
+
+  private final List<BatchData> batches = new ArrayList<>();
+  // the index of batches.get(0) among all batches of the scan
+  private int firstBatchIndex = 0;
+  private final List<SharedSeriesRawDataBatchReader> readers = new ArrayList<>();
+  private boolean joinable = true;
+  private boolean finished = false;
+
+  public SharedSeriesScan(IBatchReader source, Filter timeFilter, int maxBufferedBatchNum,
+      int replayBatchNum, Consumer<SharedSeriesScan> onUnjoinable) {
+    this.source = source;
+    this.timeFilter = timeFilter;
+    this.maxBufferedBatchNum = maxBufferedBatchNum;
+    this.replayBatchNum = replayBatchNum;
+    this.onUnjoinable = onUnjoinable;
+  }
+
+  public Filter getTimeFilter() {
+    return timeFilter;
+  }
+
+  public synchronized boolean isJoinable() {
+    return joinable;
+  }
+
+  synchronized int getBufferedBatchNum() {
+    return batches.size();
+  }
+
+  /**
+   * @param readerTimeFilter the time filter of the new reader, it must select a subset of the data
+   *                         selected by the time filter of the scan
+   * @return a reader of this scan starting from the first batch, or null if the scan no longer
+   * accepts readers
+   */
+  public synchronized SharedSeriesRawDataBatchReader attach(TSDataType dataType,
+      Filter readerTimeFilter) {
+    if (!joinable) {
+      return null;
+    }
+    SharedSeriesRawDataBatchReader reader = new SharedSeriesRawDataBatchReader(this, dataType,
+        Objects.equals(readerTimeFilter, timeFilter) ? null : readerTimeFilter);
+    readers.add(reader);
+    return reader;
+  }
+
+  /**
+   * @return the next batch of the reader, or null if the scan is finished or the reader is detached
+   */
+  BatchData nextBatch(SharedSeriesRawDataBatchReader reader) throws IOException {
+    BatchData batchData;
+    boolean becomeUnjoinable;
+    synchronized (this) {
+      boolean wasJoinable = joinable;
+      batchData = readers.contains(reader) ? fetch(reader) : null;
+      becomeUnjoinable = wasJoinable && !joinable;
+    }
+    if (becomeUnjoinable) {
+      onUnjoinable.accept(this);
+    }
+    return batchData;
+  }
+
+  private BatchData fetch(SharedSeriesRawDataBatchReader reader) throws IOException {
+    int index = reader.position;
+    while (index >= firstBatchIndex + batches.size()) {
+      if (finished || !source.hasNextBatch()) {
+        finished = true;
+        joinable = false;
+        return null;
+      }
+      BatchData batchData = source.nextBatch();
+      if (batchData != null && !batchData.isEmpty()) {
+        batches.add(batchData);
+        if (batches.size() > maxBufferedBatchNum) {
+          joinable = false;
+        }
+      }
+    }
+    BatchData batchData = batches.get(index - firstBatchIndex);
+    reader.position++;
+    dropReadBatches();
+    return batchData;
+  }
+
+  void detach(SharedSeriesRawDataBatchReader reader) throws IOException {
+    boolean becomeUnjoinable;
+    synchronized (this) {
+      if (!readers.remove(reader)) {
+        return;
+      }
+      boolean wasJoinable = joinable;
+      if (readers.isEmpty()) {
+        joinable = false;
+        batches.clear();
+        source.close();
+      } else {
+        dropReadBatches();
+      }
+      becomeUnjoinable = wasJoinable && !joinable;
+    }
+    if (becomeUnjoinable) {
+      onUnjoinable.accept(this);
+    }
+  }
+
+  /**
+   * Drop the batches read by all readers. The batches in the replay window are kept while the scan
+   * is joinable, and the scan stops accepting readers once all readers have gone past the window.
+   */
+  private void dropReadBatches() {
+    int minPosition = Integer.MAX_VALUE;
+    for (SharedSeriesRawDataBatchReader reader : readers) {
+      minPosition = Math.min(minPosition, reader.position);
+    }
+    if (joinable) {
+      if (minPosition <= replayBatchNum) {
+        return;
+      }
+      joinable = false;
+    }
+    int dropNum = Math.min(minPosition - firstBatchIndex, batches.size());
+    if (dropNum > 0) {
+      batches.subList(0, dropNum).clear();
+      firstBatchIndex += dropNum;
+    }
+  }
+}
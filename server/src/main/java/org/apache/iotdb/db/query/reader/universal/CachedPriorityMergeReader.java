@@ -23,21 +23,23 @@ import java.io.IOException;
 import org.apache.iotdb.tsfile.read.TimeValuePair;
 import org.apache.iotdb.db.utils.TimeValuePairUtils;
 import org.apache.iotdb.tsfile.file.metadata.enums.TSDataType;
+import org.apache.iotdb.tsfile.read.common.BatchData;
 
 /**
- * CachedPriorityMergeReader use a cache to reduce unnecessary heap updates and increase locality.
+ * CachedPriorityMergeReader merges a batch of points at a time to reduce unnecessary tree updates
+ * and increase locality.
  */
 public class CachedPriorityMergeReader extends PriorityMergeReader {
 
   private static final int CACHE_SIZE = 100;
 
+  private final TSDataType dataType;
   private TimeValuePair[] timeValuePairCache = new TimeValuePair[CACHE_SIZE];
   private int cacheLimit = 0;
   private int cacheIdx = 0;
 
-  private Long lastTimestamp = null;
-
   public CachedPriorityMergeReader(TSDataType dataType) {
+    this.dataType = dataType;
     for (int i = 0; i < CACHE_SIZE; i++) {
       timeValuePairCache[i] = TimeValuePairUtils.getEmptyTimeValuePair(dataType);
     }
@@ -45,32 +47,19 @@ public class CachedPriorityMergeReader extends PriorityMergeReader {
 
   @Override
   public boolean hasNextTimeValuePair() {
-    return cacheIdx < cacheLimit || !heap.isEmpty();
+    return cacheIdx < cacheLimit || super.hasNextTimeValuePair();
   }
 
   private void fetch() throws IOException {
-    cacheLimit = 0;
+    BatchData batchData = new BatchData(dataType);
+    cacheLimit = nextBatch(batchData, Long.MAX_VALUE, CACHE_SIZE, null);
     cacheIdx = 0;
-    while (!heap.isEmpty() && cacheLimit < CACHE_SIZE) {
-      Element top = heap.peek();
-      if (lastTimestamp == null || top.currTime() != lastTimestamp) {
-        TimeValuePairUtils.setTimeValuePair(top.timeValuePair, timeValuePairCache[cacheLimit++]);
-        lastTimestamp = top.currTime();
-      }
-      // remove duplicates
-      while (heap.peek() != null && heap.peek().currTime() == lastTimestamp) {
-        top = heap.poll();
-        if (top.hasNext()) {
-          top.next();
-          heap.add(top);
-        } else {
-          top.close();
-        }
-      }
+    for (int i = 0; i < cacheLimit; i++) {
+      TimeValuePairUtils.setCurrentTimeValuePair(batchData, timeValuePairCache[i]);
+      batchData.next();
     }
   }
 
-
   @Override
   public TimeValuePair nextTimeValuePair() throws IOException {
     TimeValuePair ret;
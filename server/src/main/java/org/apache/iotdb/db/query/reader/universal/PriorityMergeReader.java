@@ -18,25 +18,41 @@
  */
 package org.apache.iotdb.db.query.reader.universal;
 
+import org.apache.iotdb.db.utils.TimeValuePairUtils;
+import org.apache.iotdb.tsfile.exception.write.UnSupportedDataTypeException;
+import org.apache.iotdb.tsfile.read.common.BatchData;
+import org.apache.iotdb.tsfile.read.filter.basic.Filter;
+import org.apache.iotdb.tsfile.read.reader.IChunkReader;
 import org.apache.iotdb.tsfile.read.reader.IPointReader;
 import org.apache.iotdb.tsfile.read.TimeValuePair;
 import java.io.IOException;
+import java.util.Arrays;
 import java.util.List;
-import java.util.PriorityQueue;
 
 /**
  * This class implements {@link IPointReader} for data sources with different priorities.
+ * <p>
+ * The sources are the leaves of a loser tree: tree[0] holds the index of the source with the
+ * smallest current timestamp (the highest priority wins a tie), every internal node holds the loser
+ * of the match played there. Moving the winner forward only replays the matches on its path to the
+ * root, so a point costs at most log(k) comparisons and no object is created or re-inserted.
+ * <p>
+ * Sources backed by {@link BatchData} are read through their primitive arrays, and
+ * {@link #nextBatch(BatchData, long, int, Filter)} copies a run of the winner in one go as long
+ * as it does not reach the current point of any other source.
  */
 public class PriorityMergeReader implements IPointReader {
 
+  private static final int INITIAL_CAPACITY = 8;
+
   // largest end time of all added readers
   private long currentLargestEndTime;
 
-  PriorityQueue<Element> heap = new PriorityQueue<>((o1, o2) -> {
-    int timeCompare = Long.compare(o1.timeValuePair.getTimestamp(),
-        o2.timeValuePair.getTimestamp());
-    return timeCompare != 0 ? timeCompare : Long.compare(o2.priority, o1.priority);
-  });
+  // leaves of the loser tree, the i-th leaf is at position (elementNum + i) of the tree
+  private Element[] elements = new Element[INITIAL_CAPACITY];
+  private int elementNum;
+  // tree[0] is the winner, tree[1] ~ tree[elementNum - 1] are the losers of the internal nodes
+  private int[] tree = new int[INITIAL_CAPACITY];
 
   public PriorityMergeReader() {
   }
@@ -50,7 +66,7 @@ public class PriorityMergeReader implements IPointReader {
 
   public void addReader(IPointReader reader, long priority) throws IOException {
     if (reader.hasNextTimeValuePair()) {
-      heap.add(new Element(reader, reader.nextTimeValuePair(), priority));
+      addElement(new PointElement(reader, reader.nextTimeValuePair(), priority));
     } else {
       reader.close();
     }
@@ -58,107 +74,469 @@ public class PriorityMergeReader implements IPointReader {
 
   public void addReader(IPointReader reader, long priority, long endTime) throws IOException {
     if (reader.hasNextTimeValuePair()) {
-      heap.add(new Element(reader, reader.nextTimeValuePair(), priority));
+      addElement(new PointElement(reader, reader.nextTimeValuePair(), priority));
       currentLargestEndTime = Math.max(currentLargestEndTime, endTime);
     } else {
       reader.close();
     }
   }
 
+  /**
+   * add the remaining points of a batch, which is read directly without being wrapped as points.
+   */
+  public void addReader(BatchData batchData, long priority, long endTime) {
+    if (batchData.hasCurrent()) {
+      addElement(new BatchElement(batchData, null, priority));
+      currentLargestEndTime = Math.max(currentLargestEndTime, endTime);
+    }
+  }
+
+  /**
+   * add all satisfied pages of a chunk, the pages are decoded one by one when they are reached.
+   */
+  public void addReader(IChunkReader chunkReader, long priority) throws IOException {
+    BatchElement element = new BatchElement(null, chunkReader, priority);
+    if (element.loadNextBatch()) {
+      addElement(element);
+    } else {
+      chunkReader.close();
+    }
+  }
+
   public long getCurrentLargestEndTime() {
     return currentLargestEndTime;
   }
 
   @Override
   public boolean hasNextTimeValuePair() {
-    return !heap.isEmpty();
+    return elementNum > 0 && elements[tree[0]].hasCurrent();
   }
 
   @Override
   public TimeValuePair nextTimeValuePair() throws IOException {
-    Element top = heap.poll();
-    TimeValuePair ret = top.timeValuePair;
-    TimeValuePair topNext = null;
-    if (top.hasNext()) {
-      top.next();
-      topNext = top.currPair();
-    }
-    long topNextTime = topNext == null ? Long.MAX_VALUE : topNext.getTimestamp();
-    updateHeap(ret.getTimestamp(), topNextTime);
-    if (topNext != null) {
-      top.timeValuePair = topNext;
-      heap.add(top);
-    }
+    int winner = tree[0];
+    TimeValuePair ret = elements[winner].currPair();
+    next(winner, ret.getTimestamp());
     return ret;
   }
 
   @Override
   public TimeValuePair currentTimeValuePair() throws IOException {
-    return heap.peek().timeValuePair;
+    return elements[tree[0]].currPair();
   }
 
-  private void updateHeap(long topTime, long topNextTime) throws IOException {
-    while (!heap.isEmpty() && heap.peek().currTime() == topTime) {
-      Element e = heap.poll();
-      if (!e.hasNext()) {
-        e.reader.close();
+  /**
+   * @return the timestamp of the next point, only valid when hasNextTimeValuePair() is true
+   */
+  public long currentTime() {
+    return elements[tree[0]].currTime();
+  }
+
+  /**
+   * put the merged points whose timestamps are not larger than endTime into target.
+   *
+   * @param target      the batch to append to, its data type must be the same as the sources
+   * @param endTime     the largest timestamp (inclusive) to be merged in this call
+   * @param maxPointNum at most so many points are put into target
+   * @param valueFilter points not satisfying it are dropped, null means no filter
+   * @return the number of points put into target
+   */
+  public int nextBatch(BatchData target, long endTime, int maxPointNum, Filter valueFilter)
+      throws IOException {
+    int putNum = 0;
+    while (putNum < maxPointNum && hasNextTimeValuePair()) {
+      int winner = tree[0];
+      Element top = elements[winner];
+      long time = top.currTime();
+      if (time > endTime) {
+        break;
+      }
+
+      // the points of the winner before any other current point are not overlapped, copy them
+      long runnerUpTime = runnerUpTime(winner);
+      if (runnerUpTime > time) {
+        long runEndTime = Math.min(endTime, runnerUpTime - 1);
+        putNum += top.putRun(target, runEndTime, maxPointNum - putNum, valueFilter);
+        replay(winner);
         continue;
       }
 
-      e.next();
-      if (e.currTime() == topNextTime) {
-        // if the next value of the peek will be overwritten by the next of the top, skip it
-        if (e.hasNext()) {
-          e.next();
-          heap.add(e);
-        } else {
-          // the chunk is end
-          e.close();
-        }
-      } else {
-        heap.add(e);
+      if (valueFilter == null || valueFilter.satisfy(time, top.currValue())) {
+        top.putCurrent(target);
+        putNum++;
       }
+      next(winner, time);
     }
+    return putNum;
   }
 
   @Override
   public void close() throws IOException {
-    while (!heap.isEmpty()) {
-      Element e = heap.poll();
-      e.close();
+    for (int i = 0; i < elementNum; i++) {
+      if (elements[i].hasCurrent()) {
+        elements[i].close();
+      }
+    }
+    elementNum = 0;
+  }
+
+  /**
+   * move the winner forward and skip the points of other sources with the same timestamp, as they
+   * are overwritten by the winner.
+   */
+  private void next(int winner, long time) throws IOException {
+    elements[winner].next();
+    replay(winner);
+    while (hasNextTimeValuePair() && elements[tree[0]].currTime() == time) {
+      winner = tree[0];
+      elements[winner].next();
+      replay(winner);
+    }
+  }
+
+  private void addElement(Element element) {
+    // drop the exhausted sources before rebuilding the tree
+    int num = 0;
+    for (int i = 0; i < elementNum; i++) {
+      if (elements[i].hasCurrent()) {
+        elements[num++] = elements[i];
+      }
+    }
+    Arrays.fill(elements, num, elementNum, null);
+    elementNum = num;
+
+    if (elementNum == elements.length) {
+      elements = Arrays.copyOf(elements, elementNum * 2);
+      tree = new int[elementNum * 2];
+    }
+    elements[elementNum++] = element;
+    rebuild();
+  }
+
+  private void rebuild() {
+    if (elementNum == 1) {
+      tree[0] = 0;
+      return;
+    }
+    // winners of the internal nodes, the leaves are numbered from elementNum
+    int[] winners = new int[elementNum];
+    for (int node = elementNum - 1; node > 0; node--) {
+      int left = childWinner(winners, node << 1);
+      int right = childWinner(winners, (node << 1) + 1);
+      if (beats(left, right)) {
+        winners[node] = left;
+        tree[node] = right;
+      } else {
+        winners[node] = right;
+        tree[node] = left;
+      }
+    }
+    tree[0] = winners[1];
+  }
+
+  private int childWinner(int[] winners, int child) {
+    return child >= elementNum ? child - elementNum : winners[child];
+  }
+
+  /**
+   * play the matches from the leaf of the given element to the root after it moves forward.
+   */
+  private void replay(int winner) {
+    for (int node = (winner + elementNum) >> 1; node > 0; node >>= 1) {
+      if (beats(tree[node], winner)) {
+        int loser = winner;
+        winner = tree[node];
+        tree[node] = loser;
+      }
+    }
+    tree[0] = winner;
+  }
+
+  /**
+   * @return the smallest current timestamp among the sources except the winner, which is the
+   * best of the losers on the path of the winner
+   */
+  private long runnerUpTime(int winner) {
+    long time = Long.MAX_VALUE;
+    for (int node = (winner + elementNum) >> 1; node > 0; node >>= 1) {
+      Element loser = elements[tree[node]];
+      if (loser.hasCurrent()) {
+        time = Math.min(time, loser.currTime());
+      }
     }
+    return time;
   }
 
-  static class Element {
+  private boolean beats(int a, int b) {
+    Element ea = elements[a];
+    Element eb = elements[b];
+    if (!ea.hasCurrent()) {
+      return false;
+    }
+    if (!eb.hasCurrent()) {
+      return true;
+    }
+    long timeA = ea.currTime();
+    long timeB = eb.currTime();
+    if (timeA != timeB) {
+      return timeA < timeB;
+    }
+    return ea.priority != eb.priority ? ea.priority > eb.priority : a < b;
+  }
+
+  abstract static class Element {
+
+    long priority;
+
+    Element(long priority) {
+      this.priority = priority;
+    }
+
+    abstract boolean hasCurrent();
+
+    abstract long currTime();
+
+    abstract Object currValue();
+
+    abstract TimeValuePair currPair();
+
+    abstract void putCurrent(BatchData target);
+
+    /**
+     * move to the next point, the source is closed once it is exhausted.
+     */
+    abstract void next() throws IOException;
+
+    abstract void close() throws IOException;
+
+    /**
+     * put the current point and its successors whose timestamps are not larger than endTime
+     * into target.
+     *
+     * @return the number of points put into target
+     */
+    int putRun(BatchData target, long endTime, int maxPointNum, Filter valueFilter)
+        throws IOException {
+      int putNum = 0;
+      while (putNum < maxPointNum && hasCurrent() && currTime() <= endTime) {
+        if (valueFilter == null || valueFilter.satisfy(currTime(), currValue())) {
+          putCurrent(target);
+          putNum++;
+        }
+        next();
+      }
+      return putNum;
+    }
+  }
+
+  static class PointElement extends Element {
 
     IPointReader reader;
     TimeValuePair timeValuePair;
-    long priority;
 
-    Element(IPointReader reader, TimeValuePair timeValuePair, long priority) {
+    PointElement(IPointReader reader, TimeValuePair timeValuePair, long priority) {
+      super(priority);
       this.reader = reader;
       this.timeValuePair = timeValuePair;
-      this.priority = priority;
     }
 
+    @Override
+    boolean hasCurrent() {
+      return timeValuePair != null;
+    }
+
+    @Override
     long currTime() {
       return timeValuePair.getTimestamp();
     }
 
+    @Override
+    Object currValue() {
+      return timeValuePair.getValue().getValue();
+    }
+
+    @Override
     TimeValuePair currPair() {
       return timeValuePair;
     }
 
-    boolean hasNext() throws IOException {
-      return reader.hasNextTimeValuePair();
+    @Override
+    void putCurrent(BatchData target) {
+      target.putAnObject(timeValuePair.getTimestamp(), timeValuePair.getValue().getValue());
     }
 
+    @Override
     void next() throws IOException {
-      timeValuePair = reader.nextTimeValuePair();
+      if (reader.hasNextTimeValuePair()) {
+        timeValuePair = reader.nextTimeValuePair();
+      } else {
+        timeValuePair = null;
+        reader.close();
+      }
     }
 
+    @Override
     void close() throws IOException {
       reader.close();
     }
   }
-}
\ No newline at end of file
+
+  /**
+   * a primitive cursor over a BatchData, or over the pages of a chunk one after another.
+   */
+  static class BatchElement extends Element {
+
+    BatchData batchData;
+    // null if the element only reads one batch
+    IChunkReader chunkReader;
+
+    BatchElement(BatchData batchData, IChunkReader chunkReader, long priority) {
+      super(priority);
+      this.batchData = batchData;
+      this.chunkReader = chunkReader;
+    }
+
+    boolean loadNextBatch() throws IOException {
+      if (chunkReader != null) {
+        while (chunkReader.hasNextSatisfiedPage()) {
+          batchData = chunkReader.nextPageData();
+          if (batchData.hasCurrent()) {
+            return true;
+          }
+        }
+      }
+      batchData = null;
+      return false;
+    }
+
+    @Override
+    boolean hasCurrent() {
+      return batchData != null;
+    }
+
+    @Override
+    long currTime() {
+      return batchData.currentTime();
+    }
+
+    @Override
+    Object currValue() {
+      return batchData.currentValue();
+    }
+
+    @Override
+    TimeValuePair currPair() {
+      return TimeValuePairUtils.getCurrentTimeValuePair(batchData);
+    }
+
+    @Override
+    void putCurrent(BatchData target) {
+      long time = batchData.currentTime();
+      switch (batchData.getDataType()) {
+        case BOOLEAN:
+          target.putBoolean(time, batchData.getBoolean());
+          break;
+        case INT32:
+          target.putInt(time, batchData.getInt());
+          break;
+        case INT64:
+          target.putLong(time, batchData.getLong());
+          break;
+        case FLOAT:
+          target.putFloat(time, batchData.getFloat());
+          break;
+        case DOUBLE:
+          target.putDouble(time, batchData.getDouble());
+          break;
+        case TEXT:
+          target.putBinary(time, batchData.getBinary());
+          break;
+        default:
+          throw new UnSupportedDataTypeException(String.valueOf(batchData.getDataType()));
+      }
+    }
+
+    @Override
+    void next() throws IOException {
+      batchData.next();
+      if (!batchData.hasCurrent() && !loadNextBatch()) {
+        close();
+      }
+    }
+
+    @Override
+    void close() throws IOException {
+      batchData = null;
+      if (chunkReader != null) {
+        chunkReader.close();
+        chunkReader = null;
+      }
+    }
+
+    @Override
+    int putRun(BatchData target, long endTime, int maxPointNum, Filter valueFilter)
+        throws IOException {
+      if (valueFilter != null) {
+        return super.putRun(target, endTime, maxPointNum, valueFilter);
+      }
+      int putNum = 0;
+      while (batchData != null && putNum < maxPointNum) {
+        BatchData data = batchData;
+        // copy the current batch with one type dispatch instead of one per point
+        switch (data.getDataType()) {
+          case BOOLEAN:
+            while (putNum < maxPointNum && data.hasCurrent() && data.currentTime() <= endTime) {
+              target.putBoolean(data.currentTime(), data.getBoolean());
+              data.next();
+              putNum++;
+            }
+            break;
+          case INT32:
+            while (putNum < maxPointNum && data.hasCurrent() && data.currentTime() <= endTime) {
+              target.putInt(data.currentTime(), data.getInt());
+              data.next();
+              putNum++;
+            }
+            break;
+          case INT64:
+            while (putNum < maxPointNum && data.hasCurrent() && data.currentTime() <= endTime) {
+              target.putLong(data.currentTime(), data.getLong());
+              data.next();
+              putNum++;
+            }
+            break;
+          case FLOAT:
+            while (putNum < maxPointNum && data.hasCurrent() && data.currentTime() <= endTime) {
+              target.putFloat(data.currentTime(), data.getFloat());
+              data.next();
+              putNum++;
+            }
+            break;
+          case DOUBLE:
+            while (putNum < maxPointNum && data.hasCurrent() && data.currentTime() <= endTime) {
+              target.putDouble(data.currentTime(), data.getDouble());
+              data.next();
+              putNum++;
+            }
+            break;
+          case TEXT:
+            while (putNum < maxPointNum && data.hasCurrent() && data.currentTime() <= endTime) {
+              target.putBinary(data.currentTime(), data.getBinary());
+              data.next();
+              putNum++;
+            }
+            break;
+          default:
+            throw new UnSupportedDataTypeException(String.valueOf(data.getDataType()));
+        }
+        if (data.hasCurrent()) {
+          break;
+        }
+        if (!loadNextBatch()) {
+          close();
+        }
+      }
+      return putNum;
+    }
+  }
+}
@@ -0,0 +1,125 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iotdb.db.query.timegenerator;
+
+import java.io.IOException;
+import java.util.List;
+import org.apache.iotdb.db.query.reader.series.IReaderByTimestamp;
+import org.apache.iotdb.tsfile.read.common.Path;
+import org.apache.iotdb.tsfile.read.filter.basic.Filter;
+import org.apache.iotdb.tsfile.read.query.timegenerator.node.Node;
+import org.apache.iotdb.tsfile.read.query.timegenerator.node.NodeType;
+
+/**
+ * An AND node whose timestamps are generated by a single driving node. Instead of being scanned
+ * and merged with the driving node, the other conjuncts are probed by their readers only at the
+ * timestamps the driving node and the former probes accept, so the data around rejected timestamps
+ * is never read.
+ */
+public class ProbeAndNode implements Node {
+
+  private final Node driver;
+  // in the order they are checked, usually from the most selective one
+  private final List<Probe> probes;
+
+  private boolean hasCachedValue;
+  private long cachedValue;
+
+  public ProbeAndNode(Node driver, List<Probe> probes) {
+    this.driver = driver;
+    this.probes = probes;
+  }
+
+  @Override
+  public boolean hasNext() throws IOException {
+    if (hasCachedValue) {
+      return true;
+    }
+    while (driver.hasNext()) {
+      long time = driver.next();
+      if (satisfyProbes(time)) {
+        cachedValue = time;
+        hasCachedValue = true;
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private boolean satisfyProbes(long time) throws IOException {
+    for (Probe probe : probes) {
+      if (!probe.satisfy(time)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  @Override
+  public long next() throws IOException {
+    if (hasCachedValue || hasNext()) {
+      hasCachedValue = false;
+      return cachedValue;
+    }
+    throw new IOException("no more data");
+  }
+
+  @Override
+  public NodeType getType() {
+    return NodeType.AND;
+  }
+
+  /**
+   * A conjunct on one series checked by reading the value of the series at a given timestamp. The
+   * timestamps must be increasing, which holds as the driving node generates increasing ones.
+   */
+  public static class Probe {
+
+    private final Path path;
+    private final IReaderByTimestamp reader;
+    private final Filter filter;
+
+    private long probedTime = Long.MIN_VALUE;
+    private Object probedValue;
+
+    public Probe(Path path, IReaderByTimestamp reader, Filter filter) {
+      this.path = path;
+      this.reader = reader;
+      this.filter = filter;
+    }
+
+    boolean satisfy(long time) throws IOException {
+      probedTime = time;
+      probedValue = reader.getValueInTimestamp(time);
+      return probedValue != null && (filter == null || filter.satisfy(time, probedValue));
+    }
+
+    public Path getPath() {
+      return path;
+    }
+
+    /**
+     * @return the value of the series at the given time if the series has been probed at it,
+     * otherwise null
+     */
+    public Object getValue(long time) {
+      return probedTime == time ? probedValue : null;
+    }
+  }
+}
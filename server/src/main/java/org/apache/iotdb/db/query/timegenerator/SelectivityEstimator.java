@@ -0,0 +1,156 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iotdb.db.query.timegenerator;
+
+import org.apache.iotdb.tsfile.file.metadata.enums.TSDataType;
+import org.apache.iotdb.tsfile.file.metadata.statistics.Statistics;
+import org.apache.iotdb.tsfile.read.filter.basic.BinaryFilter;
+import org.apache.iotdb.tsfile.read.filter.basic.Filter;
+import org.apache.iotdb.tsfile.read.filter.basic.UnaryFilter;
+import org.apache.iotdb.tsfile.read.filter.factory.FilterType;
+import org.apache.iotdb.tsfile.read.filter.operator.AndFilter;
+import org.apache.iotdb.tsfile.read.filter.operator.Eq;
+import org.apache.iotdb.tsfile.read.filter.operator.Gt;
+import org.apache.iotdb.tsfile.read.filter.operator.GtEq;
+import org.apache.iotdb.tsfile.read.filter.operator.In;
+import org.apache.iotdb.tsfile.read.filter.operator.Lt;
+import org.apache.iotdb.tsfile.read.filter.operator.LtEq;
+import org.apache.iotdb.tsfile.read.filter.operator.NotEq;
+import org.apache.iotdb.tsfile.read.filter.operator.NotFilter;
+import org.apache.iotdb.tsfile.read.filter.operator.OrFilter;
+
+/**
+ * Estimates the fraction of the points summarized by a Statistics that satisfy a filter, assuming
+ * the times and the values are uniformly distributed between their minimum and maximum and the
+ * conditions of a filter are independent. The estimation only has to rank the conjuncts of a query
+ * roughly, so filters it cannot reason about are assumed to select all points.
+ */
+public class SelectivityEstimator {
+
+  // used for the comparisons of TEXT and BOOLEAN values, whose statistics tell nothing about them
+  private static final double UNKNOWN_SELECTIVITY = 0.5;
+
+  private SelectivityEstimator() {
+    // util class
+  }
+
+  /**
+   * @return the estimated number of points summarized by statistics that satisfy filter
+   */
+  public static double estimateCount(Filter filter, Statistics statistics) {
+    if (statistics == null || statistics.getCount() == 0) {
+      return 0;
+    }
+    return estimate(filter, statistics) * statistics.getCount();
+  }
+
+  /**
+   * @return the estimated fraction, in [0, 1], of the points summarized by statistics that satisfy
+   * filter
+   */
+  public static double estimate(Filter filter, Statistics statistics) {
+    if (filter == null) {
+      return 1;
+    }
+    if (filter instanceof AndFilter) {
+      return estimate(((BinaryFilter) filter).getLeft(), statistics)
+          * estimate(((BinaryFilter) filter).getRight(), statistics);
+    } else if (filter instanceof OrFilter) {
+      double left = estimate(((BinaryFilter) filter).getLeft(), statistics);
+      double right = estimate(((BinaryFilter) filter).getRight(), statistics);
+      return left + right - left * right;
+    } else if (filter instanceof NotFilter) {
+      return 1 - estimate(((NotFilter) filter).getFilter(), statistics);
+    } else if (filter instanceof In) {
+      return estimateIn((In<?>) filter, statistics);
+    } else if (filter instanceof UnaryFilter) {
+      if (!filter.satisfy(statistics)) {
+        return 0;
+      }
+      return estimateUnary((UnaryFilter<?>) filter, statistics);
+    }
+    return 1;
+  }
+
+  private static double estimateUnary(UnaryFilter<?> filter, Statistics statistics) {
+    boolean isTimeFilter = filter.getFilterType() == FilterType.TIME_FILTER;
+    if (!isTimeFilter && !isNumeric(statistics.getType())) {
+      return UNKNOWN_SELECTIVITY;
+    }
+    double min = isTimeFilter ? statistics.getStartTime() : toDouble(statistics.getMinValue());
+    double max = isTimeFilter ? statistics.getEndTime() : toDouble(statistics.getMaxValue());
+    double value = toDouble(filter.getValue());
+    if (filter instanceof Eq) {
+      return equalSelectivity(isTimeFilter, value, min, max, statistics);
+    } else if (filter instanceof NotEq) {
+      return 1 - equalSelectivity(isTimeFilter, value, min, max, statistics);
+    }
+    if (max <= min) {
+      // all points have the same time or value, and filter.satisfy(statistics) has checked it
+      return 1;
+    }
+    double greaterFraction = clamp((max - value) / (max - min));
+    if (filter instanceof Gt || filter instanceof GtEq) {
+      return greaterFraction;
+    } else if (filter instanceof Lt || filter instanceof LtEq) {
+      return 1 - greaterFraction;
+    }
+    return 1;
+  }
+
+  /**
+   * Each value in the set is assumed to be held by one point. In does not tell whether it filters
+   * times or values, but neither matches a null value, so a reversed In accepts (MIN_VALUE, null).
+   */
+  private static double estimateIn(In<?> filter, Statistics statistics) {
+    double selectivity = clamp((double) filter.getValues().size() / statistics.getCount());
+    return filter.satisfy(Long.MIN_VALUE, null) ? 1 - selectivity : selectivity;
+  }
+
+  /**
+   * Times are distinct, so a time equals the given one for at most one point. Values are assumed
+   * to be distinct too, except for integers that have fewer possible values in [min, max] than
+   * the points.
+   */
+  private static double equalSelectivity(boolean isTimeFilter, double value, double min,
+      double max, Statistics statistics) {
+    if (value < min || value > max) {
+      return 0;
+    }
+    double distinctNum = statistics.getCount();
+    if (!isTimeFilter && (statistics.getType() == TSDataType.INT32
+        || statistics.getType() == TSDataType.INT64)) {
+      distinctNum = Math.min(distinctNum, max - min + 1);
+    }
+    return 1 / Math.max(distinctNum, 1);
+  }
+
+  private static boolean isNumeric(TSDataType dataType) {
+    return dataType == TSDataType.INT32 || dataType == TSDataType.INT64
+        || dataType == TSDataType.FLOAT || dataType == TSDataType.DOUBLE;
+  }
+
+  private static double toDouble(Object value) {
+    return ((Number) value).doubleValue();
+  }
+
+  private static double clamp(double fraction) {
+    return Math.max(0, Math.min(1, fraction));
+  }
+}
@@ -18,32 +18,57 @@
  */
 package org.apache.iotdb.db.query.timegenerator;
 
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import org.apache.iotdb.db.engine.querycontext.QueryDataSource;
+import org.apache.iotdb.db.engine.storagegroup.TsFileResource;
 import org.apache.iotdb.db.exception.StorageEngineException;
 import org.apache.iotdb.db.qp.physical.crud.RawDataQueryPlan;
 import org.apache.iotdb.db.query.context.QueryContext;
 import org.apache.iotdb.db.query.control.QueryResourceManager;
 import org.apache.iotdb.db.query.reader.series.SeriesRawDataBatchReader;
+import org.apache.iotdb.db.query.reader.series.SeriesReaderByTimestamp;
+import org.apache.iotdb.db.query.timegenerator.ProbeAndNode.Probe;
 import org.apache.iotdb.db.service.IoTDB;
+import org.apache.iotdb.db.utils.FileLoaderUtils;
+import org.apache.iotdb.tsfile.file.metadata.ChunkMetadata;
+import org.apache.iotdb.tsfile.file.metadata.TimeseriesMetadata;
 import org.apache.iotdb.tsfile.file.metadata.enums.TSDataType;
 import org.apache.iotdb.tsfile.read.common.Path;
+import org.apache.iotdb.tsfile.read.expression.ExpressionType;
+import org.apache.iotdb.tsfile.read.expression.IBinaryExpression;
 import org.apache.iotdb.tsfile.read.expression.IExpression;
 import org.apache.iotdb.tsfile.read.expression.impl.SingleSeriesExpression;
 import org.apache.iotdb.tsfile.read.filter.basic.Filter;
 import org.apache.iotdb.tsfile.read.query.timegenerator.TimeGenerator;
+import org.apache.iotdb.tsfile.read.query.timegenerator.node.AndNode;
+import org.apache.iotdb.tsfile.read.query.timegenerator.node.Node;
 import org.apache.iotdb.tsfile.read.reader.IBatchReader;
 
-import java.io.IOException;
-
 /**
  * A timestamp generator for query with filter. e.g. For query clause "select s1, s2 from root where
  * s3 < 0 and time > 100", this class can iterate back to every timestamp of the query.
+ * <p>
+ * The conjuncts of an AND are not merged in the order they are written. The conjunct on a series
+ * estimated to match the fewest points, according to the statistics of its files and chunks,
+ * drives the iteration, and the other conjuncts on series are only probed at the timestamps it
+ * generates, from the most selective one.
  */
 public class ServerTimeGenerator extends TimeGenerator {
 
   protected QueryContext context;
   protected RawDataQueryPlan queryPlan;
 
+  // the paths read by leaf nodes, whose values are cached by the TimeGenerator
+  private Set<Path> leafPaths = new HashSet<>();
+  private Map<Path, List<Probe>> probeCache = new HashMap<>();
+
   public ServerTimeGenerator(QueryContext context) {
     this.context = context;
   }
@@ -62,22 +87,147 @@ public class ServerTimeGenerator extends TimeGenerator {
     }
   }
 
+  @Override
+  public Object getValue(Path path, long time) {
+    List<Probe> probes = probeCache.get(path);
+    if (probes != null) {
+      for (Probe probe : probes) {
+        Object value = probe.getValue(time);
+        if (value != null) {
+          return value;
+        }
+      }
+    }
+    return leafPaths.contains(path) ? super.getValue(path, time) : null;
+  }
+
+  @Override
+  protected Node construct(IExpression expression) throws IOException {
+    if (expression.getType() == ExpressionType.SERIES) {
+      leafPaths.add(((SingleSeriesExpression) expression).getSeriesPath());
+      return super.construct(expression);
+    }
+    if (expression.getType() != ExpressionType.AND) {
+      return super.construct(expression);
+    }
+
+    List<SingleSeriesExpression> seriesConjuncts = new ArrayList<>();
+    List<IExpression> otherConjuncts = new ArrayList<>();
+    collectConjuncts(expression, seriesConjuncts, otherConjuncts);
+    if (seriesConjuncts.size() < 2) {
+      return super.construct(expression);
+    }
+
+    Map<SingleSeriesExpression, Double> matchedCounts = new HashMap<>();
+    for (SingleSeriesExpression conjunct : seriesConjuncts) {
+      matchedCounts.put(conjunct, estimateMatchedCount(conjunct));
+    }
+    // a stable sort keeps the written order of conjuncts with the same estimation
+    seriesConjuncts.sort(Comparator.comparing(matchedCounts::get));
+
+    Node driver = construct(seriesConjuncts.get(0));
+    for (IExpression conjunct : otherConjuncts) {
+      driver = new AndNode(driver, construct(conjunct));
+    }
+    List<Probe> probes = new ArrayList<>();
+    for (SingleSeriesExpression conjunct : seriesConjuncts.subList(1, seriesConjuncts.size())) {
+      Probe probe = generateNewProbe(conjunct);
+      probeCache.computeIfAbsent(conjunct.getSeriesPath(), k -> new ArrayList<>()).add(probe);
+      probes.add(probe);
+    }
+    return new ProbeAndNode(driver, probes);
+  }
+
+  /**
+   * Flatten the nested ANDs of an expression into its conjuncts.
+   */
+  private void collectConjuncts(IExpression expression,
+      List<SingleSeriesExpression> seriesConjuncts, List<IExpression> otherConjuncts) {
+    if (expression.getType() == ExpressionType.AND) {
+      collectConjuncts(((IBinaryExpression) expression).getLeft(), seriesConjuncts,
+          otherConjuncts);
+      collectConjuncts(((IBinaryExpression) expression).getRight(), seriesConjuncts,
+          otherConjuncts);
+    } else if (expression.getType() == ExpressionType.SERIES) {
+      seriesConjuncts.add((SingleSeriesExpression) expression);
+    } else {
+      otherConjuncts.add(expression);
+    }
+  }
+
+  /**
+   * Estimate how many points of the series satisfy the filter of the expression. The statistics
+   * in the TimeseriesMetadata of each file are used first, and the statistics of the chunks are
+   * consulted only when the file-level ones cannot tell whether all or none of the points match.
+   */
+  private double estimateMatchedCount(SingleSeriesExpression expression) throws IOException {
+    Path path = expression.getSeriesPath();
+    QueryDataSource queryDataSource = getQueryDataSource(path, expression.getFilter());
+    Filter filter = queryDataSource.updateFilterUsingTTL(expression.getFilter());
+    Set<String> allSensors = queryPlan.getAllMeasurementsInDevice(path.getDevice());
+
+    List<TsFileResource> resources = new ArrayList<>(queryDataSource.getSeqResources());
+    resources.addAll(queryDataSource.getUnseqResources());
+    double matchedCount = 0;
+    for (TsFileResource resource : resources) {
+      TimeseriesMetadata timeseriesMetadata = FileLoaderUtils
+          .loadTimeSeriesMetadata(resource, path, context, filter, allSensors);
+      if (timeseriesMetadata == null) {
+        continue;
+      }
+      double fileMatchedCount = SelectivityEstimator
+          .estimateCount(filter, timeseriesMetadata.getStatistics());
+      if (fileMatchedCount > 0
+          && fileMatchedCount < timeseriesMetadata.getStatistics().getCount()) {
+        fileMatchedCount = 0;
+        for (ChunkMetadata chunkMetadata : FileLoaderUtils
+            .loadChunkMetadataList(timeseriesMetadata)) {
+          fileMatchedCount += SelectivityEstimator
+              .estimateCount(filter, chunkMetadata.getStatistics());
+        }
+      }
+      matchedCount += fileMatchedCount;
+    }
+    return matchedCount;
+  }
+
   @Override
   protected IBatchReader generateNewBatchReader(SingleSeriesExpression expression)
       throws IOException {
-    Filter filter = expression.getFilter();
     Path path = expression.getSeriesPath();
-    TSDataType dataType;
-    QueryDataSource queryDataSource;
+    TSDataType dataType = getSeriesType(path);
+    QueryDataSource queryDataSource = getQueryDataSource(path, expression.getFilter());
+    // update filter by TTL
+    Filter filter = queryDataSource.updateFilterUsingTTL(expression.getFilter());
+
+    return new SeriesRawDataBatchReader(path, queryPlan.getAllMeasurementsInDevice(path.getDevice()), dataType, context, queryDataSource, null, filter, null);
+  }
+
+  private Probe generateNewProbe(SingleSeriesExpression expression) throws IOException {
+    Path path = expression.getSeriesPath();
+    TSDataType dataType = getSeriesType(path);
+    QueryDataSource queryDataSource = getQueryDataSource(path, expression.getFilter());
+    // update filter by TTL
+    Filter filter = queryDataSource.updateFilterUsingTTL(expression.getFilter());
+
+    return new Probe(path, new SeriesReaderByTimestamp(path,
+        queryPlan.getAllMeasurementsInDevice(path.getDevice()), dataType, context,
+        queryDataSource, null), filter);
+  }
+
+  private TSDataType getSeriesType(Path path) throws IOException {
     try {
-      dataType = IoTDB.metaManager.getSeriesType(path.getFullPath());
-      queryDataSource = QueryResourceManager.getInstance().getQueryDataSource(path, context, filter);
-      // update filter by TTL
-      filter = queryDataSource.updateFilterUsingTTL(filter);
+      return IoTDB.metaManager.getSeriesType(path.getFullPath());
     } catch (Exception e) {
       throw new IOException(e);
     }
+  }
 
-    return new SeriesRawDataBatchReader(path, queryPlan.getAllMeasurementsInDevice(path.getDevice()), dataType, context, queryDataSource, null, filter, null);
+  private QueryDataSource getQueryDataSource(Path path, Filter filter) throws IOException {
+    try {
+      return QueryResourceManager.getInstance().getQueryDataSource(path, context, filter);
+    } catch (Exception e) {
+      throw new IOException(e);
+    }
   }
 }
@@ -0,0 +1,107 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iotdb.db.rescon;
+
+import org.apache.iotdb.db.conf.IoTDBConfig;
+import org.apache.iotdb.db.conf.IoTDBDescriptor;
+
+/**
+ * IOThrottle limits the disk throughput of flushes, queries, merges and migrations. Each type of I/O
+ * has its own budget, and all of them share the budget of the disk. Flushes and queries are
+ * foreground I/Os that take their shares of the disk budget without waiting, while merges
+ * (including VM merges and compactions) and the migrations of files between storage tiers wait for
+ * the disk budget, so they give way whenever the foreground is busy.
+ * <p>
+ * The budgets are in MB per second, not positive if unlimited, and can be changed at runtime
+ * through ManageDynamicParameters.
+ */
+public class IOThrottle {
+
+  private static final long BYTES_PER_MB = 1024L * 1024L;
+
+  public enum IOType {
+    FLUSH(true), QUERY(true), MERGE(false), MIGRATION(false);
+
+    private final boolean foreground;
+
+    IOType(boolean foreground) {
+      this.foreground = foreground;
+    }
+
+    public boolean isForeground() {
+      return foreground;
+    }
+  }
+
+  private final TokenBucket diskBucket;
+  private final TokenBucket[] typeBuckets = new TokenBucket[IOType.values().length];
+
+  private IOThrottle() {
+    IoTDBConfig config = IoTDBDescriptor.getInstance().getConfig();
+    diskBucket = new TokenBucket(config.getDiskThroughputMbPerSec() * BYTES_PER_MB);
+    typeBuckets[IOType.FLUSH.ordinal()] = new TokenBucket(
+        config.getFlushThroughputMbPerSec() * BYTES_PER_MB);
+    typeBuckets[IOType.QUERY.ordinal()] = new TokenBucket(
+        config.getQueryThroughputMbPerSec() * BYTES_PER_MB);
+    typeBuckets[IOType.MERGE.ordinal()] = new TokenBucket(
+        config.getMergeThroughputMbPerSec() * BYTES_PER_MB);
+    typeBuckets[IOType.MIGRATION.ordinal()] = new TokenBucket(
+        config.getMigrationThroughputMbPerSec() * BYTES_PER_MB);
+  }
+
+  public static IOThrottle getInstance() {
+    return InstanceHolder.INSTANCE;
+  }
+
+  /**
+   * Wait until the I/O of the given bytes is allowed by the budget of its type and, for background
+   * I/Os, by the budget of the disk.
+   */
+  public void acquire(IOType type, long bytes) {
+    if (bytes <= 0) {
+      return;
+    }
+    typeBuckets[type.ordinal()].acquire(bytes, true);
+    diskBucket.acquire(bytes, !type.isForeground());
+  }
+
+  public int getThroughputMbPerSec(IOType type) {
+    return (int) (typeBuckets[type.ordinal()].getRate() / BYTES_PER_MB);
+  }
+
+  public void setThroughputMbPerSec(IOType type, int throughput) {
+    typeBuckets[type.ordinal()].setRate(throughput * BYTES_PER_MB);
+  }
+
+  public int getDiskThroughputMbPerSec() {
+    return (int) (diskBucket.getRate() / BYTES_PER_MB);
+  }
+
+  public void setDiskThroughputMbPerSec(int throughput) {
+    diskBucket.setRate(throughput * BYTES_PER_MB);
+  }
+
+  private static class InstanceHolder {
+
+    private static final IOThrottle INSTANCE = new IOThrottle();
+
+    private InstanceHolder() {
+    }
+  }
+}
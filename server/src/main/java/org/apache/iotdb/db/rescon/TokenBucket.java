@@ -0,0 +1,93 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iotdb.db.rescon;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * TokenBucket limits the rate of a kind of I/O in bytes per second. Tokens are refilled
+ * continuously and at most one second of them can be saved for a burst.
+ * <p>
+ * An acquisition is charged after it is granted, so the tokens may become negative and the next
+ * waiting caller sleeps until the debt is repaid. Callers that do not wait only add to the debt,
+ * which slows down the waiting callers instead of themselves.
+ */
+public class TokenBucket {
+
+  private static final long NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+
+  // bytes per second, not positive if unlimited
+  private volatile long rate;
+  private double tokens = 0;
+  private long lastRefillTime = System.nanoTime();
+
+  public TokenBucket(long rate) {
+    this.rate = rate;
+  }
+
+  public long getRate() {
+    return rate;
+  }
+
+  public synchronized void setRate(long rate) {
+    refill();
+    this.rate = rate;
+    tokens = rate > 0 ? Math.min(tokens, rate) : 0;
+  }
+
+  /**
+   * @param wait whether to wait until the tokens are not in debt, false for I/Os of higher
+   *             priority that should never be blocked by this bucket
+   */
+  public void acquire(long bytes, boolean wait) {
+    if (bytes <= 0 || rate <= 0) {
+      return;
+    }
+    while (true) {
+      long waitTime;
+      synchronized (this) {
+        if (rate <= 0) {
+          return;
+        }
+        refill();
+        if (!wait || tokens > 0) {
+          tokens -= bytes;
+          return;
+        }
+        waitTime = (long) (-tokens * NANOS_PER_SECOND / rate) + 1;
+      }
+      try {
+        TimeUnit.NANOSECONDS.sleep(waitTime);
+      } catch (InterruptedException e) {
+        // let the caller notice the interruption, e.g., an aborted merge
+        Thread.currentThread().interrupt();
+        return;
+      }
+    }
+  }
+
+  private void refill() {
+    long currentTime = System.nanoTime();
+    if (rate > 0) {
+      tokens = Math
+          .min(rate, tokens + (double) (currentTime - lastRefillTime) * rate / NANOS_PER_SECOND);
+    }
+    lastRefillTime = currentTime;
+  }
+}
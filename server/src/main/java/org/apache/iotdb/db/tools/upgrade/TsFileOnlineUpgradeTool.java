@@ -435,8 +435,8 @@ public class TsFileOnlineUpgradeTool implements AutoCloseable {
           writePageInSamePartitionToFile(oldTsFile, schema, pageHeadersInChunk.get(j),
               pageDataInChunk.get(j), chunkWritersInChunkGroup);
         } else {
-          writePageInDifferentPartitionsToFiles(oldTsFile, schema, pageDataInChunk.get(j),
-              chunkWritersInChunkGroup);
+          writePageInDifferentPartitionsToFiles(oldTsFile, schema, pageHeadersInChunk.get(j),
+              pageDataInChunk.get(j), chunkWritersInChunkGroup);
         }
       }
     }
@@ -496,11 +496,11 @@ public class TsFileOnlineUpgradeTool implements AutoCloseable {
   }
 
   private void writePageInDifferentPartitionsToFiles(File oldTsFile, MeasurementSchema schema,
-      ByteBuffer pageData,
+      PageHeader pageHeader, ByteBuffer pageData,
       Map<Long, Map<MeasurementSchema, ChunkWriterImpl>> chunkWritersInChunkGroup)
       throws IOException {
     valueDecoder.reset();
-    PageReader pageReader = new PageReader(pageData, schema.getType(), valueDecoder,
+    PageReader pageReader = new PageReader(pageHeader, pageData, schema.getType(), valueDecoder,
         defaultTimeDecoder, null);
     BatchData batchData = pageReader.getAllSatisfiedPageData();
     while (batchData.hasCurrent()) {
@@ -23,7 +23,7 @@ import java.util.List;
 import java.util.Map.Entry;
 import java.util.Set;
 import org.apache.iotdb.db.engine.cache.TimeSeriesMetadataCache;
-import org.apache.iotdb.db.engine.modification.Modification;
+import org.apache.iotdb.db.engine.modification.SeriesDeletions;
 import org.apache.iotdb.db.engine.storagegroup.TsFileResource;
 import org.apache.iotdb.db.query.context.QueryContext;
 import org.apache.iotdb.db.query.control.FileReaderManager;
@@ -103,9 +103,9 @@ public class FileLoaderUtils {
     }
 
     if (timeSeriesMetadata != null) {
-      List<Modification> pathModifications =
-          context.getPathModifications(resource.getModFile(), seriesPath.getFullPath());
-      timeSeriesMetadata.setModified(!pathModifications.isEmpty());
+      SeriesDeletions pathDeletions =
+          context.getPathDeletions(resource.getModFile(), seriesPath.getFullPath());
+      timeSeriesMetadata.setModified(!pathDeletions.isEmpty());
       if (timeSeriesMetadata.getStatistics().getStartTime() > timeSeriesMetadata.getStatistics()
           .getEndTime()) {
         return null;
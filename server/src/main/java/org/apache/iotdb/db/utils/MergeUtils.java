@@ -72,11 +72,6 @@ public class MergeUtils {
     }
   }
 
-  private static List<Path> collectFileSeries(TsFileSequenceReader sequenceReader)
-      throws IOException {
-    return sequenceReader.getAllPaths();
-  }
-
   public static long collectFileSizes(List<TsFileResource> seqFiles,
       List<TsFileResource> unseqFiles) {
     long totalSize = 0;
@@ -128,26 +123,67 @@ public class MergeUtils {
     }
   }
 
-  // returns totalChunkNum of a file and the max number of chunks of a series
-  public static long[] findTotalAndLargestSeriesChunkNum(TsFileResource tsFileResource,
-      TsFileSequenceReader sequenceReader)
-      throws IOException {
-    long totalChunkNum = 0;
-    long maxChunkNum = Long.MIN_VALUE;
-    List<Path> paths = collectFileSeries(sequenceReader);
-
-    for (Path path : paths) {
-      List<ChunkMetadata> chunkMetadataList = sequenceReader.getChunkMetadataList(path);
-      totalChunkNum += chunkMetadataList.size();
-      maxChunkNum = chunkMetadataList.size() > maxChunkNum ? chunkMetadataList.size() : maxChunkNum;
+  /**
+   * Make sure the metadata statistics of the file are known, collecting them from the file if they
+   * were not recorded when it was written, and recording them in its .resource file so they are
+   * collected only once.
+   */
+  public static void loadMetadataStatistics(TsFileResource tsFileResource,
+      TsFileSequenceReader sequenceReader) throws IOException {
+    if (!tsFileResource.hasMetadataStatistics()) {
+      tsFileResource.updateMetadataStatistics(sequenceReader);
+      logger.debug("In file {}, series num {}, chunk num {}, series max chunk num {}, max chunk "
+              + "size {}", tsFileResource, tsFileResource.getSeriesNum(),
+          tsFileResource.getChunkNum(), tsFileResource.getMaxSeriesChunkNum(),
+          tsFileResource.getMaxChunkSize());
+      if (tsFileResource.isClosed() && !tsFileResource.isDeleted()) {
+        try {
+          tsFileResource.serialize();
+        } catch (IOException e) {
+          // they will be collected again next time
+          logger.warn("Cannot record the metadata statistics of {}", tsFileResource, e);
+        }
+      }
     }
-    logger.debug("In file {}, total chunk num {}, series max chunk num {}", tsFileResource,
-        totalChunkNum, maxChunkNum);
-    return new long[]{totalChunkNum, maxChunkNum};
   }
 
-  public static long getFileMetaSize(TsFileResource seqFile, TsFileSequenceReader sequenceReader) {
-    return seqFile.getTsFileSize() - sequenceReader.getFileMetadataPos();
+  /**
+   * Estimate how much memory reading the chunks of some series from an unseqFile takes: all chunks
+   * of the series are loaded with their ChunkMetadata, but not more than the whole file. The
+   * metadata statistics of the file must be loaded.
+   *
+   * @param seriesNum how many series are read at the same time
+   */
+  public static long estimateUnseqReadMemory(TsFileResource unseqFile, int seriesNum) {
+    return Math.min(estimateSeriesMemory(unseqFile, seriesNum),
+        unseqFile.getTsFileSize() + unseqFile.getChunkMetadataSize());
+  }
+
+  /**
+   * Estimate how much memory reading the chunks of some series from a seqFile takes: the chunks of
+   * a series are read one by one, while its ChunkMetadata are all loaded. The metadata statistics
+   * of the file must be loaded.
+   *
+   * @param seriesNum how many series are read at the same time
+   */
+  public static long estimateSeqReadMemory(TsFileResource seqFile, int seriesNum) {
+    long chunkMetadataSize = seqFile.getChunkMetadataSize() / Math.max(1, seqFile.getChunkNum());
+    return (long) Math.min(seriesNum, seqFile.getSeriesNum())
+        * (seqFile.getMaxChunkSize() + seqFile.getMaxSeriesChunkNum() * chunkMetadataSize);
+  }
+
+  /**
+   * Estimate how much memory writing a seqFile again takes, as the writer keeps all ChunkMetadata
+   * until the file ends. The metadata statistics of the file must be loaded.
+   */
+  public static long estimateSeqWriteMemory(TsFileResource seqFile) {
+    return seqFile.getChunkMetadataSize();
+  }
+
+  private static long estimateSeriesMemory(TsFileResource tsFile, int seriesNum) {
+    long chunkMetadataSize = tsFile.getChunkMetadataSize() / Math.max(1, tsFile.getChunkNum());
+    return (long) Math.min(seriesNum, tsFile.getSeriesNum()) * tsFile.getMaxSeriesChunkNum()
+        * (tsFile.getMaxChunkSize() + chunkMetadataSize);
   }
 
   /**
@@ -226,6 +262,32 @@ public class MergeUtils {
         && !isLastChunk);
   }
 
+  /**
+   * Estimate how much memory merging a chunk takes: its points are decoded once into a BatchData
+   * and buffered once more in the ChunkWriter.
+   */
+  public static long estimateChunkMemory(ChunkMetadata chunkMetadata) {
+    int valueSize;
+    switch (chunkMetadata.getDataType()) {
+      case BOOLEAN:
+        valueSize = 1;
+        break;
+      case INT32:
+      case FLOAT:
+        valueSize = 4;
+        break;
+      case TEXT:
+        valueSize = 16;
+        break;
+      case INT64:
+      case DOUBLE:
+      default:
+        valueSize = 8;
+        break;
+    }
+    return 2 * chunkMetadata.getNumOfPoints() * (Long.BYTES + valueSize);
+  }
+
   public static List<List<Path>> splitPathsByDevice(List<Path> paths) {
     if (paths.isEmpty()) {
       return Collections.emptyList();
@@ -31,8 +31,8 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.TreeSet;
-import org.apache.iotdb.db.engine.modification.Deletion;
 import org.apache.iotdb.db.engine.modification.Modification;
+import org.apache.iotdb.db.engine.modification.SeriesDeletions;
 import org.apache.iotdb.db.engine.querycontext.QueryDataSource;
 import org.apache.iotdb.db.engine.storagegroup.TsFileResource;
 import org.apache.iotdb.db.qp.physical.sys.ShowTimeSeriesPlan;
@@ -65,37 +65,99 @@ public class QueryUtils {
    */
   public static void modifyChunkMetaData(List<ChunkMetadata> chunkMetaData,
       List<Modification> modifications) {
-    int modIndex = 0;
-    for (int metaIndex = 0; metaIndex < chunkMetaData.size(); metaIndex++) {
-      ChunkMetadata metaData = chunkMetaData.get(metaIndex);
-      for (Modification modification : modifications) {
-        if (modification.getVersionNum() > metaData.getVersion()) {
-          doModifyChunkMetaData(modification, metaData);
+    if (!modifications.isEmpty()) {
+      modifyChunkMetaData(chunkMetaData, new SeriesDeletions(modifications));
+    }
+  }
+
+  /**
+   * Attach the deleted time ranges overlapping each chunk to its ChunkMetadata and remove the
+   * chunks that are completely deleted. Chunks are usually sorted by time, so the time ranges are
+   * walked along with the chunks in one pass instead of checking every deletion for every chunk.
+   *
+   * @param chunkMetaData the original chunkMetaData of one timeseries.
+   * @param deletions the deletions of the same timeseries.
+   */
+  public static void modifyChunkMetaData(List<ChunkMetadata> chunkMetaData,
+      SeriesDeletions deletions) {
+    if (deletions.isEmpty()) {
+      return;
+    }
+    DeletionCursor cursor = new DeletionCursor(deletions);
+    chunkMetaData.removeIf(cursor::applyAndCheckDeleted);
+  }
+
+  /**
+   * Walks the deleted time ranges of a timeseries along with its chunks.
+   */
+  private static class DeletionCursor {
+
+    private final SeriesDeletions deletions;
+    private List<TimeRange> ranges;
+    // the first range whose end time is not smaller than the start time of the last chunk
+    private int index;
+    private long lastStartTime;
+
+    private DeletionCursor(SeriesDeletions deletions) {
+      this.deletions = deletions;
+    }
+
+    /**
+     * @return true if the chunk is completely deleted
+     */
+    private boolean applyAndCheckDeleted(ChunkMetadata metaData) {
+      long startTime = metaData.getStartTime();
+      long endTime = metaData.getEndTime();
+      List<TimeRange> chunkRanges = deletions.getDeletedRanges(metaData.getVersion());
+      if (chunkRanges != ranges || startTime < lastStartTime) {
+        // the chunk has other deletions or comes out of order, relocate by a binary search
+        ranges = chunkRanges;
+        index = searchFirstEndingAtOrAfter(ranges, startTime);
+      } else {
+        while (index < ranges.size() && ranges.get(index).getMax() < startTime) {
+          index++;
         }
       }
-    }
-    // remove chunks that are completely deleted
-    chunkMetaData.removeIf(metaData -> {
+      lastStartTime = startTime;
+
+      int overlapEnd = index;
+      while (overlapEnd < ranges.size() && ranges.get(overlapEnd).getMin() <= endTime) {
+        overlapEnd++;
+      }
+      if (overlapEnd == index) {
+        return false;
+      }
+      if (ranges.get(index).contains(startTime, endTime)) {
+        return true;
+      }
+      List<TimeRange> overlapped = new ArrayList<>(overlapEnd - index);
+      for (int i = index; i < overlapEnd; i++) {
+        overlapped.add(new TimeRange(ranges.get(i).getMin(), ranges.get(i).getMax()));
+      }
       if (metaData.getDeleteIntervalList() != null) {
+        // e.g., the metadata is cached and modified by a former query
         for (TimeRange range : metaData.getDeleteIntervalList()) {
-          if (range.contains(metaData.getStartTime(), metaData.getEndTime())) {
-            return true;
-          } else {
-            if (range.overlaps(new TimeRange(metaData.getStartTime(), metaData.getEndTime()))) {
-              metaData.setModified(true);
-            }
-            return false;
-          }
+          overlapped.add(new TimeRange(range.getMin(), range.getMax()));
         }
+        overlapped = TimeRange.sortAndMerge(overlapped);
       }
+      metaData.setDeleteIntervalList(overlapped);
+      metaData.setModified(true);
       return false;
-    });
-  }
+    }
 
-  private static void doModifyChunkMetaData(Modification modification, ChunkMetadata metaData) {
-    if (modification instanceof Deletion) {
-      Deletion deletion = (Deletion) modification;
-      metaData.insertIntoSortedDeletions(deletion.getStartTime(), deletion.getEndTime());
+    private static int searchFirstEndingAtOrAfter(List<TimeRange> ranges, long time) {
+      int low = 0;
+      int high = ranges.size();
+      while (low < high) {
+        int mid = (low + high) >>> 1;
+        if (ranges.get(mid).getMax() < time) {
+          low = mid + 1;
+        } else {
+          high = mid;
+        }
+      }
+      return low;
     }
   }
 
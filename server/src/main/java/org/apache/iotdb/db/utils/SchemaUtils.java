@@ -50,12 +50,14 @@ public class SchemaUtils {
     Set<TSEncoding> booleanSet = new HashSet<>();
     booleanSet.add(TSEncoding.PLAIN);
     booleanSet.add(TSEncoding.RLE);
+    booleanSet.add(TSEncoding.AUTO);
     schemaChecker.put(TSDataType.BOOLEAN, booleanSet);
     Set<TSEncoding> int32Set = new HashSet<>();
     int32Set.add(TSEncoding.PLAIN);
     int32Set.add(TSEncoding.RLE);
     int32Set.add(TSEncoding.TS_2DIFF);
     int32Set.add(TSEncoding.REGULAR);
+    int32Set.add(TSEncoding.AUTO);
     schemaChecker.put(TSDataType.INT32, int32Set);
     schemaChecker.put(TSDataType.INT64, int32Set);
     Set<TSEncoding> floatSet = new HashSet<>();
@@ -63,10 +65,15 @@ public class SchemaUtils {
     floatSet.add(TSEncoding.RLE);
     floatSet.add(TSEncoding.TS_2DIFF);
     floatSet.add(TSEncoding.GORILLA);
+    floatSet.add(TSEncoding.CHIMP);
+    floatSet.add(TSEncoding.ALP);
+    floatSet.add(TSEncoding.AUTO);
     schemaChecker.put(TSDataType.FLOAT, floatSet);
     schemaChecker.put(TSDataType.DOUBLE, floatSet);
     Set<TSEncoding> textSet = new HashSet<>();
     textSet.add(TSEncoding.PLAIN);
+    textSet.add(TSEncoding.PLAIN_DICTIONARY);
+    textSet.add(TSEncoding.AUTO);
     schemaChecker.put(TSDataType.TEXT, textSet);
   }
 
@@ -90,6 +90,36 @@ public class TimeValuePairUtils {
     }
   }
 
+  /**
+   * set the current (time,value) pair of the given data into an existing pair without creating
+   * new objects.
+   */
+  public static void setCurrentTimeValuePair(BatchData from, TimeValuePair to) {
+    to.setTimestamp(from.currentTime());
+    switch (from.getDataType()) {
+      case INT32:
+        to.getValue().setInt(from.getInt());
+        break;
+      case INT64:
+        to.getValue().setLong(from.getLong());
+        break;
+      case FLOAT:
+        to.getValue().setFloat(from.getFloat());
+        break;
+      case DOUBLE:
+        to.getValue().setDouble(from.getDouble());
+        break;
+      case TEXT:
+        to.getValue().setBinary(from.getBinary());
+        break;
+      case BOOLEAN:
+        to.getValue().setBoolean(from.getBoolean());
+        break;
+      default:
+        throw new UnSupportedDataTypeException(String.valueOf(from.getDataType()));
+    }
+  }
+
   public static TimeValuePair getEmptyTimeValuePair(TSDataType dataType) {
     switch (dataType) {
       case FLOAT:
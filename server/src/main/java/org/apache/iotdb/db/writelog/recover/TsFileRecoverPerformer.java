@@ -319,6 +319,7 @@ public class TsFileRecoverPerformer {
 
       if (!isLastFile || tsFileResource.isCloseFlagSet()) {
         // end the file if it is not the last file or it is closed before crush
+        tsFileResource.updateMetadataStatistics(restorableTsFileIOWriter);
         restorableTsFileIOWriter.endFile();
         tsFileResource.cleanCloseFlag();
         tsFileResource.serialize();
@@ -0,0 +1,104 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iotdb.db.engine.cache;
+
+import java.io.IOException;
+import java.util.Collections;
+import org.apache.iotdb.db.engine.cache.QueryResultCache.QueryResult;
+import org.apache.iotdb.db.query.dataset.CachedResultDataSet;
+import org.apache.iotdb.db.query.dataset.ListDataSet;
+import org.apache.iotdb.db.query.dataset.ResultCachingDataSet;
+import org.apache.iotdb.tsfile.file.metadata.enums.TSDataType;
+import org.apache.iotdb.tsfile.read.common.Field;
+import org.apache.iotdb.tsfile.read.common.Path;
+import org.apache.iotdb.tsfile.read.common.RowRecord;
+import org.apache.iotdb.tsfile.read.query.dataset.QueryDataSet;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+public class QueryResultCacheTest {
+
+  private static final String PLAN_KEY = "GroupByTimePlan[root.sg.d.s0][INT64][count]";
+
+  @Before
+  public void setUp() {
+    QueryResultCache.getInstance().clear();
+  }
+
+  @After
+  public void tearDown() {
+    QueryResultCache.getInstance().clear();
+  }
+
+  @Test
+  public void testCacheAfterFullyRead() throws IOException {
+    QueryDataSet dataSet = new ResultCachingDataSet(createDataSet(), PLAN_KEY, "v1");
+    // a partly read result is not cached
+    Assert.assertTrue(dataSet.hasNext());
+    dataSet.next();
+    Assert.assertNull(QueryResultCache.getInstance().get(PLAN_KEY, "v1"));
+
+    while (dataSet.hasNext()) {
+      dataSet.next();
+    }
+    QueryResult result = QueryResultCache.getInstance().get(PLAN_KEY, "v1");
+    Assert.assertNotNull(result);
+    checkDataSet(new CachedResultDataSet(result));
+    // the cached records are not changed by the consumers
+    checkDataSet(new CachedResultDataSet(result));
+  }
+
+  @Test
+  public void testOutdatedVersion() throws IOException {
+    QueryDataSet dataSet = new ResultCachingDataSet(createDataSet(), PLAN_KEY, "v1");
+    while (dataSet.hasNext()) {
+      dataSet.next();
+    }
+    // the data has changed since the result was computed
+    Assert.assertNull(QueryResultCache.getInstance().get(PLAN_KEY, "v2"));
+    Assert.assertTrue(QueryResultCache.getInstance().isEmpty());
+  }
+
+  private QueryDataSet createDataSet() {
+    ListDataSet dataSet = new ListDataSet(
+        Collections.singletonList(new Path("root.sg.d.s0")),
+        Collections.singletonList(TSDataType.INT64));
+    for (long time = 0; time < 10; time++) {
+      RowRecord record = new RowRecord(time * 100);
+      record.addField(time, TSDataType.INT64);
+      dataSet.putRecord(record);
+    }
+    return dataSet;
+  }
+
+  private void checkDataSet(QueryDataSet dataSet) throws IOException {
+    for (long time = 0; time < 10; time++) {
+      Assert.assertTrue(dataSet.hasNext());
+      RowRecord record = dataSet.next();
+      Assert.assertEquals(time * 100, record.getTimestamp());
+      Field field = record.getFields().get(0);
+      Assert.assertEquals(time, field.getLongV());
+      // modify the returned record as a watermark encoder would do
+      field.setLongV(-1);
+    }
+    Assert.assertFalse(dataSet.hasNext());
+  }
+}
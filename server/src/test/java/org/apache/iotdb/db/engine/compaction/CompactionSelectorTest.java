@@ -0,0 +1,124 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iotdb.db.engine.compaction;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.util.ArrayList;
+import java.util.List;
+import org.apache.commons.io.FileUtils;
+import org.apache.iotdb.db.engine.compaction.selector.LeveledCompactionSelector;
+import org.apache.iotdb.db.engine.compaction.selector.SizeTieredCompactionSelector;
+import org.apache.iotdb.db.engine.storagegroup.TsFileResource;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class CompactionSelectorTest {
+
+  private File partitionDir = new File("target" + File.separator + "compaction" + File.separator
+      + "0");
+  private int version = 0;
+
+  @Before
+  public void setUp() {
+    partitionDir.mkdirs();
+  }
+
+  @After
+  public void tearDown() throws IOException {
+    FileUtils.deleteDirectory(partitionDir.getParentFile());
+  }
+
+  @Test
+  public void testLeveledSelection() throws IOException {
+    List<TsFileResource> files = new ArrayList<>();
+    files.add(createFile(1, 100));
+    files.add(createFile(0, 100));
+    files.add(createFile(0, 100));
+    files.add(createFile(1, 100));
+    files.add(createFile(1, 100));
+    LeveledCompactionSelector selector = new LeveledCompactionSelector(3, 2);
+    // level 0 has only two adjacent files and the level 1 files are not adjacent
+    assertTrue(selector.select(files).isEmpty());
+
+    // the lower level is tried first but still has only two adjacent files
+    files.add(createFile(1, 100));
+    assertEquals(files.subList(3, 6), selector.select(files));
+  }
+
+  @Test
+  public void testLeveledSkipsBusyFiles() throws IOException {
+    List<TsFileResource> files = new ArrayList<>();
+    for (int i = 0; i < 5; i++) {
+      files.add(createFile(0, 100));
+    }
+    files.get(2).setMerging(true);
+    LeveledCompactionSelector selector = new LeveledCompactionSelector(3, 2);
+    assertTrue(selector.select(files).isEmpty());
+
+    files.add(createFile(0, 100));
+    assertEquals(files.subList(3, 6), selector.select(files));
+  }
+
+  @Test
+  public void testLeveledMaxLevel() throws IOException {
+    List<TsFileResource> files = new ArrayList<>();
+    for (int i = 0; i < 3; i++) {
+      files.add(createFile(2, 100));
+    }
+    assertTrue(new LeveledCompactionSelector(3, 2).select(files).isEmpty());
+    assertEquals(files, new LeveledCompactionSelector(3, 3).select(files));
+  }
+
+  @Test
+  public void testSizeTieredSelection() throws IOException {
+    List<TsFileResource> files = new ArrayList<>();
+    files.add(createFile(0, 10000));
+    files.add(createFile(0, 100));
+    files.add(createFile(0, 1000));
+    files.add(createFile(0, 120));
+    files.add(createFile(0, 1100));
+    SizeTieredCompactionSelector selector = new SizeTieredCompactionSelector(3);
+    assertTrue(selector.select(files).isEmpty());
+
+    files.add(createFile(0, 90));
+    List<TsFileResource> selected = selector.select(files);
+    // the small files are selected in the order of their versions
+    assertEquals(3, selected.size());
+    assertEquals(files.get(1), selected.get(0));
+    assertEquals(files.get(3), selected.get(1));
+    assertEquals(files.get(5), selected.get(2));
+  }
+
+  private TsFileResource createFile(int level, long size) throws IOException {
+    File file = new File(partitionDir, String.format("%d-%d-%d.tsfile", version, version, level));
+    version++;
+    try (RandomAccessFile raf = new RandomAccessFile(file, "rw")) {
+      raf.setLength(size);
+    }
+    TsFileResource resource = new TsFileResource(file);
+    resource.setClosed(true);
+    return resource;
+  }
+}
@@ -0,0 +1,185 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iotdb.db.engine.compaction;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import org.apache.commons.io.FileUtils;
+import org.apache.iotdb.db.conf.IoTDBConfig;
+import org.apache.iotdb.db.conf.IoTDBDescriptor;
+import org.apache.iotdb.db.engine.modification.Deletion;
+import org.apache.iotdb.db.engine.modification.ModificationFile;
+import org.apache.iotdb.db.engine.storagegroup.TsFileResource;
+import org.apache.iotdb.tsfile.exception.write.WriteProcessException;
+import org.apache.iotdb.tsfile.file.metadata.ChunkMetadata;
+import org.apache.iotdb.tsfile.file.metadata.enums.TSDataType;
+import org.apache.iotdb.tsfile.file.metadata.enums.TSEncoding;
+import org.apache.iotdb.tsfile.read.TsFileSequenceReader;
+import org.apache.iotdb.tsfile.read.common.Path;
+import org.apache.iotdb.tsfile.write.TsFileWriter;
+import org.apache.iotdb.tsfile.write.record.TSRecord;
+import org.apache.iotdb.tsfile.write.record.datapoint.LongDataPoint;
+import org.apache.iotdb.tsfile.write.schema.MeasurementSchema;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class PurgeTest {
+
+  private static final String DEVICE = "root.purge.d0";
+  private static final String MEASUREMENT = "s0";
+
+  private File baseDir = new File("target" + File.separator + "purge");
+  private File partitionDir = new File(baseDir, "0");
+  private TsFileResource sourceFile;
+  private CompactionScheduler scheduler;
+  private double prevPurgeDeletedRatio;
+
+  @Before
+  public void setUp() throws IOException, WriteProcessException {
+    partitionDir.mkdirs();
+    IoTDBConfig config = IoTDBDescriptor.getInstance().getConfig();
+    prevPurgeDeletedRatio = config.getPurgeDeletedRatio();
+    config.setPurgeDeletedRatio(0.3);
+    sourceFile = new TsFileResource(new File(partitionDir, "1-1-0.tsfile"));
+    TsFileWriter writer = new TsFileWriter(sourceFile.getTsFile());
+    writer.registerTimeseries(new Path(DEVICE, MEASUREMENT),
+        new MeasurementSchema(MEASUREMENT, TSDataType.INT64, TSEncoding.PLAIN));
+    for (long i = 0; i < 100; i++) {
+      TSRecord record = new TSRecord(i, DEVICE);
+      record.addTuple(new LongDataPoint(MEASUREMENT, i));
+      writer.write(record);
+      sourceFile.updateStartTime(DEVICE, i);
+      sourceFile.updateEndTime(DEVICE, i);
+    }
+    writer.close();
+    sourceFile.setClosed(true);
+    sourceFile.serialize();
+
+    scheduler = new CompactionScheduler("root.purge", baseDir.getPath(), null, null,
+        task -> {
+          try {
+            task.commit();
+            return true;
+          } catch (IOException e) {
+            return false;
+          }
+        }, () -> {
+    }, timePartition -> 2);
+  }
+
+  @After
+  public void tearDown() throws IOException {
+    IoTDBDescriptor.getInstance().getConfig().setPurgeDeletedRatio(prevPurgeDeletedRatio);
+    FileUtils.deleteDirectory(baseDir);
+  }
+
+  @Test
+  public void testPurge() throws IOException {
+    delete(0, 59);
+    CompactionTask task = new CompactionTask(scheduler, "purge", Collections
+        .singletonList(sourceFile), true, 0, true);
+    task.run();
+
+    TsFileResource targetFile = task.getTargetFile();
+    assertTrue(targetFile.getTsFile().exists());
+    assertFalse(sourceFile.getTsFile().exists());
+    // the purged file keeps its level under a new version
+    assertEquals("1-2-0.tsfile", targetFile.getTsFile().getName());
+    assertEquals(0, task.getTargetLevel());
+    // the deletions are applied to the data and dropped with the source file
+    assertFalse(new File(targetFile.getTsFilePath() + ModificationFile.FILE_SUFFIX).exists());
+    assertEquals(40, countPoints(targetFile));
+  }
+
+  @Test
+  public void testSkipFewDeletions() throws IOException {
+    delete(0, 9);
+    CompactionTask task = new CompactionTask(scheduler, "purge", Collections
+        .singletonList(sourceFile), true, 0, true);
+    task.run();
+
+    assertFalse(task.getTargetFile().getTsFile().exists());
+    assertTrue(sourceFile.getTsFile().exists());
+    assertFalse(sourceFile.isMerging());
+    assertEquals(1, sourceFile.getModFile().getModifications().size());
+  }
+
+  @Test
+  public void testRewriteOutOfTTL() throws IOException {
+    // a file partly out of TTL is rewritten even without deletions
+    CompactionTask task = new CompactionTask(scheduler, "purge", Collections
+        .singletonList(sourceFile), true, 0, true, 60);
+    task.run();
+
+    TsFileResource targetFile = task.getTargetFile();
+    assertTrue(targetFile.getTsFile().exists());
+    assertFalse(sourceFile.getTsFile().exists());
+    assertEquals(40, countPoints(targetFile));
+    assertEquals(60, targetFile.getStartTime(DEVICE));
+    assertEquals(99, targetFile.getEndTime(DEVICE));
+  }
+
+  @Test
+  public void testRecordExpiry() {
+    scheduler.recordExpiry(sourceFile, 30);
+    scheduler.recordExpiry(sourceFile, 60);
+    assertTrue(scheduler.needsSchedule());
+    // the latest bound is kept
+    assertEquals(Long.valueOf(60), scheduler.removeExpiryRecord(sourceFile));
+    assertFalse(scheduler.needsSchedule());
+  }
+
+  @Test
+  public void testPurgeDoesNotEnableCompaction() {
+    scheduler.recordDeletion(sourceFile);
+    // purging alone does not make queries record reads for the compaction priorities
+    assertFalse(scheduler.isEnabled());
+    assertTrue(scheduler.needsSchedule());
+  }
+
+  private void delete(long startTime, long endTime) throws IOException {
+    try {
+      sourceFile.getModFile().write(new Deletion(new Path(DEVICE, MEASUREMENT), 10, startTime,
+          endTime));
+    } finally {
+      sourceFile.getModFile().close();
+    }
+  }
+
+  private long countPoints(TsFileResource file) throws IOException {
+    long count = 0;
+    try (TsFileSequenceReader reader = new TsFileSequenceReader(file.getTsFilePath())) {
+      for (Map.Entry<String, List<ChunkMetadata>> entry : reader.readChunkMetadataInDevice(DEVICE)
+          .entrySet()) {
+        for (ChunkMetadata chunkMetadata : entry.getValue()) {
+          count += chunkMetadata.getNumOfPoints();
+        }
+      }
+    }
+    return count;
+  }
+}
@@ -22,15 +22,25 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 
 import java.io.IOException;
+import java.util.Arrays;
 import java.util.concurrent.ExecutionException;
 import org.apache.iotdb.db.conf.IoTDBDescriptor;
 import org.apache.iotdb.db.conf.adapter.ActiveTimeSeriesCounter;
 import org.apache.iotdb.db.constant.TestConstant;
 import org.apache.iotdb.db.engine.MetadataManagerHelper;
 import org.apache.iotdb.db.engine.flush.MemTableFlushTask;
+import org.apache.iotdb.db.exception.metadata.MetadataException;
+import org.apache.iotdb.db.service.IoTDB;
 import org.apache.iotdb.db.utils.EnvironmentUtils;
 import org.apache.iotdb.tsfile.file.metadata.ChunkMetadata;
 import org.apache.iotdb.tsfile.fileSystem.FSFactoryProducer;
+import org.apache.iotdb.tsfile.read.ReadOnlyTsFile;
+import org.apache.iotdb.tsfile.read.TsFileSequenceReader;
+import org.apache.iotdb.tsfile.read.common.Path;
+import org.apache.iotdb.tsfile.read.common.RowRecord;
+import org.apache.iotdb.tsfile.read.expression.QueryExpression;
+import org.apache.iotdb.tsfile.read.query.dataset.AlignedDataSet;
+import org.apache.iotdb.tsfile.read.query.dataset.QueryDataSet;
 import org.apache.iotdb.tsfile.write.writer.RestorableTsFileIOWriter;
 import org.junit.After;
 import org.junit.Before;
@@ -87,4 +97,33 @@ public class MemTableFlushTaskTest {
     assertEquals(MemTableTestUtils.dataType0, chunkMetaData.getDataType());
     assertEquals(endTime - startTime + 1, chunkMetaData.getNumOfPoints());
   }
+
+  @Test
+  public void testFlushAlignedDevice()
+      throws ExecutionException, InterruptedException, IOException, MetadataException {
+    String deviceId = "root.aligned.d0";
+    IoTDB.metaManager.setStorageGroup("root.aligned");
+    IoTDB.metaManager.setAligned(deviceId);
+    MemTableTestUtils.produceData(memTable, startTime, endTime, deviceId, "s0",
+        MemTableTestUtils.dataType0);
+    MemTableTestUtils.produceData(memTable, endTime / 2, endTime * 2, deviceId, "s1",
+        MemTableTestUtils.dataType0);
+    new MemTableFlushTask(memTable, writer, storageGroup, writer).syncFlushMemTable();
+    writer.endFile();
+
+    try (TsFileSequenceReader reader = new TsFileSequenceReader(filePath)) {
+      QueryDataSet dataSet = new ReadOnlyTsFile(reader).query(QueryExpression.create(
+          Arrays.asList(new Path(deviceId, "s0"), new Path(deviceId, "s1")), null));
+      assertTrue(dataSet instanceof AlignedDataSet);
+      long time = startTime;
+      while (dataSet.hasNext()) {
+        RowRecord record = dataSet.next();
+        assertEquals(time, record.getTimestamp());
+        assertEquals(time <= endTime, record.getFields().get(0) != null);
+        assertEquals(time >= endTime / 2, record.getFields().get(1) != null);
+        time++;
+      }
+      assertEquals(endTime * 2 + 1, time);
+    }
+  }
 }
\ No newline at end of file
@@ -21,13 +21,20 @@ package org.apache.iotdb.db.engine.merge;
 
 import static org.junit.Assert.assertEquals;
 
+import java.io.File;
 import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import org.apache.iotdb.db.conf.IoTDBConstant;
+import org.apache.iotdb.db.constant.TestConstant;
 import org.apache.iotdb.db.engine.merge.manage.MergeResource;
 import org.apache.iotdb.db.engine.merge.selector.MaxFileMergeFileSelector;
 import org.apache.iotdb.db.engine.merge.selector.IMergeFileSelector;
 import org.apache.iotdb.db.engine.storagegroup.TsFileResource;
 import org.apache.iotdb.db.exception.MergeException;
+import org.apache.iotdb.db.utils.MergeUtils;
+import org.apache.iotdb.tsfile.exception.write.WriteProcessException;
 import org.junit.Test;
 
 public class MaxFileMergeFileSelectorTest extends MergeTest {
@@ -78,8 +85,58 @@ public class MaxFileMergeFileSelectorTest extends MergeTest {
     List[] result = mergeFileSelector.select();
     List<TsFileResource> seqSelected = result[0];
     List<TsFileResource> unseqSelected = result[1];
-    assertEquals(seqResources.subList(0, 3), seqSelected);
-    assertEquals(unseqResources.subList(0, 3), unseqSelected);
+    // the unseqFiles covering the most of their seqFiles remove the most overlap per byte
+    assertEquals(seqResources.subList(2, 5), seqSelected);
+    assertEquals(unseqResources.subList(2, 5), unseqSelected);
     resource.clear();
   }
+
+  @Test
+  public void testMostOverlapPerByteFirst()
+      throws MergeException, IOException, WriteProcessException {
+    // overlaps a tenth of seqFile 0
+    TsFileResource smallUnseqFile = prepareUnseqFile(10, 0, 10);
+    // overlaps the whole seqFile 1, so half of the bytes rewritten are unseq data
+    TsFileResource fullUnseqFile = prepareUnseqFile(11, 100, 100);
+    // overlaps a tenth of seqFile 1, which rewrites nothing more once seqFile 1 is selected
+    TsFileResource coveredUnseqFile = prepareUnseqFile(12, 150, 10);
+    List<TsFileResource> unseqFiles = Arrays
+        .asList(smallUnseqFile, fullUnseqFile, coveredUnseqFile);
+    MergeResource resource = new MergeResource(seqResources, unseqFiles);
+    for (TsFileResource tsFileResource : seqResources) {
+      MergeUtils.loadMetadataStatistics(tsFileResource, resource.getFileReader(tsFileResource));
+    }
+    for (TsFileResource tsFileResource : unseqFiles) {
+      MergeUtils.loadMetadataStatistics(tsFileResource, resource.getFileReader(tsFileResource));
+    }
+
+    // enough for fullUnseqFile, seqFile 1 and coveredUnseqFile, while each of smallUnseqFile and
+    // coveredUnseqFile would fit on its own
+    TsFileResource seqFile = seqResources.get(1);
+    long budget = MergeUtils.estimateUnseqReadMemory(fullUnseqFile, 1)
+        + MergeUtils.estimateSeqReadMemory(seqFile, 1)
+        + MergeUtils.estimateSeqWriteMemory(seqFile)
+        + MergeUtils.estimateUnseqReadMemory(coveredUnseqFile, 1) + 1;
+    IMergeFileSelector mergeFileSelector = new MaxFileMergeFileSelector(resource, budget);
+    List[] result = mergeFileSelector.select();
+    assertEquals(Collections.singletonList(seqFile), result[0]);
+    assertEquals(Arrays.asList(fullUnseqFile, coveredUnseqFile), result[1]);
+    resource.clear();
+  }
+
+  private TsFileResource prepareUnseqFile(int index, long timeOffset, long ptNum)
+      throws IOException, WriteProcessException {
+    File file = new File(TestConstant.BASE_OUTPUT_PATH.concat(
+        index + "unseq" + IoTDBConstant.FILE_NAME_SEPARATOR
+            + index + IoTDBConstant.FILE_NAME_SEPARATOR
+            + index + IoTDBConstant.FILE_NAME_SEPARATOR + 0
+            + ".tsfile"));
+    TsFileResource tsFileResource = new TsFileResource(file);
+    tsFileResource.setClosed(true);
+    tsFileResource.setHistoricalVersions(Collections.singleton((long) index));
+    // removed with the other files after the test
+    unseqResources.add(tsFileResource);
+    prepareFile(tsFileResource, timeOffset, ptNum, 0);
+    return tsFileResource;
+  }
 }
@@ -20,6 +20,7 @@
 package org.apache.iotdb.db.engine.merge;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 
 import java.io.IOException;
 import java.util.List;
@@ -85,8 +86,8 @@ public class MaxSeriesMergeFileSelectorTest extends MergeTest {
     List[] result = mergeFileSelector.select();
     List<TsFileResource> seqSelected = result[0];
     List<TsFileResource> unseqSelected = result[1];
-    assertEquals(seqResources.subList(0, 3), seqSelected);
-    assertEquals(unseqResources.subList(0, 3), unseqSelected);
+    assertEquals(seqResources.subList(2, 3), seqSelected);
+    assertEquals(unseqResources.subList(2, 3), unseqSelected);
     assertEquals(MaxSeriesMergeFileSelector.MAX_SERIES_NUM,
         mergeFileSelector.getConcurrentMergeNum());
     resource.clear();
@@ -96,12 +97,14 @@ public class MaxSeriesMergeFileSelectorTest extends MergeTest {
   public void testRestrictedSelection2() throws MergeException, IOException {
     MergeResource resource = new MergeResource(seqResources, unseqResources);
     MaxSeriesMergeFileSelector mergeFileSelector = new MaxSeriesMergeFileSelector(resource,
-        100000);
+        200000);
     List[] result = mergeFileSelector.select();
     List<TsFileResource> seqSelected = result[0];
     List<TsFileResource> unseqSelected = result[1];
     assertEquals(seqResources.subList(0, 1), seqSelected);
     assertEquals(unseqResources.subList(0, 1), unseqSelected);
+    assertTrue(
+        mergeFileSelector.getConcurrentMergeNum() < MaxSeriesMergeFileSelector.MAX_SERIES_NUM);
     resource.clear();
   }
 }
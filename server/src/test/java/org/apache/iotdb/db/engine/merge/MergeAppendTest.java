@@ -0,0 +1,155 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iotdb.db.engine.merge;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import org.apache.commons.io.FileUtils;
+import org.apache.iotdb.db.conf.IoTDBConstant;
+import org.apache.iotdb.db.conf.IoTDBDescriptor;
+import org.apache.iotdb.db.constant.TestConstant;
+import org.apache.iotdb.db.engine.merge.manage.MergeResource;
+import org.apache.iotdb.db.engine.merge.task.MergeTask;
+import org.apache.iotdb.db.engine.storagegroup.TsFileResource;
+import org.apache.iotdb.db.exception.StorageEngineException;
+import org.apache.iotdb.db.exception.metadata.MetadataException;
+import org.apache.iotdb.db.query.context.QueryContext;
+import org.apache.iotdb.db.query.reader.series.SeriesRawDataBatchReader;
+import org.apache.iotdb.tsfile.exception.write.WriteProcessException;
+import org.apache.iotdb.tsfile.read.common.BatchData;
+import org.apache.iotdb.tsfile.read.common.Path;
+import org.apache.iotdb.tsfile.read.reader.IBatchReader;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Merges a single unseq point into a seqFile, which should append the merged chunks to the seqFile
+ * instead of rewriting it.
+ */
+public class MergeAppendTest extends MergeTest {
+
+  private static final long UNSEQ_TIME = 10;
+
+  private File tempSGDir;
+  private double prevMergeMaxObsoleteRatio;
+
+  @Override
+  @Before
+  public void setUp()
+      throws IOException, WriteProcessException, MetadataException {
+    prevMergeMaxObsoleteRatio = IoTDBDescriptor.getInstance().getConfig()
+        .getMergeMaxObsoleteRatio();
+    super.setUp();
+    tempSGDir = new File(TestConstant.BASE_OUTPUT_PATH.concat("tempSG"));
+    tempSGDir.mkdirs();
+  }
+
+  @Override
+  @After
+  public void tearDown() throws IOException, StorageEngineException {
+    super.tearDown();
+    FileUtils.deleteDirectory(tempSGDir);
+    IoTDBDescriptor.getInstance().getConfig().setMergeMaxObsoleteRatio(prevMergeMaxObsoleteRatio);
+  }
+
+  @Override
+  void prepareFiles(int seqFileNum, int unseqFileNum) throws IOException, WriteProcessException {
+    TsFileResource seqFile = newResource("seq", 0);
+    seqResources.add(seqFile);
+    prepareFile(seqFile, 0, ptNum, 0);
+    TsFileResource unseqFile = newResource("unseq", 1);
+    unseqResources.add(unseqFile);
+    prepareFile(unseqFile, UNSEQ_TIME, 1, 10000);
+  }
+
+  private TsFileResource newResource(String prefix, int version) {
+    File file = new File(TestConstant.BASE_OUTPUT_PATH.concat(
+        version + prefix + IoTDBConstant.FILE_NAME_SEPARATOR + version
+            + IoTDBConstant.FILE_NAME_SEPARATOR + version + IoTDBConstant.FILE_NAME_SEPARATOR + 0
+            + ".tsfile"));
+    TsFileResource tsFileResource = new TsFileResource(file);
+    tsFileResource.setClosed(true);
+    tsFileResource.setHistoricalVersions(Collections.singleton((long) version));
+    return tsFileResource;
+  }
+
+  @Test
+  public void testAppend() throws Exception {
+    TsFileResource seqFile = seqResources.get(0);
+    long sizeBeforeMerge = seqFile.getTsFileSize();
+    merge();
+
+    assertTrue(seqFile.getObsoleteSize() > 0);
+    assertTrue(seqFile.getTsFileSize() > sizeBeforeMerge);
+    checkData();
+
+    // the obsolete size survives a restart
+    TsFileResource reloaded = new TsFileResource(seqFile.getTsFile());
+    reloaded.deserialize();
+    assertEquals(seqFile.getObsoleteSize(), reloaded.getObsoleteSize());
+  }
+
+  @Test
+  public void testRewrite() throws Exception {
+    // appending always leaves obsolete chunks, so the file is rewritten
+    IoTDBDescriptor.getInstance().getConfig().setMergeMaxObsoleteRatio(0);
+    merge();
+
+    assertEquals(0, seqResources.get(0).getObsoleteSize());
+    checkData();
+  }
+
+  private void merge() throws Exception {
+    MergeTask mergeTask =
+        new MergeTask(new MergeResource(seqResources, unseqResources), tempSGDir.getPath(),
+            (k, v, l) -> {
+            }, "test", false, 1, MERGE_TEST_SG);
+    mergeTask.call();
+  }
+
+  private void checkData() throws IOException {
+    QueryContext context = new QueryContext();
+    for (String deviceId : deviceIds) {
+      Path path = new Path(deviceId, measurementSchemas[0].getMeasurementId());
+      List<TsFileResource> list = new ArrayList<>();
+      list.add(seqResources.get(0));
+      IBatchReader tsFilesReader = new SeriesRawDataBatchReader(path,
+          measurementSchemas[0].getType(), context, list, new ArrayList<>(), null, null);
+      long expectedTime = 0;
+      while (tsFilesReader.hasNextBatch()) {
+        BatchData batchData = tsFilesReader.nextBatch();
+        for (int i = 0; i < batchData.length(); i++) {
+          long time = batchData.getTimeByIndex(i);
+          assertEquals(expectedTime++, time);
+          assertEquals(time == UNSEQ_TIME ? time + 10000 : time, batchData.getDoubleByIndex(i),
+              0.001);
+        }
+      }
+      assertEquals(ptNum, expectedTime);
+      tsFilesReader.close();
+    }
+  }
+}
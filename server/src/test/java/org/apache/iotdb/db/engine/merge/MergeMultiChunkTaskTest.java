@@ -0,0 +1,204 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iotdb.db.engine.merge;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+import org.apache.commons.io.FileUtils;
+import org.apache.iotdb.db.conf.IoTDBConfig;
+import org.apache.iotdb.db.conf.IoTDBDescriptor;
+import org.apache.iotdb.db.constant.TestConstant;
+import org.apache.iotdb.db.engine.merge.manage.MergeContext;
+import org.apache.iotdb.db.engine.merge.manage.MergeResource;
+import org.apache.iotdb.db.engine.merge.recover.MergeLogger;
+import org.apache.iotdb.db.engine.merge.task.MergeMultiChunkTask;
+import org.apache.iotdb.db.engine.merge.task.MergeTask;
+import org.apache.iotdb.db.engine.storagegroup.TsFileResource;
+import org.apache.iotdb.db.exception.StorageEngineException;
+import org.apache.iotdb.db.exception.metadata.MetadataException;
+import org.apache.iotdb.db.query.context.QueryContext;
+import org.apache.iotdb.db.query.reader.series.SeriesRawDataBatchReader;
+import org.apache.iotdb.db.rescon.IOThrottle;
+import org.apache.iotdb.db.rescon.IOThrottle.IOType;
+import org.apache.iotdb.tsfile.exception.write.WriteProcessException;
+import org.apache.iotdb.tsfile.read.common.BatchData;
+import org.apache.iotdb.tsfile.read.common.Path;
+import org.apache.iotdb.tsfile.read.reader.IBatchReader;
+import org.apache.iotdb.tsfile.write.schema.MeasurementSchema;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * The series of a file are merged by several sub-tasks, each taking the next series when it is
+ * idle, within the merge memory budget.
+ */
+public class MergeMultiChunkTaskTest extends MergeTest {
+
+  private File tempSGDir;
+  private int prevMergeChunkSubThreadNum;
+  private long prevMergeMemoryBudget;
+
+  @Before
+  public void setUp()
+      throws IOException, WriteProcessException, MetadataException {
+    IoTDBConfig config = IoTDBDescriptor.getInstance().getConfig();
+    prevMergeChunkSubThreadNum = config.getMergeChunkSubThreadNum();
+    prevMergeMemoryBudget = config.getMergeMemoryBudget();
+    config.setMergeChunkSubThreadNum(4);
+    // a chunk of 50 points is estimated to take 3200 bytes when merged
+    flushInterval = 50;
+    super.setUp();
+    tempSGDir = new File(TestConstant.BASE_OUTPUT_PATH.concat("tempSG"));
+    tempSGDir.mkdirs();
+  }
+
+  @After
+  public void tearDown() throws IOException, StorageEngineException {
+    for (TsFileResource seqFile : seqResources) {
+      new File(seqFile.getTsFilePath() + MergeTask.MERGE_SUFFIX).delete();
+    }
+    super.tearDown();
+    FileUtils.deleteDirectory(tempSGDir);
+    IoTDBConfig config = IoTDBDescriptor.getInstance().getConfig();
+    config.setMergeChunkSubThreadNum(prevMergeChunkSubThreadNum);
+    config.setMergeMemoryBudget(prevMergeMemoryBudget);
+  }
+
+  /**
+   * sensor0 and sensor1 have a point at every time while sensor8 and sensor9 have one at every 16
+   * times, so a few sub-tasks get the large series and the others take the rest.
+   */
+  @Override
+  boolean hasPoint(int measurementIndex, long time) {
+    return time % getPointInterval(measurementIndex) == 0;
+  }
+
+  private long getPointInterval(int measurementIndex) {
+    return 1L << (measurementIndex / 2);
+  }
+
+  @Test
+  public void testSkewedSeries() throws Exception {
+    MergeTask mergeTask = new MergeTask(new MergeResource(seqResources, unseqResources),
+        tempSGDir.getPath(), (k, v, l) -> {
+        }, "test", false, measurementNum, MERGE_TEST_SG);
+    mergeTask.call();
+
+    checkMergedSeries();
+  }
+
+  @Test(timeout = 60000)
+  public void testChunkLargerThanBudget() throws Exception {
+    // the budget is 1KB, less than any chunk of sensor0 takes, so such a chunk takes the whole
+    // budget and is merged alone instead of waiting forever
+    IoTDBDescriptor.getInstance().getConfig().setMergeMemoryBudget(1);
+    MergeTask mergeTask = new MergeTask(new MergeResource(seqResources, unseqResources),
+        tempSGDir.getPath(), (k, v, l) -> {
+        }, "test", true, measurementNum, MERGE_TEST_SG);
+    mergeTask.call();
+
+    checkMergedSeries();
+  }
+
+  @Test(timeout = 60000)
+  public void testInterruptedMerge() throws Exception {
+    MergeResource resource = new MergeResource(seqResources, unseqResources);
+    Map<Path, MeasurementSchema> measurementSchemaMap = new HashMap<>();
+    List<Path> series = new ArrayList<>();
+    for (String deviceId : deviceIds) {
+      for (MeasurementSchema measurementSchema : measurementSchemas) {
+        Path path = new Path(deviceId, measurementSchema.getMeasurementId());
+        measurementSchemaMap.put(path, measurementSchema);
+        series.add(path);
+      }
+    }
+    resource.setMeasurementSchemaMap(measurementSchemaMap);
+    MergeLogger mergeLogger = new MergeLogger(tempSGDir.getPath());
+    MergeMultiChunkTask chunkTask = new MergeMultiChunkTask(new MergeContext(), "test",
+        mergeLogger, resource, false, series, measurementNum, MERGE_TEST_SG);
+
+    int prevThroughput = IOThrottle.getInstance().getThroughputMbPerSec(IOType.MERGE);
+    IOThrottle.getInstance().setThroughputMbPerSec(IOType.MERGE, 1);
+    try {
+      // the sub-tasks wait for this debt to be repaid after reading their first chunks, while
+      // holding the memory permits of the chunks
+      IOThrottle.getInstance().acquire(IOType.MERGE, 2L * 1024 * 1024);
+      AtomicReference<IOException> failure = new AtomicReference<>();
+      Thread mergeThread = new Thread(() -> {
+        try {
+          chunkTask.mergeSeries();
+        } catch (IOException e) {
+          failure.set(e);
+        }
+      });
+      mergeThread.start();
+      Thread.sleep(500);
+      mergeThread.interrupt();
+      mergeThread.join();
+
+      assertNull(failure.get());
+      // the sub-tasks stopped after their current series and gave back all permits
+      assertEquals(chunkTask.getMemoryBudgetKb(), chunkTask.getAvailableMemoryKb());
+      assertEquals("Processed 0/" + series.size() + " series", chunkTask.getProgress());
+    } finally {
+      IOThrottle.getInstance().setThroughputMbPerSec(IOType.MERGE, prevThroughput);
+      resource.clear();
+      mergeLogger.close();
+    }
+  }
+
+  /**
+   * every series has each of its points exactly once after the merge, with the values of the last
+   * unseq file
+   */
+  private void checkMergedSeries() throws IOException {
+    QueryContext context = new QueryContext();
+    for (String deviceId : deviceIds) {
+      for (int k = 0; k < measurementNum; k++) {
+        Path path = new Path(deviceId, measurementSchemas[k].getMeasurementId());
+        IBatchReader tsFilesReader = new SeriesRawDataBatchReader(path,
+            measurementSchemas[k].getType(), context, seqResources, new ArrayList<>(), null,
+            null);
+        long expectedTime = 0;
+        int pointNum = 0;
+        while (tsFilesReader.hasNextBatch()) {
+          BatchData batchData = tsFilesReader.nextBatch();
+          for (int i = 0; i < batchData.length(); i++) {
+            assertEquals(expectedTime, batchData.getTimeByIndex(i));
+            assertEquals(expectedTime + 20000.0, batchData.getDoubleByIndex(i), 0.001);
+            expectedTime += getPointInterval(k);
+            pointNum++;
+          }
+        }
+        tsFilesReader.close();
+        long interval = getPointInterval(k);
+        assertEquals(path.getFullPath(), (seqFileNum * ptNum + interval - 1) / interval, pointNum);
+      }
+    }
+  }
+}
@@ -0,0 +1,136 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iotdb.db.engine.merge;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import org.apache.commons.io.FileUtils;
+import org.apache.iotdb.db.conf.IoTDBConstant;
+import org.apache.iotdb.db.constant.TestConstant;
+import org.apache.iotdb.db.engine.merge.manage.MergeResource;
+import org.apache.iotdb.db.engine.merge.task.MergeTask;
+import org.apache.iotdb.db.engine.storagegroup.TsFileResource;
+import org.apache.iotdb.db.exception.StorageEngineException;
+import org.apache.iotdb.db.exception.metadata.MetadataException;
+import org.apache.iotdb.db.query.context.QueryContext;
+import org.apache.iotdb.db.query.reader.series.SeriesRawDataBatchReader;
+import org.apache.iotdb.tsfile.common.conf.TSFileDescriptor;
+import org.apache.iotdb.tsfile.exception.write.WriteProcessException;
+import org.apache.iotdb.tsfile.read.common.BatchData;
+import org.apache.iotdb.tsfile.read.common.Path;
+import org.apache.iotdb.tsfile.read.reader.IBatchReader;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Merges a seqFile whose chunks have several pages with sparse unseq points, so most pages are
+ * copied and only the overlapped ones are rewritten.
+ */
+public class MergePageCopyTest extends MergeTest {
+
+  private static final long[] UNSEQ_TIMES = {10, 55, 99};
+
+  private File tempSGDir;
+  private int prevMaxNumberOfPointsInPage;
+
+  @Override
+  @Before
+  public void setUp()
+      throws IOException, WriteProcessException, MetadataException {
+    prevMaxNumberOfPointsInPage = TSFileDescriptor.getInstance().getConfig()
+        .getMaxNumberOfPointsInPage();
+    TSFileDescriptor.getInstance().getConfig().setMaxNumberOfPointsInPage(4);
+    super.setUp();
+    tempSGDir = new File(TestConstant.BASE_OUTPUT_PATH.concat("tempSG"));
+    tempSGDir.mkdirs();
+  }
+
+  @Override
+  @After
+  public void tearDown() throws IOException, StorageEngineException {
+    super.tearDown();
+    FileUtils.deleteDirectory(tempSGDir);
+    TSFileDescriptor.getInstance().getConfig()
+        .setMaxNumberOfPointsInPage(prevMaxNumberOfPointsInPage);
+  }
+
+  @Override
+  void prepareFiles(int seqFileNum, int unseqFileNum) throws IOException, WriteProcessException {
+    TsFileResource seqFile = newResource("seq", 0);
+    seqResources.add(seqFile);
+    prepareFile(seqFile, 0, ptNum, 0);
+    for (int i = 0; i < UNSEQ_TIMES.length; i++) {
+      TsFileResource unseqFile = newResource("unseq", i + 1);
+      unseqResources.add(unseqFile);
+      prepareFile(unseqFile, UNSEQ_TIMES[i], 1, 10000);
+    }
+  }
+
+  private TsFileResource newResource(String prefix, int version) {
+    File file = new File(TestConstant.BASE_OUTPUT_PATH.concat(
+        version + prefix + IoTDBConstant.FILE_NAME_SEPARATOR + version
+            + IoTDBConstant.FILE_NAME_SEPARATOR + version + IoTDBConstant.FILE_NAME_SEPARATOR + 0
+            + ".tsfile"));
+    TsFileResource tsFileResource = new TsFileResource(file);
+    tsFileResource.setClosed(true);
+    tsFileResource.setHistoricalVersions(Collections.singleton((long) version));
+    return tsFileResource;
+  }
+
+  @Test
+  public void testMerge() throws Exception {
+    MergeTask mergeTask =
+        new MergeTask(new MergeResource(seqResources, unseqResources), tempSGDir.getPath(),
+            (k, v, l) -> {
+            }, "test", true, 1, MERGE_TEST_SG);
+    mergeTask.call();
+
+    QueryContext context = new QueryContext();
+    for (String deviceId : deviceIds) {
+      Path path = new Path(deviceId, measurementSchemas[0].getMeasurementId());
+      List<TsFileResource> list = new ArrayList<>();
+      list.add(seqResources.get(0));
+      IBatchReader tsFilesReader = new SeriesRawDataBatchReader(path,
+          measurementSchemas[0].getType(), context, list, new ArrayList<>(), null, null);
+      long expectedTime = 0;
+      while (tsFilesReader.hasNextBatch()) {
+        BatchData batchData = tsFilesReader.nextBatch();
+        for (int i = 0; i < batchData.length(); i++) {
+          long time = batchData.getTimeByIndex(i);
+          assertEquals(expectedTime++, time);
+          double expectedValue = time;
+          for (long unseqTime : UNSEQ_TIMES) {
+            if (unseqTime == time) {
+              expectedValue += 10000;
+            }
+          }
+          assertEquals(expectedValue, batchData.getDoubleByIndex(i), 0.001);
+        }
+      }
+      assertEquals(ptNum, expectedTime);
+      tsFilesReader.close();
+    }
+  }
+}
@@ -177,6 +177,9 @@ abstract class MergeTest {
       for (int j = 0; j < deviceNum; j++) {
         TSRecord record = new TSRecord(i, deviceIds[j]);
         for (int k = 0; k < measurementNum; k++) {
+          if (!hasPoint(k, i)) {
+            continue;
+          }
           record.addTuple(DataPoint.getDataPoint(measurementSchemas[k].getType(),
               measurementSchemas[k].getMeasurementId(), String.valueOf(i + valueOffset)));
         }
@@ -190,4 +193,11 @@ abstract class MergeTest {
     }
     fileWriter.close();
   }
+
+  /**
+   * @return whether the files have a point of the k-th measurement at the time, all by default
+   */
+  boolean hasPoint(int measurementIndex, long time) {
+    return true;
+  }
 }
\ No newline at end of file
@@ -0,0 +1,156 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iotdb.db.engine.merge;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import org.apache.commons.io.FileUtils;
+import org.apache.iotdb.db.constant.TestConstant;
+import org.apache.iotdb.db.engine.merge.manage.MergeResource;
+import org.apache.iotdb.db.engine.merge.manage.RecompressionPolicy;
+import org.apache.iotdb.db.engine.merge.selector.RecompressionFileSelector;
+import org.apache.iotdb.db.engine.merge.task.MergeTask;
+import org.apache.iotdb.db.engine.storagegroup.TsFileResource;
+import org.apache.iotdb.db.exception.StorageEngineException;
+import org.apache.iotdb.db.exception.metadata.MetadataException;
+import org.apache.iotdb.db.query.context.QueryContext;
+import org.apache.iotdb.db.query.reader.series.SeriesRawDataBatchReader;
+import org.apache.iotdb.tsfile.exception.write.WriteProcessException;
+import org.apache.iotdb.tsfile.file.header.ChunkHeader;
+import org.apache.iotdb.tsfile.file.metadata.ChunkMetadata;
+import org.apache.iotdb.tsfile.file.metadata.enums.CompressionType;
+import org.apache.iotdb.tsfile.file.metadata.enums.TSDataType;
+import org.apache.iotdb.tsfile.file.metadata.enums.TSEncoding;
+import org.apache.iotdb.tsfile.read.TsFileSequenceReader;
+import org.apache.iotdb.tsfile.read.common.BatchData;
+import org.apache.iotdb.tsfile.read.common.Path;
+import org.apache.iotdb.tsfile.read.reader.IBatchReader;
+import org.apache.iotdb.tsfile.write.schema.MeasurementSchema;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class RecompressionMergeTest extends MergeTest {
+
+  private File tempSGDir;
+  private RecompressionPolicy policy = RecompressionPolicy
+      .parse("after=1000,compressor=GZIP,level=9,DOUBLE=GORILLA");
+
+  @Before
+  public void setUp()
+      throws IOException, WriteProcessException, MetadataException {
+    super.setUp();
+    tempSGDir = new File(TestConstant.BASE_OUTPUT_PATH.concat("tempSG"));
+    tempSGDir.mkdirs();
+  }
+
+  @After
+  public void tearDown() throws IOException, StorageEngineException {
+    super.tearDown();
+    FileUtils.deleteDirectory(tempSGDir);
+  }
+
+  @Test
+  public void testParse() {
+    assertEquals(1000, policy.getAge());
+    assertEquals(CompressionType.GZIP, policy.getCompressor());
+    assertEquals(9, policy.getCompressionLevel());
+    assertEquals(TSEncoding.GORILLA, policy.getEncodings().get(TSDataType.DOUBLE));
+    assertEquals(policy.toString(), RecompressionPolicy.parse(policy.toString()).toString());
+
+    MeasurementSchema schema = policy.apply(measurementSchemas[0]);
+    assertEquals(CompressionType.GZIP, schema.getCompressor());
+    assertEquals(TSEncoding.GORILLA, schema.getEncodingType());
+    assertEquals(9, schema.getCompressionLevel());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testParseIllegalEncoding() {
+    RecompressionPolicy.parse("after=1000,compressor=GZIP,TEXT=GORILLA");
+  }
+
+  @Test
+  public void testRecompress() throws Exception {
+    assertTrue(policy.isCold(seqResources.get(0), System.currentTimeMillis()));
+    assertFalse(policy.isCold(seqResources.get(0), 0));
+
+    MergeResource resource = new MergeResource(seqResources, Collections.emptyList());
+    List[] selected = new RecompressionFileSelector(resource, policy).select();
+    assertEquals(seqResources.size(), selected[0].size());
+    assertTrue(selected[1].isEmpty());
+
+    resource.clear();
+    resource.setRecompressionPolicy(policy);
+    MergeTask mergeTask = new MergeTask(resource, tempSGDir.getPath(), (k, v, l) -> {
+    }, "test", false, 1, MERGE_TEST_SG);
+    mergeTask.call();
+
+    Path path = new Path(deviceIds[0], measurementSchemas[0].getMeasurementId());
+    for (TsFileResource seqFile : seqResources) {
+      try (TsFileSequenceReader reader = new TsFileSequenceReader(seqFile.getTsFilePath())) {
+        List<ChunkMetadata> chunkMetadataList = reader.getChunkMetadataList(path);
+        assertFalse(chunkMetadataList.isEmpty());
+        for (ChunkMetadata chunkMetadata : chunkMetadataList) {
+          ChunkHeader header = reader.readMemChunk(chunkMetadata).getHeader();
+          assertEquals(CompressionType.GZIP, header.getCompressionType());
+          assertEquals(TSEncoding.GORILLA, header.getEncodingType());
+        }
+      }
+    }
+
+    QueryContext context = new QueryContext();
+    IBatchReader tsFilesReader = new SeriesRawDataBatchReader(path,
+        measurementSchemas[0].getType(), context, seqResources, new ArrayList<>(), null, null);
+    long count = 0;
+    while (tsFilesReader.hasNextBatch()) {
+      BatchData batchData = tsFilesReader.nextBatch();
+      for (int i = 0; i < batchData.length(); i++) {
+        assertEquals(batchData.getTimeByIndex(i), batchData.getDoubleByIndex(i), 0.001);
+        count++;
+      }
+    }
+    tsFilesReader.close();
+    assertEquals(seqFileNum * ptNum, count);
+
+    // the recompressed files are not selected again, even after a restart
+    for (TsFileResource seqFile : seqResources) {
+      TsFileResource recovered = new TsFileResource(seqFile.getTsFile());
+      recovered.deserialize();
+      assertEquals(policy.getForm(), recovered.getRecompressionForm());
+    }
+    resource = new MergeResource(seqResources, Collections.emptyList());
+    assertEquals(0, new RecompressionFileSelector(resource, policy).select().length);
+    resource.clear();
+
+    // but they are selected again if only the compression level is changed
+    RecompressionPolicy newLevelPolicy = RecompressionPolicy
+        .parse("after=1000,compressor=GZIP,level=1,DOUBLE=GORILLA");
+    resource = new MergeResource(seqResources, Collections.emptyList());
+    assertEquals(seqResources.size(),
+        new RecompressionFileSelector(resource, newLevelPolicy).select()[0].size());
+    resource.clear();
+  }
+}
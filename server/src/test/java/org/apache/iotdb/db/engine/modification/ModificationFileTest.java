@@ -20,14 +20,18 @@
 package org.apache.iotdb.db.engine.modification;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
 import java.io.File;
 import java.io.IOException;
+import java.util.Collections;
 import java.util.List;
 
 import org.apache.iotdb.db.constant.TestConstant;
 import org.apache.iotdb.tsfile.read.common.Path;
+import org.apache.iotdb.tsfile.read.common.TimeRange;
 import org.junit.Ignore;
 import org.junit.Test;
 
@@ -65,6 +69,35 @@ public class ModificationFileTest {
     }
   }
 
+  @Test
+  public void testSeriesDeletions() {
+    String tempFileName = TestConstant.BASE_OUTPUT_PATH.concat("mod.temp");
+    Path s1 = new Path("d1", "s1");
+    try (ModificationFile mFile = new ModificationFile(tempFileName)) {
+      mFile.write(new Deletion(s1, 1, 10, 20));
+      mFile.write(new Deletion(new Path("d1", "s2"), 2, 30));
+      SeriesDeletions deletions = mFile.getSeriesDeletions(s1.getFullPath());
+      assertEquals(1, deletions.getModifications().size());
+      assertSame(deletions, mFile.getSeriesDeletions(s1.getFullPath()));
+      assertTrue(mFile.getSeriesDeletions("d1.s3").isEmpty());
+
+      // appending a deletion of the series invalidates the cached one
+      mFile.write(new Deletion(s1, 3, 21, 40));
+      SeriesDeletions newDeletions = mFile.getSeriesDeletions(s1.getFullPath());
+      assertEquals(1, deletions.getModifications().size());
+      assertEquals(2, newDeletions.getModifications().size());
+      assertEquals(Collections.singletonList(new TimeRange(10, 40)),
+          newDeletions.getDeletedRanges(0));
+
+      mFile.abort();
+      assertEquals(1, mFile.getSeriesDeletions(s1.getFullPath()).getModifications().size());
+    } catch (IOException e) {
+      fail(e.getMessage());
+    } finally {
+      new File(tempFileName).delete();
+    }
+  }
+
   @Test
   public void testAbort() {
     String tempFileName = TestConstant.BASE_OUTPUT_PATH.concat("mod.temp");
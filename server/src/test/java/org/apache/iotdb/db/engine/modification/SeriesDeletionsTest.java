@@ -0,0 +1,109 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iotdb.db.engine.modification;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import org.apache.iotdb.db.utils.QueryUtils;
+import org.apache.iotdb.tsfile.file.metadata.ChunkMetadata;
+import org.apache.iotdb.tsfile.file.metadata.enums.TSDataType;
+import org.apache.iotdb.tsfile.file.metadata.statistics.Statistics;
+import org.apache.iotdb.tsfile.read.common.Path;
+import org.apache.iotdb.tsfile.read.common.TimeRange;
+import org.junit.Test;
+
+public class SeriesDeletionsTest {
+
+  private final Path path = new Path("root.sg.d1", "s1");
+
+  @Test
+  public void testDeletedRanges() {
+    SeriesDeletions deletions = new SeriesDeletions(Arrays.asList(
+        new Deletion(path, 5, 100, 200),
+        new Deletion(path, 3, 150, 300),
+        new Deletion(path, 7, 301, 400),
+        new Deletion(path, 9, 1000, 1100)));
+
+    assertEquals(Arrays.asList(new TimeRange(100, 400), new TimeRange(1000, 1100)),
+        deletions.getDeletedRanges(0));
+    // the deletion of version 3 does not apply to chunks of version 3 or later
+    assertEquals(Arrays.asList(new TimeRange(100, 200), new TimeRange(301, 400),
+        new TimeRange(1000, 1100)), deletions.getDeletedRanges(3));
+    assertEquals(Collections.singletonList(new TimeRange(1000, 1100)),
+        deletions.getDeletedRanges(8));
+    assertTrue(deletions.getDeletedRanges(9).isEmpty());
+    // the merged ranges are built once
+    assertSame(deletions.getDeletedRanges(0), deletions.getDeletedRanges(2));
+  }
+
+  @Test
+  public void testModifyChunkMetadata() {
+    SeriesDeletions deletions = new SeriesDeletions(Arrays.asList(
+        new Deletion(path, 10, 0, 99),
+        new Deletion(path, 10, 150, 160),
+        new Deletion(path, 10, 170, 180),
+        new Deletion(path, 2, 300, 399)));
+    List<ChunkMetadata> chunkMetadataList = new ArrayList<>();
+    for (int i = 0; i < 5; i++) {
+      // chunks of [0, 99], [100, 199], ... [400, 499]
+      chunkMetadataList.add(chunkMetadata(i * 100L, i * 100L + 99, i));
+    }
+    // an out of order chunk of [120, 155]
+    chunkMetadataList.add(chunkMetadata(120, 155, 5));
+
+    QueryUtils.modifyChunkMetaData(chunkMetadataList, deletions);
+
+    assertEquals(5, chunkMetadataList.size());
+    ChunkMetadata chunk = chunkMetadataList.get(0);
+    assertEquals(100, chunk.getStartTime());
+    assertTrue(chunk.isModified());
+    assertEquals(Arrays.asList(new TimeRange(150, 160), new TimeRange(170, 180)),
+        chunk.getDeleteIntervalList());
+
+    assertFalse(chunkMetadataList.get(1).isModified());
+    assertNull(chunkMetadataList.get(1).getDeleteIntervalList());
+    // the chunk of [300, 399] is written after the deletion of version 2
+    chunk = chunkMetadataList.get(2);
+    assertEquals(300, chunk.getStartTime());
+    assertFalse(chunk.isModified());
+    assertFalse(chunkMetadataList.get(3).isModified());
+
+    chunk = chunkMetadataList.get(4);
+    assertEquals(120, chunk.getStartTime());
+    assertEquals(Collections.singletonList(new TimeRange(150, 160)),
+        chunk.getDeleteIntervalList());
+  }
+
+  private ChunkMetadata chunkMetadata(long startTime, long endTime, long version) {
+    Statistics statistics = Statistics.getStatsByType(TSDataType.INT64);
+    statistics.update(startTime, startTime);
+    statistics.update(endTime, endTime);
+    ChunkMetadata chunkMetadata = new ChunkMetadata("s1", TSDataType.INT64, 0, statistics);
+    chunkMetadata.setVersion(version);
+    return chunkMetadata;
+  }
+}
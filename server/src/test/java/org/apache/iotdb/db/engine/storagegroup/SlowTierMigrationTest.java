@@ -0,0 +1,262 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iotdb.db.engine.storagegroup;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import org.apache.commons.io.FileUtils;
+import org.apache.iotdb.db.conf.IoTDBConfig;
+import org.apache.iotdb.db.conf.IoTDBConstant;
+import org.apache.iotdb.db.conf.IoTDBDescriptor;
+import org.apache.iotdb.db.conf.directories.DirectoryManager;
+import org.apache.iotdb.db.constant.TestConstant;
+import org.apache.iotdb.db.engine.MetadataManagerHelper;
+import org.apache.iotdb.db.engine.flush.TsFileFlushPolicy.DirectFlushPolicy;
+import org.apache.iotdb.db.engine.modification.ModificationFile;
+import org.apache.iotdb.db.exception.WriteProcessException;
+import org.apache.iotdb.db.metadata.mnode.MNode;
+import org.apache.iotdb.db.metadata.mnode.MeasurementMNode;
+import org.apache.iotdb.db.qp.physical.crud.InsertRowPlan;
+import org.apache.iotdb.db.rescon.IOThrottle;
+import org.apache.iotdb.db.rescon.IOThrottle.IOType;
+import org.apache.iotdb.db.utils.EnvironmentUtils;
+import org.apache.iotdb.tsfile.file.metadata.enums.TSDataType;
+import org.apache.iotdb.tsfile.write.record.TSRecord;
+import org.apache.iotdb.tsfile.write.record.datapoint.DataPoint;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class SlowTierMigrationTest {
+
+  private String storageGroup = "root.vehicle.d0";
+  private String systemDir = TestConstant.OUTPUT_DATA_DIR.concat("info");
+  private String slowTierDir = TestConstant.BASE_OUTPUT_PATH.concat("slow");
+  private String deviceId = "root.vehicle.d0";
+  private String measurementId = "s0";
+  private StorageGroupProcessor processor;
+  private MNode deviceMNode;
+  private String[] prevSlowTierDataDirs;
+
+  @Before
+  public void setUp() throws Exception {
+    MetadataManagerHelper.initMetadata();
+    EnvironmentUtils.envSetUp();
+    IoTDBConfig config = IoTDBDescriptor.getInstance().getConfig();
+    prevSlowTierDataDirs = config.getSlowTierDataDirs();
+    config.setSlowTierDataDirs(new String[]{slowTierDir});
+    DirectoryManager.getInstance().updateSlowTierFolders();
+    processor = new StorageGroupProcessor(systemDir, storageGroup, new DirectFlushPolicy());
+    deviceMNode = new MNode(null, deviceId);
+    deviceMNode.addChild(measurementId, new MeasurementMNode(null, null, null, null));
+  }
+
+  @After
+  public void tearDown() throws Exception {
+    processor.syncDeleteDataFiles();
+    EnvironmentUtils.cleanEnv();
+    EnvironmentUtils.cleanDir(TestConstant.OUTPUT_DATA_DIR);
+    FileUtils.deleteDirectory(new File(slowTierDir));
+    IoTDBDescriptor.getInstance().getConfig().setSlowTierDataDirs(prevSlowTierDataDirs);
+    DirectoryManager.getInstance().updateSlowTierFolders();
+  }
+
+  @Test
+  public void testMigrate() throws Exception {
+    insertAndClose(1, 100);
+    TsFileResource resource = processor.getSequenceFileTreeSet().get(0);
+    File originFile = resource.getTsFile();
+
+    processor.migrateFilesToSlowTier(Long.MAX_VALUE);
+
+    assertTrue(DirectoryManager.getInstance().isSlowTierFile(resource.getTsFile()));
+    assertTrue(resource.getTsFile().exists());
+    assertTrue(new File(resource.getTsFilePath() + TsFileResource.RESOURCE_SUFFIX).exists());
+    assertFalse(originFile.exists());
+    assertFalse(new File(originFile.getPath() + TsFileResource.RESOURCE_SUFFIX).exists());
+    assertFalse(resource.isMerging());
+    assertEquals(0, listMigratingCopies().size());
+
+    // the moved file is found in the slow tier after a restart
+    reopen();
+    List<TsFileResource> seqFiles = processor.getSequenceFileTreeSet();
+    assertEquals(1, seqFiles.size());
+    assertEquals(resource.getTsFile().getAbsolutePath(),
+        seqFiles.get(0).getTsFile().getAbsolutePath());
+    assertEquals(100, seqFiles.get(0).getEndTime(deviceId));
+  }
+
+  @Test
+  public void testSkipFileBeingRead() throws Exception {
+    insertAndClose(1, 100);
+    TsFileResource resource = processor.getSequenceFileTreeSet().get(0);
+    File originFile = resource.getTsFile();
+
+    // a query holds the file
+    resource.readLock();
+    try {
+      processor.migrateFilesToSlowTier(Long.MAX_VALUE);
+    } finally {
+      resource.readUnlock();
+    }
+    assertEquals(originFile, resource.getTsFile());
+    assertTrue(originFile.exists());
+    assertFalse(resource.isMerging());
+    // the copies are discarded
+    assertEquals(0, listMigratingCopies().size());
+    assertFalse(getSlowTierFile(originFile).exists());
+
+    // and the file is moved once the query ends
+    processor.migrateFilesToSlowTier(Long.MAX_VALUE);
+    assertTrue(DirectoryManager.getInstance().isSlowTierFile(resource.getTsFile()));
+    assertFalse(originFile.exists());
+  }
+
+  @Test
+  public void testSkipNewFiles() throws Exception {
+    insertAndClose(1, 100);
+    TsFileResource resource = processor.getSequenceFileTreeSet().get(0);
+
+    processor.migrateFilesToSlowTier(100);
+
+    assertFalse(DirectoryManager.getInstance().isSlowTierFile(resource.getTsFile()));
+    assertFalse(getSlowTierFile(resource.getTsFile()).exists());
+  }
+
+  @Test
+  public void testRecoverMigratingCopies() throws Exception {
+    insertAndClose(1, 100);
+    File originFile = processor.getSequenceFileTreeSet().get(0).getTsFile();
+    // the system crashed after the resource file was named and before the TsFile was named
+    File slowTierFile = getSlowTierFile(originFile);
+    slowTierFile.getParentFile().mkdirs();
+    Files.copy(originFile.toPath(), new File(slowTierFile.getPath() + ".migrating").toPath());
+    Files.copy(new File(originFile.getPath() + TsFileResource.RESOURCE_SUFFIX).toPath(),
+        new File(slowTierFile.getPath() + TsFileResource.RESOURCE_SUFFIX).toPath());
+
+    reopen();
+
+    assertEquals(0, listMigratingCopies().size());
+    assertFalse(slowTierFile.exists());
+    assertFalse(new File(slowTierFile.getPath() + TsFileResource.RESOURCE_SUFFIX).exists());
+    List<TsFileResource> seqFiles = processor.getSequenceFileTreeSet();
+    assertEquals(1, seqFiles.size());
+    assertEquals(originFile.getAbsolutePath(), seqFiles.get(0).getTsFile().getAbsolutePath());
+    assertTrue(originFile.exists());
+  }
+
+  @Test
+  public void testRecoverMovedDuplicate() throws Exception {
+    insertAndClose(1, 100);
+    processor.delete(deviceId, measurementId, 0, 10);
+    File originFile = processor.getSequenceFileTreeSet().get(0).getTsFile();
+    // the system crashed after the TsFile was named and before the original one was removed
+    File slowTierFile = getSlowTierFile(originFile);
+    slowTierFile.getParentFile().mkdirs();
+    for (String suffix : new String[]{TsFileResource.RESOURCE_SUFFIX,
+        ModificationFile.FILE_SUFFIX, ""}) {
+      Files.copy(new File(originFile.getPath() + suffix).toPath(),
+          new File(slowTierFile.getPath() + suffix).toPath());
+    }
+
+    reopen();
+
+    assertFalse(originFile.exists());
+    assertFalse(new File(originFile.getPath() + TsFileResource.RESOURCE_SUFFIX).exists());
+    assertFalse(new File(originFile.getPath() + ModificationFile.FILE_SUFFIX).exists());
+    List<TsFileResource> seqFiles = processor.getSequenceFileTreeSet();
+    assertEquals(1, seqFiles.size());
+    assertEquals(slowTierFile.getAbsolutePath(), seqFiles.get(0).getTsFile().getAbsolutePath());
+    assertEquals(1, seqFiles.get(0).getModFile().getModifications().size());
+  }
+
+  @Test
+  public void testDeletionDuringCopy() throws Exception {
+    insertAndClose(1, 100);
+    TsFileResource resource = processor.getSequenceFileTreeSet().get(0);
+    File originFile = resource.getTsFile();
+
+    int prevThroughput = IOThrottle.getInstance().getThroughputMbPerSec(IOType.MIGRATION);
+    IOThrottle.getInstance().setThroughputMbPerSec(IOType.MIGRATION, 1);
+    // use up the budget so that the copy waits for about 2 seconds after it starts
+    IOThrottle.getInstance().acquire(IOType.MIGRATION, 2L * 1024 * 1024);
+    try {
+      Thread migration = new Thread(() -> processor.migrateFilesToSlowTier(Long.MAX_VALUE));
+      migration.start();
+      long waitStart = System.currentTimeMillis();
+      while (listMigratingCopies().isEmpty() && migration.isAlive()
+          && System.currentTimeMillis() - waitStart < 10_000) {
+        Thread.sleep(1);
+      }
+      // the modification file is created while the TsFile is being copied
+      processor.delete(deviceId, measurementId, 0, 10);
+      migration.join();
+    } finally {
+      IOThrottle.getInstance().setThroughputMbPerSec(IOType.MIGRATION, prevThroughput);
+    }
+
+    assertTrue(DirectoryManager.getInstance().isSlowTierFile(resource.getTsFile()));
+    assertFalse(new File(originFile.getPath() + ModificationFile.FILE_SUFFIX).exists());
+    assertTrue(new File(resource.getTsFilePath() + ModificationFile.FILE_SUFFIX).exists());
+    assertEquals(1, resource.getModFile().getModifications().size());
+
+    reopen();
+    assertEquals(1, processor.getSequenceFileTreeSet().get(0).getModFile().getModifications()
+        .size());
+  }
+
+  private void insertAndClose(long startTime, long endTime) throws WriteProcessException {
+    for (long time = startTime; time <= endTime; time++) {
+      TSRecord record = new TSRecord(time, deviceId);
+      record.addTuple(DataPoint.getDataPoint(TSDataType.INT32, measurementId,
+          String.valueOf(time)));
+      InsertRowPlan insertRowPlan = new InsertRowPlan(record);
+      insertRowPlan.setDeviceMNode(deviceMNode);
+      processor.insert(insertRowPlan);
+    }
+    processor.syncCloseAllWorkingTsFileProcessors();
+  }
+
+  private void reopen() throws Exception {
+    processor.syncCloseAllWorkingTsFileProcessors();
+    processor = new StorageGroupProcessor(systemDir, storageGroup, new DirectFlushPolicy());
+  }
+
+  private File getSlowTierFile(File tsFile) {
+    return new File(slowTierDir + File.separator + IoTDBConstant.SEQUENCE_FLODER_NAME
+        + File.separator + storageGroup + File.separator + tsFile.getParentFile().getName(),
+        tsFile.getName());
+  }
+
+  private List<File> listMigratingCopies() {
+    File slowTier = new File(slowTierDir);
+    if (!slowTier.exists()) {
+      return Collections.emptyList();
+    }
+    return new ArrayList<>(FileUtils.listFiles(slowTier, new String[]{"migrating"}, true));
+  }
+}
@@ -23,6 +23,7 @@ package org.apache.iotdb.db.engine.storagegroup;
 import org.apache.iotdb.db.conf.IoTDBConstant;
 import org.apache.iotdb.db.conf.IoTDBDescriptor;
 import org.apache.iotdb.db.conf.directories.DirectoryManager;
+import org.apache.iotdb.db.engine.StorageEngine;
 import org.apache.iotdb.db.engine.flush.TsFileFlushPolicy.DirectFlushPolicy;
 import org.apache.iotdb.db.engine.querycontext.QueryDataSource;
 import org.apache.iotdb.db.exception.StartupException;
@@ -355,6 +356,42 @@ public class TTLTest {
     assertNull(rowRecord.getFields().get(1));
   }
 
+  @Test
+  public void testTTLRemovePartition() throws WriteProcessException {
+    StorageEngine.setEnablePartition(true);
+    StorageEngine.setTimePartitionInterval(86400_000L);
+    try {
+      InsertRowPlan plan = new InsertRowPlan();
+      plan.setDeviceId(sg1);
+      plan.setMeasurements(new String[]{"s1"});
+      plan.setDataTypes(new TSDataType[]{TSDataType.INT64});
+      plan.setValues(new Object[]{1L});
+      plan.setSchemasAndTransferType(
+          new MeasurementSchema[]{new MeasurementSchema("s1", TSDataType.INT64, TSEncoding.PLAIN)});
+      // two closed files and a working file in the first partition
+      for (long time : new long[]{100, 200, 300}) {
+        plan.setTime(time);
+        insertToStorageGroupProcessor(plan);
+        if (time < 300) {
+          storageGroupProcessor.syncCloseAllWorkingTsFileProcessors();
+        }
+      }
+      // a working file in the current partition
+      plan.setTime(System.currentTimeMillis());
+      insertToStorageGroupProcessor(plan);
+      assertEquals(4, storageGroupProcessor.getSequenceFileTreeSet().size());
+      assertEquals(2, storageGroupProcessor.getWorkSequenceTsFileProcessors().size());
+
+      // the first partition is detached as a whole, including its working file
+      storageGroupProcessor.setDataTTL(3600_000L);
+      assertEquals(1, storageGroupProcessor.getSequenceFileTreeSet().size());
+      assertEquals(1, storageGroupProcessor.getWorkSequenceTsFileProcessors().size());
+    } finally {
+      StorageEngine.setEnablePartition(false);
+      StorageEngine.setTimePartitionInterval(-1);
+    }
+  }
+
   @Test
   public void testTTLCleanFile() throws WriteProcessException, QueryProcessException {
     prepareData();
@@ -0,0 +1,227 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iotdb.db.engine.storagegroup;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.util.Collections;
+import org.apache.iotdb.db.conf.IoTDBConstant;
+import org.apache.iotdb.db.constant.TestConstant;
+import org.apache.iotdb.db.engine.modification.Deletion;
+import org.apache.iotdb.tsfile.exception.write.WriteProcessException;
+import org.apache.iotdb.tsfile.file.metadata.enums.TSDataType;
+import org.apache.iotdb.tsfile.file.metadata.enums.TSEncoding;
+import org.apache.iotdb.tsfile.read.TsFileSequenceReader;
+import org.apache.iotdb.tsfile.read.common.Path;
+import org.apache.iotdb.tsfile.utils.ReadWriteIOUtils;
+import org.apache.iotdb.tsfile.write.TsFileWriter;
+import org.apache.iotdb.tsfile.write.record.TSRecord;
+import org.apache.iotdb.tsfile.write.record.datapoint.LongDataPoint;
+import org.apache.iotdb.tsfile.write.schema.MeasurementSchema;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class TsFileResourceTest {
+
+  private static final String DEVICE_1 = "root.sg.d1";
+  private static final String DEVICE_2 = "root.sg.d2";
+
+  private File file = new File(TestConstant.BASE_OUTPUT_PATH.concat(
+      "1" + IoTDBConstant.FILE_NAME_SEPARATOR + "1" + IoTDBConstant.FILE_NAME_SEPARATOR + "0"
+          + ".tsfile"));
+  private TsFileResource resource;
+
+  @Before
+  public void setUp() {
+    file.getParentFile().mkdirs();
+    resource = new TsFileResource(file);
+    resource.updateStartTime(DEVICE_1, 1);
+    resource.updateEndTime(DEVICE_1, 100);
+    resource.updateStartTime(DEVICE_2, 50);
+    resource.updateEndTime(DEVICE_2, 200);
+    resource.setHistoricalVersions(Collections.singleton(1L));
+  }
+
+  @After
+  public void tearDown() throws IOException {
+    resource.close();
+    resource.remove();
+  }
+
+  @Test
+  public void testSerializeWithoutMarkers() throws IOException {
+    resource.serialize();
+    TsFileResource deserialized = deserialize();
+    checkTimesAndVersions(deserialized);
+    assertEquals(0, deserialized.getObsoleteSize());
+    assertFalse(deserialized.hasMetadataStatistics());
+    assertNull(deserialized.getRecompressionForm());
+  }
+
+  @Test
+  public void testSerializeObsoleteSize() throws IOException {
+    resource.setObsoleteSize(1024);
+    resource.serialize();
+    TsFileResource deserialized = deserialize();
+    checkTimesAndVersions(deserialized);
+    assertEquals(1024, deserialized.getObsoleteSize());
+    assertFalse(deserialized.hasMetadataStatistics());
+    assertNull(deserialized.getRecompressionForm());
+  }
+
+  @Test
+  public void testSerializeMetadataStatistics() throws IOException, WriteProcessException {
+    loadMetadataStatistics();
+    resource.serialize();
+    TsFileResource deserialized = deserialize();
+    checkTimesAndVersions(deserialized);
+    assertEquals(0, deserialized.getObsoleteSize());
+    checkMetadataStatistics(deserialized);
+    assertNull(deserialized.getRecompressionForm());
+  }
+
+  @Test
+  public void testSerializeAll() throws IOException, WriteProcessException {
+    loadMetadataStatistics();
+    resource.setObsoleteSize(1024);
+    resource.setRecompressionForm("GZIP");
+    resource.getModFile().write(new Deletion(new Path(DEVICE_1, "s0"), 1, 10));
+    resource.serialize();
+    TsFileResource deserialized = deserialize();
+    checkTimesAndVersions(deserialized);
+    assertEquals(1024, deserialized.getObsoleteSize());
+    checkMetadataStatistics(deserialized);
+    assertEquals("GZIP", deserialized.getRecompressionForm());
+    assertEquals(resource.getModFile().getFilePath(), deserialized.getModFile().getFilePath());
+    assertEquals(1, deserialized.getModFile().getModifications().size());
+    deserialized.close();
+  }
+
+  @Test
+  public void testDeserializeOldResource() throws IOException {
+    resource.getModFile().write(new Deletion(new Path(DEVICE_1, "s0"), 1, 10));
+    // the layout of .resource files written before the obsolete size and the metadata statistics
+    try (OutputStream outputStream = Files
+        .newOutputStream(new File(file.getPath() + TsFileResource.RESOURCE_SUFFIX).toPath())) {
+      writeTimes(outputStream);
+      ReadWriteIOUtils.write(1, outputStream);
+      ReadWriteIOUtils.write(1L, outputStream);
+      ReadWriteIOUtils.write(new File(resource.getModFile().getFilePath()).getName(),
+          outputStream);
+    }
+    TsFileResource deserialized = deserialize();
+    checkTimesAndVersions(deserialized);
+    assertEquals(0, deserialized.getObsoleteSize());
+    assertFalse(deserialized.hasMetadataStatistics());
+    assertNull(deserialized.getRecompressionForm());
+    assertEquals(resource.getModFile().getFilePath(), deserialized.getModFile().getFilePath());
+    deserialized.close();
+  }
+
+  @Test
+  public void testDeserializeResourceWithoutVersions() throws IOException {
+    try (OutputStream outputStream = Files
+        .newOutputStream(new File(file.getPath() + TsFileResource.RESOURCE_SUFFIX).toPath())) {
+      writeTimes(outputStream);
+    }
+    TsFileResource deserialized = deserialize();
+    // the version is taken from the file name
+    checkTimesAndVersions(deserialized);
+    assertEquals(0, deserialized.getObsoleteSize());
+    assertFalse(deserialized.hasMetadataStatistics());
+    assertNull(deserialized.getRecompressionForm());
+  }
+
+  private TsFileResource deserialize() throws IOException {
+    TsFileResource deserialized = new TsFileResource(file);
+    deserialized.deserialize();
+    return deserialized;
+  }
+
+  private void writeTimes(OutputStream outputStream) throws IOException {
+    ReadWriteIOUtils.write(2, outputStream);
+    ReadWriteIOUtils.write(DEVICE_1, outputStream);
+    ReadWriteIOUtils.write(1L, outputStream);
+    ReadWriteIOUtils.write(DEVICE_2, outputStream);
+    ReadWriteIOUtils.write(50L, outputStream);
+    ReadWriteIOUtils.write(2, outputStream);
+    ReadWriteIOUtils.write(DEVICE_1, outputStream);
+    ReadWriteIOUtils.write(100L, outputStream);
+    ReadWriteIOUtils.write(DEVICE_2, outputStream);
+    ReadWriteIOUtils.write(200L, outputStream);
+  }
+
+  private void checkTimesAndVersions(TsFileResource deserialized) {
+    assertEquals(1, deserialized.getStartTime(DEVICE_1));
+    assertEquals(100, deserialized.getEndTime(DEVICE_1));
+    assertEquals(50, deserialized.getStartTime(DEVICE_2));
+    assertEquals(200, deserialized.getEndTime(DEVICE_2));
+    assertEquals(Collections.singleton(1L), deserialized.getHistoricalVersions());
+  }
+
+  /**
+   * Write 2 devices * 2 sensors into the file, each series in 2 chunks, and collect the metadata
+   * statistics of it.
+   */
+  private void loadMetadataStatistics() throws IOException, WriteProcessException {
+    TsFileWriter fileWriter = new TsFileWriter(file);
+    for (String device : new String[]{DEVICE_1, DEVICE_2}) {
+      for (int i = 0; i < 2; i++) {
+        fileWriter.registerTimeseries(new Path(device, "s" + i),
+            new MeasurementSchema("s" + i, TSDataType.INT64, TSEncoding.RLE));
+      }
+    }
+    for (long time = 0; time < 20; time++) {
+      for (String device : new String[]{DEVICE_1, DEVICE_2}) {
+        TSRecord record = new TSRecord(time, device);
+        record.addTuple(new LongDataPoint("s0", time));
+        record.addTuple(new LongDataPoint("s1", time));
+        fileWriter.write(record);
+      }
+      if (time == 9) {
+        fileWriter.flushAllChunkGroups();
+      }
+    }
+    fileWriter.close();
+    try (TsFileSequenceReader reader = new TsFileSequenceReader(file.getPath())) {
+      resource.updateMetadataStatistics(reader);
+    }
+    assertTrue(resource.hasMetadataStatistics());
+    assertEquals(4, resource.getSeriesNum());
+    assertEquals(8, resource.getChunkNum());
+    assertEquals(2, resource.getMaxSeriesChunkNum());
+  }
+
+  private void checkMetadataStatistics(TsFileResource deserialized) {
+    assertTrue(deserialized.hasMetadataStatistics());
+    assertEquals(resource.getSeriesNum(), deserialized.getSeriesNum());
+    assertEquals(resource.getChunkNum(), deserialized.getChunkNum());
+    assertEquals(resource.getMaxSeriesChunkNum(), deserialized.getMaxSeriesChunkNum());
+    assertEquals(resource.getMaxChunkSize(), deserialized.getMaxChunkSize());
+    assertEquals(resource.getChunkMetadataSize(), deserialized.getChunkMetadataSize());
+  }
+}
@@ -406,4 +406,53 @@ public class MManagerBasicTest {
       fail(e.getMessage());
     }
   }
+
+  @Test
+  public void testAutoEncodingRecover() throws MetadataException {
+    MManager manager = IoTDB.metaManager;
+    manager.setStorageGroup("root.laptop");
+    manager.createTimeseries("root.laptop.d1.s0", TSDataType.DOUBLE, TSEncoding.AUTO,
+        compressionType, Collections.emptyMap());
+
+    // recover from mlog
+    manager.clear();
+    manager.init();
+    assertEquals(TSEncoding.AUTO,
+        manager.getSeriesSchema("root.laptop.d1", "s0").getEncodingType());
+
+    // recover from the mtree snapshot
+    manager.createMTreeSnapshot();
+    manager.clear();
+    manager.init();
+    assertEquals(TSEncoding.AUTO,
+        manager.getSeriesSchema("root.laptop.d1", "s0").getEncodingType());
+  }
+
+  @Test
+  public void testSetAlignedRecover() throws MetadataException {
+    MManager manager = IoTDB.metaManager;
+    manager.setStorageGroup("root.laptop");
+    manager.setAligned("root.laptop.d1");
+    manager.createTimeseries("root.laptop.d1.s0", TSDataType.DOUBLE, TSEncoding.RLE,
+        compressionType, Collections.emptyMap());
+    assertTrue(manager.isAligned("root.laptop.d1"));
+    assertFalse(manager.isAligned("root.laptop.d2"));
+    try {
+      manager.setAligned("root.laptop");
+      fail("a storage group cannot be aligned");
+    } catch (MetadataException e) {
+      // expected
+    }
+
+    // recover from mlog
+    manager.clear();
+    manager.init();
+    assertTrue(manager.isAligned("root.laptop.d1"));
+
+    // recover from the mtree snapshot
+    manager.createMTreeSnapshot();
+    manager.clear();
+    manager.init();
+    assertTrue(manager.isAligned("root.laptop.d1"));
+  }
 }
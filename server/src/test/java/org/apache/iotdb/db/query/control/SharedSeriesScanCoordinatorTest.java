@@ -0,0 +1,76 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iotdb.db.query.control;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+
+import java.io.File;
+import java.util.Collections;
+import org.apache.iotdb.db.engine.querycontext.QueryDataSource;
+import org.apache.iotdb.db.engine.storagegroup.TsFileResource;
+import org.apache.iotdb.tsfile.file.metadata.enums.TSDataType;
+import org.apache.iotdb.tsfile.read.common.Path;
+import org.junit.Test;
+
+public class SharedSeriesScanCoordinatorTest {
+
+  private final Path path = new Path("root.sg.d1", "s1");
+
+  @Test
+  public void testScanKeyOfSealedFiles() {
+    TsFileResource resource = new TsFileResource(new File("1-1-0.tsfile"));
+    resource.setClosed(true);
+
+    QueryDataSource dataSource = new QueryDataSource(path,
+        Collections.singletonList(resource), Collections.emptyList());
+    dataSource.setDataVersions(1, 1);
+    String key = SharedSeriesScanCoordinator.getScanKey(path, TSDataType.INT64, dataSource);
+
+    // insertions only go to unsealed files
+    dataSource.setDataVersions(2, 1);
+    assertEquals(key, SharedSeriesScanCoordinator.getScanKey(path, TSDataType.INT64, dataSource));
+    // a deletion may change any file
+    dataSource.setDataVersions(2, 2);
+    assertNotEquals(key,
+        SharedSeriesScanCoordinator.getScanKey(path, TSDataType.INT64, dataSource));
+  }
+
+  @Test
+  public void testScanKeyOfUnsealedFiles() {
+    TsFileResource sealed = new TsFileResource(new File("1-1-0.tsfile"));
+    sealed.setClosed(true);
+    TsFileResource unsealed = new TsFileResource(new File("2-2-0.tsfile"));
+
+    QueryDataSource dataSource = new QueryDataSource(path,
+        Collections.singletonList(sealed), Collections.singletonList(unsealed));
+    dataSource.setDataVersions(1, 1);
+    String key = SharedSeriesScanCoordinator.getScanKey(path, TSDataType.INT64, dataSource);
+
+    // the memory table of the unsealed file has changed
+    dataSource.setDataVersions(2, 1);
+    String newKey = SharedSeriesScanCoordinator.getScanKey(path, TSDataType.INT64, dataSource);
+    assertNotEquals(key, newKey);
+
+    // the unsealed file is sealed
+    unsealed.setClosed(true);
+    assertNotEquals(newKey,
+        SharedSeriesScanCoordinator.getScanKey(path, TSDataType.INT64, dataSource));
+  }
+}
@@ -0,0 +1,228 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iotdb.db.query.reader.series;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import org.apache.iotdb.tsfile.file.metadata.enums.TSDataType;
+import org.apache.iotdb.tsfile.read.common.BatchData;
+import org.apache.iotdb.tsfile.read.filter.TimeFilter;
+import org.apache.iotdb.tsfile.read.filter.factory.FilterFactory;
+import org.apache.iotdb.tsfile.read.reader.IBatchReader;
+import org.junit.Test;
+
+public class SharedSeriesScanTest {
+
+  private static final int BATCH_NUM = 10;
+  private static final int BATCH_SIZE = 100;
+
+  @Test
+  public void testLateReaderCatchesUp() throws IOException {
+    CountingBatchReader source = new CountingBatchReader();
+    List<SharedSeriesScan> unjoinableScans = new ArrayList<>();
+    SharedSeriesScan scan = new SharedSeriesScan(source, null, 100, 100, unjoinableScans::add);
+
+    SharedSeriesRawDataBatchReader first = scan.attach(TSDataType.INT64, null);
+    for (int i = 0; i < 3; i++) {
+      assertTrue(first.hasNextBatch());
+      checkBatch(first.nextBatch(), i * BATCH_SIZE, (i + 1) * BATCH_SIZE);
+    }
+    SharedSeriesRawDataBatchReader second = scan.attach(TSDataType.INT64, null);
+    assertEquals(BATCH_NUM * BATCH_SIZE, readAll(second));
+    assertEquals((BATCH_NUM - 3) * BATCH_SIZE, readAll(first));
+
+    // every batch is read from the source only once
+    assertEquals(BATCH_NUM, source.readBatchNum);
+    assertEquals(1, unjoinableScans.size());
+    assertNull(scan.attach(TSDataType.INT64, null));
+    assertTrue(source.closed);
+  }
+
+  @Test
+  public void testReaderTimeFilter() throws IOException {
+    CountingBatchReader source = new CountingBatchReader();
+    SharedSeriesScan scan = new SharedSeriesScan(source, null, 100, 100, s -> {
+    });
+
+    SharedSeriesRawDataBatchReader whole = scan.attach(TSDataType.INT64, null);
+    SharedSeriesRawDataBatchReader part = scan.attach(TSDataType.INT64,
+        FilterFactory.and(TimeFilter.gtEq(250L), TimeFilter.lt(420L)));
+    assertEquals(BATCH_NUM * BATCH_SIZE, readAll(whole));
+    assertTrue(part.hasNextBatch());
+    checkBatch(part.nextBatch(), 250, 300);
+    assertTrue(part.hasNextBatch());
+    checkBatch(part.nextBatch(), 300, 400);
+    assertTrue(part.hasNextBatch());
+    checkBatch(part.nextBatch(), 400, 420);
+    assertFalse(part.hasNextBatch());
+  }
+
+  @Test
+  public void testBufferLimit() throws IOException {
+    CountingBatchReader source = new CountingBatchReader();
+    List<SharedSeriesScan> unjoinableScans = new ArrayList<>();
+    SharedSeriesScan scan = new SharedSeriesScan(source, null, 3, 100, unjoinableScans::add);
+
+    SharedSeriesRawDataBatchReader first = scan.attach(TSDataType.INT64, null);
+    SharedSeriesRawDataBatchReader second = scan.attach(TSDataType.INT64, null);
+    for (int i = 0; i < 4; i++) {
+      assertTrue(first.hasNextBatch());
+      first.nextBatch();
+    }
+    // more than 3 batches are buffered, so no reader can join and catch up any more
+    assertEquals(1, unjoinableScans.size());
+    assertNull(scan.attach(TSDataType.INT64, null));
+
+    assertEquals(BATCH_NUM * BATCH_SIZE, readAll(second));
+    assertEquals((BATCH_NUM - 4) * BATCH_SIZE, readAll(first));
+    assertEquals(BATCH_NUM, source.readBatchNum);
+  }
+
+  @Test
+  public void testReplayWindow() throws IOException {
+    CountingBatchReader source = new CountingBatchReader();
+    List<SharedSeriesScan> unjoinableScans = new ArrayList<>();
+    SharedSeriesScan scan = new SharedSeriesScan(source, null, 100, 2, unjoinableScans::add);
+
+    SharedSeriesRawDataBatchReader first = scan.attach(TSDataType.INT64, null);
+    for (int i = 0; i < 2; i++) {
+      assertTrue(first.hasNextBatch());
+      first.nextBatch();
+    }
+    // the batches in the replay window are kept for the readers joining late
+    assertEquals(2, scan.getBufferedBatchNum());
+    SharedSeriesRawDataBatchReader second = scan.attach(TSDataType.INT64, null);
+    assertTrue(second.hasNextBatch());
+    checkBatch(second.nextBatch(), 0, BATCH_SIZE);
+
+    for (int i = 0; i < 2; i++) {
+      assertTrue(first.hasNextBatch());
+      first.nextBatch();
+    }
+    assertTrue(second.hasNextBatch());
+    second.nextBatch();
+    // the replay window and the batches the second reader has not read are kept
+    assertEquals(4, scan.getBufferedBatchNum());
+    assertTrue(scan.isJoinable());
+
+    assertTrue(second.hasNextBatch());
+    second.nextBatch();
+    // both readers have gone past the replay window
+    assertEquals(1, scan.getBufferedBatchNum());
+    assertEquals(1, unjoinableScans.size());
+    assertNull(scan.attach(TSDataType.INT64, null));
+
+    assertEquals((BATCH_NUM - 4) * BATCH_SIZE, readAll(first));
+    assertEquals((BATCH_NUM - 3) * BATCH_SIZE, readAll(second));
+    assertEquals(BATCH_NUM, source.readBatchNum);
+  }
+
+  @Test
+  public void testSingleReaderDropsBatches() throws IOException {
+    CountingBatchReader source = new CountingBatchReader();
+    SharedSeriesScan scan = new SharedSeriesScan(source, null, 100, 2, s -> {
+    });
+
+    SharedSeriesRawDataBatchReader reader = scan.attach(TSDataType.INT64, null);
+    for (int i = 0; i < BATCH_NUM; i++) {
+      assertTrue(reader.hasNextBatch());
+      checkBatch(reader.nextBatch(), i * BATCH_SIZE, (i + 1) * BATCH_SIZE);
+      assertTrue(scan.getBufferedBatchNum() <= 2);
+    }
+    assertFalse(scan.isJoinable());
+  }
+
+  @Test
+  public void testClose() throws IOException {
+    CountingBatchReader source = new CountingBatchReader();
+    List<SharedSeriesScan> unjoinableScans = new ArrayList<>();
+    SharedSeriesScan scan = new SharedSeriesScan(source, null, 100, 100, unjoinableScans::add);
+
+    SharedSeriesRawDataBatchReader first = scan.attach(TSDataType.INT64, null);
+    SharedSeriesRawDataBatchReader second = scan.attach(TSDataType.INT64, null);
+    assertTrue(first.hasNextBatch());
+    first.close();
+    assertFalse(source.closed);
+    assertTrue(scan.isJoinable());
+
+    second.close();
+    assertTrue(source.closed);
+    assertEquals(1, unjoinableScans.size());
+    assertFalse(second.hasNextBatch());
+  }
+
+  private int readAll(SharedSeriesRawDataBatchReader reader) throws IOException {
+    int count = 0;
+    while (reader.hasNextBatch()) {
+      BatchData batchData = reader.nextBatch();
+      while (batchData.hasCurrent()) {
+        assertEquals(batchData.currentTime() * 2, batchData.getLong());
+        count++;
+        batchData.next();
+      }
+    }
+    return count;
+  }
+
+  private void checkBatch(BatchData batchData, long startTime, long endTime) {
+    for (long time = startTime; time < endTime; time++) {
+      assertTrue(batchData.hasCurrent());
+      assertEquals(time, batchData.currentTime());
+      assertEquals(time * 2, batchData.getLong());
+      batchData.next();
+    }
+    assertFalse(batchData.hasCurrent());
+  }
+
+  /**
+   * Generates BATCH_NUM batches of BATCH_SIZE points whose values are twice the timestamps.
+   */
+  private static class CountingBatchReader implements IBatchReader {
+
+    private int readBatchNum = 0;
+    private boolean closed = false;
+
+    @Override
+    public boolean hasNextBatch() {
+      return readBatchNum < BATCH_NUM;
+    }
+
+    @Override
+    public BatchData nextBatch() {
+      BatchData batchData = new BatchData(TSDataType.INT64);
+      for (long time = (long) readBatchNum * BATCH_SIZE; time < (readBatchNum + 1) * BATCH_SIZE;
+          time++) {
+        batchData.putLong(time, time * 2);
+      }
+      readBatchNum++;
+      return batchData;
+    }
+
+    @Override
+    public void close() {
+      closed = true;
+    }
+  }
+}
@@ -20,7 +20,13 @@
 package org.apache.iotdb.db.query.reader.universal;
 
 import java.io.IOException;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.TreeMap;
+import org.apache.iotdb.tsfile.file.metadata.enums.TSDataType;
 import org.apache.iotdb.tsfile.read.TimeValuePair;
+import org.apache.iotdb.tsfile.read.common.BatchData;
+import org.apache.iotdb.tsfile.read.filter.ValueFilter;
 import org.junit.Assert;
 import org.junit.Test;
 
@@ -63,4 +69,70 @@ public class PriorityMergeReaderTest {
       i++;
     }
   }
+
+  @Test
+  public void testNextBatch() throws IOException {
+    // 3 batches, the later one has higher priority
+    BatchData batch1 = createBatch(1, 0, 100, 1);
+    BatchData batch2 = createBatch(2, 50, 60, 2);
+    BatchData batch3 = createBatch(3, 150, 10, 10);
+
+    PriorityMergeReader priorityMergeReader = new PriorityMergeReader();
+    priorityMergeReader.addReader(batch1, 1, 99);
+    priorityMergeReader.addReader(batch2, 2, 168);
+    priorityMergeReader.addReader(batch3, 3, 240);
+    Assert.assertEquals(240, priorityMergeReader.getCurrentLargestEndTime());
+
+    BatchData result = new BatchData(TSDataType.INT64);
+    Assert.assertEquals(125, priorityMergeReader.nextBatch(result, 149, Integer.MAX_VALUE, null));
+    Assert.assertEquals(150, priorityMergeReader.currentTime());
+    Assert.assertEquals(12, priorityMergeReader.nextBatch(result, Long.MAX_VALUE, 12, null));
+    Assert.assertEquals(6, priorityMergeReader.nextBatch(result, Long.MAX_VALUE, 12, null));
+    Assert.assertFalse(priorityMergeReader.hasNextTimeValuePair());
+
+    // the value of a timestamp comes from the batch with the highest priority containing it
+    Map<Long, Long> expected = new TreeMap<>();
+    putExpected(expected, 1, 0, 100, 1);
+    putExpected(expected, 2, 50, 60, 2);
+    putExpected(expected, 3, 150, 10, 10);
+    for (Entry<Long, Long> entry : expected.entrySet()) {
+      Assert.assertTrue(result.hasCurrent());
+      Assert.assertEquals((long) entry.getKey(), result.currentTime());
+      Assert.assertEquals((long) entry.getValue(), result.getLong());
+      result.next();
+    }
+    Assert.assertFalse(result.hasCurrent());
+  }
+
+  @Test
+  public void testNextBatchWithValueFilter() throws IOException {
+    PriorityMergeReader priorityMergeReader = new PriorityMergeReader();
+    priorityMergeReader.addReader(createBatch(1, 0, 10, 1), 1, 9);
+    priorityMergeReader.addReader(new FakedSeriesReader(new long[]{3, 5, 20}, 2), 2, 20);
+
+    BatchData result = new BatchData(TSDataType.INT64);
+    priorityMergeReader.nextBatch(result, Long.MAX_VALUE, Integer.MAX_VALUE, ValueFilter.eq(2L));
+    long[] expectedTimes = new long[]{3, 5, 20};
+    for (long expectedTime : expectedTimes) {
+      Assert.assertEquals(expectedTime, result.currentTime());
+      Assert.assertEquals(2, result.getLong());
+      result.next();
+    }
+    Assert.assertFalse(result.hasCurrent());
+  }
+
+  private void putExpected(Map<Long, Long> expected, long value, long startTime, int size,
+      int interval) {
+    for (int i = 0; i < size; i++) {
+      expected.put(startTime + (long) i * interval, value);
+    }
+  }
+
+  private BatchData createBatch(long value, long startTime, int size, int interval) {
+    BatchData batchData = new BatchData(TSDataType.INT64);
+    for (int i = 0; i < size; i++) {
+      batchData.putLong(startTime + (long) i * interval, value);
+    }
+    return batchData;
+  }
 }
@@ -0,0 +1,147 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iotdb.db.query.timegenerator;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.apache.iotdb.db.query.reader.series.IReaderByTimestamp;
+import org.apache.iotdb.db.query.timegenerator.ProbeAndNode.Probe;
+import org.apache.iotdb.tsfile.file.metadata.enums.TSDataType;
+import org.apache.iotdb.tsfile.file.metadata.statistics.Statistics;
+import org.apache.iotdb.tsfile.read.common.Path;
+import org.apache.iotdb.tsfile.read.filter.TimeFilter;
+import org.apache.iotdb.tsfile.read.filter.ValueFilter;
+import org.apache.iotdb.tsfile.read.filter.factory.FilterFactory;
+import org.apache.iotdb.tsfile.read.query.timegenerator.node.Node;
+import org.apache.iotdb.tsfile.read.query.timegenerator.node.NodeType;
+import org.junit.Test;
+
+public class ProbeAndNodeTest {
+
+  private static final double DELTA = 0.01;
+
+  @Test
+  public void testEstimate() {
+    // times in [0, 99], values in [0, 198]
+    Statistics statistics = Statistics.getStatsByType(TSDataType.INT64);
+    for (long time = 0; time < 100; time++) {
+      statistics.update(time, time * 2);
+    }
+
+    assertEquals(0, SelectivityEstimator.estimateCount(ValueFilter.gt(200L), statistics), DELTA);
+    assertEquals(100, SelectivityEstimator.estimateCount(ValueFilter.gtEq(0L), statistics), DELTA);
+    assertEquals(0.25, SelectivityEstimator.estimate(ValueFilter.lt(49L), statistics), DELTA);
+    assertEquals(0.5, SelectivityEstimator.estimate(TimeFilter.gt(49L), statistics), DELTA);
+    assertEquals(0.01, SelectivityEstimator.estimate(ValueFilter.eq(100L), statistics), DELTA);
+    assertEquals(0.99, SelectivityEstimator.estimate(ValueFilter.notEq(100L), statistics), DELTA);
+    assertEquals(0.125, SelectivityEstimator
+        .estimate(FilterFactory.and(ValueFilter.lt(49L), TimeFilter.gt(49L)), statistics), DELTA);
+    assertEquals(0.625, SelectivityEstimator
+        .estimate(FilterFactory.or(ValueFilter.lt(49L), TimeFilter.gt(49L)), statistics), DELTA);
+
+    Statistics textStatistics = Statistics.getStatsByType(TSDataType.TEXT);
+    assertEquals(0, SelectivityEstimator.estimateCount(ValueFilter.gt(0L), textStatistics), DELTA);
+  }
+
+  @Test
+  public void testProbe() throws IOException {
+    // the driver generates 0, 1, 2, ..., 99
+    List<Long> driverTimes = new ArrayList<>();
+    for (long time = 0; time < 100; time++) {
+      driverTimes.add(time);
+    }
+    // the first series has a point at every even time whose value is the time
+    FakeReaderByTimestamp evenReader = new FakeReaderByTimestamp(2);
+    // the second series has a point at every third time whose value is the time
+    FakeReaderByTimestamp thirdReader = new FakeReaderByTimestamp(3);
+    ProbeAndNode node = new ProbeAndNode(new FakeNode(driverTimes), Arrays.asList(
+        new Probe(new Path("root.sg.d1.s1"), evenReader, ValueFilter.ltEq(50L)),
+        new Probe(new Path("root.sg.d1.s2"), thirdReader, null)));
+
+    assertEquals(NodeType.AND, node.getType());
+    long expected = 0;
+    while (node.hasNext()) {
+      assertEquals(expected, node.next());
+      expected += 6;
+    }
+    assertEquals(54, expected);
+    // the first series is probed at every time until 100, the second only at the accepted ones
+    assertEquals(100, evenReader.probedNum);
+    assertEquals(26, thirdReader.probedNum);
+  }
+
+  @Test
+  public void testProbeValue() throws IOException {
+    Probe probe = new Probe(new Path("root.sg.d1.s1"), new FakeReaderByTimestamp(2),
+        ValueFilter.gt(5L));
+    assertFalse(probe.satisfy(1));
+    assertFalse(probe.satisfy(4));
+    assertEquals(4L, probe.getValue(4));
+    assertTrue(probe.satisfy(6));
+    assertEquals(6L, probe.getValue(6));
+    assertEquals(null, probe.getValue(7));
+  }
+
+  private static class FakeNode implements Node {
+
+    private final List<Long> times;
+    private int index = 0;
+
+    private FakeNode(List<Long> times) {
+      this.times = times;
+    }
+
+    @Override
+    public boolean hasNext() {
+      return index < times.size();
+    }
+
+    @Override
+    public long next() {
+      return times.get(index++);
+    }
+
+    @Override
+    public NodeType getType() {
+      return NodeType.LEAF;
+    }
+  }
+
+  private static class FakeReaderByTimestamp implements IReaderByTimestamp {
+
+    private final long interval;
+    private int probedNum = 0;
+
+    private FakeReaderByTimestamp(long interval) {
+      this.interval = interval;
+    }
+
+    @Override
+    public Object getValueInTimestamp(long timestamp) {
+      probedNum++;
+      return timestamp % interval == 0 ? timestamp : null;
+    }
+  }
+}
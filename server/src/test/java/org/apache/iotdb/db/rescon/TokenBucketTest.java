@@ -0,0 +1,66 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iotdb.db.rescon;
+
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+public class TokenBucketTest {
+
+  private static final long RATE = 1000_000;
+
+  @Test
+  public void testWaitingAcquisition() {
+    TokenBucket bucket = new TokenBucket(RATE);
+    long startTime = System.nanoTime();
+    // the first acquisition runs into debt and the second one waits until it is repaid
+    bucket.acquire(RATE / 2, true);
+    bucket.acquire(1, true);
+    long elapsedMs = (System.nanoTime() - startTime) / 1000_000;
+    assertTrue(elapsedMs >= 400);
+  }
+
+  @Test
+  public void testForegroundDoesNotWait() {
+    TokenBucket bucket = new TokenBucket(RATE);
+    long startTime = System.nanoTime();
+    for (int i = 0; i < 2; i++) {
+      bucket.acquire(RATE / 2, false);
+    }
+    assertTrue((System.nanoTime() - startTime) / 1000_000 < 400);
+
+    // the debt of the foreground slows down the background
+    startTime = System.nanoTime();
+    bucket.acquire(1, true);
+    assertTrue((System.nanoTime() - startTime) / 1000_000 >= 800);
+  }
+
+  @Test
+  public void testChangeRate() {
+    TokenBucket bucket = new TokenBucket(RATE);
+    bucket.acquire(RATE * 10, true);
+    // an unlimited bucket forgives the debt
+    bucket.setRate(0);
+    long startTime = System.nanoTime();
+    bucket.acquire(RATE * 10, true);
+    bucket.acquire(1, true);
+    assertTrue((System.nanoTime() - startTime) / 1000_000 < 400);
+  }
+}
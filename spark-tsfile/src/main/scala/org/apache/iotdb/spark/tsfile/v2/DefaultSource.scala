@@ -0,0 +1,38 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iotdb.spark.tsfile.v2
+
+import org.apache.spark.sql.sources.v2.reader.DataSourceReader
+import org.apache.spark.sql.sources.v2.{DataSourceOptions, DataSourceV2, ReadSupport}
+
+/**
+  * A DataSource V2 reading TsFiles in the wide form as columnar batches. The batches are filled by
+  * TsFileArrowReader and handed to Spark as ArrowColumnVectors, so a scan is vectorized from the
+  * decoded pages on, e.g.
+  *
+  * spark.read.format("org.apache.iotdb.spark.tsfile.v2").load(path)
+  *
+  * The narrow form and the writing of TsFiles are provided by org.apache.iotdb.spark.tsfile only.
+  */
+class DefaultSource extends DataSourceV2 with ReadSupport {
+
+  override def createReader(options: DataSourceOptions): DataSourceReader = {
+    new TsFileDataSourceReader(options)
+  }
+}
@@ -0,0 +1,136 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iotdb.spark.tsfile.v2
+
+import java.util
+
+import org.apache.hadoop.fs.{FileStatus, Path}
+import org.apache.iotdb.spark.tsfile.DefaultSource.SerializableConfiguration
+import org.apache.iotdb.spark.tsfile.WideConverter
+import org.apache.iotdb.tsfile.common.constant.QueryConstant
+import org.apache.iotdb.tsfile.read.filter.TimeFilter
+import org.apache.iotdb.tsfile.read.filter.basic.{Filter => TsFileFilter}
+import org.apache.iotdb.tsfile.read.filter.factory.FilterFactory
+import org.apache.spark.sql.SparkSession
+import org.apache.spark.sql.sources._
+import org.apache.spark.sql.sources.v2.DataSourceOptions
+import org.apache.spark.sql.sources.v2.reader.{InputPartition, SupportsPushDownFilters, SupportsPushDownRequiredColumns, SupportsScanColumnarBatch}
+import org.apache.spark.sql.types.StructType
+import org.apache.spark.sql.vectorized.ColumnarBatch
+
+/**
+  * Plans the columnar scan of the TsFiles under the given paths. Each file is split into partitions
+  * of at most spark.sql.files.maxPartitionBytes bytes like the FileFormat source does, and filters
+  * on time are pushed down to TsFileArrowReader. Filters on values are left to Spark, which
+  * evaluates them on the batches.
+  */
+class TsFileDataSourceReader(options: DataSourceOptions) extends SupportsScanColumnarBatch
+  with SupportsPushDownRequiredColumns with SupportsPushDownFilters {
+
+  private val spark = SparkSession.getActiveSession.getOrElse(
+    throw new IllegalStateException("No active SparkSession to read TsFiles"))
+
+  private val files: Seq[FileStatus] = listFiles()
+
+  private var requiredSchema: StructType = WideConverter.toSqlSchema(
+    WideConverter.getUnionSeries(files, spark.sparkContext.hadoopConfiguration))
+    .getOrElse(throw new IllegalArgumentException("No TsFile is found in " +
+      options.paths().mkString(",")))
+
+  private var pushedTimeFilters: Array[Filter] = Array.empty
+
+  override def readSchema(): StructType = requiredSchema
+
+  override def pruneColumns(requiredSchema: StructType): Unit = {
+    this.requiredSchema = requiredSchema
+  }
+
+  override def pushFilters(filters: Array[Filter]): Array[Filter] = {
+    val (timeFilters, others) = filters.partition(f => toTimeFilter(f) != null)
+    pushedTimeFilters = timeFilters
+    others
+  }
+
+  override def pushedFilters(): Array[Filter] = pushedTimeFilters
+
+  override def planBatchInputPartitions(): util.List[InputPartition[ColumnarBatch]] = {
+    val timeFilter = pushedTimeFilters.map(toTimeFilter)
+      .reduceOption[TsFileFilter](FilterFactory.and(_, _)).orNull
+    val batchSize = options.getInt(TsFileDataSourceReader.BATCH_SIZE,
+      TsFileDataSourceReader.DEFAULT_BATCH_SIZE)
+    val maxPartitionBytes = spark.sessionState.conf.filesMaxPartitionBytes
+    val broadcastedConf = spark.sparkContext.broadcast(
+      new SerializableConfiguration(spark.sparkContext.hadoopConfiguration))
+
+    val partitions = new util.ArrayList[InputPartition[ColumnarBatch]]()
+    files.foreach(file => {
+      var start = 0L
+      while (start < file.getLen) {
+        val end = math.min(start + maxPartitionBytes, file.getLen)
+        partitions.add(new TsFileInputPartition(file.getPath.toString, start, end,
+          requiredSchema, timeFilter, batchSize, broadcastedConf))
+        start = end
+      }
+    })
+    partitions
+  }
+
+  private def listFiles(): Seq[FileStatus] = {
+    val conf = spark.sparkContext.hadoopConfiguration
+    options.paths().flatMap(p => {
+      val path = new Path(p)
+      path.getFileSystem(conf).listStatus(path).filter(f => f.isFile
+        && !f.getPath.getName.startsWith("_") && !f.getPath.getName.startsWith("."))
+    }).toSeq
+  }
+
+  /**
+    * Convert a filter on the time column made of comparisons, And and Or to a TsFile time filter.
+    *
+    * @return the time filter, or null if the filter can not be converted
+    */
+  private def toTimeFilter(filter: Filter): TsFileFilter = {
+    filter match {
+      case EqualTo(QueryConstant.RESERVED_TIME, value: Number) => TimeFilter.eq(value.longValue())
+      case GreaterThan(QueryConstant.RESERVED_TIME, value: Number) => TimeFilter.gt(value.longValue())
+      case GreaterThanOrEqual(QueryConstant.RESERVED_TIME, value: Number) =>
+        TimeFilter.gtEq(value.longValue())
+      case LessThan(QueryConstant.RESERVED_TIME, value: Number) => TimeFilter.lt(value.longValue())
+      case LessThanOrEqual(QueryConstant.RESERVED_TIME, value: Number) =>
+        TimeFilter.ltEq(value.longValue())
+      case And(left, right) =>
+        val leftFilter = toTimeFilter(left)
+        val rightFilter = toTimeFilter(right)
+        if (leftFilter == null || rightFilter == null) null
+        else FilterFactory.and(leftFilter, rightFilter)
+      case Or(left, right) =>
+        val leftFilter = toTimeFilter(left)
+        val rightFilter = toTimeFilter(right)
+        if (leftFilter == null || rightFilter == null) null
+        else FilterFactory.or(leftFilter, rightFilter)
+      case _ => null
+    }
+  }
+}
+
+object TsFileDataSourceReader {
+  // the option of the max number of rows in a batch
+  val BATCH_SIZE = "batch_size"
+  val DEFAULT_BATCH_SIZE = 4096
+}
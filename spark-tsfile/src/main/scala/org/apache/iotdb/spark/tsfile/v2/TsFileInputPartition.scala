@@ -0,0 +1,110 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iotdb.spark.tsfile.v2
+
+import java.net.URI
+
+import org.apache.arrow.memory.RootAllocator
+import org.apache.hadoop.fs.Path
+import org.apache.iotdb.hadoop.fileSystem.HDFSInput
+import org.apache.iotdb.spark.tsfile.DefaultSource.SerializableConfiguration
+import org.apache.iotdb.spark.tsfile.WideConverter
+import org.apache.iotdb.tsfile.read.TsFileSequenceReader
+import org.apache.iotdb.tsfile.read.arrow.TsFileArrowReader
+import org.apache.iotdb.tsfile.read.common
+import org.apache.iotdb.tsfile.read.filter.basic.{Filter => TsFileFilter}
+import org.apache.spark.broadcast.Broadcast
+import org.apache.spark.sql.execution.vectorized.OnHeapColumnVector
+import org.apache.spark.sql.sources.v2.reader.{InputPartition, InputPartitionReader}
+import org.apache.spark.sql.types.StructType
+import org.apache.spark.sql.vectorized.{ArrowColumnVector, ColumnVector, ColumnarBatch}
+import scala.collection.JavaConversions._
+import scala.collection.mutable.ListBuffer
+
+/**
+  * The chunk groups of a TsFile starting in [start, end).
+  */
+class TsFileInputPartition(filePath: String, start: Long, end: Long, requiredSchema: StructType,
+                           timeFilter: TsFileFilter, batchSize: Int,
+                           conf: Broadcast[SerializableConfiguration])
+  extends InputPartition[ColumnarBatch] {
+
+  override def createPartitionReader(): InputPartitionReader[ColumnarBatch] = {
+    new TsFileInputPartitionReader(filePath, start, end, requiredSchema, timeFilter, batchSize,
+      conf.value.value)
+  }
+}
+
+/**
+  * Reads a TsFileInputPartition with a TsFileArrowReader. The Arrow vectors it refills are wrapped
+  * into ArrowColumnVectors once, so the batches reach Spark without copying the values.
+  */
+class TsFileInputPartitionReader(filePath: String, start: Long, end: Long,
+                                 requiredSchema: StructType, timeFilter: TsFileFilter,
+                                 batchSize: Int, conf: org.apache.hadoop.conf.Configuration)
+  extends InputPartitionReader[ColumnarBatch] {
+
+  private val allocator = new RootAllocator(Long.MaxValue)
+
+  private val arrowReader = {
+    val fileReader = new TsFileSequenceReader(new HDFSInput(new Path(new URI(filePath)), conf))
+    // the series in requiredSchema which exist in this file, or all series of the file if only
+    // the time column is required
+    val queriedSchema = WideConverter.prepSchema(requiredSchema, fileReader.readFileMetadata,
+      fileReader)
+    new TsFileArrowReader(fileReader, queriedSchema.map(f => new common.Path(f.name)),
+      timeFilter, start, end, allocator, batchSize)
+  }
+
+  // the columns of series which are required but not in this file, always null
+  private val nullColumns = new ListBuffer[ColumnVector]
+
+  private var batch: ColumnarBatch = _
+
+  override def next(): Boolean = {
+    if (!arrowReader.hasNextBatch) {
+      return false
+    }
+    val root = arrowReader.nextBatch()
+    if (batch == null) {
+      batch = new ColumnarBatch(requiredSchema.fields.map(field => {
+        val vector = root.getVector(field.name)
+        if (vector != null) {
+          new ArrowColumnVector(vector).asInstanceOf[ColumnVector]
+        } else {
+          val nullColumn = new OnHeapColumnVector(batchSize, field.dataType)
+          nullColumn.putNulls(0, batchSize)
+          nullColumns += nullColumn
+          nullColumn
+        }
+      }))
+    }
+    batch.setNumRows(root.getRowCount)
+    true
+  }
+
+  override def get(): ColumnarBatch = batch
+
+  override def close(): Unit = {
+    // the Arrow vectors are released by the arrow reader
+    nullColumns.foreach(_.close())
+    arrowReader.close()
+    allocator.close()
+  }
+}
@@ -257,6 +257,29 @@ class TSFileSuit extends FunSuite with BeforeAndAfterAll {
     Assert.assertEquals(16, newDf.count())
   }
 
+  test("testColumnarSelect * from tsfile1") {
+    val df = spark.read.format("org.apache.iotdb.spark.tsfile.v2").load(tsfile1)
+    Assert.assertEquals(spark.read.tsfile(tsfile1).collectAsList(), df.collectAsList())
+  }
+
+  test("testColumnarMultiFilesWithFilter") {
+    val df = spark.read.format("org.apache.iotdb.spark.tsfile.v2").load(tsfileFolder1)
+    df.createOrReplaceTempView("tsfile_table")
+    Assert.assertEquals(TsFileWriteTool.largeNum + 7, df.count())
+    val newDf = spark.sql("select * from tsfile_table where `device_1.sensor_1` >0 " +
+      "and `device_1.sensor_1` <10 or `device_1.sensor_2` >0")
+    Assert.assertEquals(16, newDf.count())
+  }
+
+  test("testColumnarSelectWithTimeFilter") {
+    val df = spark.read.format("org.apache.iotdb.spark.tsfile.v2")
+      .option("batch_size", 2).load(tsfile1)
+    df.createOrReplaceTempView("tsfile_table")
+    val newDf = spark.sql("select * from tsfile_table where " +
+      "(`device_1.sensor_1`>0 or `device_1.sensor_2` < 22) and time < 4")
+    Assert.assertEquals(3, newDf.count())
+  }
+
   test("testQuerySchema") {
     val df = spark.read.format("org.apache.iotdb.spark.tsfile").load(tsfile1)
 
@@ -81,6 +81,17 @@ public class TSFileConfig implements Serializable {
    * The maximum number of data points in a page, default value is 1024 * 1024.
    */
   private int maxNumberOfPointsInPage = 1024 * 1024;
+  /**
+   * The time interval that sub-page statistics are aligned to, each sub-page statistics covers the
+   * points of a page within one interval. Default value is 0, which means no sub-page statistics
+   * are written.
+   */
+  private long subPageStatisticsInterval = 0;
+  /**
+   * The number of points in each segment of the sparse time index of a page. Default value is 0,
+   * which means no time index is written.
+   */
+  private int pageTimeIndexInterval = 0;
   /**
    * The maximum degree of a metadataIndex node, default value is 1024
    */
@@ -93,6 +104,11 @@ public class TSFileConfig implements Serializable {
    * Max length limitation of input string.
    */
   private int maxStringLength = 128;
+  /**
+   * The maximum number of distinct values in the dictionary of a PLAIN_DICTIONARY encoded page.
+   * Pages with more distinct values fall back to plain encoding.
+   */
+  private int maxDictionarySize = 1024;
   /**
    * Floating-point precision.
    */
@@ -138,6 +154,11 @@ public class TSFileConfig implements Serializable {
    * value is UNCOMPRESSED which means no compression
    */
   private CompressionType compressor = CompressionType.SNAPPY;
+  /**
+   * Compression level of GZIP and ZSTD, series may override it by the compression_level property.
+   * Default value is 0, which means the default level of the compressor.
+   */
+  private int compressionLevel = 0;
   /**
    * Line count threshold for checking page memory occupied size.
    */
@@ -232,6 +253,22 @@ public class TSFileConfig implements Serializable {
     this.maxNumberOfPointsInPage = maxNumberOfPointsInPage;
   }
 
+  public long getSubPageStatisticsInterval() {
+    return subPageStatisticsInterval;
+  }
+
+  public void setSubPageStatisticsInterval(long subPageStatisticsInterval) {
+    this.subPageStatisticsInterval = subPageStatisticsInterval;
+  }
+
+  public int getPageTimeIndexInterval() {
+    return pageTimeIndexInterval;
+  }
+
+  public void setPageTimeIndexInterval(int pageTimeIndexInterval) {
+    this.pageTimeIndexInterval = pageTimeIndexInterval;
+  }
+
   public int getMaxDegreeOfIndexNode() {
     return maxDegreeOfIndexNode;
   }
@@ -260,6 +297,14 @@ public class TSFileConfig implements Serializable {
     this.maxStringLength = maxStringLength;
   }
 
+  public int getMaxDictionarySize() {
+    return maxDictionarySize;
+  }
+
+  public void setMaxDictionarySize(int maxDictionarySize) {
+    this.maxDictionarySize = maxDictionarySize;
+  }
+
   public int getFloatPrecision() {
     return floatPrecision;
   }
@@ -344,6 +389,14 @@ public class TSFileConfig implements Serializable {
     this.compressor = CompressionType.valueOf(compressor);
   }
 
+  public int getCompressionLevel() {
+    return compressionLevel;
+  }
+
+  public void setCompressionLevel(int compressionLevel) {
+    this.compressionLevel = compressionLevel;
+  }
+
   public int getPageCheckSizeThreshold() {
     return pageCheckSizeThreshold;
   }
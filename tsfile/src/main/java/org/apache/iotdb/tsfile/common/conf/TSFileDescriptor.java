@@ -120,16 +120,24 @@ public class TSFileDescriptor {
       }
       conf.setMaxNumberOfPointsInPage(Integer.parseInt(
           properties.getProperty("max_number_of_points_in_page", Integer.toString(conf.getMaxNumberOfPointsInPage()))));
+      conf.setSubPageStatisticsInterval(Long.parseLong(properties.getProperty(
+          "sub_page_statistics_interval", Long.toString(conf.getSubPageStatisticsInterval()))));
+      conf.setPageTimeIndexInterval(Integer.parseInt(properties.getProperty(
+          "page_time_index_interval", Integer.toString(conf.getPageTimeIndexInterval()))));
       conf.setMaxDegreeOfIndexNode(Integer.parseInt(
           properties.getProperty("max_degree_of_index_node", Integer.toString(conf.getMaxDegreeOfIndexNode()))));
       conf.setTimeSeriesDataType(properties.getProperty("time_series_data_type", conf.getTimeSeriesDataType()));
       conf.setMaxStringLength(
           Integer.parseInt(properties.getProperty("max_string_length", Integer.toString(conf.getMaxStringLength()))));
+      conf.setMaxDictionarySize(Integer.parseInt(
+          properties.getProperty("max_dictionary_size", Integer.toString(conf.getMaxDictionarySize()))));
       conf.setFloatPrecision(
           Integer.parseInt(properties.getProperty("float_precision", Integer.toString(conf.getFloatPrecision()))));
       conf.setTimeEncoder(properties.getProperty("time_encoder", conf.getTimeEncoder()));
       conf.setValueEncoder(properties.getProperty("value_encoder", conf.getValueEncoder()));
       conf.setCompressor(properties.getProperty("compressor", conf.getCompressor().toString()));
+      conf.setCompressionLevel(Integer.parseInt(properties
+          .getProperty("compression_level", Integer.toString(conf.getCompressionLevel()))));
       conf.setBatchSize(Integer.parseInt(properties.getProperty("batch_size",
           Integer.toString(conf.getBatchSize()))));
     } catch (IOException e) {
@@ -19,13 +19,19 @@
 
 package org.apache.iotdb.tsfile.compress;
 
+import com.github.luben.zstd.Zstd;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.io.Serializable;
 import java.nio.ByteBuffer;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
 import net.jpountz.lz4.LZ4Compressor;
 import net.jpountz.lz4.LZ4Factory;
+import org.apache.iotdb.tsfile.common.conf.TSFileDescriptor;
 import org.apache.iotdb.tsfile.exception.compress.CompressionTypeNotSupportedException;
 import org.apache.iotdb.tsfile.file.metadata.enums.CompressionType;
+import org.apache.iotdb.tsfile.utils.PublicBAOS;
 import org.xerial.snappy.Snappy;
 
 /**
@@ -33,6 +39,12 @@ import org.xerial.snappy.Snappy;
  */
 public interface ICompressor extends Serializable {
 
+  /**
+   * The key of the compression level in the props of a series. A level of 0 means the default
+   * level of the compressor, and compressors without levels ignore it.
+   */
+  String COMPRESSION_LEVEL = "compression_level";
+
   static ICompressor getCompressor(String name) {
     return getCompressor(CompressionType.valueOf(name));
   }
@@ -44,6 +56,17 @@ public interface ICompressor extends Serializable {
    * @return the Compressor of specified CompressionType
    */
   static ICompressor getCompressor(CompressionType name) {
+    return getCompressor(name, TSFileDescriptor.getInstance().getConfig().getCompressionLevel());
+  }
+
+  /**
+   * get Compressor according to CompressionType and compression level.
+   *
+   * @param name  CompressionType
+   * @param level the compression level of GZIP or ZSTD, 0 means the default level
+   * @return the Compressor of specified CompressionType
+   */
+  static ICompressor getCompressor(CompressionType name, int level) {
     if (name == null) {
       throw new CompressionTypeNotSupportedException("NULL");
     }
@@ -54,6 +77,10 @@ public interface ICompressor extends Serializable {
         return new SnappyCompressor();
       case LZ4:
         return new IOTDBLZ4Compressor();
+      case GZIP:
+        return new GZIPCompressor(level);
+      case ZSTD:
+        return new ZstdCompressor(level);
       default:
         throw new CompressionTypeNotSupportedException(name.toString());
     }
@@ -181,4 +208,147 @@ public interface ICompressor extends Serializable {
       return CompressionType.LZ4;
     }
   }
+
+  /**
+   * GZIPCompressor writes the GZIP format by java.util.zip. Deflater only accepts arrays in Java 8,
+   * so the ByteBuffer path copies heap arrays for direct buffers.
+   */
+  class GZIPCompressor implements ICompressor {
+
+    private static final int DEFAULT_BUFFER_SIZE = 8192;
+    // the header without file name or comment and the trailer of CRC32 and size
+    private static final int HEADER_TRAILER_SIZE = 10 + 8;
+
+    private final int level;
+
+    public GZIPCompressor(int level) {
+      this.level = level == 0 ? Deflater.DEFAULT_COMPRESSION : level;
+    }
+
+    @Override
+    public byte[] compress(byte[] data) throws IOException {
+      if (data == null) {
+        return new byte[0];
+      }
+      return compress(data, 0, data.length).toByteArray();
+    }
+
+    private PublicBAOS compress(byte[] data, int offset, int length) throws IOException {
+      PublicBAOS out = new PublicBAOS();
+      try (LeveledGZIPOutputStream gzipOut = new LeveledGZIPOutputStream(out, level)) {
+        gzipOut.write(data, offset, length);
+      }
+      return out;
+    }
+
+    @Override
+    public int compress(byte[] data, int offset, int length, byte[] compressed) throws IOException {
+      PublicBAOS out = compress(data, offset, length);
+      System.arraycopy(out.getBuf(), 0, compressed, 0, out.size());
+      return out.size();
+    }
+
+    @Override
+    public int compress(ByteBuffer data, ByteBuffer compressed) throws IOException {
+      int length = data.remaining();
+      byte[] input;
+      int offset;
+      if (data.hasArray()) {
+        input = data.array();
+        offset = data.arrayOffset() + data.position();
+      } else {
+        input = new byte[length];
+        data.duplicate().get(input);
+        offset = 0;
+      }
+      PublicBAOS out = compress(input, offset, length);
+      int position = compressed.position();
+      compressed.duplicate().put(out.getBuf(), 0, out.size());
+      compressed.limit(position + out.size());
+      return out.size();
+    }
+
+    /**
+     * Refer to deflateBound() of zlib, plus the header and the trailer of GZIP.
+     */
+    @Override
+    public int getMaxBytesForCompression(int uncompressedDataSize) {
+      return uncompressedDataSize + (uncompressedDataSize >> 12) + (uncompressedDataSize >> 14)
+          + (uncompressedDataSize >> 25) + 13 + HEADER_TRAILER_SIZE;
+    }
+
+    @Override
+    public CompressionType getType() {
+      return CompressionType.GZIP;
+    }
+
+    private static class LeveledGZIPOutputStream extends GZIPOutputStream {
+
+      private LeveledGZIPOutputStream(OutputStream out, int level) throws IOException {
+        super(out, DEFAULT_BUFFER_SIZE);
+        def.setLevel(level);
+      }
+    }
+  }
+
+  /**
+   * ZstdCompressor compresses by zstd-jni. Direct buffers are compressed without copying.
+   */
+  class ZstdCompressor implements ICompressor {
+
+    private final int level;
+
+    public ZstdCompressor(int level) {
+      // level 0 means the default level in Zstandard as well
+      this.level = level;
+    }
+
+    @Override
+    public byte[] compress(byte[] data) throws IOException {
+      if (data == null) {
+        return new byte[0];
+      }
+      return Zstd.compress(data, level);
+    }
+
+    @Override
+    public int compress(byte[] data, int offset, int length, byte[] compressed) throws IOException {
+      return checkResult(Zstd.compressByteArray(compressed, 0, compressed.length, data, offset,
+          length, level));
+    }
+
+    @Override
+    public int compress(ByteBuffer data, ByteBuffer compressed) throws IOException {
+      int size;
+      if (data.isDirect() && compressed.isDirect()) {
+        size = checkResult(Zstd.compressDirectByteBuffer(compressed, compressed.position(),
+            compressed.remaining(), data, data.position(), data.remaining(), level));
+      } else {
+        byte[] input = new byte[data.remaining()];
+        data.duplicate().get(input);
+        byte[] output = Zstd.compress(input, level);
+        compressed.duplicate().put(output);
+        size = output.length;
+      }
+      compressed.limit(compressed.position() + size);
+      return size;
+    }
+
+    private static int checkResult(long result) throws IOException {
+      if (Zstd.isError(result)) {
+        throw new IOException("Zstd compression failed: " + Zstd.getErrorName(result));
+      }
+      return (int) result;
+    }
+
+    @Override
+    public int getMaxBytesForCompression(int uncompressedDataSize) {
+      return (int) Zstd.compressBound(uncompressedDataSize);
+    }
+
+    @Override
+    public CompressionType getType() {
+      return CompressionType.ZSTD;
+    }
+  }
 }
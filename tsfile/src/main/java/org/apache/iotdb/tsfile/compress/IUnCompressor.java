@@ -19,8 +19,13 @@
 
 package org.apache.iotdb.tsfile.compress;
 
+import com.github.luben.zstd.Zstd;
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+import java.util.zip.GZIPInputStream;
 import net.jpountz.lz4.LZ4Compressor;
 import net.jpountz.lz4.LZ4Factory;
 import net.jpountz.lz4.LZ4SafeDecompressor;
@@ -52,6 +57,10 @@ public interface IUnCompressor {
         return new SnappyUnCompressor();
       case LZ4:
         return new LZ4UnCompressor();
+      case GZIP:
+        return new GZIPUnCompressor();
+      case ZSTD:
+        return new ZstdUnCompressor();
       default:
         throw new CompressionTypeNotSupportedException(name.toString());
     }
@@ -234,7 +243,7 @@ public interface IUnCompressor {
     public int uncompress(byte[] byteArray, int offset, int length, byte[] output, int outOffset)
         throws IOException {
       try {
-        return decompressor.decompress(byteArray, offset, length, output, offset);
+        return decompressor.decompress(byteArray, offset, length, output, outOffset);
       }
       catch (RuntimeException e){
         logger.error(
@@ -264,4 +273,143 @@ public interface IUnCompressor {
       return CompressionType.LZ4;
     }
   }
+
+  class GZIPUnCompressor implements IUnCompressor {
+
+    private static final int BUFFER_SIZE = 8192;
+
+    /**
+     * The last 4 bytes of GZIP are the uncompressed size in little endian.
+     */
+    @Override
+    public int getUncompressedLength(byte[] array, int offset, int length) {
+      int end = offset + length;
+      return (array[end - 4] & 0xFF) | (array[end - 3] & 0xFF) << 8
+          | (array[end - 2] & 0xFF) << 16 | (array[end - 1] & 0xFF) << 24;
+    }
+
+    @Override
+    public int getUncompressedLength(ByteBuffer buffer) {
+      return buffer.duplicate().order(ByteOrder.LITTLE_ENDIAN).getInt(buffer.limit() - 4);
+    }
+
+    @Override
+    public byte[] uncompress(byte[] byteArray) throws IOException {
+      if (byteArray == null) {
+        return new byte[0];
+      }
+      byte[] output = new byte[getUncompressedLength(byteArray, 0, byteArray.length)];
+      uncompress(byteArray, 0, byteArray.length, output, 0);
+      return output;
+    }
+
+    @Override
+    public int uncompress(byte[] byteArray, int offset, int length, byte[] output, int outOffset)
+        throws IOException {
+      try (GZIPInputStream in = new GZIPInputStream(
+          new ByteArrayInputStream(byteArray, offset, length), BUFFER_SIZE)) {
+        int size = 0;
+        int read;
+        while (outOffset + size < output.length
+            && (read = in.read(output, outOffset + size, output.length - outOffset - size)) > 0) {
+          size += read;
+        }
+        return size;
+      }
+    }
+
+    /**
+     * Inflater only accepts arrays in Java 8, so direct buffers are copied.
+     */
+    @Override
+    public int uncompress(ByteBuffer compressed, ByteBuffer uncompressed) throws IOException {
+      if (compressed == null || !compressed.hasRemaining()) {
+        return 0;
+      }
+      byte[] input = new byte[compressed.remaining()];
+      compressed.duplicate().get(input);
+      byte[] output = new byte[Math.min(getUncompressedLength(input, 0, input.length),
+          uncompressed.remaining())];
+      int size = uncompress(input, 0, input.length, output, 0);
+      int position = uncompressed.position();
+      uncompressed.duplicate().put(output, 0, size);
+      uncompressed.limit(position + size);
+      return size;
+    }
+
+    @Override
+    public CompressionType getCodecName() {
+      return CompressionType.GZIP;
+    }
+  }
+
+  class ZstdUnCompressor implements IUnCompressor {
+
+    @Override
+    public int getUncompressedLength(byte[] array, int offset, int length) throws IOException {
+      byte[] frame = array;
+      if (offset != 0 || length != array.length) {
+        frame = Arrays.copyOfRange(array, offset, offset + length);
+      }
+      return checkResult(Zstd.decompressedSize(frame));
+    }
+
+    @Override
+    public int getUncompressedLength(ByteBuffer buffer) throws IOException {
+      if (buffer.isDirect()) {
+        return checkResult(Zstd.decompressedDirectByteBufferSize(buffer, buffer.position(),
+            buffer.remaining()));
+      }
+      byte[] frame = new byte[buffer.remaining()];
+      buffer.duplicate().get(frame);
+      return checkResult(Zstd.decompressedSize(frame));
+    }
+
+    @Override
+    public byte[] uncompress(byte[] byteArray) throws IOException {
+      if (byteArray == null) {
+        return new byte[0];
+      }
+      return Zstd.decompress(byteArray, getUncompressedLength(byteArray, 0, byteArray.length));
+    }
+
+    @Override
+    public int uncompress(byte[] byteArray, int offset, int length, byte[] output, int outOffset)
+        throws IOException {
+      return checkResult(Zstd.decompressByteArray(output, outOffset, output.length - outOffset,
+          byteArray, offset, length));
+    }
+
+    @Override
+    public int uncompress(ByteBuffer compressed, ByteBuffer uncompressed) throws IOException {
+      if (compressed == null || !compressed.hasRemaining()) {
+        return 0;
+      }
+      int size;
+      if (compressed.isDirect() && uncompressed.isDirect()) {
+        size = checkResult(Zstd.decompressDirectByteBuffer(uncompressed, uncompressed.position(),
+            uncompressed.remaining(), compressed, compressed.position(), compressed.remaining()));
+      } else {
+        byte[] input = new byte[compressed.remaining()];
+        compressed.duplicate().get(input);
+        byte[] output = uncompress(input);
+        uncompressed.duplicate().put(output);
+        size = output.length;
+      }
+      uncompressed.limit(uncompressed.position() + size);
+      return size;
+    }
+
+    private static int checkResult(long result) throws IOException {
+      if (Zstd.isError(result)) {
+        throw new IOException("Zstd decompression failed: " + Zstd.getErrorName(result));
+      }
+      return (int) result;
+    }
+
+    @Override
+    public CompressionType getCodecName() {
+      return CompressionType.ZSTD;
+    }
+  }
 }
@@ -0,0 +1,189 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iotdb.tsfile.encoding.decoder;
+
+import java.nio.ByteBuffer;
+
+import org.apache.iotdb.tsfile.encoding.bitpacking.LongPacker;
+import org.apache.iotdb.tsfile.encoding.encoder.AlpEncoder;
+import org.apache.iotdb.tsfile.file.metadata.enums.TSEncoding;
+import org.apache.iotdb.tsfile.utils.ReadWriteForEncodingUtils;
+import org.apache.iotdb.tsfile.utils.ReadWriteIOUtils;
+
+/**
+ * Decoder for values encoded by {@link AlpEncoder}. A whole vector is decoded at once when its
+ * first value is read.
+ *
+ * @see AlpEncoder
+ */
+public abstract class AlpDecoder extends Decoder {
+
+  protected int count;
+  protected int index;
+
+  // the integers of the current vector, and the exponent and factor to decode them
+  protected final long[] encoded = new long[AlpEncoder.VECTOR_SIZE];
+  protected int exponent;
+  protected int factor;
+
+  private final LongPacker packer = new LongPacker(0);
+  private final long[] unpacked = new long[8];
+  private byte[] packedBytes = new byte[0];
+
+  protected AlpDecoder() {
+    super(TSEncoding.ALP);
+  }
+
+  @Override
+  public boolean hasNext(ByteBuffer buffer) {
+    return index < count || buffer.hasRemaining();
+  }
+
+  /**
+   * make sure the next value is decoded, reading the next vector if the current one is exhausted.
+   */
+  protected void prepareNext(ByteBuffer buffer) {
+    if (index < count) {
+      return;
+    }
+    count = ReadWriteForEncodingUtils.readUnsignedVarInt(buffer);
+    index = 0;
+    exponent = buffer.get();
+    factor = buffer.get();
+    long min = ReadWriteIOUtils.readLong(buffer);
+    int width = buffer.get();
+    if (width == 0) {
+      for (int i = 0; i < count; i++) {
+        encoded[i] = min;
+      }
+    } else {
+      int packNum = (count + 7) / 8;
+      int packedLength = packNum * width;
+      if (packedBytes.length < packedLength) {
+        packedBytes = new byte[packedLength];
+      }
+      buffer.get(packedBytes, 0, packedLength);
+      packer.setWidth(width);
+      for (int i = 0; i < packNum; i++) {
+        packer.unpack8Values(packedBytes, i * width, unpacked);
+        int num = Math.min(8, count - i * 8);
+        for (int j = 0; j < num; j++) {
+          encoded[i * 8 + j] = unpacked[j] + min;
+        }
+      }
+    }
+    decodeVector();
+    int exceptionNum = ReadWriteForEncodingUtils.readUnsignedVarInt(buffer);
+    for (int i = 0; i < exceptionNum; i++) {
+      readException(ReadWriteForEncodingUtils.readUnsignedVarInt(buffer), buffer);
+    }
+  }
+
+  /**
+   * decode the first count integers into values.
+   */
+  protected abstract void decodeVector();
+
+  /**
+   * read the raw bits of the value at position.
+   */
+  protected abstract void readException(int position, ByteBuffer buffer);
+
+  @Override
+  public void reset() {
+    count = 0;
+    index = 0;
+  }
+
+  public static class FloatAlpDecoder extends AlpDecoder {
+
+    private final float[] values = new float[AlpEncoder.VECTOR_SIZE];
+
+    @Override
+    protected void decodeVector() {
+      double multiplier = AlpEncoder.POWERS_OF_TEN[factor];
+      double divisor = AlpEncoder.NEGATIVE_POWERS_OF_TEN[exponent];
+      for (int i = 0; i < count; i++) {
+        values[i] = (float) (encoded[i] * multiplier * divisor);
+      }
+    }
+
+    @Override
+    protected void readException(int position, ByteBuffer buffer) {
+      values[position] = Float.intBitsToFloat(buffer.getInt());
+    }
+
+    @Override
+    public float readFloat(ByteBuffer buffer) {
+      prepareNext(buffer);
+      return values[index++];
+    }
+
+    @Override
+    public int readFloats(ByteBuffer buffer, float[] result, int offset, int length) {
+      int readNum = 0;
+      while (readNum < length && hasNext(buffer)) {
+        prepareNext(buffer);
+        int num = Math.min(length - readNum, count - index);
+        System.arraycopy(values, index, result, offset + readNum, num);
+        index += num;
+        readNum += num;
+      }
+      return readNum;
+    }
+  }
+
+  public static class DoubleAlpDecoder extends AlpDecoder {
+
+    private final double[] values = new double[AlpEncoder.VECTOR_SIZE];
+
+    @Override
+    protected void decodeVector() {
+      double multiplier = AlpEncoder.POWERS_OF_TEN[factor];
+      double divisor = AlpEncoder.NEGATIVE_POWERS_OF_TEN[exponent];
+      for (int i = 0; i < count; i++) {
+        values[i] = encoded[i] * multiplier * divisor;
+      }
+    }
+
+    @Override
+    protected void readException(int position, ByteBuffer buffer) {
+      values[position] = Double.longBitsToDouble(buffer.getLong());
+    }
+
+    @Override
+    public double readDouble(ByteBuffer buffer) {
+      prepareNext(buffer);
+      return values[index++];
+    }
+
+    @Override
+    public int readDoubles(ByteBuffer buffer, double[] result, int offset, int length) {
+      int readNum = 0;
+      while (readNum < length && hasNext(buffer)) {
+        prepareNext(buffer);
+        int num = Math.min(length - readNum, count - index);
+        System.arraycopy(values, index, result, offset + readNum, num);
+        index += num;
+        readNum += num;
+      }
+      return readNum;
+    }
+  }
+}
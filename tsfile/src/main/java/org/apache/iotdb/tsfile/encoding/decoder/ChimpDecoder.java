@@ -0,0 +1,180 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iotdb.tsfile.encoding.decoder;
+
+import java.nio.ByteBuffer;
+
+import org.apache.iotdb.tsfile.encoding.encoder.ChimpEncoder;
+import org.apache.iotdb.tsfile.file.metadata.enums.TSEncoding;
+import org.apache.iotdb.tsfile.utils.ReadWriteForEncodingUtils;
+
+/**
+ * Decoder for values encoded by {@link ChimpEncoder}. A whole block is decoded at once when its
+ * first value is read.
+ *
+ * @see ChimpEncoder
+ */
+public abstract class ChimpDecoder extends Decoder {
+
+  private static final int NO_STORED_LEADING_ZERO = -1;
+
+  private final int valueBits;
+  private final int centerLengthBits;
+
+  // the raw bits of the values of the current block
+  protected long[] values = new long[0];
+  protected int count;
+  protected int index;
+
+  private int currentByte;
+  private int bitNumInCurrentByte;
+
+  protected ChimpDecoder(int valueBits, int centerLengthBits) {
+    super(TSEncoding.CHIMP);
+    this.valueBits = valueBits;
+    this.centerLengthBits = centerLengthBits;
+  }
+
+  @Override
+  public boolean hasNext(ByteBuffer buffer) {
+    return index < count || buffer.hasRemaining();
+  }
+
+  /**
+   * make sure the next value is decoded, reading the next block if the current one is exhausted.
+   */
+  protected void prepareNext(ByteBuffer buffer) {
+    if (index < count) {
+      return;
+    }
+    count = ReadWriteForEncodingUtils.readUnsignedVarInt(buffer);
+    index = 0;
+    if (values.length < count) {
+      values = new long[count];
+    }
+    bitNumInCurrentByte = 0;
+    long value = readBits(buffer, valueBits);
+    values[0] = value;
+    int storedLeadingZeroNum = NO_STORED_LEADING_ZERO;
+    for (int i = 1; i < count; i++) {
+      int flag = (int) readBits(buffer, 2);
+      switch (flag) {
+        case 0b00:
+          storedLeadingZeroNum = NO_STORED_LEADING_ZERO;
+          break;
+        case 0b01:
+          int leadingZeroNum = ChimpEncoder.LEADING_ZEROS[(int) readBits(buffer, 3)];
+          int centerBits = (int) readBits(buffer, centerLengthBits);
+          int trailingZeroNum = valueBits - leadingZeroNum - centerBits;
+          value ^= readBits(buffer, centerBits) << trailingZeroNum;
+          storedLeadingZeroNum = NO_STORED_LEADING_ZERO;
+          break;
+        case 0b10:
+          value ^= readBits(buffer, valueBits - storedLeadingZeroNum);
+          break;
+        default:
+          storedLeadingZeroNum = ChimpEncoder.LEADING_ZEROS[(int) readBits(buffer, 3)];
+          value ^= readBits(buffer, valueBits - storedLeadingZeroNum);
+          break;
+      }
+      values[i] = value;
+    }
+  }
+
+  /**
+   * read len bits, the highest bit first.
+   */
+  private long readBits(ByteBuffer buffer, int len) {
+    long result = 0;
+    while (len > 0) {
+      if (bitNumInCurrentByte == 0) {
+        currentByte = buffer.get() & 0xFF;
+        bitNumInCurrentByte = Byte.SIZE;
+      }
+      int bitNum = Math.min(len, bitNumInCurrentByte);
+      bitNumInCurrentByte -= bitNum;
+      result = (result << bitNum) | ((currentByte >>> bitNumInCurrentByte) & ((1 << bitNum) - 1));
+      len -= bitNum;
+    }
+    return result;
+  }
+
+  @Override
+  public void reset() {
+    count = 0;
+    index = 0;
+    bitNumInCurrentByte = 0;
+  }
+
+  public static class FloatChimpDecoder extends ChimpDecoder {
+
+    public FloatChimpDecoder() {
+      super(Integer.SIZE, 5);
+    }
+
+    @Override
+    public float readFloat(ByteBuffer buffer) {
+      prepareNext(buffer);
+      return Float.intBitsToFloat((int) values[index++]);
+    }
+
+    @Override
+    public int readFloats(ByteBuffer buffer, float[] result, int offset, int length) {
+      int readNum = 0;
+      while (readNum < length && hasNext(buffer)) {
+        prepareNext(buffer);
+        int num = Math.min(length - readNum, count - index);
+        for (int i = 0; i < num; i++) {
+          result[offset + readNum + i] = Float.intBitsToFloat((int) values[index + i]);
+        }
+        index += num;
+        readNum += num;
+      }
+      return readNum;
+    }
+  }
+
+  public static class DoubleChimpDecoder extends ChimpDecoder {
+
+    public DoubleChimpDecoder() {
+      super(Long.SIZE, 6);
+    }
+
+    @Override
+    public double readDouble(ByteBuffer buffer) {
+      prepareNext(buffer);
+      return Double.longBitsToDouble(values[index++]);
+    }
+
+    @Override
+    public int readDoubles(ByteBuffer buffer, double[] result, int offset, int length) {
+      int readNum = 0;
+      while (readNum < length && hasNext(buffer)) {
+        prepareNext(buffer);
+        int num = Math.min(length - readNum, count - index);
+        for (int i = 0; i < num; i++) {
+          result[offset + readNum + i] = Double.longBitsToDouble(values[index + i]);
+        }
+        index += num;
+        readNum += num;
+      }
+      return readNum;
+    }
+  }
+}
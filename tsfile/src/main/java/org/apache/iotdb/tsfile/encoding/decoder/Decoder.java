@@ -93,6 +93,32 @@ public abstract class Decoder {
           throw new TsFileDecodingException(
               "Decoder not found:" + type + " , DataType is :" + dataType);
       }
+    } else if (type == TSEncoding.CHIMP) {
+      switch (dataType) {
+        case FLOAT:
+          return new ChimpDecoder.FloatChimpDecoder();
+        case DOUBLE:
+          return new ChimpDecoder.DoubleChimpDecoder();
+        default:
+          throw new TsFileDecodingException(
+              "Decoder not found:" + type + " , DataType is :" + dataType);
+      }
+    } else if (type == TSEncoding.ALP) {
+      switch (dataType) {
+        case FLOAT:
+          return new AlpDecoder.FloatAlpDecoder();
+        case DOUBLE:
+          return new AlpDecoder.DoubleAlpDecoder();
+        default:
+          throw new TsFileDecodingException(
+              "Decoder not found:" + type + " , DataType is :" + dataType);
+      }
+    } else if (type == TSEncoding.PLAIN_DICTIONARY) {
+      if (dataType == TSDataType.TEXT) {
+        return new DictionaryDecoder();
+      }
+      throw new TsFileDecodingException(
+          "Decoder not found:" + type + " , DataType is :" + dataType);
     } else if (type == TSEncoding.REGULAR) {
       switch (dataType) {
         case INT32:
@@ -133,6 +159,51 @@ public abstract class Decoder {
     throw new TsFileDecodingException("Method readDouble is not supproted by Decoder");
   }
 
+  /**
+   * read at most length values into result from offset. Decoders that decode a block of values at
+   * once override this to copy the decoded values in bulk.
+   *
+   * @return the number of values read, 0 if there is no value left
+   */
+  public int readLongs(ByteBuffer buffer, long[] result, int offset, int length)
+      throws IOException {
+    int readNum = 0;
+    while (readNum < length && hasNext(buffer)) {
+      result[offset + readNum++] = readLong(buffer);
+    }
+    return readNum;
+  }
+
+  /**
+   * read at most length values into result from offset. Decoders that decode a block of values at
+   * once override this to copy the decoded values in bulk.
+   *
+   * @return the number of values read, 0 if there is no value left
+   */
+  public int readFloats(ByteBuffer buffer, float[] result, int offset, int length)
+      throws IOException {
+    int readNum = 0;
+    while (readNum < length && hasNext(buffer)) {
+      result[offset + readNum++] = readFloat(buffer);
+    }
+    return readNum;
+  }
+
+  /**
+   * read at most length values into result from offset. Decoders that decode a block of values at
+   * once override this to copy the decoded values in bulk.
+   *
+   * @return the number of values read, 0 if there is no value left
+   */
+  public int readDoubles(ByteBuffer buffer, double[] result, int offset, int length)
+      throws IOException {
+    int readNum = 0;
+    while (readNum < length && hasNext(buffer)) {
+      result[offset + readNum++] = readDouble(buffer);
+    }
+    return readNum;
+  }
+
   public Binary readBinary(ByteBuffer buffer) {
     throw new TsFileDecodingException("Method readBinary is not supproted by Decoder");
   }
@@ -22,9 +22,9 @@ package org.apache.iotdb.tsfile.encoding.decoder;
 import java.io.IOException;
 import java.nio.ByteBuffer;
 
+import org.apache.iotdb.tsfile.encoding.bitpacking.FramePacker;
 import org.apache.iotdb.tsfile.encoding.encoder.DeltaBinaryEncoder;
 import org.apache.iotdb.tsfile.file.metadata.enums.TSEncoding;
-import org.apache.iotdb.tsfile.utils.BytesUtils;
 import org.apache.iotdb.tsfile.utils.ReadWriteIOUtils;
 
 /**
@@ -38,7 +38,11 @@ import org.apache.iotdb.tsfile.utils.ReadWriteIOUtils;
 public abstract class DeltaBinaryDecoder extends Decoder {
 
   protected long count = 0;
-  protected byte[] deltaBuf;
+  protected byte[] deltaBuf = new byte[0];
+  /**
+   * two_diff values of a pack, unpacked in one call.
+   */
+  protected long[] deltas = new long[0];
 
   /**
    * the first value in one pack.
@@ -79,6 +83,25 @@ public abstract class DeltaBinaryDecoder extends Decoder {
     return (int) Math.ceil((double) (v) / 8.0);
   }
 
+  /**
+   * read the packed two_diff values of a pack and unpack all of them into {@code deltas}.
+   *
+   * @param buffer ByteBuffer
+   */
+  protected void unpackDeltas(ByteBuffer buffer) {
+    encodingLength = ceil(packNum * packWidth);
+    // the kernels unpack whole groups of 8 values, so the last group is padded
+    int packedLength = FramePacker.getPackedLength(packNum, packWidth);
+    if (deltaBuf.length < packedLength) {
+      deltaBuf = new byte[packedLength];
+    }
+    buffer.get(deltaBuf, 0, encodingLength);
+    if (deltas.length < packNum + 7) {
+      deltas = new long[packNum + 7];
+    }
+    FramePacker.unpack(deltaBuf, 0, packWidth, deltas, 0, packNum);
+  }
+
   @Override
   public boolean hasNext(ByteBuffer buffer) throws IOException {
     return (nextReadIndex < readIntTotalCount) || buffer.remaining() > 0;
@@ -128,9 +151,7 @@ public abstract class DeltaBinaryDecoder extends Decoder {
       count++;
       readHeader(buffer);
 
-      encodingLength = ceil(packNum * packWidth);
-      deltaBuf = new byte[encodingLength];
-      buffer.get(deltaBuf);
+      unpackDeltas(buffer);
       allocateDataArray();
 
       previous = firstValue;
@@ -155,13 +176,14 @@ public abstract class DeltaBinaryDecoder extends Decoder {
 
     @Override
     protected void allocateDataArray() {
-      data = new int[packNum];
+      if (data == null || data.length < packNum) {
+        data = new int[packNum];
+      }
     }
 
     @Override
     protected void readValue(int i) {
-      int v = BytesUtils.bytesToInt(deltaBuf, packWidth * i, packWidth);
-      data[i] = previous + minDeltaBase + v;
+      data[i] = previous + minDeltaBase + (int) deltas[i];
     }
 
     @Override
@@ -209,9 +231,7 @@ public abstract class DeltaBinaryDecoder extends Decoder {
       count++;
       readHeader(buffer);
 
-      encodingLength = ceil(packNum * packWidth);
-      deltaBuf = new byte[encodingLength];
-      buffer.get(deltaBuf);
+      unpackDeltas(buffer);
       allocateDataArray();
 
       previous = firstValue;
@@ -234,6 +254,23 @@ public abstract class DeltaBinaryDecoder extends Decoder {
       return readT(buffer);
     }
 
+    @Override
+    public int readLongs(ByteBuffer buffer, long[] result, int offset, int length)
+        throws IOException {
+      int readNum = 0;
+      while (readNum < length && hasNext(buffer)) {
+        if (nextReadIndex == readIntTotalCount) {
+          result[offset + readNum++] = loadIntBatch(buffer);
+          continue;
+        }
+        int num = Math.min(length - readNum, readIntTotalCount - nextReadIndex);
+        System.arraycopy(data, nextReadIndex, result, offset + readNum, num);
+        nextReadIndex += num;
+        readNum += num;
+      }
+      return readNum;
+    }
+
     @Override
     protected void readHeader(ByteBuffer buffer) {
       minDeltaBase = ReadWriteIOUtils.readLong(buffer);
@@ -242,13 +279,14 @@ public abstract class DeltaBinaryDecoder extends Decoder {
 
     @Override
     protected void allocateDataArray() {
-      data = new long[packNum];
+      if (data == null || data.length < packNum) {
+        data = new long[packNum];
+      }
     }
 
     @Override
     protected void readValue(int i) {
-      long v = BytesUtils.bytesToLong(deltaBuf, packWidth * i, packWidth);
-      data[i] = previous + minDeltaBase + v;
+      data[i] = previous + minDeltaBase + deltas[i];
     }
 
     @Override
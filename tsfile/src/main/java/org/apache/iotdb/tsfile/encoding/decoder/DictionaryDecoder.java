@@ -0,0 +1,124 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iotdb.tsfile.encoding.decoder;
+
+import java.nio.ByteBuffer;
+import org.apache.iotdb.tsfile.encoding.bitpacking.IntPacker;
+import org.apache.iotdb.tsfile.encoding.encoder.DictionaryEncoder;
+import org.apache.iotdb.tsfile.exception.encoding.TsFileDecodingException;
+import org.apache.iotdb.tsfile.file.metadata.enums.TSEncoding;
+import org.apache.iotdb.tsfile.utils.Binary;
+import org.apache.iotdb.tsfile.utils.ReadWriteForEncodingUtils;
+
+/**
+ * Decoder for the blocks written by {@link DictionaryEncoder}. Besides reading the values, readers
+ * may get the dictionary of the current block and read the codes, so that a filter on the values
+ * is evaluated once per distinct value instead of once per point.
+ */
+public class DictionaryDecoder extends Decoder {
+
+  private static final byte PLAIN_MODE = 0;
+
+  // the dictionary of the current block, null if the block is in plain mode
+  private Binary[] dictionary;
+  private int[] codes;
+  // the number of values in the current block
+  private int count;
+  // the index of the next value in the current block
+  private int index;
+
+  public DictionaryDecoder() {
+    super(TSEncoding.PLAIN_DICTIONARY);
+  }
+
+  @Override
+  public boolean hasNext(ByteBuffer buffer) {
+    if (index < count) {
+      return true;
+    }
+    if (buffer.hasRemaining()) {
+      readBlock(buffer);
+      return index < count;
+    }
+    return false;
+  }
+
+  private void readBlock(ByteBuffer buffer) {
+    byte mode = buffer.get();
+    count = ReadWriteForEncodingUtils.readUnsignedVarInt(buffer);
+    index = 0;
+    if (mode == PLAIN_MODE) {
+      // the values are read from the buffer one by one
+      dictionary = null;
+      return;
+    }
+    dictionary = new Binary[ReadWriteForEncodingUtils.readUnsignedVarInt(buffer)];
+    for (int i = 0; i < dictionary.length; i++) {
+      dictionary[i] = readPlain(buffer);
+    }
+    int bitWidth = buffer.get();
+    int packedLength = (count + 7) / 8 * bitWidth;
+    byte[] packed = new byte[packedLength];
+    buffer.get(packed);
+    codes = new int[(count + 7) / 8 * 8];
+    new IntPacker(bitWidth).unpackAllValues(packed, packedLength, codes);
+  }
+
+  private static Binary readPlain(ByteBuffer buffer) {
+    byte[] values = new byte[ReadWriteForEncodingUtils.readUnsignedVarInt(buffer)];
+    buffer.get(values);
+    return new Binary(values);
+  }
+
+  @Override
+  public Binary readBinary(ByteBuffer buffer) {
+    if (!hasNext(buffer)) {
+      throw new TsFileDecodingException("No more values in the PLAIN_DICTIONARY block");
+    }
+    index++;
+    return dictionary == null ? readPlain(buffer) : dictionary[codes[index - 1]];
+  }
+
+  /**
+   * @return the dictionary of the block the next value belongs to, or null if the block is in plain
+   * mode or there is no more value. The returned array must not be modified.
+   */
+  public Binary[] getDictionary(ByteBuffer buffer) {
+    return hasNext(buffer) ? dictionary : null;
+  }
+
+  /**
+   * Read the code of the next value, which is its index in {@link #getDictionary(ByteBuffer)}. It
+   * can only be called when getDictionary returns non-null.
+   */
+  public int readCode(ByteBuffer buffer) {
+    if (getDictionary(buffer) == null) {
+      throw new TsFileDecodingException("The next value is not dictionary encoded");
+    }
+    return codes[index++];
+  }
+
+  @Override
+  public void reset() {
+    dictionary = null;
+    codes = null;
+    count = 0;
+    index = 0;
+  }
+}
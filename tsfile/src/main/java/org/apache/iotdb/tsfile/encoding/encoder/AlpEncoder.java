@@ -0,0 +1,294 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iotdb.tsfile.encoding.encoder;
+
+import java.io.ByteArrayOutputStream;
+
+import org.apache.iotdb.tsfile.encoding.bitpacking.LongPacker;
+import org.apache.iotdb.tsfile.file.metadata.enums.TSEncoding;
+import org.apache.iotdb.tsfile.utils.BytesUtils;
+import org.apache.iotdb.tsfile.utils.ReadWriteForEncodingUtils;
+
+/**
+ * ALP (adaptive lossless floating-point) encoding, for values that were decimals with few digits
+ * before being stored as floating-point, e.g., sensor readings. For more information about how it
+ * works, please see https://dl.acm.org/doi/pdf/10.1145/3626717
+ * <p>
+ * Values are encoded in vectors of {@link #VECTOR_SIZE} values. For each vector an exponent e and a
+ * factor f are chosen by sampling, and each value v becomes the integer d = round(v * 10^e * 10^-f).
+ * A value is an exception if d * 10^f * 10^-e does not give exactly the same bits as v (e.g., NaN,
+ * infinity, -0.0 or a value with too many digits), and its raw bits are stored instead. The integers
+ * are bit-packed after subtracting their minimum.
+ * <p>
+ * Encoding vector: {@code <count> <e> <f> <min> <width> <packed integers> <exception count>
+ * <exception position, exception bits>...} where count, exception count and exception position are
+ * unsigned var ints, e, f and width are bytes, min is a long, and the packed integers take width
+ * bytes for each 8 values.
+ */
+public abstract class AlpEncoder extends Encoder {
+
+  public static final int VECTOR_SIZE = 1024;
+
+  /**
+   * 10^i, exact for every i used.
+   */
+  public static final double[] POWERS_OF_TEN = new double[19];
+  /**
+   * 10^-i.
+   */
+  public static final double[] NEGATIVE_POWERS_OF_TEN = new double[19];
+
+  static {
+    for (int i = 0; i < POWERS_OF_TEN.length; i++) {
+      POWERS_OF_TEN[i] = Double.parseDouble("1e" + i);
+      NEGATIVE_POWERS_OF_TEN[i] = Double.parseDouble("1e-" + i);
+    }
+  }
+
+  private static final int SAMPLE_SIZE = 32;
+  // the encoded integers are kept below this so that their differences fit in a long
+  private static final double MAX_ENCODED = 0x1p62;
+
+  private final int maxExponent;
+  private final int valueBytes;
+
+  protected int size;
+  private final long[] encoded = new long[VECTOR_SIZE];
+  private final int[] exceptionPositions = new int[VECTOR_SIZE];
+  private final LongPacker packer = new LongPacker(0);
+  private final byte[] packBuffer = new byte[Long.SIZE];
+
+  protected AlpEncoder(int maxExponent, int valueBytes) {
+    super(TSEncoding.ALP);
+    this.maxExponent = maxExponent;
+    this.valueBytes = valueBytes;
+  }
+
+  /**
+   * @return the i-th buffered value
+   */
+  protected abstract double getValue(int i);
+
+  /**
+   * @return whether decoding d with exponent e and factor f gives exactly the i-th buffered value
+   */
+  protected abstract boolean isExact(int i, long d, int e, int f);
+
+  /**
+   * @return the raw bits of the i-th buffered value in valueBytes bytes
+   */
+  protected abstract byte[] getValueBytes(int i);
+
+  /**
+   * called after a value is buffered.
+   */
+  protected void checkVectorFull(ByteArrayOutputStream out) {
+    if (size == VECTOR_SIZE) {
+      encodeVector(out);
+    }
+  }
+
+  /**
+   * @return round(value * 10^e * 10^-f), or Long.MAX_VALUE if it is out of range
+   */
+  private static long encodeValue(double value, int e, int f) {
+    double scaled = value * POWERS_OF_TEN[e] * NEGATIVE_POWERS_OF_TEN[f];
+    if (!(Math.abs(scaled) < MAX_ENCODED)) {
+      return Long.MAX_VALUE;
+    }
+    return Math.round(scaled);
+  }
+
+  private long tryEncode(int i, int e, int f) {
+    long d = encodeValue(getValue(i), e, f);
+    return d != Long.MAX_VALUE && isExact(i, d, e, f) ? d : Long.MAX_VALUE;
+  }
+
+  /**
+   * choose the exponent and the factor that give the smallest estimated size of sampled values.
+   *
+   * @return exponent << 8 | factor
+   */
+  private int chooseExponentAndFactor() {
+    int step = Math.max(1, size / SAMPLE_SIZE);
+    int bestExponent = 0;
+    int bestFactor = 0;
+    long bestSize = Long.MAX_VALUE;
+    for (int e = maxExponent; e >= 0; e--) {
+      for (int f = 0; f <= e; f++) {
+        long min = Long.MAX_VALUE;
+        long max = Long.MIN_VALUE;
+        int exceptionNum = 0;
+        int sampleNum = 0;
+        for (int i = 0; i < size; i += step) {
+          sampleNum++;
+          long d = tryEncode(i, e, f);
+          if (d == Long.MAX_VALUE) {
+            exceptionNum++;
+          } else {
+            min = Math.min(min, d);
+            max = Math.max(max, d);
+          }
+        }
+        int width = exceptionNum == sampleNum ? 0 : Long.SIZE - Long.numberOfLeadingZeros(max - min);
+        long estimatedSize =
+            (long) sampleNum * width + exceptionNum * (valueBytes + 2L) * Byte.SIZE;
+        if (estimatedSize < bestSize) {
+          bestSize = estimatedSize;
+          bestExponent = e;
+          bestFactor = f;
+        }
+      }
+    }
+    return bestExponent << 8 | bestFactor;
+  }
+
+  private void encodeVector(ByteArrayOutputStream out) {
+    int exponentAndFactor = chooseExponentAndFactor();
+    int e = exponentAndFactor >>> 8;
+    int f = exponentAndFactor & 0xFF;
+
+    int exceptionNum = 0;
+    long min = Long.MAX_VALUE;
+    long max = Long.MIN_VALUE;
+    for (int i = 0; i < size; i++) {
+      long d = tryEncode(i, e, f);
+      if (d == Long.MAX_VALUE) {
+        exceptionPositions[exceptionNum++] = i;
+      } else {
+        min = Math.min(min, d);
+        max = Math.max(max, d);
+      }
+      encoded[i] = d;
+    }
+    if (exceptionNum == size) {
+      min = 0;
+      max = 0;
+    }
+    // exceptions take the minimum so that they do not widen the packed integers
+    for (int i = 0; i < exceptionNum; i++) {
+      encoded[exceptionPositions[i]] = min;
+    }
+    int packNum = (size + 7) / 8 * 8;
+    for (int i = 0; i < packNum; i++) {
+      encoded[i] = i < size ? encoded[i] - min : 0;
+    }
+    int width = Long.SIZE - Long.numberOfLeadingZeros(max - min);
+
+    ReadWriteForEncodingUtils.writeUnsignedVarInt(size, out);
+    out.write(e);
+    out.write(f);
+    out.write(BytesUtils.longToBytes(min), 0, Long.BYTES);
+    out.write(width);
+    if (width > 0) {
+      packer.setWidth(width);
+      for (int i = 0; i < packNum; i += 8) {
+        packer.pack8Values(encoded, i, packBuffer);
+        out.write(packBuffer, 0, width);
+      }
+    }
+    ReadWriteForEncodingUtils.writeUnsignedVarInt(exceptionNum, out);
+    for (int i = 0; i < exceptionNum; i++) {
+      ReadWriteForEncodingUtils.writeUnsignedVarInt(exceptionPositions[i], out);
+      out.write(getValueBytes(exceptionPositions[i]), 0, valueBytes);
+    }
+    size = 0;
+  }
+
+  @Override
+  public void flush(ByteArrayOutputStream out) {
+    if (size > 0) {
+      encodeVector(out);
+    }
+  }
+
+  @Override
+  public int getOneItemMaxSize() {
+    // an exception with its position in the packed integers of at most 8 bytes
+    return Long.BYTES + valueBytes + 2;
+  }
+
+  @Override
+  public long getMaxByteSize() {
+    // the vector header and every buffered value as an exception
+    return 32 + (long) size * getOneItemMaxSize();
+  }
+
+  public static class FloatAlpEncoder extends AlpEncoder {
+
+    private final float[] values = new float[VECTOR_SIZE];
+
+    public FloatAlpEncoder() {
+      super(10, Float.BYTES);
+    }
+
+    @Override
+    public void encode(float value, ByteArrayOutputStream out) {
+      values[size++] = value;
+      checkVectorFull(out);
+    }
+
+    @Override
+    protected double getValue(int i) {
+      return values[i];
+    }
+
+    @Override
+    protected boolean isExact(int i, long d, int e, int f) {
+      float decoded = (float) (d * POWERS_OF_TEN[f] * NEGATIVE_POWERS_OF_TEN[e]);
+      return Float.floatToRawIntBits(decoded) == Float.floatToRawIntBits(values[i]);
+    }
+
+    @Override
+    protected byte[] getValueBytes(int i) {
+      return BytesUtils.intToBytes(Float.floatToRawIntBits(values[i]));
+    }
+  }
+
+  public static class DoubleAlpEncoder extends AlpEncoder {
+
+    private final double[] values = new double[VECTOR_SIZE];
+
+    public DoubleAlpEncoder() {
+      super(18, Double.BYTES);
+    }
+
+    @Override
+    public void encode(double value, ByteArrayOutputStream out) {
+      values[size++] = value;
+      checkVectorFull(out);
+    }
+
+    @Override
+    protected double getValue(int i) {
+      return values[i];
+    }
+
+    @Override
+    protected boolean isExact(int i, long d, int e, int f) {
+      double decoded = d * POWERS_OF_TEN[f] * NEGATIVE_POWERS_OF_TEN[e];
+      return Double.doubleToRawLongBits(decoded) == Double.doubleToRawLongBits(values[i]);
+    }
+
+    @Override
+    protected byte[] getValueBytes(int i) {
+      return BytesUtils.longToBytes(Double.doubleToRawLongBits(values[i]));
+    }
+  }
+}
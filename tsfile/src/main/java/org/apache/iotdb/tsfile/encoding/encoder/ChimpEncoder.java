@@ -0,0 +1,202 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iotdb.tsfile.encoding.encoder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+import org.apache.iotdb.tsfile.file.metadata.enums.TSEncoding;
+import org.apache.iotdb.tsfile.utils.PublicBAOS;
+import org.apache.iotdb.tsfile.utils.ReadWriteForEncodingUtils;
+
+/**
+ * Chimp encoding, a lossless XOR encoding of floating-point values that improves on Gorilla. For
+ * more information about how it works, please see https://www.vldb.org/pvldb/vol15/p3058-liakos.pdf
+ * <p>
+ * The XOR of each value with its previous value is written with a 2-bit flag:
+ * <ul>
+ * <li>'00': the value equals the previous value.</li>
+ * <li>'01': the XOR has many trailing zeros, so a 3-bit leading zero code, the length of the
+ * center bits and the center bits are written.</li>
+ * <li>'10': the XOR has the same rounded leading zero number as the last '11', so only the bits
+ * after the leading zeros are written.</li>
+ * <li>'11': a 3-bit leading zero code and the bits after the leading zeros are written.</li>
+ * </ul>
+ * The leading zero number is rounded down to one of eight buckets so that it takes 3 bits.
+ * <p>
+ * Encoding block: {@code <count> <first value> <flag and bits>...} where count is an unsigned var
+ * int and the bits are padded to a whole byte.
+ */
+public abstract class ChimpEncoder extends Encoder {
+
+  /**
+   * the leading zero numbers that can be represented, indexed by their 3-bit code.
+   */
+  public static final int[] LEADING_ZEROS = {0, 8, 12, 16, 18, 20, 22, 24};
+
+  /**
+   * the 3-bit code of the largest representable leading zero number not more than the index.
+   */
+  private static final int[] LEADING_ZERO_CODES = new int[Long.SIZE + 1];
+
+  static {
+    for (int i = 0; i <= Long.SIZE; i++) {
+      int code = 0;
+      while (code + 1 < LEADING_ZEROS.length && LEADING_ZEROS[code + 1] <= i) {
+        code++;
+      }
+      LEADING_ZERO_CODES[i] = code;
+    }
+  }
+
+  private static final int NO_STORED_LEADING_ZERO = -1;
+
+  private final int valueBits;
+  private final int centerLengthBits;
+  private final int trailingZeroThreshold;
+
+  private final PublicBAOS block = new PublicBAOS();
+  private int count;
+  private long preValue;
+  private int storedLeadingZeroNum;
+  private int currentByte;
+  private int bitNumInCurrentByte;
+
+  protected ChimpEncoder(int valueBits, int centerLengthBits, int trailingZeroThreshold) {
+    super(TSEncoding.CHIMP);
+    this.valueBits = valueBits;
+    this.centerLengthBits = centerLengthBits;
+    this.trailingZeroThreshold = trailingZeroThreshold;
+    reset();
+  }
+
+  /**
+   * @param value the raw bits of a value in the lowest valueBits bits
+   */
+  protected void encodeBits(long value) {
+    if (count == 0) {
+      writeBits(value, valueBits);
+    } else {
+      long xor = value ^ preValue;
+      if (xor == 0) {
+        writeBits(0b00, 2);
+        storedLeadingZeroNum = NO_STORED_LEADING_ZERO;
+      } else {
+        int leadingZeroCode =
+            LEADING_ZERO_CODES[Long.numberOfLeadingZeros(xor) - (Long.SIZE - valueBits)];
+        int leadingZeroNum = LEADING_ZEROS[leadingZeroCode];
+        int trailingZeroNum = Long.numberOfTrailingZeros(xor);
+        if (trailingZeroNum > trailingZeroThreshold) {
+          int centerBits = valueBits - leadingZeroNum - trailingZeroNum;
+          writeBits(0b01, 2);
+          writeBits(leadingZeroCode, 3);
+          writeBits(centerBits, centerLengthBits);
+          writeBits(xor >>> trailingZeroNum, centerBits);
+          storedLeadingZeroNum = NO_STORED_LEADING_ZERO;
+        } else if (leadingZeroNum == storedLeadingZeroNum) {
+          writeBits(0b10, 2);
+          writeBits(xor, valueBits - leadingZeroNum);
+        } else {
+          writeBits(0b11, 2);
+          writeBits(leadingZeroCode, 3);
+          writeBits(xor, valueBits - leadingZeroNum);
+          storedLeadingZeroNum = leadingZeroNum;
+        }
+      }
+    }
+    preValue = value;
+    count++;
+  }
+
+  /**
+   * write the lowest len bits of value, the highest bit first.
+   */
+  private void writeBits(long value, int len) {
+    while (len > 0) {
+      int bitNum = Math.min(len, Byte.SIZE - bitNumInCurrentByte);
+      int bits = (int) (value >>> (len - bitNum)) & ((1 << bitNum) - 1);
+      currentByte = (currentByte << bitNum) | bits;
+      bitNumInCurrentByte += bitNum;
+      len -= bitNum;
+      if (bitNumInCurrentByte == Byte.SIZE) {
+        block.write(currentByte);
+        currentByte = 0;
+        bitNumInCurrentByte = 0;
+      }
+    }
+  }
+
+  @Override
+  public void flush(ByteArrayOutputStream out) throws IOException {
+    if (count == 0) {
+      return;
+    }
+    if (bitNumInCurrentByte > 0) {
+      block.write(currentByte << (Byte.SIZE - bitNumInCurrentByte));
+    }
+    ReadWriteForEncodingUtils.writeUnsignedVarInt(count, out);
+    block.writeTo(out);
+    reset();
+  }
+
+  private void reset() {
+    block.reset();
+    count = 0;
+    preValue = 0;
+    storedLeadingZeroNum = NO_STORED_LEADING_ZERO;
+    currentByte = 0;
+    bitNumInCurrentByte = 0;
+  }
+
+  @Override
+  public int getOneItemMaxSize() {
+    // case '11': 2bit + 3bit + valueBits
+    return (2 + 3 + valueBits + Byte.SIZE - 1) / Byte.SIZE;
+  }
+
+  @Override
+  public long getMaxByteSize() {
+    // the bits encoded so far, the unfinished byte and the count
+    return block.size() + 1L + 5;
+  }
+
+  public static class FloatChimpEncoder extends ChimpEncoder {
+
+    public FloatChimpEncoder() {
+      super(Integer.SIZE, 5, 5);
+    }
+
+    @Override
+    public void encode(float value, ByteArrayOutputStream out) {
+      encodeBits(Float.floatToRawIntBits(value) & 0xFFFFFFFFL);
+    }
+  }
+
+  public static class DoubleChimpEncoder extends ChimpEncoder {
+
+    public DoubleChimpEncoder() {
+      super(Long.SIZE, 6, 6);
+    }
+
+    @Override
+    public void encode(double value, ByteArrayOutputStream out) {
+      encodeBits(Double.doubleToRawLongBits(value));
+    }
+  }
+}
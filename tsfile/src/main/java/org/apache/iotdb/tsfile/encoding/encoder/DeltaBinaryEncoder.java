@@ -21,10 +21,12 @@ package org.apache.iotdb.tsfile.encoding.encoder;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.util.Arrays;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import org.apache.iotdb.tsfile.encoding.bitpacking.FramePacker;
 import org.apache.iotdb.tsfile.file.metadata.enums.TSEncoding;
 import org.apache.iotdb.tsfile.utils.BytesUtils;
 import org.apache.iotdb.tsfile.utils.ReadWriteIOUtils;
@@ -49,15 +51,21 @@ import org.apache.iotdb.tsfile.utils.ReadWriteIOUtils;
  * value takes. Only the low m bits are saved into result byte array for all
  * two_diff values.
  * </p>
+ * <p>
+ * The two_diff values of a block are packed by {@link FramePacker}, which packs
+ * a whole frame of values in one call.
+ * </p>
  */
 public abstract class DeltaBinaryEncoder extends Encoder {
 
-  protected static final int BLOCK_DEFAULT_SIZE = 128;
+  protected static final int BLOCK_DEFAULT_SIZE = FramePacker.FRAME_SIZE;
   private static final Logger logger = LoggerFactory.getLogger(DeltaBinaryEncoder.class);
   protected ByteArrayOutputStream out;
   protected int blockSize;
   // input value is stored in deltaBlackBuffer temporarily
   protected byte[] encodingBlockBuffer;
+  // two_diff values to pack, padded to a multiple of 8 with 0
+  protected long[] packBuffer;
 
   protected int writeIndex = -1;
   protected int writeWidth = 0;
@@ -70,11 +78,15 @@ public abstract class DeltaBinaryEncoder extends Encoder {
   public DeltaBinaryEncoder(int size) {
     super(TSEncoding.TS_2DIFF);
     blockSize = size;
+    packBuffer = new long[(size + 7) / 8 * 8];
   }
 
   protected abstract void writeHeader() throws IOException;
 
-  protected abstract void writeValueToBytes(int i);
+  /**
+   * copy the two_diff values into {@code packBuffer}.
+   */
+  protected abstract void fillPackBuffer();
 
   protected abstract void calcTwoDiff(int i);
 
@@ -86,9 +98,8 @@ public abstract class DeltaBinaryEncoder extends Encoder {
    * write all data into {@code encodingBlockBuffer}.
    */
   private void writeDataWithMinWidth() {
-    for (int i = 0; i < writeIndex; i++) {
-      writeValueToBytes(i);
-    }
+    fillPackBuffer();
+    FramePacker.pack(packBuffer, 0, writeIndex, writeWidth, encodingBlockBuffer, 0);
     int encodingLength = (int) Math.ceil((double) (writeIndex * writeWidth) / 8.0);
     out.write(encodingBlockBuffer, 0, encodingLength);
   }
@@ -149,7 +160,7 @@ public abstract class DeltaBinaryEncoder extends Encoder {
     public IntDeltaEncoder(int size) {
       super(size);
       deltaBlockBuffer = new int[this.blockSize];
-      encodingBlockBuffer = new byte[blockSize * 4];
+      encodingBlockBuffer = new byte[FramePacker.getPackedLength(blockSize, Integer.SIZE)];
       reset();
     }
 
@@ -196,10 +207,6 @@ public abstract class DeltaBinaryEncoder extends Encoder {
       firstValue = 0;
       previousValue = 0;
       minDeltaBase = Integer.MAX_VALUE;
-      for (int i = 0; i < blockSize; i++) {
-        encodingBlockBuffer[i] = 0;
-        deltaBlockBuffer[i] = 0;
-      }
     }
 
     private int getValueWidth(int v) {
@@ -207,8 +214,11 @@ public abstract class DeltaBinaryEncoder extends Encoder {
     }
 
     @Override
-    protected void writeValueToBytes(int i) {
-      BytesUtils.intToBytes(deltaBlockBuffer[i], encodingBlockBuffer, writeWidth * i, writeWidth);
+    protected void fillPackBuffer() {
+      for (int i = 0; i < writeIndex; i++) {
+        packBuffer[i] = deltaBlockBuffer[i] & 0xFFFFFFFFL;
+      }
+      Arrays.fill(packBuffer, writeIndex, packBuffer.length, 0L);
     }
 
     @Override
@@ -258,7 +268,7 @@ public abstract class DeltaBinaryEncoder extends Encoder {
     public LongDeltaEncoder(int size) {
       super(size);
       deltaBlockBuffer = new long[this.blockSize];
-      encodingBlockBuffer = new byte[blockSize * 8];
+      encodingBlockBuffer = new byte[FramePacker.getPackedLength(blockSize, Long.SIZE)];
       reset();
     }
 
@@ -275,10 +285,6 @@ public abstract class DeltaBinaryEncoder extends Encoder {
       firstValue = 0L;
       previousValue = 0L;
       minDeltaBase = Long.MAX_VALUE;
-      for (int i = 0; i < blockSize; i++) {
-        encodingBlockBuffer[i] = 0;
-        deltaBlockBuffer[i] = 0L;
-      }
     }
 
     private int getValueWidth(Long v) {
@@ -286,8 +292,9 @@ public abstract class DeltaBinaryEncoder extends Encoder {
     }
 
     @Override
-    protected void writeValueToBytes(int i) {
-      BytesUtils.longToBytes(deltaBlockBuffer[i], encodingBlockBuffer, writeWidth * i, writeWidth);
+    protected void fillPackBuffer() {
+      System.arraycopy(deltaBlockBuffer, 0, packBuffer, 0, writeIndex);
+      Arrays.fill(packBuffer, writeIndex, packBuffer.length, 0L);
     }
 
     @Override
@@ -0,0 +1,195 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iotdb.tsfile.encoding.encoder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.apache.iotdb.tsfile.common.conf.TSFileConfig;
+import org.apache.iotdb.tsfile.encoding.bitpacking.IntPacker;
+import org.apache.iotdb.tsfile.file.metadata.enums.TSEncoding;
+import org.apache.iotdb.tsfile.utils.Binary;
+import org.apache.iotdb.tsfile.utils.ReadWriteForEncodingUtils;
+
+/**
+ * <p>
+ * DictionaryEncoder encodes TEXT values of low cardinality, e.g., statuses or versions. The
+ * distinct values of a page are stored once in a dictionary and every value is replaced by its
+ * index in the dictionary, bit-packed with the minimal width by IntPacker.
+ * </p>
+ * <p>
+ * The values are buffered until flush, each flush writes a block:
+ * <pre>
+ * dictionary block: mode(1 byte, 1) | value count | dictionary size | dictionary entries | bit
+ * width(1 byte) | packed codes, 8 codes per group
+ * plain block:      mode(1 byte, 0) | value count | values
+ * </pre>
+ * Counts, sizes and the lengths of the entries or values are unsigned var ints. Once a page has
+ * more than maxDictionarySize distinct values, the encoder falls back to the plain block.
+ * </p>
+ */
+public class DictionaryEncoder extends Encoder {
+
+  static final byte PLAIN_MODE = 0;
+  static final byte DICTIONARY_MODE = 1;
+
+  private final int maxDictionarySize;
+  private final int maxStringLength;
+
+  private Map<Binary, Integer> dictionary = new HashMap<>();
+  private List<Binary> entries = new ArrayList<>();
+  // the sum of the serialized sizes of the entries
+  private int dictionaryByteSize = 0;
+  private int[] codes = new int[32];
+  private int count = 0;
+  // the values serialized in plain, used after the dictionary overflows
+  private ByteArrayOutputStream plainOut;
+
+  public DictionaryEncoder(int maxDictionarySize, int maxStringLength) {
+    super(TSEncoding.PLAIN_DICTIONARY);
+    this.maxDictionarySize = maxDictionarySize;
+    this.maxStringLength = maxStringLength;
+  }
+
+  @Override
+  public void encode(Binary value, ByteArrayOutputStream out) {
+    if (plainOut != null) {
+      writePlain(value, plainOut);
+      count++;
+      return;
+    }
+    Integer code = dictionary.get(value);
+    if (code == null) {
+      if (entries.size() >= maxDictionarySize) {
+        fallBackToPlain();
+        encode(value, out);
+        return;
+      }
+      code = entries.size();
+      dictionary.put(value, code);
+      entries.add(value);
+      dictionaryByteSize += getPlainSize(value);
+    }
+    if (count == codes.length) {
+      codes = Arrays.copyOf(codes, codes.length * 2);
+    }
+    codes[count++] = code;
+  }
+
+  private void fallBackToPlain() {
+    plainOut = new ByteArrayOutputStream();
+    for (int i = 0; i < count; i++) {
+      writePlain(entries.get(codes[i]), plainOut);
+    }
+    dictionary.clear();
+    entries.clear();
+    dictionaryByteSize = 0;
+  }
+
+  @Override
+  public void flush(ByteArrayOutputStream out) throws IOException {
+    if (count == 0) {
+      return;
+    }
+    if (plainOut != null) {
+      out.write(PLAIN_MODE);
+      ReadWriteForEncodingUtils.writeUnsignedVarInt(count, out);
+      plainOut.writeTo(out);
+    } else {
+      out.write(DICTIONARY_MODE);
+      ReadWriteForEncodingUtils.writeUnsignedVarInt(count, out);
+      ReadWriteForEncodingUtils.writeUnsignedVarInt(entries.size(), out);
+      for (Binary entry : entries) {
+        writePlain(entry, out);
+      }
+      int bitWidth = getBitWidth(entries.size());
+      out.write(bitWidth);
+      writeCodes(bitWidth, out);
+    }
+    reset();
+  }
+
+  private void writeCodes(int bitWidth, ByteArrayOutputStream out) throws IOException {
+    IntPacker packer = new IntPacker(bitWidth);
+    byte[] packed = new byte[bitWidth];
+    // pad the last group with code 0
+    int paddedCount = (count + 7) / 8 * 8;
+    if (paddedCount > codes.length) {
+      codes = Arrays.copyOf(codes, paddedCount);
+    }
+    Arrays.fill(codes, count, paddedCount, 0);
+    for (int i = 0; i < paddedCount; i += 8) {
+      packer.pack8Values(codes, i, packed);
+      out.write(packed);
+    }
+  }
+
+  private void reset() {
+    dictionary.clear();
+    entries.clear();
+    dictionaryByteSize = 0;
+    count = 0;
+    plainOut = null;
+  }
+
+  /**
+   * @return the number of bits to represent codes in [0, dictionarySize), at least 1 as IntPacker
+   * does not support a width of 0
+   */
+  static int getBitWidth(int dictionarySize) {
+    return Math.max(1, 32 - Integer.numberOfLeadingZeros(dictionarySize - 1));
+  }
+
+  private static void writePlain(Binary value, ByteArrayOutputStream out) {
+    ReadWriteForEncodingUtils.writeUnsignedVarInt(value.getLength(), out);
+    out.write(value.getValues(), 0, value.getLength());
+  }
+
+  private static int getPlainSize(Binary value) {
+    return ReadWriteForEncodingUtils.getUnsignedVarInt(value.getLength()).length
+        + value.getLength();
+  }
+
+  @Override
+  public int getOneItemMaxSize() {
+    // a new entry in the dictionary and its code, refer to writePlain(Binary, ByteArrayOutputStream)
+    return 4 + TSFileConfig.BYTE_SIZE_PER_CHAR * maxStringLength + 4;
+  }
+
+  /**
+   * The values are buffered until flush, so the size is what they would take if flushed now.
+   */
+  @Override
+  public long getMaxByteSize() {
+    if (count == 0) {
+      return 0;
+    }
+    // mode, count, dictionary size and bit width
+    long headerSize = 1 + 4 + 4 + 1;
+    if (plainOut != null) {
+      return headerSize + plainOut.size();
+    }
+    return headerSize + dictionaryByteSize
+        + (long) (count + 7) / 8 * getBitWidth(entries.size());
+  }
+}
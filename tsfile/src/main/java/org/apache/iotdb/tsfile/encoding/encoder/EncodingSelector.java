@@ -0,0 +1,189 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iotdb.tsfile.encoding.encoder;
+
+import java.io.IOException;
+import java.util.EnumMap;
+import java.util.Map;
+import org.apache.iotdb.tsfile.exception.encoding.TsFileEncodingException;
+import org.apache.iotdb.tsfile.exception.write.UnSupportedDataTypeException;
+import org.apache.iotdb.tsfile.file.metadata.enums.TSDataType;
+import org.apache.iotdb.tsfile.file.metadata.enums.TSEncoding;
+import org.apache.iotdb.tsfile.utils.Binary;
+import org.apache.iotdb.tsfile.utils.PublicBAOS;
+import org.apache.iotdb.tsfile.write.schema.MeasurementSchema;
+
+/**
+ * EncodingSelector chooses the encoding of a chunk of a series whose encoding is AUTO. Runs of
+ * consecutive points sampled from the chunk are trial-encoded with every lossless candidate
+ * encoding of the data type, and the candidate with the smallest encoded size weighted by its
+ * decoding cost is chosen.
+ * <p>
+ * RLE and TS_2DIFF are not candidates of FLOAT and DOUBLE, as they keep only max_point_number
+ * digits of the values.
+ */
+public class EncodingSelector {
+
+  private static final Map<TSDataType, TSEncoding[]> CANDIDATES = new EnumMap<>(TSDataType.class);
+
+  static {
+    CANDIDATES.put(TSDataType.BOOLEAN, new TSEncoding[]{TSEncoding.RLE, TSEncoding.PLAIN});
+    CANDIDATES.put(TSDataType.INT32,
+        new TSEncoding[]{TSEncoding.TS_2DIFF, TSEncoding.RLE, TSEncoding.PLAIN});
+    CANDIDATES.put(TSDataType.INT64,
+        new TSEncoding[]{TSEncoding.TS_2DIFF, TSEncoding.RLE, TSEncoding.PLAIN});
+    CANDIDATES.put(TSDataType.FLOAT, new TSEncoding[]{TSEncoding.GORILLA, TSEncoding.CHIMP,
+        TSEncoding.ALP, TSEncoding.PLAIN});
+    CANDIDATES.put(TSDataType.DOUBLE, new TSEncoding[]{TSEncoding.GORILLA, TSEncoding.CHIMP,
+        TSEncoding.ALP, TSEncoding.PLAIN});
+    CANDIDATES.put(TSDataType.TEXT,
+        new TSEncoding[]{TSEncoding.PLAIN, TSEncoding.PLAIN_DICTIONARY});
+  }
+
+  /**
+   * GORILLA and CHIMP decode value by value and bit by bit, so they must be 10% smaller than the
+   * other candidates to be chosen
+   */
+  private static final double BIT_STREAM_COST_WEIGHT = 1.1;
+
+  private final TSDataType dataType;
+  private final TSEncoding[] candidates;
+  private final Encoder[] encoders;
+  private final PublicBAOS[] outputs;
+
+  /**
+   * @param props the properties of the encodings, e.g., max_string_length
+   */
+  public EncodingSelector(TSDataType dataType, Map<String, String> props) {
+    this.dataType = dataType;
+    this.candidates = CANDIDATES.get(dataType);
+    if (candidates == null) {
+      throw new UnSupportedDataTypeException(String.valueOf(dataType));
+    }
+    encoders = new Encoder[candidates.length];
+    outputs = new PublicBAOS[candidates.length];
+    for (int i = 0; i < candidates.length; i++) {
+      TSEncodingBuilder builder = TSEncodingBuilder.getEncodingBuilder(candidates[i]);
+      builder.initFromProps(props);
+      encoders[i] = builder.getEncoder(dataType);
+      outputs[i] = new PublicBAOS();
+    }
+  }
+
+  /**
+   * @return the encoding of a series whose encoding is AUTO when there is no data to sample
+   */
+  public static TSEncoding getDefaultEncoding(TSDataType dataType) {
+    switch (dataType) {
+      case BOOLEAN:
+        return TSEncoding.RLE;
+      case INT32:
+      case INT64:
+        return TSEncoding.TS_2DIFF;
+      case FLOAT:
+      case DOUBLE:
+        return TSEncoding.GORILLA;
+      case TEXT:
+        return TSEncoding.PLAIN;
+      default:
+        throw new UnSupportedDataTypeException(String.valueOf(dataType));
+    }
+  }
+
+  /**
+   * @return the schema itself, or a copy of it with the default encoding of its data type if its
+   * encoding is AUTO and no encoding is chosen by sampling, e.g., when chunks are rewritten by a
+   * merge
+   */
+  public static MeasurementSchema resolveAuto(MeasurementSchema schema) {
+    return schema.getEncodingType() == TSEncoding.AUTO
+        ? schema.withEncoding(getDefaultEncoding(schema.getType())) : schema;
+  }
+
+  public void encode(boolean value) {
+    for (int i = 0; i < encoders.length; i++) {
+      encoders[i].encode(value, outputs[i]);
+    }
+  }
+
+  public void encode(int value) {
+    for (int i = 0; i < encoders.length; i++) {
+      encoders[i].encode(value, outputs[i]);
+    }
+  }
+
+  public void encode(long value) {
+    for (int i = 0; i < encoders.length; i++) {
+      encoders[i].encode(value, outputs[i]);
+    }
+  }
+
+  public void encode(float value) {
+    for (int i = 0; i < encoders.length; i++) {
+      encoders[i].encode(value, outputs[i]);
+    }
+  }
+
+  public void encode(double value) {
+    for (int i = 0; i < encoders.length; i++) {
+      encoders[i].encode(value, outputs[i]);
+    }
+  }
+
+  public void encode(Binary value) {
+    for (int i = 0; i < encoders.length; i++) {
+      encoders[i].encode(value, outputs[i]);
+    }
+  }
+
+  /**
+   * end a run of consecutive points, the next point starts a new run.
+   */
+  public void endRun() {
+    try {
+      for (int i = 0; i < encoders.length; i++) {
+        encoders[i].flush(outputs[i]);
+      }
+    } catch (IOException e) {
+      throw new TsFileEncodingException(e);
+    }
+  }
+
+  /**
+   * @return the candidate encoding with the smallest weighted size of the encoded points
+   */
+  public TSEncoding select() {
+    endRun();
+    TSEncoding selected = getDefaultEncoding(dataType);
+    double minCost = Double.MAX_VALUE;
+    for (int i = 0; i < candidates.length; i++) {
+      double cost = outputs[i].size() * getCostWeight(candidates[i]);
+      if (cost < minCost) {
+        minCost = cost;
+        selected = candidates[i];
+      }
+    }
+    return selected;
+  }
+
+  private static double getCostWeight(TSEncoding encoding) {
+    return encoding == TSEncoding.GORILLA || encoding == TSEncoding.CHIMP
+        ? BIT_STREAM_COST_WEIGHT : 1.0;
+  }
+}
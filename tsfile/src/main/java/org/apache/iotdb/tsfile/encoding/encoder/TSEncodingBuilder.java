@@ -64,8 +64,14 @@ public abstract class TSEncodingBuilder {
         return new TS_2DIFF();
       case GORILLA:
         return new GORILLA();
+      case CHIMP:
+        return new CHIMP();
+      case ALP:
+        return new ALP();
       case REGULAR:
         return new REGULAR();
+      case PLAIN_DICTIONARY:
+        return new PLAIN_DICTIONARY();
       default:
         throw new UnsupportedOperationException(type.toString());
     }
@@ -245,6 +251,96 @@ public abstract class TSEncodingBuilder {
 
   }
 
+  /**
+   * for FLOAT, DOUBLE.
+   */
+  public static class CHIMP extends TSEncodingBuilder {
+
+    @Override
+    public Encoder getEncoder(TSDataType type) {
+      switch (type) {
+        case FLOAT:
+          return new ChimpEncoder.FloatChimpEncoder();
+        case DOUBLE:
+          return new ChimpEncoder.DoubleChimpEncoder();
+        default:
+          throw new UnSupportedDataTypeException("CHIMP doesn't support data type: " + type);
+      }
+    }
+
+    @Override
+    public void initFromProps(Map<String, String> props) {
+      // allowed do nothing
+    }
+
+  }
+
+  /**
+   * for FLOAT, DOUBLE.
+   */
+  public static class ALP extends TSEncodingBuilder {
+
+    @Override
+    public Encoder getEncoder(TSDataType type) {
+      switch (type) {
+        case FLOAT:
+          return new AlpEncoder.FloatAlpEncoder();
+        case DOUBLE:
+          return new AlpEncoder.DoubleAlpEncoder();
+        default:
+          throw new UnSupportedDataTypeException("ALP doesn't support data type: " + type);
+      }
+    }
+
+    @Override
+    public void initFromProps(Map<String, String> props) {
+      // allowed do nothing
+    }
+
+  }
+
+  /**
+   * for TEXT.
+   */
+  public static class PLAIN_DICTIONARY extends TSEncodingBuilder {
+
+    private int maxDictionarySize = TSFileDescriptor.getInstance().getConfig()
+        .getMaxDictionarySize();
+    private int maxStringLength = TSFileDescriptor.getInstance().getConfig().getMaxStringLength();
+
+    @Override
+    public Encoder getEncoder(TSDataType type) {
+      if (type == TSDataType.TEXT) {
+        return new DictionaryEncoder(maxDictionarySize, maxStringLength);
+      }
+      throw new UnSupportedDataTypeException("PLAIN_DICTIONARY doesn't support data type: " + type);
+    }
+
+    /**
+     * PLAIN_DICTIONARY could specify <b>max_dictionary_size</b> in given JSON Object, which means
+     * the maximum number of distinct values in the dictionary of a page.
+     */
+    @Override
+    public void initFromProps(Map<String, String> props) {
+      if (props == null || !props.containsKey(Encoder.MAX_DICTIONARY_SIZE)) {
+        maxDictionarySize = TSFileDescriptor.getInstance().getConfig().getMaxDictionarySize();
+      } else {
+        maxDictionarySize = Integer.valueOf(props.get(Encoder.MAX_DICTIONARY_SIZE));
+        if (maxDictionarySize <= 0) {
+          maxDictionarySize = TSFileDescriptor.getInstance().getConfig().getMaxDictionarySize();
+          logger.warn(
+              "cannot set max dictionary size to non-positive value, replaced with default value:{}",
+              maxDictionarySize);
+        }
+      }
+    }
+
+    @Override
+    public String toString() {
+      return Encoder.MAX_DICTIONARY_SIZE + ":" + maxDictionarySize;
+    }
+  }
+
   /**
    * for INT32, INT64
    */
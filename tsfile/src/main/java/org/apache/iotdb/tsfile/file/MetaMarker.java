@@ -30,6 +30,15 @@ public class MetaMarker {
   public static final byte CHUNK_HEADER = 1;
   public static final byte SEPARATOR = 2;
   public static final byte VERSION = 3;
+  /**
+   * the time column shared by the value chunks of an aligned device, it has no ChunkMetadata.
+   */
+  public static final byte TIME_CHUNK_HEADER = 4;
+  /**
+   * a chunk of an aligned device whose pages hold a null bitmap and the values only, the times are
+   * in the pages of the same index of the time chunk the header refers to.
+   */
+  public static final byte VALUE_CHUNK_HEADER = 5;
 
   private MetaMarker() {
   }
@@ -40,18 +40,37 @@ public class ChunkHeader {
   private TSEncoding encodingType;
   private int numOfPages;
 
+  /**
+   * one of MetaMarker.CHUNK_HEADER, MetaMarker.TIME_CHUNK_HEADER and MetaMarker.VALUE_CHUNK_HEADER
+   */
+  private byte chunkType;
+
+  /**
+   * the offset of the time chunk in the file, only serialized for a VALUE_CHUNK_HEADER.
+   */
+  private long timeChunkOffset = -1;
+
   // this field does not need to be serialized.
   private int serializedSize;
 
   public ChunkHeader(String measurementID, int dataSize, TSDataType dataType,
       CompressionType compressionType,
       TSEncoding encoding, int numOfPages) {
-    this(measurementID, dataSize, getSerializedSize(measurementID), dataType, compressionType,
-        encoding, numOfPages);
+    this(MetaMarker.CHUNK_HEADER, measurementID, dataSize, dataType, compressionType, encoding,
+        numOfPages, -1);
   }
 
-  private ChunkHeader(String measurementID, int dataSize, int headerSize, TSDataType dataType,
-      CompressionType compressionType, TSEncoding encoding, int numOfPages) {
+  public ChunkHeader(byte chunkType, String measurementID, int dataSize, TSDataType dataType,
+      CompressionType compressionType, TSEncoding encoding, int numOfPages,
+      long timeChunkOffset) {
+    this(chunkType, measurementID, dataSize, getSerializedSize(measurementID, chunkType), dataType,
+        compressionType, encoding, numOfPages, timeChunkOffset);
+  }
+
+  private ChunkHeader(byte chunkType, String measurementID, int dataSize, int headerSize,
+      TSDataType dataType, CompressionType compressionType, TSEncoding encoding, int numOfPages,
+      long timeChunkOffset) {
+    this.chunkType = chunkType;
     this.measurementID = measurementID;
     this.dataSize = dataSize;
     this.dataType = dataType;
@@ -59,9 +78,14 @@ public class ChunkHeader {
     this.numOfPages = numOfPages;
     this.encodingType = encoding;
     this.serializedSize = headerSize;
+    this.timeChunkOffset = timeChunkOffset;
   }
 
   public static int getSerializedSize(String measurementID) {
+    return getSerializedSize(measurementID, MetaMarker.CHUNK_HEADER);
+  }
+
+  public static int getSerializedSize(String measurementID, byte chunkType) {
     return Byte.BYTES // marker
         + Integer.BYTES // measurementID length
         + measurementID.getBytes(TSFileConfig.STRING_CHARSET).length // measurementID
@@ -69,7 +93,8 @@ public class ChunkHeader {
         + TSDataType.getSerializedSize() // dataType
         + CompressionType.getSerializedSize() // compressionType
         + TSEncoding.getSerializedSize() // encodingType
-        + Integer.BYTES; // numOfPages
+        + Integer.BYTES // numOfPages
+        + (chunkType == MetaMarker.VALUE_CHUNK_HEADER ? Long.BYTES : 0); // timeChunkOffset
   }
 
   /**
@@ -85,14 +110,26 @@ public class ChunkHeader {
         MetaMarker.handleUnexpectedMarker(marker);
       }
     }
+    return deserializeFrom(inputStream, MetaMarker.CHUNK_HEADER);
+  }
 
+  /**
+   * deserialize from inputStream whose marker has been read.
+   *
+   * @param chunkType the marker that has been read
+   */
+  public static ChunkHeader deserializeFrom(InputStream inputStream, byte chunkType)
+      throws IOException {
     String measurementID = ReadWriteIOUtils.readString(inputStream);
     int dataSize = ReadWriteIOUtils.readInt(inputStream);
     TSDataType dataType = TSDataType.deserialize(ReadWriteIOUtils.readShort(inputStream));
     int numOfPages = ReadWriteIOUtils.readInt(inputStream);
     CompressionType type = ReadWriteIOUtils.readCompressionType(inputStream);
     TSEncoding encoding = ReadWriteIOUtils.readEncoding(inputStream);
-    return new ChunkHeader(measurementID, dataSize, dataType, type, encoding, numOfPages);
+    long timeChunkOffset = chunkType == MetaMarker.VALUE_CHUNK_HEADER
+        ? ReadWriteIOUtils.readLong(inputStream) : -1;
+    return new ChunkHeader(chunkType, measurementID, dataSize, dataType, type, encoding,
+        numOfPages, timeChunkOffset);
   }
 
   /**
@@ -126,8 +163,43 @@ public class ChunkHeader {
     int numOfPages = ReadWriteIOUtils.readInt(buffer);
     CompressionType type = ReadWriteIOUtils.readCompressionType(buffer);
     TSEncoding encoding = ReadWriteIOUtils.readEncoding(buffer);
-    return new ChunkHeader(measurementID, dataSize, chunkHeaderSize, dataType, type, encoding,
-        numOfPages);
+    return new ChunkHeader(MetaMarker.CHUNK_HEADER, measurementID, dataSize, chunkHeaderSize,
+        dataType, type, encoding, numOfPages, -1);
+  }
+
+  /**
+   * deserialize a chunk header of any type from TsFileInput.
+   *
+   * @param input TsFileInput
+   * @param offset the offset of the marker of the chunk header
+   * @param measurementID the measurementID in the chunk header, "" for a time chunk
+   * @return CHUNK_HEADER object
+   * @throws IOException IOException
+   */
+  public static ChunkHeader deserializeFrom(TsFileInput input, long offset, String measurementID)
+      throws IOException {
+    // read the longest possible header, the chunk data always follows the header
+    ByteBuffer buffer = ByteBuffer
+        .allocate(getSerializedSize(measurementID, MetaMarker.VALUE_CHUNK_HEADER));
+    input.read(buffer, offset);
+    buffer.flip();
+
+    byte chunkType = buffer.get();
+    if (chunkType != MetaMarker.CHUNK_HEADER && chunkType != MetaMarker.TIME_CHUNK_HEADER
+        && chunkType != MetaMarker.VALUE_CHUNK_HEADER) {
+      MetaMarker.handleUnexpectedMarker(chunkType);
+    }
+    int size = buffer.getInt();
+    String id = ReadWriteIOUtils.readStringWithLength(buffer, size);
+    int dataSize = ReadWriteIOUtils.readInt(buffer);
+    TSDataType dataType = TSDataType.deserialize(ReadWriteIOUtils.readShort(buffer));
+    int numOfPages = ReadWriteIOUtils.readInt(buffer);
+    CompressionType type = ReadWriteIOUtils.readCompressionType(buffer);
+    TSEncoding encoding = ReadWriteIOUtils.readEncoding(buffer);
+    long timeChunkOffset = chunkType == MetaMarker.VALUE_CHUNK_HEADER
+        ? ReadWriteIOUtils.readLong(buffer) : -1;
+    return new ChunkHeader(chunkType, id, dataSize, getSerializedSize(id, chunkType), dataType,
+        type, encoding, numOfPages, timeChunkOffset);
   }
 
   public int getSerializedSize() {
@@ -155,13 +227,16 @@ public class ChunkHeader {
    */
   public int serializeTo(OutputStream outputStream) throws IOException {
     int length = 0;
-    length += ReadWriteIOUtils.write(MetaMarker.CHUNK_HEADER, outputStream);
+    length += ReadWriteIOUtils.write(chunkType, outputStream);
     length += ReadWriteIOUtils.write(measurementID, outputStream);
     length += ReadWriteIOUtils.write(dataSize, outputStream);
     length += ReadWriteIOUtils.write(dataType, outputStream);
     length += ReadWriteIOUtils.write(numOfPages, outputStream);
     length += ReadWriteIOUtils.write(compressionType, outputStream);
     length += ReadWriteIOUtils.write(encodingType, outputStream);
+    if (chunkType == MetaMarker.VALUE_CHUNK_HEADER) {
+      length += ReadWriteIOUtils.write(timeChunkOffset, outputStream);
+    }
     return length;
   }
 
@@ -173,13 +248,16 @@ public class ChunkHeader {
    */
   public int serializeTo(ByteBuffer buffer) {
     int length = 0;
-    length += ReadWriteIOUtils.write(MetaMarker.CHUNK_HEADER, buffer);
+    length += ReadWriteIOUtils.write(chunkType, buffer);
     length += ReadWriteIOUtils.write(measurementID, buffer);
     length += ReadWriteIOUtils.write(dataSize, buffer);
     length += ReadWriteIOUtils.write(dataType, buffer);
     length += ReadWriteIOUtils.write(numOfPages, buffer);
     length += ReadWriteIOUtils.write(compressionType, buffer);
     length += ReadWriteIOUtils.write(encodingType, buffer);
+    if (chunkType == MetaMarker.VALUE_CHUNK_HEADER) {
+      length += ReadWriteIOUtils.write(timeChunkOffset, buffer);
+    }
     return length;
   }
 
@@ -195,13 +273,30 @@ public class ChunkHeader {
     return encodingType;
   }
 
+  public byte getChunkType() {
+    return chunkType;
+  }
+
+  public long getTimeChunkOffset() {
+    return timeChunkOffset;
+  }
+
+  /**
+   * @return a copy of this value chunk header referring to the time chunk at another offset
+   */
+  public ChunkHeader withTimeChunkOffset(long timeChunkOffset) {
+    return new ChunkHeader(chunkType, measurementID, dataSize, serializedSize, dataType,
+        compressionType, encodingType, numOfPages, timeChunkOffset);
+  }
+
   @Override
   public String toString() {
     return "CHUNK_HEADER{" + "measurementID='" + measurementID + '\'' + ", dataSize=" + dataSize
         + ", dataType="
         + dataType + ", compressionType=" + compressionType + ", encodingType=" + encodingType
         + ", numOfPages="
-        + numOfPages + ", serializedSize=" + serializedSize + '}';
+        + numOfPages + ", chunkType=" + chunkType + ", timeChunkOffset=" + timeChunkOffset
+        + ", serializedSize=" + serializedSize + '}';
   }
 
   public void mergeChunkHeader(ChunkHeader chunkHeader) {
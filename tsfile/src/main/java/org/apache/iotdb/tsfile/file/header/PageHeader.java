@@ -23,6 +23,8 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
 
 import org.apache.iotdb.tsfile.file.metadata.enums.TSDataType;
 import org.apache.iotdb.tsfile.file.metadata.statistics.Statistics;
@@ -30,9 +32,29 @@ import org.apache.iotdb.tsfile.utils.ReadWriteIOUtils;
 
 public class PageHeader {
 
+  /**
+   * The highest bit of the serialized uncompressedSize, which is never set by a valid size, marks
+   * that the sub-page statistics are serialized after the statistics of the page.
+   */
+  private static final int SUB_STATISTICS_MASK = Integer.MIN_VALUE;
+  /**
+   * The highest bit of the serialized compressedSize marks that the time index of the page is
+   * serialized after the sub-page statistics.
+   */
+  private static final int TIME_INDEX_MASK = Integer.MIN_VALUE;
+
   private int uncompressedSize;
   private int compressedSize;
   private Statistics statistics;
+  /**
+   * statistics of the points within each aligned time interval, in time order. null if the page
+   * has no sub-page statistics.
+   */
+  private List<Statistics> subStatistics;
+  /**
+   * sparse time index of the points in the page. null if the page has no time index.
+   */
+  private PageTimeIndex timeIndex;
   private boolean modified;
 
   public PageHeader(int uncompressedSize, int compressedSize, Statistics statistics) {
@@ -41,6 +63,18 @@ public class PageHeader {
     this.statistics = statistics;
   }
 
+  public PageHeader(int uncompressedSize, int compressedSize, Statistics statistics,
+      List<Statistics> subStatistics) {
+    this(uncompressedSize, compressedSize, statistics);
+    this.subStatistics = subStatistics;
+  }
+
+  public PageHeader(int uncompressedSize, int compressedSize, Statistics statistics,
+      List<Statistics> subStatistics, PageTimeIndex timeIndex) {
+    this(uncompressedSize, compressedSize, statistics, subStatistics);
+    this.timeIndex = timeIndex;
+  }
+
   public static int calculatePageHeaderSizeWithoutStatistics() {
     return 2 * Integer.BYTES; // uncompressedSize, compressedSize
   }
@@ -50,14 +84,42 @@ public class PageHeader {
     int uncompressedSize = ReadWriteIOUtils.readInt(inputStream);
     int compressedSize = ReadWriteIOUtils.readInt(inputStream);
     Statistics statistics = Statistics.deserialize(inputStream, dataType);
-    return new PageHeader(uncompressedSize, compressedSize, statistics);
+    List<Statistics> subStatistics = null;
+    if ((uncompressedSize & SUB_STATISTICS_MASK) != 0) {
+      uncompressedSize &= ~SUB_STATISTICS_MASK;
+      int size = ReadWriteIOUtils.readInt(inputStream);
+      subStatistics = new ArrayList<>(size);
+      for (int i = 0; i < size; i++) {
+        subStatistics.add(Statistics.deserialize(inputStream, dataType));
+      }
+    }
+    PageTimeIndex timeIndex = null;
+    if ((compressedSize & TIME_INDEX_MASK) != 0) {
+      compressedSize &= ~TIME_INDEX_MASK;
+      timeIndex = PageTimeIndex.deserializeFrom(inputStream);
+    }
+    return new PageHeader(uncompressedSize, compressedSize, statistics, subStatistics, timeIndex);
   }
 
   public static PageHeader deserializeFrom(ByteBuffer buffer, TSDataType dataType) {
     int uncompressedSize = ReadWriteIOUtils.readInt(buffer);
     int compressedSize = ReadWriteIOUtils.readInt(buffer);
     Statistics statistics = Statistics.deserialize(buffer, dataType);
-    return new PageHeader(uncompressedSize, compressedSize, statistics);
+    List<Statistics> subStatistics = null;
+    if ((uncompressedSize & SUB_STATISTICS_MASK) != 0) {
+      uncompressedSize &= ~SUB_STATISTICS_MASK;
+      int size = ReadWriteIOUtils.readInt(buffer);
+      subStatistics = new ArrayList<>(size);
+      for (int i = 0; i < size; i++) {
+        subStatistics.add(Statistics.deserialize(buffer, dataType));
+      }
+    }
+    PageTimeIndex timeIndex = null;
+    if ((compressedSize & TIME_INDEX_MASK) != 0) {
+      compressedSize &= ~TIME_INDEX_MASK;
+      timeIndex = PageTimeIndex.deserializeFrom(buffer);
+    }
+    return new PageHeader(uncompressedSize, compressedSize, statistics, subStatistics, timeIndex);
   }
 
   public int getUncompressedSize() {
@@ -84,6 +146,20 @@ public class PageHeader {
     return statistics;
   }
 
+  /**
+   * @return the sub-page statistics in time order, or null if they are not written
+   */
+  public List<Statistics> getSubStatistics() {
+    return subStatistics;
+  }
+
+  /**
+   * @return the time index of the page, or null if it is not written
+   */
+  public PageTimeIndex getTimeIndex() {
+    return timeIndex;
+  }
+
   public long getEndTime() {
     return statistics.getEndTime();
   }
@@ -93,9 +169,26 @@ public class PageHeader {
   }
 
   public void serializeTo(OutputStream outputStream) throws IOException {
-    ReadWriteIOUtils.write(uncompressedSize, outputStream);
-    ReadWriteIOUtils.write(compressedSize, outputStream);
+    if (subStatistics == null) {
+      ReadWriteIOUtils.write(uncompressedSize, outputStream);
+    } else {
+      ReadWriteIOUtils.write(uncompressedSize | SUB_STATISTICS_MASK, outputStream);
+    }
+    if (timeIndex == null) {
+      ReadWriteIOUtils.write(compressedSize, outputStream);
+    } else {
+      ReadWriteIOUtils.write(compressedSize | TIME_INDEX_MASK, outputStream);
+    }
     statistics.serialize(outputStream);
+    if (subStatistics != null) {
+      ReadWriteIOUtils.write(subStatistics.size(), outputStream);
+      for (Statistics subStatistic : subStatistics) {
+        subStatistic.serialize(outputStream);
+      }
+    }
+    if (timeIndex != null) {
+      timeIndex.serializeTo(outputStream);
+    }
   }
 
   @Override
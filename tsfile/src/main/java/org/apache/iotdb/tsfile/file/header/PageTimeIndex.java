@@ -0,0 +1,159 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iotdb.tsfile.file.header;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+import org.apache.iotdb.tsfile.utils.ReadWriteIOUtils;
+
+/**
+ * PageTimeIndex is a sparse time index of a page. The points of the page are split into segments
+ * of interval points, and the time and value encoders are flushed at the start of each segment, so
+ * that a segment can be decoded alone from its offsets in the time column and the value column. For
+ * each segment the index records its start time and these offsets.
+ * <p>
+ * Readers use the index to skip the segments out of the time filter and to find the segment of a
+ * timestamp by binary search, instead of decoding the page from its start.
+ */
+public class PageTimeIndex {
+
+  private final int interval;
+  private int size;
+  private long[] startTimes;
+  private int[] timeOffsets;
+  private int[] valueOffsets;
+
+  public PageTimeIndex(int interval) {
+    this(interval, 0, new long[16], new int[16], new int[16]);
+  }
+
+  private PageTimeIndex(int interval, int size, long[] startTimes, int[] timeOffsets,
+      int[] valueOffsets) {
+    this.interval = interval;
+    this.size = size;
+    this.startTimes = startTimes;
+    this.timeOffsets = timeOffsets;
+    this.valueOffsets = valueOffsets;
+  }
+
+  /**
+   * add a segment, whose start time must be greater than that of the last segment.
+   *
+   * @param timeOffset  the offset of the segment in the time column
+   * @param valueOffset the offset of the segment in the value column
+   */
+  public void add(long startTime, int timeOffset, int valueOffset) {
+    if (size == startTimes.length) {
+      startTimes = Arrays.copyOf(startTimes, size * 2);
+      timeOffsets = Arrays.copyOf(timeOffsets, size * 2);
+      valueOffsets = Arrays.copyOf(valueOffsets, size * 2);
+    }
+    startTimes[size] = startTime;
+    timeOffsets[size] = timeOffset;
+    valueOffsets[size] = valueOffset;
+    size++;
+  }
+
+  /**
+   * @return the number of points in each segment but the last one
+   */
+  public int getInterval() {
+    return interval;
+  }
+
+  /**
+   * @return the number of segments
+   */
+  public int size() {
+    return size;
+  }
+
+  public long getStartTime(int segment) {
+    return startTimes[segment];
+  }
+
+  public int getTimeOffset(int segment) {
+    return timeOffsets[segment];
+  }
+
+  public int getValueOffset(int segment) {
+    return valueOffsets[segment];
+  }
+
+  /**
+   * @return the last segment whose start time is not greater than the given time, or -1 if the
+   * time is before the first segment
+   */
+  public int findSegment(long time) {
+    int low = 0;
+    int high = size - 1;
+    while (low <= high) {
+      int mid = (low + high) >>> 1;
+      if (startTimes[mid] <= time) {
+        low = mid + 1;
+      } else {
+        high = mid - 1;
+      }
+    }
+    return high;
+  }
+
+  public int serializeTo(OutputStream outputStream) throws IOException {
+    int length = ReadWriteIOUtils.write(interval, outputStream);
+    length += ReadWriteIOUtils.write(size, outputStream);
+    for (int i = 0; i < size; i++) {
+      length += ReadWriteIOUtils.write(startTimes[i], outputStream);
+      length += ReadWriteIOUtils.write(timeOffsets[i], outputStream);
+      length += ReadWriteIOUtils.write(valueOffsets[i], outputStream);
+    }
+    return length;
+  }
+
+  public static PageTimeIndex deserializeFrom(InputStream inputStream) throws IOException {
+    int interval = ReadWriteIOUtils.readInt(inputStream);
+    int size = ReadWriteIOUtils.readInt(inputStream);
+    long[] startTimes = new long[size];
+    int[] timeOffsets = new int[size];
+    int[] valueOffsets = new int[size];
+    for (int i = 0; i < size; i++) {
+      startTimes[i] = ReadWriteIOUtils.readLong(inputStream);
+      timeOffsets[i] = ReadWriteIOUtils.readInt(inputStream);
+      valueOffsets[i] = ReadWriteIOUtils.readInt(inputStream);
+    }
+    return new PageTimeIndex(interval, size, startTimes, timeOffsets, valueOffsets);
+  }
+
+  public static PageTimeIndex deserializeFrom(ByteBuffer buffer) {
+    int interval = ReadWriteIOUtils.readInt(buffer);
+    int size = ReadWriteIOUtils.readInt(buffer);
+    long[] startTimes = new long[size];
+    int[] timeOffsets = new int[size];
+    int[] valueOffsets = new int[size];
+    for (int i = 0; i < size; i++) {
+      startTimes[i] = ReadWriteIOUtils.readLong(buffer);
+      timeOffsets[i] = ReadWriteIOUtils.readInt(buffer);
+      valueOffsets[i] = ReadWriteIOUtils.readInt(buffer);
+    }
+    return new PageTimeIndex(interval, size, startTimes, timeOffsets, valueOffsets);
+  }
+}
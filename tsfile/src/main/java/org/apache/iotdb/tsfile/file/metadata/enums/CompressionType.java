@@ -21,7 +21,7 @@ package org.apache.iotdb.tsfile.file.metadata.enums;
 import org.apache.iotdb.tsfile.exception.compress.CompressionTypeNotSupportedException;
 
 public enum CompressionType {
-  UNCOMPRESSED, SNAPPY, GZIP, LZO, SDT, PAA, PLA, LZ4;
+  UNCOMPRESSED, SNAPPY, GZIP, LZO, SDT, PAA, PLA, LZ4, ZSTD;
 
   /**
    * deserialize short number.
@@ -47,6 +47,8 @@ public enum CompressionType {
         return PLA;
       case 7:
         return LZ4;
+      case 8:
+        return ZSTD;
       default:
         return UNCOMPRESSED;
     }
@@ -83,6 +85,8 @@ public enum CompressionType {
         return PLA;
       case "LZ4":
         return LZ4;
+      case "ZSTD":
+        return ZSTD;
       default:
         throw new CompressionTypeNotSupportedException(name);
     }
@@ -111,6 +115,8 @@ public enum CompressionType {
         return 6;
       case LZ4:
         return 7;
+      case ZSTD:
+        return 8;
       default:
         return 0;
     }
@@ -139,6 +145,8 @@ public enum CompressionType {
         return ".pla";
       case LZ4:
         return ".lz4";
+      case ZSTD:
+        return ".zst";
       default:
         return "";
     }
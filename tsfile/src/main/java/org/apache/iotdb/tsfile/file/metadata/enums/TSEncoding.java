@@ -17,10 +17,17 @@
  * under the License.
  */
 package org.apache.iotdb.tsfile.file.metadata.enums;
+
+import org.apache.iotdb.tsfile.exception.encoding.TsFileEncodingException;
 
 public enum TSEncoding {
 
-  PLAIN, PLAIN_DICTIONARY, RLE, DIFF, TS_2DIFF, BITMAP, GORILLA, REGULAR;
+  PLAIN, PLAIN_DICTIONARY, RLE, DIFF, TS_2DIFF, BITMAP, GORILLA, REGULAR, CHIMP, ALP,
+  /**
+   * the encoding of each chunk is chosen by sampling its data when it is flushed. It is only used
+   * in schemas and never in chunk headers.
+   */
+  AUTO;
 
   /**
    * judge the encoding deserialize type.
@@ -46,6 +53,12 @@ public enum TSEncoding {
         return GORILLA;
       case 7:
         return REGULAR;
+      case 8:
+        return CHIMP;
+      case 9:
+        return ALP;
+      case 10:
+        return AUTO;
       default:
         return PLAIN;
     }
@@ -78,8 +91,14 @@ public enum TSEncoding {
         return 6;
       case REGULAR:
         return 7;
+      case CHIMP:
+        return 8;
+      case ALP:
+        return 9;
+      case AUTO:
+        return 10;
       default:
-        return 0;
+        throw new TsFileEncodingException("Unsupported encoding to serialize: " + this);
     }
   }
 }
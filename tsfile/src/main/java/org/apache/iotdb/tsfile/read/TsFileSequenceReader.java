@@ -74,6 +74,8 @@ public class TsFileSequenceReader implements AutoCloseable {
   private int fileMetadataSize;
   private ByteBuffer markerBuffer = ByteBuffer.allocate(Byte.BYTES);
   private int totalChunkNum;
+  // the offset and the content of the time chunk of aligned chunks that is read last
+  private volatile Pair<Long, Chunk> lastTimeChunk;
   private TsFileMetadata tsFileMetaData;
   // device -> measurement -> TimeseriesMetadata
   private Map<String, Map<String, TimeseriesMetadata>> cachedDeviceMetadata = new ConcurrentHashMap<>();
@@ -648,15 +650,15 @@ public class TsFileSequenceReader implements AutoCloseable {
   }
 
   /**
-   * read the chunk's header.
+   * read data from current position of the input, and deserialize it to a chunk header whose
+   * marker has been read. <br> This method is not threadsafe.
    *
-   * @param position        the file offset of this chunk's header
-   * @param chunkHeaderSize the size of chunk's header
-   * @param markerRead      true if the offset does not contains the marker , otherwise false
+   * @param chunkType the marker that has been read
+   * @return a CHUNK_HEADER, TIME_CHUNK_HEADER or VALUE_CHUNK_HEADER
+   * @throws IOException io error
    */
-  private ChunkHeader readChunkHeader(long position, int chunkHeaderSize, boolean markerRead)
-      throws IOException {
-    return ChunkHeader.deserializeFrom(tsFileInput, position, chunkHeaderSize, markerRead);
+  public ChunkHeader readChunkHeader(byte chunkType) throws IOException {
+    return ChunkHeader.deserializeFrom(tsFileInput.wrapAsInputStream(), chunkType);
   }
 
   /**
@@ -677,11 +679,38 @@ public class TsFileSequenceReader implements AutoCloseable {
    * @return -chunk
    */
   public Chunk readMemChunk(ChunkMetadata metaData) throws IOException {
-    int chunkHeadSize = ChunkHeader.getSerializedSize(metaData.getMeasurementUid());
-    ChunkHeader header = readChunkHeader(metaData.getOffsetOfChunkHeader(), chunkHeadSize, false);
+    ChunkHeader header = ChunkHeader
+        .deserializeFrom(tsFileInput, metaData.getOffsetOfChunkHeader(),
+            metaData.getMeasurementUid());
     ByteBuffer buffer = readChunk(metaData.getOffsetOfChunkHeader() + header.getSerializedSize(),
         header.getDataSize());
-    return new Chunk(header, buffer, metaData.getDeleteIntervalList());
+    Chunk chunk = new Chunk(header, buffer, metaData.getDeleteIntervalList());
+    if (header.getChunkType() == MetaMarker.VALUE_CHUNK_HEADER) {
+      chunk.setTimeChunk(readTimeChunk(header.getTimeChunkOffset()));
+    }
+    return chunk;
+  }
+
+  /**
+   * read the time chunk of aligned chunks. The last read one is kept, as the chunks of an aligned
+   * device are usually read one after another.
+   *
+   * @param offset the offset of the time chunk
+   * @return the time chunk, whose data must not be consumed
+   */
+  private Chunk readTimeChunk(long offset) throws IOException {
+    Pair<Long, Chunk> cached = lastTimeChunk;
+    if (cached != null && cached.left == offset) {
+      return cached.right;
+    }
+    ChunkHeader header = ChunkHeader.deserializeFrom(tsFileInput, offset, "");
+    if (header.getChunkType() != MetaMarker.TIME_CHUNK_HEADER) {
+      MetaMarker.handleUnexpectedMarker(header.getChunkType());
+    }
+    Chunk timeChunk = new Chunk(header,
+        readChunk(offset + header.getSerializedSize(), header.getDataSize()), null);
+    lastTimeChunk = new Pair<>(offset, timeChunk);
+    return timeChunk;
   }
 
   /**
@@ -712,11 +741,12 @@ public class TsFileSequenceReader implements AutoCloseable {
   private ByteBuffer readPage(PageHeader header, CompressionType type, long position)
       throws IOException {
     ByteBuffer buffer = readData(position, header.getCompressedSize());
-    IUnCompressor unCompressor = IUnCompressor.getUnCompressor(type);
-    ByteBuffer uncompressedBuffer = ByteBuffer.allocate(header.getUncompressedSize());
     if (type == CompressionType.UNCOMPRESSED) {
       return buffer;
-    }// FIXME if the buffer is not array-implemented.
+    }
+    IUnCompressor unCompressor = IUnCompressor.getUnCompressor(type);
+    ByteBuffer uncompressedBuffer = ByteBuffer.allocate(header.getUncompressedSize());
+    // FIXME if the buffer is not array-implemented.
     unCompressor.uncompress(buffer.array(), buffer.position(), buffer.remaining(),
         uncompressedBuffer.array(),
         0);
@@ -859,7 +889,19 @@ public class TsFileSequenceReader implements AutoCloseable {
     try {
       while ((marker = this.readMarker()) != MetaMarker.SEPARATOR) {
         switch (marker) {
+          case MetaMarker.TIME_CHUNK_HEADER:
+            // the time chunk of an aligned device is the first chunk of its ChunkGroup
+            if (newChunkGroup) {
+              newChunkGroup = false;
+              chunkMetadataList = new ArrayList<>();
+            }
+            ChunkHeader timeChunkHeader = this.readChunkHeader(marker);
+            for (int j = 0; j < timeChunkHeader.getNumOfPages(); j++) {
+              this.skipPageData(this.readPageHeader(timeChunkHeader.getDataType()));
+            }
+            break;
           case MetaMarker.CHUNK_HEADER:
+          case MetaMarker.VALUE_CHUNK_HEADER:
             // this is the first chunk of a new ChunkGroup.
             if (newChunkGroup) {
               newChunkGroup = false;
@@ -869,7 +911,7 @@ public class TsFileSequenceReader implements AutoCloseable {
             // if there is something wrong with a chunk, we will drop the whole ChunkGroup
             // as different chunks may be created by the same insertions(sqls), and partial
             // insertion is not tolerable
-            ChunkHeader chunkHeader = this.readChunkHeader();
+            ChunkHeader chunkHeader = this.readChunkHeader(marker);
             measurementID = chunkHeader.getMeasurementID();
             MeasurementSchema measurementSchema = new MeasurementSchema(measurementID,
                 chunkHeader.getDataType(),
@@ -880,7 +922,10 @@ public class TsFileSequenceReader implements AutoCloseable {
             for (int j = 0; j < chunkHeader.getNumOfPages(); j++) {
               // a new Page
               PageHeader pageHeader = this.readPageHeader(chunkHeader.getDataType());
-              chunkStatistics.mergeStatistics(pageHeader.getStatistics());
+              // a page of a value chunk may have no values
+              if (pageHeader.getStatistics().getCount() > 0) {
+                chunkStatistics.mergeStatistics(pageHeader.getStatistics());
+              }
               this.skipPageData(pageHeader);
             }
             currentChunk = new ChunkMetadata(measurementID, dataType, fileOffsetOfChunk,
@@ -0,0 +1,288 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iotdb.tsfile.read.arrow;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import org.apache.arrow.memory.BufferAllocator;
+import org.apache.arrow.vector.BigIntVector;
+import org.apache.arrow.vector.BitVector;
+import org.apache.arrow.vector.FieldVector;
+import org.apache.arrow.vector.Float4Vector;
+import org.apache.arrow.vector.Float8Vector;
+import org.apache.arrow.vector.IntVector;
+import org.apache.arrow.vector.VarCharVector;
+import org.apache.arrow.vector.VectorSchemaRoot;
+import org.apache.arrow.vector.types.FloatingPointPrecision;
+import org.apache.arrow.vector.types.pojo.ArrowType;
+import org.apache.arrow.vector.types.pojo.Field;
+import org.apache.arrow.vector.types.pojo.FieldType;
+import org.apache.arrow.vector.types.pojo.Schema;
+import org.apache.iotdb.tsfile.common.constant.QueryConstant;
+import org.apache.iotdb.tsfile.exception.write.NoMeasurementException;
+import org.apache.iotdb.tsfile.exception.write.UnSupportedDataTypeException;
+import org.apache.iotdb.tsfile.file.metadata.ChunkMetadata;
+import org.apache.iotdb.tsfile.file.metadata.enums.TSDataType;
+import org.apache.iotdb.tsfile.read.TsFileSequenceReader;
+import org.apache.iotdb.tsfile.read.common.BatchData;
+import org.apache.iotdb.tsfile.read.common.Path;
+import org.apache.iotdb.tsfile.read.common.TimeRange;
+import org.apache.iotdb.tsfile.read.controller.CachedChunkLoaderImpl;
+import org.apache.iotdb.tsfile.read.controller.IChunkLoader;
+import org.apache.iotdb.tsfile.read.controller.IMetadataQuerier;
+import org.apache.iotdb.tsfile.read.controller.MetadataQuerierByFileImpl;
+import org.apache.iotdb.tsfile.read.filter.TimeFilter;
+import org.apache.iotdb.tsfile.read.filter.basic.Filter;
+import org.apache.iotdb.tsfile.read.filter.factory.FilterFactory;
+import org.apache.iotdb.tsfile.read.reader.IBatchReader;
+import org.apache.iotdb.tsfile.read.reader.series.EmptyFileSeriesReader;
+import org.apache.iotdb.tsfile.read.reader.series.FileSeriesReader;
+
+/**
+ * TsFileArrowReader reads some series of a TsFile into Arrow VectorSchemaRoot batches. The batches
+ * have a non-null "time" column and one nullable column per series named by its full path, and the
+ * rows are the union of the timestamps of the series, like the rows of a DataSetWithoutTimeGenerator.
+ * The decoded pages of the series are merged by time into the vectors directly, so no RowRecord or
+ * Field is created for a row.
+ * <p>
+ * The same VectorSchemaRoot is refilled by every call of nextBatch(), so a batch must be consumed
+ * before the next one is read. The vectors are allocated from the given allocator and released by
+ * close(), which also closes the TsFileSequenceReader.
+ */
+public class TsFileArrowReader implements AutoCloseable {
+
+  private final TsFileSequenceReader fileReader;
+  private final IChunkLoader chunkLoader;
+  private final List<Path> paths;
+  private final List<TSDataType> dataTypes = new ArrayList<>();
+  private final List<IBatchReader> seriesReaders = new ArrayList<>();
+  private final int batchSize;
+
+  // the current page data of each series, null if the series is exhausted
+  private final BatchData[] batchDatas;
+  private final VectorSchemaRoot root;
+
+  /**
+   * @param timeFilter a filter on time applied to all series, or null
+   */
+  public TsFileArrowReader(TsFileSequenceReader fileReader, List<Path> paths, Filter timeFilter,
+      BufferAllocator allocator, int batchSize) throws IOException {
+    this(fileReader, paths, timeFilter, -1, -1, allocator, batchSize);
+  }
+
+  /**
+   * Read only the chunk groups starting in [partitionStartOffset, partitionEndOffset) of the file,
+   * like ReadOnlyTsFile.query() with the space partition constraint. A negative
+   * partitionStartOffset reads the whole file.
+   *
+   * @param timeFilter a filter on time applied to all series, or null
+   */
+  public TsFileArrowReader(TsFileSequenceReader fileReader, List<Path> paths, Filter timeFilter,
+      long partitionStartOffset, long partitionEndOffset, BufferAllocator allocator,
+      int batchSize) throws IOException {
+    this.fileReader = fileReader;
+    this.chunkLoader = new CachedChunkLoaderImpl(fileReader);
+    this.paths = paths;
+    this.batchSize = batchSize;
+    this.batchDatas = new BatchData[paths.size()];
+
+    IMetadataQuerier metadataQuerier = new MetadataQuerierByFileImpl(fileReader);
+    boolean emptyPartition = false;
+    if (partitionStartOffset >= 0) {
+      List<TimeRange> timeRanges = metadataQuerier
+          .convertSpace2TimePartition(paths, partitionStartOffset, partitionEndOffset);
+      emptyPartition = timeRanges.isEmpty();
+      timeFilter = addPartitionFilter(timeFilter, timeRanges);
+    }
+    metadataQuerier.loadChunkMetaDatas(paths);
+    List<Field> fields = new ArrayList<>();
+    fields.add(new Field(QueryConstant.RESERVED_TIME,
+        new FieldType(false, new ArrowType.Int(Long.SIZE, true), null), null));
+    for (Path path : paths) {
+      List<ChunkMetadata> chunkMetadataList = metadataQuerier.getChunkMetaDataList(path);
+      TSDataType dataType;
+      if (chunkMetadataList.isEmpty() || emptyPartition) {
+        seriesReaders.add(new EmptyFileSeriesReader());
+        try {
+          dataType = metadataQuerier.getDataType(path);
+        } catch (NoMeasurementException e) {
+          throw new IOException(e);
+        }
+      } else {
+        seriesReaders.add(new FileSeriesReader(chunkLoader, chunkMetadataList, timeFilter));
+        dataType = chunkMetadataList.get(0).getDataType();
+      }
+      dataTypes.add(dataType);
+      fields.add(new Field(path.getFullPath(), new FieldType(true, toArrowType(dataType), null), null));
+    }
+    root = VectorSchemaRoot.create(new Schema(fields), allocator);
+    for (FieldVector vector : root.getFieldVectors()) {
+      vector.setInitialCapacity(batchSize);
+      vector.allocateNew();
+    }
+  }
+
+  private static Filter addPartitionFilter(Filter timeFilter, List<TimeRange> timeRanges) {
+    Filter partitionFilter = null;
+    for (TimeRange timeRange : timeRanges) {
+      Filter rangeFilter = FilterFactory.and(TimeFilter.gtEq(timeRange.getMin()),
+          TimeFilter.ltEq(timeRange.getMax()));
+      partitionFilter = partitionFilter == null ? rangeFilter
+          : FilterFactory.or(partitionFilter, rangeFilter);
+    }
+    if (partitionFilter == null) {
+      return timeFilter;
+    }
+    return timeFilter == null ? partitionFilter : FilterFactory.and(timeFilter, partitionFilter);
+  }
+
+  static ArrowType toArrowType(TSDataType dataType) {
+    switch (dataType) {
+      case BOOLEAN:
+        return ArrowType.Bool.INSTANCE;
+      case INT32:
+        return new ArrowType.Int(Integer.SIZE, true);
+      case INT64:
+        return new ArrowType.Int(Long.SIZE, true);
+      case FLOAT:
+        return new ArrowType.FloatingPoint(FloatingPointPrecision.SINGLE);
+      case DOUBLE:
+        return new ArrowType.FloatingPoint(FloatingPointPrecision.DOUBLE);
+      case TEXT:
+        return ArrowType.Utf8.INSTANCE;
+      default:
+        throw new UnSupportedDataTypeException(String.valueOf(dataType));
+    }
+  }
+
+  public Schema getSchema() {
+    return root.getSchema();
+  }
+
+  public List<Path> getPaths() {
+    return paths;
+  }
+
+  public boolean hasNextBatch() throws IOException {
+    for (int i = 0; i < batchDatas.length; i++) {
+      if (fetch(i)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * @return the VectorSchemaRoot of this reader filled with at most batchSize rows, or with no row
+   * if all series are exhausted
+   */
+  public VectorSchemaRoot nextBatch() throws IOException {
+    List<FieldVector> vectors = root.getFieldVectors();
+    for (FieldVector vector : vectors) {
+      vector.reset();
+    }
+    BigIntVector timeVector = (BigIntVector) vectors.get(0);
+    int rowCount = 0;
+    while (rowCount < batchSize) {
+      long minTime = Long.MAX_VALUE;
+      boolean hasRow = false;
+      for (int i = 0; i < batchDatas.length; i++) {
+        if (fetch(i) && batchDatas[i].currentTime() <= minTime) {
+          minTime = batchDatas[i].currentTime();
+          hasRow = true;
+        }
+      }
+      if (!hasRow) {
+        break;
+      }
+      timeVector.setSafe(rowCount, minTime);
+      // a series without a point at minTime stays null in the row, as reset() cleared the
+      // validity bits
+      for (int i = 0; i < batchDatas.length; i++) {
+        BatchData batchData = batchDatas[i];
+        if (batchData != null && batchData.currentTime() == minTime) {
+          putValue(vectors.get(i + 1), dataTypes.get(i), rowCount, batchData);
+          batchData.next();
+        }
+      }
+      rowCount++;
+    }
+    for (FieldVector vector : vectors) {
+      vector.setValueCount(rowCount);
+    }
+    root.setRowCount(rowCount);
+    return root;
+  }
+
+  /**
+   * Make batchDatas[index] point to the next unread page data of the series.
+   *
+   * @return false if the series is exhausted
+   */
+  private boolean fetch(int index) throws IOException {
+    BatchData batchData = batchDatas[index];
+    if (batchData != null && batchData.hasCurrent()) {
+      return true;
+    }
+    IBatchReader seriesReader = seriesReaders.get(index);
+    while (seriesReader.hasNextBatch()) {
+      batchData = seriesReader.nextBatch();
+      if (batchData.hasCurrent()) {
+        batchDatas[index] = batchData;
+        return true;
+      }
+    }
+    batchDatas[index] = null;
+    return false;
+  }
+
+  private static void putValue(FieldVector vector, TSDataType dataType, int index,
+      BatchData batchData) {
+    switch (dataType) {
+      case BOOLEAN:
+        ((BitVector) vector).setSafe(index, batchData.getBoolean() ? 1 : 0);
+        break;
+      case INT32:
+        ((IntVector) vector).setSafe(index, batchData.getInt());
+        break;
+      case INT64:
+        ((BigIntVector) vector).setSafe(index, batchData.getLong());
+        break;
+      case FLOAT:
+        ((Float4Vector) vector).setSafe(index, batchData.getFloat());
+        break;
+      case DOUBLE:
+        ((Float8Vector) vector).setSafe(index, batchData.getDouble());
+        break;
+      case TEXT:
+        ((VarCharVector) vector).setSafe(index, batchData.getBinary().getValues());
+        break;
+      default:
+        throw new UnSupportedDataTypeException(String.valueOf(dataType));
+    }
+  }
+
+  @Override
+  public void close() throws IOException {
+    root.close();
+    chunkLoader.close();
+    fileReader.close();
+  }
+}
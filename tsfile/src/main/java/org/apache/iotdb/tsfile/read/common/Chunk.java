@@ -36,6 +36,12 @@ public class Chunk implements Accountable {
    */
   private List<TimeRange> deleteIntervalList;
 
+  /**
+   * the time chunk shared with the other value chunks of an aligned device, null if this is not a
+   * value chunk. Its data must not be consumed as it may be shared with other chunks.
+   */
+  private Chunk timeChunk;
+
   private long ramSize;
 
   public Chunk(ChunkHeader header, ByteBuffer buffer, List<TimeRange> deleteIntervalList) {
@@ -60,7 +66,33 @@ public class Chunk implements Accountable {
     this.deleteIntervalList = list;
   }
 
+  public Chunk getTimeChunk() {
+    return timeChunk;
+  }
+
+  public void setTimeChunk(Chunk timeChunk) {
+    this.timeChunk = timeChunk;
+  }
+
+  /**
+   * @return a chunk sharing the header, the data and the time chunk of this one, whose data can be
+   * consumed independently
+   */
+  public Chunk duplicate() {
+    Chunk chunk = new Chunk(chunkHeader, chunkData.duplicate(), deleteIntervalList);
+    chunk.timeChunk = timeChunk;
+    return chunk;
+  }
+
+  /**
+   * append the pages of another chunk of the same series to this one. The value chunks of aligned
+   * devices are not supported, as their pages must stay paired with the pages of their time chunks.
+   */
   public void mergeChunk(Chunk chunk) {
+    if (timeChunk != null || chunk.timeChunk != null) {
+      throw new UnsupportedOperationException(
+          "Cannot merge the value chunks of aligned devices: " + chunkHeader.getMeasurementID());
+    }
     chunkHeader.mergeChunkHeader(chunk.chunkHeader);
     ByteBuffer newChunkData = ByteBuffer
         .allocate(chunkData.array().length + chunk.chunkData.array().length);
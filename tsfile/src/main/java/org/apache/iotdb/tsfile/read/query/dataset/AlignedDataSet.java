@@ -0,0 +1,139 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iotdb.tsfile.read.query.dataset;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import org.apache.iotdb.tsfile.file.metadata.ChunkMetadata;
+import org.apache.iotdb.tsfile.file.metadata.enums.TSDataType;
+import org.apache.iotdb.tsfile.read.common.Chunk;
+import org.apache.iotdb.tsfile.read.common.Path;
+import org.apache.iotdb.tsfile.read.common.RowRecord;
+import org.apache.iotdb.tsfile.read.controller.IChunkLoader;
+import org.apache.iotdb.tsfile.read.filter.basic.Filter;
+import org.apache.iotdb.tsfile.read.reader.chunk.AlignedChunkReader;
+
+/**
+ * rows of some measurements of an aligned device. The value chunks of the measurements that share
+ * a time chunk are read together by AlignedChunkReader, so the rows come from the shared time
+ * column without merging the timestamps of the measurements.
+ */
+public class AlignedDataSet extends QueryDataSet {
+
+  private IChunkLoader chunkLoader;
+  private List<List<ChunkMetadata>> chunkMetadataLists;
+  private Filter timeFilter;
+
+  // the index of the next chunk to load of each measurement
+  private int[] chunkIndexes;
+  // the loaded chunk of each measurement that is not read yet, null if it is not loaded
+  private Chunk[] nextChunks;
+
+  private AlignedChunkReader chunkReader;
+  private Iterator<RowRecord> pageRows = Collections.emptyIterator();
+
+  /**
+   * @param paths              the measurements of one aligned device
+   * @param chunkMetadataLists the chunk metadata of each measurement in the order of their offsets
+   * @param timeFilter         the filter of the times of the rows, null if all rows are read
+   */
+  public AlignedDataSet(List<Path> paths, List<TSDataType> dataTypes, IChunkLoader chunkLoader,
+      List<List<ChunkMetadata>> chunkMetadataLists, Filter timeFilter) {
+    super(paths, dataTypes);
+    this.chunkLoader = chunkLoader;
+    this.timeFilter = timeFilter;
+    this.chunkMetadataLists = new ArrayList<>(chunkMetadataLists.size());
+    for (List<ChunkMetadata> chunkMetadataList : chunkMetadataLists) {
+      List<ChunkMetadata> satisfiedChunkMetadataList = new ArrayList<>();
+      for (ChunkMetadata chunkMetadata : chunkMetadataList) {
+        // a value chunk without satisfied rows is not needed to read the others
+        if (timeFilter == null || timeFilter.satisfy(chunkMetadata.getStatistics())) {
+          satisfiedChunkMetadataList.add(chunkMetadata);
+        }
+      }
+      this.chunkMetadataLists.add(satisfiedChunkMetadataList);
+    }
+    this.chunkIndexes = new int[paths.size()];
+    this.nextChunks = new Chunk[paths.size()];
+  }
+
+  @Override
+  protected boolean hasNextWithoutConstraint() throws IOException {
+    while (!pageRows.hasNext()) {
+      if (chunkReader != null && chunkReader.hasNextPage()) {
+        pageRows = chunkReader.nextPageRows().iterator();
+      } else if (!nextChunkReader()) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  @Override
+  protected RowRecord nextWithoutConstraint() {
+    return pageRows.next();
+  }
+
+  /**
+   * read the value chunks sharing the first time chunk that is not read yet
+   *
+   * @return false if all chunks are read
+   */
+  private boolean nextChunkReader() throws IOException {
+    long timeChunkOffset = Long.MAX_VALUE;
+    for (int i = 0; i < nextChunks.length; i++) {
+      if (nextChunks[i] == null && chunkIndexes[i] < chunkMetadataLists.get(i).size()) {
+        nextChunks[i] = loadValueChunk(chunkMetadataLists.get(i).get(chunkIndexes[i]++));
+      }
+      if (nextChunks[i] != null) {
+        timeChunkOffset = Math.min(timeChunkOffset,
+            nextChunks[i].getHeader().getTimeChunkOffset());
+      }
+    }
+    if (timeChunkOffset == Long.MAX_VALUE) {
+      return false;
+    }
+    Chunk timeChunk = null;
+    List<Chunk> valueChunks = new ArrayList<>(nextChunks.length);
+    for (int i = 0; i < nextChunks.length; i++) {
+      if (nextChunks[i] != null
+          && nextChunks[i].getHeader().getTimeChunkOffset() == timeChunkOffset) {
+        timeChunk = nextChunks[i].getTimeChunk();
+        valueChunks.add(nextChunks[i]);
+        nextChunks[i] = null;
+      } else {
+        valueChunks.add(null);
+      }
+    }
+    chunkReader = new AlignedChunkReader(timeChunk, valueChunks, timeFilter);
+    return true;
+  }
+
+  private Chunk loadValueChunk(ChunkMetadata chunkMetadata) throws IOException {
+    Chunk chunk = chunkLoader.loadChunk(chunkMetadata);
+    if (chunk.getTimeChunk() == null) {
+      throw new IOException("The chunk of " + chunkMetadata.getMeasurementUid() + " at "
+          + chunkMetadata.getOffsetOfChunkHeader() + " is not a value chunk of an aligned device");
+    }
+    return chunk;
+  }
+}
@@ -35,6 +35,7 @@ import org.apache.iotdb.tsfile.read.expression.QueryExpression;
 import org.apache.iotdb.tsfile.read.expression.impl.BinaryExpression;
 import org.apache.iotdb.tsfile.read.expression.impl.GlobalTimeExpression;
 import org.apache.iotdb.tsfile.read.expression.util.ExpressionOptimizer;
+import org.apache.iotdb.tsfile.read.query.dataset.AlignedDataSet;
 import org.apache.iotdb.tsfile.read.query.dataset.DataSetWithoutTimeGenerator;
 import org.apache.iotdb.tsfile.read.query.dataset.QueryDataSet;
 import org.apache.iotdb.tsfile.read.reader.series.EmptyFileSeriesReader;
@@ -160,10 +161,24 @@ public class TsFileExecutor implements QueryExecutor {
   /**
    * @param selectedPathList completed path
    * @param timeExpression a GlobalTimeExpression or null
-   * @return DataSetWithoutTimeGenerator
+   * @return AlignedDataSet if the paths are measurements of one aligned device, otherwise
+   * DataSetWithoutTimeGenerator
    */
   private QueryDataSet executeMayAttachTimeFiler(List<Path> selectedPathList,
       GlobalTimeExpression timeExpression) throws IOException, NoMeasurementException {
+    if (isOfOneAlignedDevice(selectedPathList)) {
+      List<List<ChunkMetadata>> chunkMetadataLists = new ArrayList<>();
+      List<TSDataType> dataTypes = new ArrayList<>();
+      for (Path path : selectedPathList) {
+        List<ChunkMetadata> chunkMetadataList = metadataQuerier.getChunkMetaDataList(path);
+        chunkMetadataLists.add(chunkMetadataList);
+        dataTypes.add(chunkMetadataList.isEmpty() ? metadataQuerier.getDataType(path)
+            : chunkMetadataList.get(0).getDataType());
+      }
+      return new AlignedDataSet(selectedPathList, dataTypes, chunkLoader, chunkMetadataLists,
+          timeExpression == null ? null : timeExpression.getFilter());
+    }
+
     List<AbstractFileSeriesReader> readersOfSelectedSeries = new ArrayList<>();
     List<TSDataType> dataTypes = new ArrayList<>();
 
@@ -186,4 +201,29 @@ public class TsFileExecutor implements QueryExecutor {
     return new DataSetWithoutTimeGenerator(selectedPathList, dataTypes, readersOfSelectedSeries);
   }
 
+  /**
+   * @return whether the paths are measurements of one device whose chunks are value chunks, which
+   * all chunks of an aligned device are
+   */
+  private boolean isOfOneAlignedDevice(List<Path> selectedPathList) throws IOException {
+    if (selectedPathList.isEmpty()) {
+      return false;
+    }
+    boolean hasChunk = false;
+    String device = selectedPathList.get(0).getDevice();
+    for (Path path : selectedPathList) {
+      if (!path.getDevice().equals(device)) {
+        return false;
+      }
+      List<ChunkMetadata> chunkMetadataList = metadataQuerier.getChunkMetaDataList(path);
+      if (!chunkMetadataList.isEmpty()) {
+        if (chunkLoader.loadChunk(chunkMetadataList.get(0)).getTimeChunk() == null) {
+          return false;
+        }
+        hasChunk = true;
+      }
+    }
+    return hasChunk;
+  }
+
 }
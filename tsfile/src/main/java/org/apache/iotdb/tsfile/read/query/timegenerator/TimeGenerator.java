@@ -68,9 +68,10 @@ public abstract class TimeGenerator {
   }
 
   /**
-   * construct the tree that generate timestamp.
+   * construct the tree that generate timestamp. Subclasses may override it to build the nodes of
+   * some expressions in their own way and call it back for the others.
    */
-  private Node construct(IExpression expression) throws IOException {
+  protected Node construct(IExpression expression) throws IOException {
 
     if (expression.getType() == ExpressionType.SERIES) {
       SingleSeriesExpression singleSeriesExp = (SingleSeriesExpression) expression;
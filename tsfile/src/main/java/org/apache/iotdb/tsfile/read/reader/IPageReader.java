@@ -19,9 +19,11 @@
 package org.apache.iotdb.tsfile.read.reader;
 
 import org.apache.iotdb.tsfile.file.metadata.statistics.Statistics;
+import org.apache.iotdb.tsfile.read.TimeValuePair;
 import org.apache.iotdb.tsfile.read.common.BatchData;
 
 import java.io.IOException;
+import java.util.List;
 import org.apache.iotdb.tsfile.read.filter.basic.Filter;
 
 public interface IPageReader {
@@ -30,6 +32,22 @@ public interface IPageReader {
 
   Statistics getStatistics();
 
+  /**
+   * @return the statistics of the points within each aligned time interval of the page in time
+   * order, or null if they are not available
+   */
+  default List<Statistics> getSubStatistics() {
+    return null;
+  }
+
+  /**
+   * @return the last point satisfying the filter whose time is not greater than queryTime, or a
+   * pair with a null value if there is no such point
+   */
+  default TimeValuePair getLastPairBeforeOrEqualTimestamp(long queryTime) throws IOException {
+    return getAllSatisfiedPageData().getLastPairBeforeOrEqualTimestamp(queryTime);
+  }
+
   void setFilter(Filter filter);
 
   boolean isModified();
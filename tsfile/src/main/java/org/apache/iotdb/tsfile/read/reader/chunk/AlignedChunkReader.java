@@ -0,0 +1,139 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iotdb.tsfile.read.reader.chunk;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+import org.apache.iotdb.tsfile.compress.IUnCompressor;
+import org.apache.iotdb.tsfile.encoding.decoder.Decoder;
+import org.apache.iotdb.tsfile.file.header.ChunkHeader;
+import org.apache.iotdb.tsfile.file.header.PageHeader;
+import org.apache.iotdb.tsfile.file.metadata.enums.TSDataType;
+import org.apache.iotdb.tsfile.read.common.Chunk;
+import org.apache.iotdb.tsfile.read.common.RowRecord;
+import org.apache.iotdb.tsfile.read.common.TimeRange;
+import org.apache.iotdb.tsfile.read.filter.basic.Filter;
+import org.apache.iotdb.tsfile.read.reader.page.AlignedRowPageReader;
+
+/**
+ * AlignedChunkReader reads the rows of some measurements of an aligned device from their value
+ * chunks that share a time chunk. The pages of the same index are read together by
+ * AlignedRowPageReader, so the time column is decoded once for all the measurements instead of
+ * once for each of them.
+ */
+public class AlignedChunkReader {
+
+  private List<AlignedRowPageReader> pageReaderList = new LinkedList<>();
+
+  /**
+   * @param timeChunk   the time chunk shared by the value chunks
+   * @param valueChunks the value chunk of each measurement, null if the measurement has no value
+   *                    in the rows of the time chunk
+   * @param timeFilter  the filter of the times of the rows, null if all rows are read
+   */
+  public AlignedChunkReader(Chunk timeChunk, List<Chunk> valueChunks, Filter timeFilter)
+      throws IOException {
+    ChunkHeader timeChunkHeader = timeChunk.getHeader();
+    // the data of the chunks may be cached and shared
+    ByteBuffer timeChunkData = timeChunk.getData().duplicate();
+    IUnCompressor timeUnCompressor = IUnCompressor
+        .getUnCompressor(timeChunkHeader.getCompressionType());
+    Decoder timeDecoder = Decoder
+        .getDecoderByType(timeChunkHeader.getEncodingType(), TSDataType.INT64);
+
+    int columnNum = valueChunks.size();
+    TSDataType[] dataTypes = new TSDataType[columnNum];
+    ByteBuffer[] valueChunkData = new ByteBuffer[columnNum];
+    IUnCompressor[] valueUnCompressors = new IUnCompressor[columnNum];
+    Decoder[] valueDecoders = new Decoder[columnNum];
+    List<List<TimeRange>> deleteIntervalLists = new ArrayList<>(columnNum);
+    for (int i = 0; i < columnNum; i++) {
+      Chunk valueChunk = valueChunks.get(i);
+      if (valueChunk == null) {
+        deleteIntervalLists.add(null);
+        continue;
+      }
+      ChunkHeader valueChunkHeader = valueChunk.getHeader();
+      dataTypes[i] = valueChunkHeader.getDataType();
+      valueChunkData[i] = valueChunk.getData().duplicate();
+      valueUnCompressors[i] = IUnCompressor
+          .getUnCompressor(valueChunkHeader.getCompressionType());
+      valueDecoders[i] = Decoder
+          .getDecoderByType(valueChunkHeader.getEncodingType(), dataTypes[i]);
+      deleteIntervalLists.add(valueChunk.getDeleteIntervalList());
+    }
+
+    while (timeChunkData.remaining() > 0) {
+      PageHeader timePageHeader = PageHeader
+          .deserializeFrom(timeChunkData, timeChunkHeader.getDataType());
+      ByteBuffer timePageBody = ChunkReader.readPageBody(timePageHeader, timeChunkData);
+      PageHeader[] valuePageHeaders = new PageHeader[columnNum];
+      ByteBuffer[] valuePageBodies = new ByteBuffer[columnNum];
+      boolean hasValue = false;
+      for (int i = 0; i < columnNum; i++) {
+        if (valueChunkData[i] == null) {
+          continue;
+        }
+        PageHeader valuePageHeader = PageHeader.deserializeFrom(valueChunkData[i], dataTypes[i]);
+        ByteBuffer valuePageBody = ChunkReader.readPageBody(valuePageHeader, valueChunkData[i]);
+        // a value page without values has empty statistics
+        if (valuePageHeader.getStatistics().getCount() > 0
+            && !isDeleted(valuePageHeader, deleteIntervalLists.get(i))) {
+          valuePageHeaders[i] = valuePageHeader;
+          valuePageBodies[i] = valuePageBody;
+          hasValue = true;
+        }
+      }
+      if (hasValue && (timeFilter == null
+          || timeFilter.satisfy(timePageHeader.getStatistics()))) {
+        pageReaderList.add(new AlignedRowPageReader(timePageHeader, timePageBody,
+            timeUnCompressor, timeDecoder, dataTypes, valuePageHeaders, valuePageBodies,
+            valueUnCompressors, valueDecoders, deleteIntervalLists, timeFilter));
+      }
+    }
+  }
+
+  private static boolean isDeleted(PageHeader pageHeader, List<TimeRange> deleteIntervalList) {
+    if (deleteIntervalList != null) {
+      for (TimeRange range : deleteIntervalList) {
+        if (range.contains(pageHeader.getStartTime(), pageHeader.getEndTime())) {
+          return true;
+        }
+      }
+    }
+    return false;
+  }
+
+  public boolean hasNextPage() {
+    return !pageReaderList.isEmpty();
+  }
+
+  /**
+   * @return the rows of the next page satisfying the time filter, which may be empty
+   */
+  public List<RowRecord> nextPageRows() throws IOException {
+    if (pageReaderList.isEmpty()) {
+      throw new IOException("No more page");
+    }
+    return pageReaderList.remove(0).getAllSatisfiedRows();
+  }
+}
@@ -24,6 +24,7 @@ import org.apache.iotdb.tsfile.compress.IUnCompressor;
 import org.apache.iotdb.tsfile.encoding.decoder.Decoder;
 import org.apache.iotdb.tsfile.file.header.ChunkHeader;
 import org.apache.iotdb.tsfile.file.header.PageHeader;
+import org.apache.iotdb.tsfile.file.metadata.enums.CompressionType;
 import org.apache.iotdb.tsfile.file.metadata.enums.TSDataType;
 import org.apache.iotdb.tsfile.file.metadata.enums.TSEncoding;
 import org.apache.iotdb.tsfile.read.common.BatchData;
@@ -32,6 +33,7 @@ import org.apache.iotdb.tsfile.read.common.TimeRange;
 import org.apache.iotdb.tsfile.read.reader.IPageReader;
 import org.apache.iotdb.tsfile.read.filter.basic.Filter;
 import org.apache.iotdb.tsfile.read.reader.IChunkReader;
+import org.apache.iotdb.tsfile.read.reader.page.AlignedPageReader;
 import org.apache.iotdb.tsfile.read.reader.page.PageReader;
 import org.apache.iotdb.tsfile.v1.file.utils.HeaderUtils;
 
@@ -52,6 +54,11 @@ public class ChunkReader implements IChunkReader {
   protected Filter filter;
 
   private List<IPageReader> pageReaderList = new LinkedList<>();
+
+  /**
+   * the time chunk of a value chunk of an aligned device, null if the chunk is not a value chunk.
+   */
+  private Chunk timeChunk;
   
   private boolean isFromOldTsFile = false;
 
@@ -72,6 +79,7 @@ public class ChunkReader implements IChunkReader {
     this.deleteIntervalList = chunk.getDeleteIntervalList();
     chunkHeader = chunk.getHeader();
     this.unCompressor = IUnCompressor.getUnCompressor(chunkHeader.getCompressionType());
+    this.timeChunk = chunk.getTimeChunk();
 
 
     initAllPageReaders();
@@ -83,12 +91,17 @@ public class ChunkReader implements IChunkReader {
     this.deleteIntervalList = chunk.getDeleteIntervalList();
     chunkHeader = chunk.getHeader();
     this.unCompressor = IUnCompressor.getUnCompressor(chunkHeader.getCompressionType());
+    this.timeChunk = chunk.getTimeChunk();
     this.isFromOldTsFile = isFromOldFile;
 
     initAllPageReaders();
   }
 
   private void initAllPageReaders() throws IOException {
+    if (timeChunk != null) {
+      initAllAlignedPageReaders();
+      return;
+    }
     // construct next satisfied page header
     while (chunkDataBuffer.remaining() > 0) {
       // deserialize a PageHeader from chunkDataBuffer
@@ -105,6 +118,59 @@ public class ChunkReader implements IChunkReader {
 
 
 
+  /**
+   * the pages of a value chunk are read with the pages of the same index of its time chunk.
+   */
+  private void initAllAlignedPageReaders() throws IOException {
+    ChunkHeader timeChunkHeader = timeChunk.getHeader();
+    // the data of the time chunk may be shared by the other value chunks
+    ByteBuffer timeChunkDataBuffer = timeChunk.getData().duplicate();
+    IUnCompressor timeUnCompressor = IUnCompressor
+        .getUnCompressor(timeChunkHeader.getCompressionType());
+    Decoder alignedTimeDecoder = Decoder
+        .getDecoderByType(timeChunkHeader.getEncodingType(), TSDataType.INT64);
+    while (chunkDataBuffer.remaining() > 0) {
+      PageHeader pageHeader = PageHeader.deserializeFrom(chunkDataBuffer, chunkHeader.getDataType());
+      PageHeader timePageHeader = PageHeader
+          .deserializeFrom(timeChunkDataBuffer, timeChunkHeader.getDataType());
+      // a value page without values has empty statistics
+      if (pageHeader.getStatistics().getCount() > 0 && pageSatisfied(pageHeader)) {
+        // the pages are uncompressed when they are read
+        ByteBuffer timePageBody = readPageBody(timePageHeader, timeChunkDataBuffer);
+        ByteBuffer valuePageBody = readPageBody(pageHeader, chunkDataBuffer);
+        Decoder valueDecoder = Decoder
+            .getDecoderByType(chunkHeader.getEncodingType(), chunkHeader.getDataType());
+        AlignedPageReader reader = new AlignedPageReader(timePageHeader, timePageBody,
+            timeUnCompressor, pageHeader, valuePageBody, unCompressor, chunkHeader.getDataType(),
+            valueDecoder, alignedTimeDecoder, filter);
+        reader.setDeleteIntervalList(deleteIntervalList);
+        pageReaderList.add(reader);
+      } else {
+        skipBytesInStreamByLength(pageHeader.getCompressedSize());
+        timeChunkDataBuffer.position(
+            timeChunkDataBuffer.position() + timePageHeader.getCompressedSize());
+      }
+    }
+  }
+
+  /**
+   * @return the page body in the chunk data without copying it, the chunk data is moved to the
+   * next page
+   */
+  static ByteBuffer readPageBody(PageHeader pageHeader, ByteBuffer chunkData)
+      throws IOException {
+    int compressedPageBodyLength = pageHeader.getCompressedSize();
+    // doesn't has a complete page body
+    if (compressedPageBodyLength > chunkData.remaining()) {
+      throw new IOException("do not has a complete page body. Expected:" + compressedPageBodyLength
+          + ". Actual:" + chunkData.remaining());
+    }
+    ByteBuffer pageBody = chunkData.slice();
+    pageBody.limit(compressedPageBodyLength);
+    chunkData.position(chunkData.position() + compressedPageBodyLength);
+    return pageBody;
+  }
+
   /**
    * judge if has next page whose page header satisfies the filter.
    */
@@ -145,26 +211,24 @@ public class ChunkReader implements IChunkReader {
     return filter == null || filter.satisfy(pageHeader.getStatistics());
   }
 
+  /**
+   * The page body is neither copied nor uncompressed here. An uncompressed page is read in place
+   * from the chunk data, which may be cached and shared but is only read, and a compressed page is
+   * uncompressed into a pooled array when it is read.
+   */
   private PageReader constructPageReaderForNextPage(PageHeader pageHeader)
       throws IOException {
-    int compressedPageBodyLength = pageHeader.getCompressedSize();
-    byte[] compressedPageBody = new byte[compressedPageBodyLength];
-
-    // doesn't has a complete page body
-    if (compressedPageBodyLength > chunkDataBuffer.remaining()) {
-      throw new IOException("do not has a complete page body. Expected:" + compressedPageBodyLength
-          + ". Actual:" + chunkDataBuffer.remaining());
-    }
-
-    chunkDataBuffer.get(compressedPageBody);
+    ByteBuffer pageBody = readPageBody(pageHeader, chunkDataBuffer);
     Decoder valueDecoder = Decoder
             .getDecoderByType(chunkHeader.getEncodingType(), chunkHeader.getDataType());
-    byte[] uncompressedPageData = new byte[pageHeader.getUncompressedSize()];
-    unCompressor.uncompress(compressedPageBody,0, compressedPageBodyLength,
-        uncompressedPageData, 0);
-    ByteBuffer pageData = ByteBuffer.wrap(uncompressedPageData);
-    PageReader reader = new PageReader(pageHeader, pageData, chunkHeader.getDataType(),
-        valueDecoder, timeDecoder, filter);
+    PageReader reader;
+    if (unCompressor.getCodecName() == CompressionType.UNCOMPRESSED) {
+      reader = new PageReader(pageHeader, pageBody, chunkHeader.getDataType(), valueDecoder,
+          timeDecoder, filter);
+    } else {
+      reader = new PageReader(pageHeader, pageBody, unCompressor, chunkHeader.getDataType(),
+          valueDecoder, timeDecoder, filter);
+    }
     reader.setDeleteIntervalList(deleteIntervalList);
     return reader;
   }
@@ -0,0 +1,133 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iotdb.tsfile.read.reader.page;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import org.apache.iotdb.tsfile.compress.IUnCompressor;
+import org.apache.iotdb.tsfile.encoding.decoder.Decoder;
+import org.apache.iotdb.tsfile.file.header.PageHeader;
+import org.apache.iotdb.tsfile.file.metadata.enums.CompressionType;
+import org.apache.iotdb.tsfile.file.metadata.enums.TSDataType;
+import org.apache.iotdb.tsfile.read.TimeValuePair;
+import org.apache.iotdb.tsfile.read.common.BatchData;
+import org.apache.iotdb.tsfile.read.filter.basic.Filter;
+import org.apache.iotdb.tsfile.utils.ReadWriteForEncodingUtils;
+
+/**
+ * AlignedPageReader reads a page of a value chunk of an aligned device together with the page of
+ * the same index of the time chunk, the rows without a value are skipped. Like a compressed page
+ * of PageReader, both pages are uncompressed only when the page is read, into arrays borrowed from
+ * PageDataBufferPool, and the null bitmap is read in place.
+ */
+public class AlignedPageReader extends PageReader {
+
+  private final PageHeader timePageHeader;
+  private final ByteBuffer timePageBody;
+  private final IUnCompressor timeUnCompressor;
+  private final PageHeader valuePageHeader;
+  private final ByteBuffer valuePageBody;
+  private final IUnCompressor valueUnCompressor;
+
+  // the arrays borrowed while the page is read, null if the page is not compressed
+  private byte[] timePageData;
+  private byte[] valuePageData;
+
+  /**
+   * @param valuePageHeader the header of the value page, whose statistics only cover the rows
+   *                        having a value
+   * @param timePageBody    the compressed time column, which is only read and may be shared
+   * @param valuePageBody   the compressed row number, null bitmap and value column, which is only
+   *                        read and may be shared
+   */
+  public AlignedPageReader(PageHeader timePageHeader, ByteBuffer timePageBody,
+      IUnCompressor timeUnCompressor, PageHeader valuePageHeader, ByteBuffer valuePageBody,
+      IUnCompressor valueUnCompressor, TSDataType dataType, Decoder valueDecoder,
+      Decoder timeDecoder, Filter filter) {
+    super(valuePageHeader, dataType, valueDecoder, timeDecoder, filter);
+    this.timePageHeader = timePageHeader;
+    this.timePageBody = timePageBody;
+    this.timeUnCompressor = timeUnCompressor;
+    this.valuePageHeader = valuePageHeader;
+    this.valuePageBody = valuePageBody;
+    this.valueUnCompressor = valueUnCompressor;
+  }
+
+  @Override
+  public BatchData getAllSatisfiedPageData() throws IOException {
+    loadColumns();
+    try {
+      return super.getAllSatisfiedPageData();
+    } finally {
+      releaseColumns();
+    }
+  }
+
+  @Override
+  public TimeValuePair getLastPairBeforeOrEqualTimestamp(long queryTime) throws IOException {
+    loadColumns();
+    try {
+      return super.getLastPairBeforeOrEqualTimestamp(queryTime);
+    } finally {
+      releaseColumns();
+    }
+  }
+
+  private void loadColumns() throws IOException {
+    ByteBuffer timeColumn;
+    if (timeUnCompressor.getCodecName() == CompressionType.UNCOMPRESSED) {
+      timeColumn = timePageBody.duplicate();
+    } else {
+      timePageData = uncompress(timePageBody, timePageHeader.getUncompressedSize(),
+          timeUnCompressor);
+      timeColumn = ByteBuffer.wrap(timePageData, 0, timePageHeader.getUncompressedSize());
+    }
+    ByteBuffer valueColumn;
+    if (valueUnCompressor.getCodecName() == CompressionType.UNCOMPRESSED) {
+      valueColumn = valuePageBody.duplicate();
+    } else {
+      try {
+        valuePageData = uncompress(valuePageBody, valuePageHeader.getUncompressedSize(),
+            valueUnCompressor);
+      } catch (IOException | RuntimeException e) {
+        releaseColumns();
+        throw e;
+      }
+      valueColumn = ByteBuffer.wrap(valuePageData, 0, valuePageHeader.getUncompressedSize());
+    }
+    int rowCount = ReadWriteForEncodingUtils.readUnsignedVarInt(valueColumn);
+    int bitmapSize = (rowCount + Byte.SIZE - 1) / Byte.SIZE;
+    ByteBuffer bitmap = valueColumn.slice();
+    bitmap.limit(bitmapSize);
+    valueColumn.position(valueColumn.position() + bitmapSize);
+    setColumns(timeColumn, valueColumn.slice(), bitmap);
+  }
+
+  private void releaseColumns() {
+    setColumns(null, null, null);
+    if (timePageData != null) {
+      PageDataBufferPool.release(timePageData);
+      timePageData = null;
+    }
+    if (valuePageData != null) {
+      PageDataBufferPool.release(valuePageData);
+      valuePageData = null;
+    }
+  }
+}
@@ -0,0 +1,226 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iotdb.tsfile.read.reader.page;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.apache.iotdb.tsfile.compress.IUnCompressor;
+import org.apache.iotdb.tsfile.encoding.decoder.Decoder;
+import org.apache.iotdb.tsfile.exception.write.UnSupportedDataTypeException;
+import org.apache.iotdb.tsfile.file.header.PageHeader;
+import org.apache.iotdb.tsfile.file.metadata.enums.CompressionType;
+import org.apache.iotdb.tsfile.file.metadata.enums.TSDataType;
+import org.apache.iotdb.tsfile.read.common.Field;
+import org.apache.iotdb.tsfile.read.common.RowRecord;
+import org.apache.iotdb.tsfile.read.common.TimeRange;
+import org.apache.iotdb.tsfile.read.filter.basic.Filter;
+import org.apache.iotdb.tsfile.utils.ReadWriteForEncodingUtils;
+
+/**
+ * AlignedRowPageReader reads the rows of a time page of an aligned device together with the value
+ * pages of the same index of some of its measurements. Unlike reading each value page with
+ * AlignedPageReader, the time page is uncompressed and decoded once for all the measurements.
+ * A row has a field for each measurement, which is null if the measurement has no value in the
+ * row, and the rows without any value are skipped.
+ */
+public class AlignedRowPageReader {
+
+  private final PageHeader timePageHeader;
+  private final ByteBuffer timePageBody;
+  private final IUnCompressor timeUnCompressor;
+  private final Decoder timeDecoder;
+
+  private final TSDataType[] dataTypes;
+  private final PageHeader[] valuePageHeaders;
+  private final ByteBuffer[] valuePageBodies;
+  private final IUnCompressor[] valueUnCompressors;
+  private final Decoder[] valueDecoders;
+  private final List<List<TimeRange>> deleteIntervalLists;
+
+  private final Filter timeFilter;
+
+  /**
+   * @param timePageBody     the compressed time column, which is only read and may be shared
+   * @param dataTypes        the data types of the measurements
+   * @param valuePageHeaders the header of the value page of each measurement, null if the
+   *                         measurement has no value page to read
+   * @param valuePageBodies  the compressed value page of each measurement, which is only read
+   * @param timeFilter       the filter of the times of the rows, null if all rows are read
+   */
+  public AlignedRowPageReader(PageHeader timePageHeader, ByteBuffer timePageBody,
+      IUnCompressor timeUnCompressor, Decoder timeDecoder, TSDataType[] dataTypes,
+      PageHeader[] valuePageHeaders, ByteBuffer[] valuePageBodies,
+      IUnCompressor[] valueUnCompressors, Decoder[] valueDecoders,
+      List<List<TimeRange>> deleteIntervalLists, Filter timeFilter) {
+    this.timePageHeader = timePageHeader;
+    this.timePageBody = timePageBody;
+    this.timeUnCompressor = timeUnCompressor;
+    this.timeDecoder = timeDecoder;
+    this.dataTypes = dataTypes;
+    this.valuePageHeaders = valuePageHeaders;
+    this.valuePageBodies = valuePageBodies;
+    this.valueUnCompressors = valueUnCompressors;
+    this.valueDecoders = valueDecoders;
+    this.deleteIntervalLists = deleteIntervalLists;
+    this.timeFilter = timeFilter;
+  }
+
+  /**
+   * @return the rows satisfying the time filter in the order of their times
+   */
+  public List<RowRecord> getAllSatisfiedRows() throws IOException {
+    long[] times = readTimes();
+    boolean[] satisfied = new boolean[times.length];
+    for (int row = 0; row < times.length; row++) {
+      satisfied[row] = timeFilter == null || timeFilter.satisfy(times[row], null);
+    }
+    Field[][] rowFields = new Field[times.length][];
+    for (int column = 0; column < dataTypes.length; column++) {
+      if (valuePageHeaders[column] != null) {
+        readColumn(column, times, satisfied, rowFields);
+      }
+    }
+    List<RowRecord> rows = new ArrayList<>();
+    for (int row = 0; row < times.length; row++) {
+      if (rowFields[row] != null) {
+        rows.add(new RowRecord(times[row], new ArrayList<>(Arrays.asList(rowFields[row]))));
+      }
+    }
+    return rows;
+  }
+
+  private long[] readTimes() throws IOException {
+    long[] times = new long[(int) timePageHeader.getStatistics().getCount()];
+    byte[] timePageData = null;
+    ByteBuffer timeColumn;
+    if (timeUnCompressor.getCodecName() == CompressionType.UNCOMPRESSED) {
+      timeColumn = timePageBody.duplicate();
+    } else {
+      timePageData = PageReader.uncompress(timePageBody, timePageHeader.getUncompressedSize(),
+          timeUnCompressor);
+      timeColumn = ByteBuffer.wrap(timePageData, 0, timePageHeader.getUncompressedSize());
+    }
+    try {
+      timeDecoder.reset();
+      int row = 0;
+      while (row < times.length && timeDecoder.hasNext(timeColumn)) {
+        times[row++] = timeDecoder.readLong(timeColumn);
+      }
+      if (row < times.length) {
+        throw new IOException("The time page has " + row + " rows while its statistics count "
+            + times.length);
+      }
+    } finally {
+      if (timePageData != null) {
+        PageDataBufferPool.release(timePageData);
+      }
+    }
+    return times;
+  }
+
+  /**
+   * decode the value page of a measurement and put its values into the fields of the satisfied
+   * rows that are not deleted
+   */
+  private void readColumn(int column, long[] times, boolean[] satisfied, Field[][] rowFields)
+      throws IOException {
+    PageHeader pageHeader = valuePageHeaders[column];
+    IUnCompressor unCompressor = valueUnCompressors[column];
+    byte[] valuePageData = null;
+    ByteBuffer valueColumn;
+    if (unCompressor.getCodecName() == CompressionType.UNCOMPRESSED) {
+      valueColumn = valuePageBodies[column].duplicate();
+    } else {
+      valuePageData = PageReader.uncompress(valuePageBodies[column],
+          pageHeader.getUncompressedSize(), unCompressor);
+      valueColumn = ByteBuffer.wrap(valuePageData, 0, pageHeader.getUncompressedSize());
+    }
+    try {
+      int rowCount = ReadWriteForEncodingUtils.readUnsignedVarInt(valueColumn);
+      if (rowCount != times.length) {
+        throw new IOException("The value page has " + rowCount + " rows while the time page has "
+            + times.length);
+      }
+      int bitmapOffset = valueColumn.position();
+      valueColumn.position(bitmapOffset + (rowCount + Byte.SIZE - 1) / Byte.SIZE);
+      Decoder valueDecoder = valueDecoders[column];
+      valueDecoder.reset();
+      List<TimeRange> deleteIntervals = deleteIntervalLists.get(column);
+      int deleteCursor = 0;
+      for (int row = 0; row < rowCount; row++) {
+        if ((valueColumn.get(bitmapOffset + (row >>> 3)) & (1 << (row & 7))) == 0) {
+          continue;
+        }
+        // the value is decoded even if the row is not read, as the values are encoded in a stream
+        Field field = readValue(dataTypes[column], valueDecoder, valueColumn);
+        if (!satisfied[row]) {
+          continue;
+        }
+        if (deleteIntervals != null) {
+          while (deleteCursor < deleteIntervals.size()
+              && deleteIntervals.get(deleteCursor).getMax() < times[row]) {
+            deleteCursor++;
+          }
+          if (deleteCursor < deleteIntervals.size()
+              && deleteIntervals.get(deleteCursor).contains(times[row])) {
+            continue;
+          }
+        }
+        if (rowFields[row] == null) {
+          rowFields[row] = new Field[dataTypes.length];
+        }
+        rowFields[row][column] = field;
+      }
+    } finally {
+      if (valuePageData != null) {
+        PageDataBufferPool.release(valuePageData);
+      }
+    }
+  }
+
+  private static Field readValue(TSDataType dataType, Decoder decoder, ByteBuffer valueColumn) {
+    Field field = new Field(dataType);
+    switch (dataType) {
+      case BOOLEAN:
+        field.setBoolV(decoder.readBoolean(valueColumn));
+        break;
+      case INT32:
+        field.setIntV(decoder.readInt(valueColumn));
+        break;
+      case INT64:
+        field.setLongV(decoder.readLong(valueColumn));
+        break;
+      case FLOAT:
+        field.setFloatV(decoder.readFloat(valueColumn));
+        break;
+      case DOUBLE:
+        field.setDoubleV(decoder.readDouble(valueColumn));
+        break;
+      case TEXT:
+        field.setBinaryV(decoder.readBinary(valueColumn));
+        break;
+      default:
+        throw new UnSupportedDataTypeException(String.valueOf(dataType));
+    }
+    return field;
+  }
+}
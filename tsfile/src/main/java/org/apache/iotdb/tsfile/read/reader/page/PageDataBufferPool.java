@@ -0,0 +1,117 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iotdb.tsfile.read.reader.page;
+
+/**
+ * PageDataBufferPool keeps, for each thread, a few reusable arrays to uncompress pages into, so
+ * scanning pages does not allocate an array for every page.
+ * <p>
+ * Arrays are sized in multiples of 4KB, and a thread keeps at most MAX_BUFFERS arrays of
+ * MAX_RETAINED_SIZE bytes in total, preferring the larger ones, so an idle thread holds little
+ * memory and a larger page is uncompressed into an array of about its size.
+ * <p>
+ * A borrowed array belongs to the borrower until it is released, and the pool never hands it out
+ * meanwhile. The data decoded from it must be copied out, as the decoders do, before it is
+ * released.
+ */
+class PageDataBufferPool {
+
+  private static final int SIZE_UNIT = 4 * 1024;
+  // an aligned page borrows one array for its time page and one for its value page
+  static final int MAX_BUFFERS = 2;
+  // larger arrays are not kept
+  static final int MAX_RETAINED_SIZE = 4 * 1024 * 1024;
+
+  private static final ThreadLocal<byte[][]> BUFFERS = ThreadLocal
+      .withInitial(() -> new byte[MAX_BUFFERS][]);
+
+  private PageDataBufferPool() {
+  }
+
+  /**
+   * @return an array whose length is not smaller than size
+   */
+  static byte[] borrow(int size) {
+    byte[][] buffers = BUFFERS.get();
+    int bestFit = -1;
+    for (int i = 0; i < buffers.length; i++) {
+      if (buffers[i] != null && buffers[i].length >= size
+          && (bestFit < 0 || buffers[i].length < buffers[bestFit].length)) {
+        bestFit = i;
+      }
+    }
+    if (bestFit < 0) {
+      return new byte[roundUp(size)];
+    }
+    byte[] buffer = buffers[bestFit];
+    buffers[bestFit] = null;
+    return buffer;
+  }
+
+  /**
+   * give back an array returned by borrow() in the same thread. It replaces the smallest kept
+   * array if the thread keeps MAX_BUFFERS arrays or the total would exceed MAX_RETAINED_SIZE.
+   */
+  static void release(byte[] buffer) {
+    if (buffer.length > MAX_RETAINED_SIZE || buffer.length % SIZE_UNIT != 0) {
+      return;
+    }
+    byte[][] buffers = BUFFERS.get();
+    int smallest = 0;
+    long retainedSize = buffer.length;
+    for (int i = 0; i < buffers.length; i++) {
+      if (buffers[i] == buffer) {
+        return;
+      }
+      if (buffers[i] != null) {
+        retainedSize += buffers[i].length;
+      }
+      if (buffers[i] == null
+          || buffers[smallest] != null && buffers[i].length < buffers[smallest].length) {
+        smallest = i;
+      }
+    }
+    if (buffers[smallest] == null && retainedSize <= MAX_RETAINED_SIZE) {
+      buffers[smallest] = buffer;
+    } else if (buffers[smallest] != null && buffers[smallest].length < buffer.length
+        && retainedSize - buffers[smallest].length <= MAX_RETAINED_SIZE) {
+      buffers[smallest] = buffer;
+    }
+  }
+
+  /**
+   * @return the number of bytes kept by the current thread
+   */
+  static long getRetainedSize() {
+    long retainedSize = 0;
+    for (byte[] buffer : BUFFERS.get()) {
+      if (buffer != null) {
+        retainedSize += buffer.length;
+      }
+    }
+    return retainedSize;
+  }
+
+  private static int roundUp(int size) {
+    if (size > Integer.MAX_VALUE - SIZE_UNIT) {
+      return size;
+    }
+    return Math.max(SIZE_UNIT, (size + SIZE_UNIT - 1) / SIZE_UNIT * SIZE_UNIT);
+  }
+}
@@ -19,15 +19,24 @@
 package org.apache.iotdb.tsfile.read.reader.page;
 
 import java.util.List;
+import org.apache.iotdb.tsfile.compress.IUnCompressor;
 import org.apache.iotdb.tsfile.encoding.decoder.Decoder;
+import org.apache.iotdb.tsfile.encoding.decoder.DictionaryDecoder;
 import org.apache.iotdb.tsfile.exception.write.UnSupportedDataTypeException;
 import org.apache.iotdb.tsfile.file.header.PageHeader;
+import org.apache.iotdb.tsfile.file.header.PageTimeIndex;
 import org.apache.iotdb.tsfile.file.metadata.enums.TSDataType;
 import org.apache.iotdb.tsfile.file.metadata.statistics.Statistics;
 import org.apache.iotdb.tsfile.read.common.BatchData;
 import org.apache.iotdb.tsfile.read.common.TimeRange;
+import org.apache.iotdb.tsfile.read.TimeValuePair;
 import org.apache.iotdb.tsfile.read.reader.IPageReader;
+import org.apache.iotdb.tsfile.read.filter.ValueFilter.ValueIn;
+import org.apache.iotdb.tsfile.read.filter.basic.BinaryFilter;
 import org.apache.iotdb.tsfile.read.filter.basic.Filter;
+import org.apache.iotdb.tsfile.read.filter.basic.UnaryFilter;
+import org.apache.iotdb.tsfile.read.filter.factory.FilterType;
+import org.apache.iotdb.tsfile.read.filter.operator.NotFilter;
 import org.apache.iotdb.tsfile.utils.Binary;
 import org.apache.iotdb.tsfile.utils.ReadWriteForEncodingUtils;
 
@@ -60,6 +69,18 @@ public class PageReader implements IPageReader {
    */
   private ByteBuffer valueBuffer;
 
+  /**
+   * bit i is set if row i of the page has a value, null if every row has a value
+   */
+  private ByteBuffer bitmap;
+
+  /**
+   * the compressed page data that is uncompressed each time the page is read, null if the page
+   * data is given uncompressed
+   */
+  private ByteBuffer compressedPageData;
+  private IUnCompressor unCompressor;
+
   private Filter filter;
 
   /**
@@ -69,6 +90,18 @@ public class PageReader implements IPageReader {
 
   private int deleteCursor = 0;
 
+  /**
+   * The dictionary of a PLAIN_DICTIONARY page that satisfiedCodes is evaluated for, and whether the
+   * filter is satisfied by each of its entries.
+   */
+  private Binary[] evaluatedDictionary;
+  private boolean[] satisfiedCodes;
+
+  /**
+   * construct a reader that decodes the page from its start to its end in one pass, which only
+   * suits pages written without a time index: the encoders of a page with one are flushed at the
+   * start of each segment, so its reader needs the page header to reset the decoders there.
+   */
   public PageReader(ByteBuffer pageData, TSDataType dataType, Decoder valueDecoder,
       Decoder timeDecoder, Filter filter) {
     this(null, pageData, dataType, valueDecoder, timeDecoder, filter);
@@ -84,6 +117,42 @@ public class PageReader implements IPageReader {
     splitDataToTimeStampAndValue(pageData);
   }
 
+  /**
+   * construct a reader that uncompresses the page only when it is read, into an array borrowed
+   * from PageDataBufferPool and given back once the page is decoded, so pages skipped by their
+   * statistics are never uncompressed and reading pages allocates no array for the data.
+   *
+   * @param compressedPageData the compressed page data, which is only read and may be shared
+   */
+  public PageReader(PageHeader pageHeader, ByteBuffer compressedPageData,
+      IUnCompressor unCompressor, TSDataType dataType, Decoder valueDecoder, Decoder timeDecoder,
+      Filter filter) {
+    this(pageHeader, dataType, valueDecoder, timeDecoder, filter);
+    this.compressedPageData = compressedPageData;
+    this.unCompressor = unCompressor;
+  }
+
+  /**
+   * construct a reader whose columns are set by setColumns().
+   */
+  protected PageReader(PageHeader pageHeader, TSDataType dataType, Decoder valueDecoder,
+      Decoder timeDecoder, Filter filter) {
+    this.dataType = dataType;
+    this.valueDecoder = valueDecoder;
+    this.timeDecoder = timeDecoder;
+    this.filter = filter;
+    this.pageHeader = pageHeader;
+  }
+
+  /**
+   * @param bitmap bit i is set if row i has a value in valueBuffer, null if every row has a value
+   */
+  protected void setColumns(ByteBuffer timeBuffer, ByteBuffer valueBuffer, ByteBuffer bitmap) {
+    this.timeBuffer = timeBuffer;
+    this.valueBuffer = valueBuffer;
+    this.bitmap = bitmap;
+  }
+
   /**
    * split pageContent into two stream: time and value
    *
@@ -97,6 +166,8 @@ public class PageReader implements IPageReader {
 
     valueBuffer = pageData.slice();
     valueBuffer.position(timeBufferLength);
+    // the offsets in the time index are relative to the start of the value column
+    valueBuffer = valueBuffer.slice();
   }
 
   /**
@@ -104,11 +175,159 @@ public class PageReader implements IPageReader {
    */
   @Override
   public BatchData getAllSatisfiedPageData() throws IOException {
+    if (compressedPageData == null) {
+      return readAllSatisfiedPageData();
+    }
+    byte[] buffer = uncompressPageData();
+    try {
+      return readAllSatisfiedPageData();
+    } finally {
+      releasePageData(buffer);
+    }
+  }
+
+  @Override
+  public TimeValuePair getLastPairBeforeOrEqualTimestamp(long queryTime) throws IOException {
+    if (compressedPageData == null) {
+      return readLastPairBeforeOrEqualTimestamp(queryTime);
+    }
+    byte[] buffer = uncompressPageData();
+    try {
+      return readLastPairBeforeOrEqualTimestamp(queryTime);
+    } finally {
+      releasePageData(buffer);
+    }
+  }
+
+  /**
+   * uncompress the page data into a borrowed array and split it into the columns
+   *
+   * @return the borrowed array
+   */
+  private byte[] uncompressPageData() throws IOException {
+    int uncompressedSize = pageHeader.getUncompressedSize();
+    byte[] buffer = uncompress(compressedPageData, uncompressedSize, unCompressor);
+    splitDataToTimeStampAndValue(ByteBuffer.wrap(buffer, 0, uncompressedSize));
+    return buffer;
+  }
+
+  /**
+   * uncompress the data into an array borrowed from PageDataBufferPool, which the caller gives
+   * back
+   *
+   * @param compressedData only read
+   */
+  static byte[] uncompress(ByteBuffer compressedData, int uncompressedSize,
+      IUnCompressor unCompressor) throws IOException {
+    byte[] buffer = PageDataBufferPool.borrow(uncompressedSize);
+    try {
+      if (compressedData.hasArray()) {
+        unCompressor.uncompress(compressedData.array(),
+            compressedData.arrayOffset() + compressedData.position(),
+            compressedData.remaining(), buffer, 0);
+      } else {
+        byte[] compressed = new byte[compressedData.remaining()];
+        compressedData.duplicate().get(compressed);
+        unCompressor.uncompress(compressed, 0, compressed.length, buffer, 0);
+      }
+    } catch (IOException | RuntimeException e) {
+      PageDataBufferPool.release(buffer);
+      throw e;
+    }
+    return buffer;
+  }
+
+  private void releasePageData(byte[] buffer) {
+    timeBuffer = null;
+    valueBuffer = null;
+    PageDataBufferPool.release(buffer);
+  }
+
+  private BatchData readAllSatisfiedPageData() throws IOException {
 
     BatchData pageData = new BatchData(dataType);
 
+    PageTimeIndex timeIndex = pageHeader == null ? null : pageHeader.getTimeIndex();
+    if (timeIndex == null) {
+      decode(timeBuffer, valueBuffer, pageData);
+      return pageData;
+    }
+    for (int i = 0; i < timeIndex.size(); i++) {
+      if (satisfySegment(timeIndex, i)) {
+        decodeSegment(timeIndex, i, pageData);
+      }
+    }
+    return pageData;
+  }
+
+  /**
+   * Find the segment of the time index that the timestamp falls in, and decode the segments
+   * backwards from it until a point not after the timestamp is found, instead of decoding the page
+   * from its start.
+   */
+  private TimeValuePair readLastPairBeforeOrEqualTimestamp(long queryTime) throws IOException {
+    PageTimeIndex timeIndex = pageHeader == null ? null : pageHeader.getTimeIndex();
+    if (timeIndex == null) {
+      return readAllSatisfiedPageData().getLastPairBeforeOrEqualTimestamp(queryTime);
+    }
+    for (int i = timeIndex.findSegment(queryTime); i >= 0; i--) {
+      if (!satisfySegment(timeIndex, i)) {
+        continue;
+      }
+      BatchData segmentData = new BatchData(dataType);
+      deleteCursor = 0;
+      decodeSegment(timeIndex, i, segmentData);
+      TimeValuePair pair = segmentData.getLastPairBeforeOrEqualTimestamp(queryTime);
+      if (pair.getValue() != null) {
+        return pair;
+      }
+    }
+    return new TimeValuePair(Long.MIN_VALUE, null);
+  }
+
+  /**
+   * @return whether some points of the segment may satisfy the filter
+   */
+  private boolean satisfySegment(PageTimeIndex timeIndex, int segment) {
+    if (filter == null) {
+      return true;
+    }
+    long endTime = segment + 1 < timeIndex.size() ? timeIndex.getStartTime(segment + 1) - 1
+        : pageHeader.getEndTime();
+    return filter.satisfyStartEndTime(timeIndex.getStartTime(segment), endTime);
+  }
+
+  /**
+   * decode the points of a segment of the time index, whose encoders were flushed at its start.
+   */
+  private void decodeSegment(PageTimeIndex timeIndex, int segment, BatchData pageData)
+      throws IOException {
+    ByteBuffer times = timeBuffer.duplicate();
+    ByteBuffer values = valueBuffer.duplicate();
+    if (segment + 1 < timeIndex.size()) {
+      times.limit(timeIndex.getTimeOffset(segment + 1));
+      values.limit(timeIndex.getValueOffset(segment + 1));
+    }
+    times.position(timeIndex.getTimeOffset(segment));
+    values.position(timeIndex.getValueOffset(segment));
+    timeDecoder.reset();
+    valueDecoder.reset();
+    decode(times, values, pageData);
+  }
+
+  /**
+   * decode the points of the time and value columns and put those satisfying the filter
+   */
+  private void decode(ByteBuffer timeBuffer, ByteBuffer valueBuffer, BatchData pageData)
+      throws IOException {
+    int row = 0;
     while (timeDecoder.hasNext(timeBuffer)) {
       long timestamp = timeDecoder.readLong(timeBuffer);
+      if (bitmap != null && (bitmap.get(row >>> 3) & (1 << (row & 7))) == 0) {
+        row++;
+        continue;
+      }
+      row++;
       switch (dataType) {
         case BOOLEAN:
           boolean aBoolean = valueDecoder.readBoolean(valueBuffer);
@@ -141,6 +360,11 @@ public class PageReader implements IPageReader {
           }
           break;
         case TEXT:
+          if (valueDecoder instanceof DictionaryDecoder
+              && ((DictionaryDecoder) valueDecoder).getDictionary(valueBuffer) != null) {
+            putDictionaryEncodedBinary(timestamp, valueBuffer, pageData);
+            break;
+          }
           Binary aBinary = valueDecoder.readBinary(valueBuffer);
           if (!isDeleted(timestamp) && (filter == null || filter.satisfy(timestamp, aBinary))) {
             pageData.putBinary(timestamp, aBinary);
@@ -150,7 +374,56 @@ public class PageReader implements IPageReader {
           throw new UnSupportedDataTypeException(String.valueOf(dataType));
       }
     }
-    return pageData;
+  }
+
+  /**
+   * Read the code of the next value and put the value if it satisfies the filter. When the filter
+   * only involves values, it is evaluated once per entry of the dictionary and looked up by code.
+   */
+  private void putDictionaryEncodedBinary(long timestamp, ByteBuffer valueBuffer,
+      BatchData pageData) {
+    DictionaryDecoder decoder = (DictionaryDecoder) valueDecoder;
+    Binary[] dictionary = decoder.getDictionary(valueBuffer);
+    if (dictionary != evaluatedDictionary) {
+      evaluatedDictionary = dictionary;
+      satisfiedCodes = evaluateDictionary(dictionary);
+    }
+    int code = decoder.readCode(valueBuffer);
+    if (isDeleted(timestamp)) {
+      return;
+    }
+    if (filter == null
+        || (satisfiedCodes != null ? satisfiedCodes[code]
+        : filter.satisfy(timestamp, dictionary[code]))) {
+      pageData.putBinary(timestamp, dictionary[code]);
+    }
+  }
+
+  /**
+   * @return whether each entry of the dictionary satisfies the filter, or null if the filter is
+   * null or involves times
+   */
+  private boolean[] evaluateDictionary(Binary[] dictionary) {
+    if (filter == null || !isValueFilter(filter)) {
+      return null;
+    }
+    boolean[] satisfied = new boolean[dictionary.length];
+    for (int i = 0; i < dictionary.length; i++) {
+      satisfied[i] = filter.satisfy(0, dictionary[i]);
+    }
+    return satisfied;
+  }
+
+  private static boolean isValueFilter(Filter filter) {
+    if (filter instanceof BinaryFilter) {
+      return isValueFilter(((BinaryFilter) filter).getLeft())
+          && isValueFilter(((BinaryFilter) filter).getRight());
+    } else if (filter instanceof NotFilter) {
+      return isValueFilter(((NotFilter) filter).getFilter());
+    } else if (filter instanceof UnaryFilter) {
+      return ((UnaryFilter<?>) filter).getFilterType() == FilterType.VALUE_FILTER;
+    }
+    return filter instanceof ValueIn;
   }
 
   @Override
@@ -158,9 +431,15 @@ public class PageReader implements IPageReader {
     return pageHeader.getStatistics();
   }
 
+  @Override
+  public List<Statistics> getSubStatistics() {
+    return pageHeader.getSubStatistics();
+  }
+
   @Override
   public void setFilter(Filter filter) {
     this.filter = filter;
+    this.evaluatedDictionary = null;
   }
 
   public void setDeleteIntervalList(List<TimeRange> list) {
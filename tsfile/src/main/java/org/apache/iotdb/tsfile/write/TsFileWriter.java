@@ -38,6 +38,7 @@ import org.slf4j.LoggerFactory;
 import java.io.File;
 import java.io.IOException;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -168,6 +169,23 @@ public class TsFileWriter implements AutoCloseable {
     schema.registerTimeseries(path, measurementSchema);
   }
 
+  /**
+   * register the measurements of a device whose rows share one time column. A row written to the
+   * device has no value of the measurements not in it.
+   * <p>
+   * A query of the measurements of only this device without value filters reads the rows from the
+   * shared time column with AlignedDataSet. Other queries read the measurements as separate series,
+   * each decoding the shared time column itself, and join the rows by their timestamps.
+   */
+  public void registerAlignedTimeseries(String deviceId, List<MeasurementSchema> measurementSchemas)
+      throws WriteProcessException {
+    for (MeasurementSchema measurementSchema : measurementSchemas) {
+      registerTimeseries(new Path(deviceId, measurementSchema.getMeasurementId()),
+          measurementSchema);
+    }
+    schema.registerAlignedDevice(deviceId);
+  }
+
   /**
    * Confirm whether the record is legal. If legal, add it into this RecordWriter.
    *
@@ -178,7 +196,8 @@ public class TsFileWriter implements AutoCloseable {
   private boolean checkIsTimeSeriesExist(TSRecord record) throws WriteProcessException {
     IChunkGroupWriter groupWriter;
     if (!groupWriters.containsKey(record.deviceId)) {
-      groupWriter = new ChunkGroupWriterImpl(record.deviceId);
+      groupWriter = new ChunkGroupWriterImpl(record.deviceId,
+          schema.isAlignedDevice(record.deviceId));
       groupWriters.put(record.deviceId, groupWriter);
     } else {
       groupWriter = groupWriters.get(record.deviceId);
@@ -215,7 +234,8 @@ public class TsFileWriter implements AutoCloseable {
   private void checkIsTimeSeriesExist(Tablet tablet) throws WriteProcessException {
     IChunkGroupWriter groupWriter;
     if (!groupWriters.containsKey(tablet.deviceId)) {
-      groupWriter = new ChunkGroupWriterImpl(tablet.deviceId);
+      groupWriter = new ChunkGroupWriterImpl(tablet.deviceId,
+          schema.isAlignedDevice(tablet.deviceId));
       groupWriters.put(tablet.deviceId, groupWriter);
     } else {
       groupWriter = groupWriters.get(tablet.deviceId);
@@ -0,0 +1,387 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iotdb.tsfile.write.chunk;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.apache.iotdb.tsfile.common.conf.TSFileDescriptor;
+import org.apache.iotdb.tsfile.encoding.encoder.EncodingSelector;
+import org.apache.iotdb.tsfile.exception.write.NoMeasurementException;
+import org.apache.iotdb.tsfile.exception.write.UnSupportedDataTypeException;
+import org.apache.iotdb.tsfile.exception.write.WriteProcessException;
+import org.apache.iotdb.tsfile.file.MetaMarker;
+import org.apache.iotdb.tsfile.file.header.ChunkHeader;
+import org.apache.iotdb.tsfile.file.metadata.enums.TSDataType;
+import org.apache.iotdb.tsfile.file.metadata.enums.TSEncoding;
+import org.apache.iotdb.tsfile.file.metadata.statistics.Statistics;
+import org.apache.iotdb.tsfile.utils.Binary;
+import org.apache.iotdb.tsfile.utils.PublicBAOS;
+import org.apache.iotdb.tsfile.write.page.TimePageWriter;
+import org.apache.iotdb.tsfile.write.page.ValuePageWriter;
+import org.apache.iotdb.tsfile.write.record.Tablet;
+import org.apache.iotdb.tsfile.write.record.datapoint.DataPoint;
+import org.apache.iotdb.tsfile.write.schema.MeasurementSchema;
+import org.apache.iotdb.tsfile.write.writer.TsFileIOWriter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * AlignedChunkWriterImpl writes the measurements of an aligned device, whose rows share one time
+ * column. The times are written once into a time chunk, and each measurement is written into a
+ * value chunk whose pages hold a null bitmap and the values of the rows of the time page of the same
+ * index. The time chunk is flushed before the value chunks, which refer to it by its offset.
+ */
+public class AlignedChunkWriterImpl {
+
+  private static final Logger logger = LoggerFactory.getLogger(AlignedChunkWriterImpl.class);
+
+  // initial value for valueCountInOnePageForNextCheck
+  private static final int MINIMUM_RECORD_COUNT_FOR_CHECK = 1500;
+
+  private final MeasurementSchema timeSchema;
+
+  /**
+   * all pages of the time chunk.
+   */
+  private PublicBAOS timePageBuffer = new PublicBAOS();
+
+  private int numOfPages;
+
+  private TimePageWriter timePageWriter;
+
+  /**
+   * the row number of each page in timePageBuffer, so that a measurement added later can be padded
+   * with pages of nulls.
+   */
+  private List<Integer> pageRowCounts = new ArrayList<>();
+
+  /**
+   * Map(measurementID, ValueChunkWriter), in the order they are added.
+   */
+  private Map<String, ValueChunkWriter> valueChunkWriters = new LinkedHashMap<>();
+
+  /**
+   * page size threshold.
+   */
+  private final long pageSizeThreshold;
+
+  private final int maxNumberOfPointsInPage;
+
+  /**
+   * row count in current page for the next memory check.
+   */
+  private int valueCountInOnePageForNextCheck = MINIMUM_RECORD_COUNT_FOR_CHECK;
+
+  public AlignedChunkWriterImpl() {
+    this.timeSchema = new MeasurementSchema("", TSDataType.INT64,
+        TSEncoding.valueOf(TSFileDescriptor.getInstance().getConfig().getTimeEncoder()));
+    this.timePageWriter = new TimePageWriter(timeSchema);
+    this.pageSizeThreshold = TSFileDescriptor.getInstance().getConfig().getPageSizeInByte();
+    this.maxNumberOfPointsInPage = TSFileDescriptor.getInstance().getConfig()
+        .getMaxNumberOfPointsInPage();
+  }
+
+  /**
+   * add a measurement, the rows written before have no value of it.
+   */
+  public void tryToAddValueChunkWriter(MeasurementSchema schema) {
+    if (valueChunkWriters.containsKey(schema.getMeasurementId())) {
+      return;
+    }
+    ValueChunkWriter valueChunkWriter = new ValueChunkWriter(schema);
+    valueChunkWriter.paddingPageRowCounts.addAll(pageRowCounts);
+    for (long i = 0; i < timePageWriter.getPointNumber(); i++) {
+      valueChunkWriter.pageWriter.writeNull();
+    }
+    valueChunkWriters.put(schema.getMeasurementId(), valueChunkWriter);
+  }
+
+  /**
+   * write a row, the measurements not in the data have no value in the row.
+   */
+  public void write(long time, List<DataPoint> data) throws WriteProcessException, IOException {
+    // check all measurements before writing, so that no partial row is written
+    ValueChunkWriter[] writers = new ValueChunkWriter[data.size()];
+    for (int i = 0; i < data.size(); i++) {
+      String measurementId = data.get(i).getMeasurementId();
+      writers[i] = valueChunkWriters.get(measurementId);
+      if (writers[i] == null) {
+        throw new NoMeasurementException(
+            "time " + time + ", measurement id " + measurementId + " not found!");
+      }
+    }
+    int rowIndex = (int) timePageWriter.getPointNumber();
+    for (int i = 0; i < data.size(); i++) {
+      if (writers[i].pageWriter.getRowCount() > rowIndex) {
+        // the measurement appears more than once in the row, only the first value is kept
+        continue;
+      }
+      writeValue(time, data.get(i).getType(), data.get(i).getValue(), writers[i]);
+    }
+    endRow(time, rowIndex);
+  }
+
+  /**
+   * write the rows of a tablet, the measurements not in the tablet have no value in the rows.
+   */
+  public void write(Tablet tablet) throws WriteProcessException, IOException {
+    List<MeasurementSchema> schemas = tablet.getSchemas();
+    ValueChunkWriter[] writers = new ValueChunkWriter[schemas.size()];
+    for (int i = 0; i < schemas.size(); i++) {
+      writers[i] = valueChunkWriters.get(schemas.get(i).getMeasurementId());
+      if (writers[i] == null) {
+        throw new NoMeasurementException(
+            "measurement id" + schemas.get(i).getMeasurementId() + " not found!");
+      }
+    }
+    for (int row = 0; row < tablet.rowSize; row++) {
+      long time = tablet.timestamps[row];
+      int rowIndex = (int) timePageWriter.getPointNumber();
+      for (int i = 0; i < writers.length; i++) {
+        writeValue(time, schemas.get(i).getType(), getTabletValue(tablet, i, row), writers[i]);
+      }
+      endRow(time, rowIndex);
+    }
+  }
+
+  private static Object getTabletValue(Tablet tablet, int column, int row) {
+    switch (tablet.getSchemas().get(column).getType()) {
+      case INT32:
+        return ((int[]) tablet.values[column])[row];
+      case INT64:
+        return ((long[]) tablet.values[column])[row];
+      case FLOAT:
+        return ((float[]) tablet.values[column])[row];
+      case DOUBLE:
+        return ((double[]) tablet.values[column])[row];
+      case BOOLEAN:
+        return ((boolean[]) tablet.values[column])[row];
+      case TEXT:
+        return ((Binary[]) tablet.values[column])[row];
+      default:
+        throw new UnSupportedDataTypeException(
+            String.format("Data type %s is not supported.", tablet.getSchemas().get(column)
+                .getType()));
+    }
+  }
+
+  private static void writeValue(long time, TSDataType dataType, Object value,
+      ValueChunkWriter valueChunkWriter) {
+    ValuePageWriter pageWriter = valueChunkWriter.pageWriter;
+    switch (dataType) {
+      case INT32:
+        pageWriter.write(time, (int) value);
+        break;
+      case INT64:
+        pageWriter.write(time, (long) value);
+        break;
+      case FLOAT:
+        pageWriter.write(time, (float) value);
+        break;
+      case DOUBLE:
+        pageWriter.write(time, (double) value);
+        break;
+      case BOOLEAN:
+        pageWriter.write(time, (boolean) value);
+        break;
+      case TEXT:
+        pageWriter.write(time, (Binary) value);
+        break;
+      default:
+        throw new UnSupportedDataTypeException(
+            String.format("Data type %s is not supported.", dataType));
+    }
+  }
+
+  /**
+   * write the time of the row and a null for each measurement that has no value in it.
+   */
+  private void endRow(long time, int rowIndex) throws IOException {
+    timePageWriter.write(time);
+    for (ValueChunkWriter valueChunkWriter : valueChunkWriters.values()) {
+      if (valueChunkWriter.pageWriter.getRowCount() == rowIndex) {
+        valueChunkWriter.pageWriter.writeNull();
+      }
+    }
+    checkPageSizeAndMayOpenANewPage();
+  }
+
+  /**
+   * check occupied memory size, if the time page or any value page exceeds the PageSize
+   * threshold, seal the pages of all columns so that they stay aligned.
+   */
+  private void checkPageSizeAndMayOpenANewPage() throws IOException {
+    long pointNumber = timePageWriter.getPointNumber();
+    if (pointNumber == maxNumberOfPointsInPage) {
+      logger.debug("current line count reaches the upper bound, write aligned pages");
+      sealCurrentPage();
+    } else if (pointNumber >= valueCountInOnePageForNextCheck) {
+      // not checking the memory used for every row
+      long currentPageSize = timePageWriter.estimateMaxMemSize();
+      for (ValueChunkWriter valueChunkWriter : valueChunkWriters.values()) {
+        currentPageSize = Math
+            .max(currentPageSize, valueChunkWriter.pageWriter.estimateMaxMemSize());
+      }
+      if (currentPageSize > pageSizeThreshold) {
+        logger.debug("enough size, write aligned pages, pageSizeThreshold:{}, currentPateSize:{},"
+            + " valueCountInOnePage:{}", pageSizeThreshold, currentPageSize, pointNumber);
+        sealCurrentPage();
+        valueCountInOnePageForNextCheck = MINIMUM_RECORD_COUNT_FOR_CHECK;
+      } else {
+        // reset the valueCountInOnePageForNextCheck for the next page
+        valueCountInOnePageForNextCheck = (int) (((float) pageSizeThreshold / currentPageSize)
+            * pointNumber);
+      }
+    }
+  }
+
+  /**
+   * seal the current pages of all columns.
+   */
+  public void sealCurrentPage() throws IOException {
+    int rowCount = (int) timePageWriter.getPointNumber();
+    if (rowCount == 0) {
+      return;
+    }
+    try {
+      timePageWriter.writePageHeaderAndDataIntoBuff(timePageBuffer);
+      numOfPages++;
+      pageRowCounts.add(rowCount);
+    } finally {
+      timePageWriter.reset();
+    }
+    for (ValueChunkWriter valueChunkWriter : valueChunkWriters.values()) {
+      valueChunkWriter.sealCurrentPage();
+    }
+  }
+
+  /**
+   * write the time chunk and then the value chunks having values.
+   */
+  public void writeToFileWriter(TsFileIOWriter tsfileWriter) throws IOException {
+    sealCurrentPage();
+    if (numOfPages > 0) {
+      long timeChunkOffset = tsfileWriter
+          .writeTimeChunk(timeSchema.getCompressor(), timeSchema.getEncodingType(),
+              timePageBuffer, numOfPages);
+      for (ValueChunkWriter valueChunkWriter : valueChunkWriters.values()) {
+        valueChunkWriter.writeToFileWriter(tsfileWriter, timeChunkOffset);
+      }
+    }
+
+    // reinit this chunk writer
+    timePageBuffer.reset();
+    numOfPages = 0;
+    pageRowCounts.clear();
+  }
+
+  public long estimateMaxMemSize() {
+    long size = timePageWriter.estimateMaxMemSize() + timePageBuffer.size();
+    for (ValueChunkWriter valueChunkWriter : valueChunkWriters.values()) {
+      size += valueChunkWriter.pageWriter.estimateMaxMemSize() + valueChunkWriter.pageBuffer.size()
+          + valueChunkWriter.pageWriter.getStatistics().getSerializedSize();
+    }
+    return size;
+  }
+
+  /**
+   * @return the serialized size of the time chunk and the value chunks having values
+   */
+  public long getCurrentChunkSize() {
+    if (timePageBuffer.size() == 0) {
+      return 0;
+    }
+    long size = ChunkHeader.getSerializedSize("", MetaMarker.TIME_CHUNK_HEADER)
+        + (long) timePageBuffer.size();
+    for (ValueChunkWriter valueChunkWriter : valueChunkWriters.values()) {
+      if (valueChunkWriter.statistics.getCount() > 0) {
+        size += ChunkHeader.getSerializedSize(valueChunkWriter.schema.getMeasurementId(),
+            MetaMarker.VALUE_CHUNK_HEADER) + (long) valueChunkWriter.pageBuffer.size();
+      }
+    }
+    return size;
+  }
+
+  public int getSeriesNumber() {
+    return valueChunkWriters.size();
+  }
+
+  /**
+   * the pages and the statistics of the value chunk of a measurement.
+   */
+  private static class ValueChunkWriter {
+
+    private final MeasurementSchema schema;
+    private final ValuePageWriter pageWriter;
+    private final PublicBAOS pageBuffer = new PublicBAOS();
+    private int numOfPages;
+    private Statistics<?> statistics;
+    // the row number of each sealed time page written before this measurement is added
+    private List<Integer> paddingPageRowCounts = new ArrayList<>();
+
+    private ValueChunkWriter(MeasurementSchema schema) {
+      this.schema = EncodingSelector.resolveAuto(schema);
+      this.pageWriter = new ValuePageWriter(this.schema);
+      this.statistics = Statistics.getStatsByType(schema.getType());
+    }
+
+    private void sealCurrentPage() throws IOException {
+      if (!paddingPageRowCounts.isEmpty()) {
+        // the pages of nulls precede the current page
+        ValuePageWriter nullPageWriter = new ValuePageWriter(schema);
+        for (int pageRowCount : paddingPageRowCounts) {
+          for (int i = 0; i < pageRowCount; i++) {
+            nullPageWriter.writeNull();
+          }
+          nullPageWriter.writePageHeaderAndDataIntoBuff(pageBuffer);
+          nullPageWriter.reset(schema);
+          numOfPages++;
+        }
+        paddingPageRowCounts.clear();
+      }
+      try {
+        pageWriter.writePageHeaderAndDataIntoBuff(pageBuffer);
+        numOfPages++;
+        // a page without values has empty statistics
+        if (pageWriter.getStatistics().getCount() > 0) {
+          statistics.mergeStatistics(pageWriter.getStatistics());
+        }
+      } finally {
+        pageWriter.reset(schema);
+      }
+    }
+
+    private void writeToFileWriter(TsFileIOWriter writer, long timeChunkOffset)
+        throws IOException {
+      if (statistics.getCount() > 0) {
+        writer.startFlushValueChunk(schema, schema.getCompressor(), schema.getType(),
+            schema.getEncodingType(), statistics, pageBuffer.size(), numOfPages, timeChunkOffset);
+        writer.writeBytesToStream(pageBuffer);
+        writer.endCurrentChunk();
+      }
+      pageBuffer.reset();
+      numOfPages = 0;
+      paddingPageRowCounts.clear();
+      statistics = Statistics.getStatsByType(schema.getType());
+    }
+  }
+}
@@ -49,13 +49,30 @@ public class ChunkGroupWriterImpl implements IChunkGroupWriter {
    */
   private Map<String, IChunkWriter> chunkWriters = new HashMap<>();
 
+  /**
+   * the writer of all measurements of an aligned device, null if the device is not aligned.
+   */
+  private AlignedChunkWriterImpl alignedChunkWriter;
+
   public ChunkGroupWriterImpl(String deviceId) {
+    this(deviceId, false);
+  }
+
+  /**
+   * @param aligned whether the measurements of the device share one time column
+   */
+  public ChunkGroupWriterImpl(String deviceId, boolean aligned) {
     this.deviceId = deviceId;
+    if (aligned) {
+      this.alignedChunkWriter = new AlignedChunkWriterImpl();
+    }
   }
 
   @Override
   public void tryToAddSeriesWriter(MeasurementSchema schema, int pageSizeThreshold) {
-    if (!chunkWriters.containsKey(schema.getMeasurementId())) {
+    if (alignedChunkWriter != null) {
+      alignedChunkWriter.tryToAddValueChunkWriter(schema);
+    } else if (!chunkWriters.containsKey(schema.getMeasurementId())) {
       IChunkWriter seriesWriter = new ChunkWriterImpl(schema);
       this.chunkWriters.put(schema.getMeasurementId(), seriesWriter);
     }
@@ -63,6 +80,10 @@ public class ChunkGroupWriterImpl implements IChunkGroupWriter {
 
   @Override
   public void write(long time, List<DataPoint> data) throws WriteProcessException, IOException {
+    if (alignedChunkWriter != null) {
+      alignedChunkWriter.write(time, data);
+      return;
+    }
     for (DataPoint point : data) {
       String measurementId = point.getMeasurementId();
       if (!chunkWriters.containsKey(measurementId)) {
@@ -76,6 +97,10 @@ public class ChunkGroupWriterImpl implements IChunkGroupWriter {
 
   @Override
   public void write(Tablet tablet) throws WriteProcessException, IOException {
+    if (alignedChunkWriter != null) {
+      alignedChunkWriter.write(tablet);
+      return;
+    }
     List<MeasurementSchema> timeseries = tablet.getSchemas();
     for (int i = 0; i < timeseries.size(); i++) {
       String measurementId = timeseries.get(i).getMeasurementId();
@@ -122,6 +147,9 @@ public class ChunkGroupWriterImpl implements IChunkGroupWriter {
     // groupWriter.getCurrentChunkGroupSize().
     sealAllChunks();
     long currentChunkGroupSize = getCurrentChunkGroupSize();
+    if (alignedChunkWriter != null) {
+      alignedChunkWriter.writeToFileWriter(fileWriter);
+    }
     for (IChunkWriter seriesWriter : chunkWriters.values()) {
       seriesWriter.writeToFileWriter(fileWriter);
     }
@@ -130,7 +158,7 @@ public class ChunkGroupWriterImpl implements IChunkGroupWriter {
 
   @Override
   public long updateMaxGroupMemSize() {
-    long bufferSize = 0;
+    long bufferSize = alignedChunkWriter == null ? 0 : alignedChunkWriter.estimateMaxMemSize();
     for (IChunkWriter seriesWriter : chunkWriters.values()) {
       bufferSize += seriesWriter.estimateMaxSeriesMemSize();
     }
@@ -139,7 +167,7 @@ public class ChunkGroupWriterImpl implements IChunkGroupWriter {
 
   @Override
   public long getCurrentChunkGroupSize() {
-    long size = 0;
+    long size = alignedChunkWriter == null ? 0 : alignedChunkWriter.getCurrentChunkSize();
     for (IChunkWriter writer : chunkWriters.values()) {
       size += writer.getCurrentChunkSize();
     }
@@ -149,7 +177,10 @@ public class ChunkGroupWriterImpl implements IChunkGroupWriter {
   /**
    * seal all the chunks which may has un-sealed pages in force.
    */
-  private void sealAllChunks() {
+  private void sealAllChunks() throws IOException {
+    if (alignedChunkWriter != null) {
+      alignedChunkWriter.sealCurrentPage();
+    }
     for (IChunkWriter writer : chunkWriters.values()) {
       writer.sealCurrentPage();
     }
@@ -157,6 +188,7 @@ public class ChunkGroupWriterImpl implements IChunkGroupWriter {
 
   @Override
   public int getSeriesNumber() {
-    return chunkWriters.size();
+    return alignedChunkWriter == null ? chunkWriters.size()
+        : alignedChunkWriter.getSeriesNumber();
   }
 }
@@ -23,8 +23,10 @@ import java.nio.ByteBuffer;
 import java.nio.channels.Channels;
 import java.nio.channels.WritableByteChannel;
 import org.apache.iotdb.tsfile.common.conf.TSFileDescriptor;
+import org.apache.iotdb.tsfile.encoding.encoder.EncodingSelector;
 import org.apache.iotdb.tsfile.compress.ICompressor;
 import org.apache.iotdb.tsfile.exception.write.PageException;
+import org.apache.iotdb.tsfile.file.MetaMarker;
 import org.apache.iotdb.tsfile.file.header.ChunkHeader;
 import org.apache.iotdb.tsfile.file.header.PageHeader;
 import org.apache.iotdb.tsfile.file.metadata.enums.TSDataType;
@@ -81,8 +83,9 @@ public class ChunkWriterImpl implements IChunkWriter {
    * @param schema schema of this measurement
    */
   public ChunkWriterImpl(MeasurementSchema schema) {
-    this.measurementSchema = schema;
-    this.compressor = ICompressor.getCompressor(schema.getCompressor());
+    this.measurementSchema = EncodingSelector.resolveAuto(schema);
+    this.compressor = ICompressor
+        .getCompressor(measurementSchema.getCompressor(), measurementSchema.getCompressionLevel());
     this.pageBuffer = new PublicBAOS();
 
     this.pageSizeThreshold = TSFileDescriptor.getInstance().getConfig().getPageSizeInByte();
@@ -255,6 +258,18 @@ public class ChunkWriterImpl implements IChunkWriter {
     return measurementSchema.getType();
   }
 
+  /**
+   * @return whether the pages of a chunk can be copied into this writer by
+   * writePageHeaderAndDataIntoBuff() without being decoded, i.e., the chunk does not belong to an
+   * aligned device and is encoded and compressed in the same way as this writer does.
+   */
+  public boolean canCopyPagesOf(ChunkHeader chunkHeader) {
+    return chunkHeader.getChunkType() == MetaMarker.CHUNK_HEADER
+        && chunkHeader.getDataType() == measurementSchema.getType()
+        && chunkHeader.getEncodingType() == measurementSchema.getEncodingType()
+        && chunkHeader.getCompressionType() == measurementSchema.getCompressor();
+  }
+
   /**
    * write the page header and data into the PageWriter's output stream.
    *
@@ -328,7 +343,8 @@ public class ChunkWriterImpl implements IChunkWriter {
     // return the sum of size of buffer and page max size
     return (long) (pageBuffer.size() +
         PageHeader.calculatePageHeaderSizeWithoutStatistics() +
-        pageWriter.getStatistics().getSerializedSize());
+        pageWriter.getStatistics().getSerializedSize() +
+        pageWriter.getSubStatisticsSerializedSize());
   }
 
 
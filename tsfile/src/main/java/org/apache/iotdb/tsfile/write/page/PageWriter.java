@@ -22,13 +22,18 @@ import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.nio.channels.Channels;
 import java.nio.channels.WritableByteChannel;
+import java.util.ArrayList;
+import java.util.List;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import org.apache.iotdb.tsfile.common.conf.TSFileDescriptor;
 import org.apache.iotdb.tsfile.compress.ICompressor;
 import org.apache.iotdb.tsfile.encoding.encoder.Encoder;
+import org.apache.iotdb.tsfile.exception.encoding.TsFileEncodingException;
 import org.apache.iotdb.tsfile.file.header.PageHeader;
+import org.apache.iotdb.tsfile.file.header.PageTimeIndex;
 import org.apache.iotdb.tsfile.file.metadata.enums.CompressionType;
 import org.apache.iotdb.tsfile.file.metadata.enums.TSDataType;
 import org.apache.iotdb.tsfile.file.metadata.statistics.Statistics;
@@ -60,6 +65,29 @@ public class PageWriter {
    */
   private Statistics<?> statistics;
 
+  /**
+   * the time interval that sub-page statistics are aligned to, 0 if they are not written
+   */
+  private final long subStatisticsInterval;
+
+  /**
+   * statistics of the points within each aligned time interval of current page, in time order. It
+   * will be reset after calling {@code writePageHeaderAndDataIntoBuff()}
+   */
+  private List<Statistics> subStatistics = new ArrayList<>();
+
+  /**
+   * the number of points in each segment of the time index, 0 if the time index is not written
+   */
+  private final int timeIndexInterval;
+
+  /**
+   * time index of current page and the number of points written into it. They will be reset after
+   * calling {@code writePageHeaderAndDataIntoBuff()}
+   */
+  private PageTimeIndex timeIndex;
+  private int timeIndexPointNum = 0;
+
   public PageWriter() {
     this(null, null);
   }
@@ -67,7 +95,8 @@ public class PageWriter {
   public PageWriter(MeasurementSchema measurementSchema) {
     this(measurementSchema.getTimeEncoder(), measurementSchema.getValueEncoder());
     this.statistics = Statistics.getStatsByType(measurementSchema.getType());
-    this.compressor = ICompressor.getCompressor(measurementSchema.getCompressor());
+    this.compressor = ICompressor.getCompressor(measurementSchema.getCompressor(),
+        measurementSchema.getCompressionLevel());
   }
 
   private PageWriter(Encoder timeEncoder, Encoder valueEncoder) {
@@ -75,69 +104,101 @@ public class PageWriter {
     this.valueOut = new PublicBAOS();
     this.timeEncoder = timeEncoder;
     this.valueEncoder = valueEncoder;
+    this.subStatisticsInterval = TSFileDescriptor.getInstance().getConfig()
+        .getSubPageStatisticsInterval();
+    this.timeIndexInterval = TSFileDescriptor.getInstance().getConfig().getPageTimeIndexInterval();
+    this.timeIndex = timeIndexInterval > 0 ? new PageTimeIndex(timeIndexInterval) : null;
   }
 
   /**
    * write a time value pair into encoder
    */
   public void write(long time, boolean value) {
+    Statistics subPageStatistics = prepareWrite(time);
     timeEncoder.encode(time, timeOut);
     valueEncoder.encode(value, valueOut);
     statistics.update(time, value);
+    if (subPageStatistics != null) {
+      subPageStatistics.update(time, value);
+    }
   }
 
   /**
    * write a time value pair into encoder
    */
   public void write(long time, short value) {
+    Statistics subPageStatistics = prepareWrite(time);
     timeEncoder.encode(time, timeOut);
     valueEncoder.encode(value, valueOut);
     statistics.update(time, value);
+    if (subPageStatistics != null) {
+      subPageStatistics.update(time, value);
+    }
   }
 
   /**
    * write a time value pair into encoder
    */
   public void write(long time, int value) {
+    Statistics subPageStatistics = prepareWrite(time);
     timeEncoder.encode(time, timeOut);
     valueEncoder.encode(value, valueOut);
     statistics.update(time, value);
+    if (subPageStatistics != null) {
+      subPageStatistics.update(time, value);
+    }
   }
 
   /**
    * write a time value pair into encoder
    */
   public void write(long time, long value) {
+    Statistics subPageStatistics = prepareWrite(time);
     timeEncoder.encode(time, timeOut);
     valueEncoder.encode(value, valueOut);
     statistics.update(time, value);
+    if (subPageStatistics != null) {
+      subPageStatistics.update(time, value);
+    }
   }
 
   /**
    * write a time value pair into encoder
    */
   public void write(long time, float value) {
+    Statistics subPageStatistics = prepareWrite(time);
     timeEncoder.encode(time, timeOut);
     valueEncoder.encode(value, valueOut);
     statistics.update(time, value);
+    if (subPageStatistics != null) {
+      subPageStatistics.update(time, value);
+    }
   }
 
   /**
    * write a time value pair into encoder
    */
   public void write(long time, double value) {
+    Statistics subPageStatistics = prepareWrite(time);
     timeEncoder.encode(time, timeOut);
     valueEncoder.encode(value, valueOut);
     statistics.update(time, value);
+    if (subPageStatistics != null) {
+      subPageStatistics.update(time, value);
+    }
   }
 
   /**
    * write a time value pair into encoder
    */
   public void write(long time, Binary value) {
+    Statistics subPageStatistics = prepareWrite(time);
     timeEncoder.encode(time, timeOut);
     valueEncoder.encode(value, valueOut);
     statistics.update(time, value);
+    if (subPageStatistics != null) {
+      subPageStatistics.update(time, value);
+    }
   }
 
   /**
@@ -145,8 +206,12 @@ public class PageWriter {
    */
   public void write(long[] timestamps, boolean[] values, int batchSize) {
     for (int i = 0; i < batchSize; i++) {
+      Statistics subPageStatistics = prepareWrite(timestamps[i]);
       timeEncoder.encode(timestamps[i], timeOut);
       valueEncoder.encode(values[i], valueOut);
+      if (subPageStatistics != null) {
+        subPageStatistics.update(timestamps[i], values[i]);
+      }
     }
     statistics.update(timestamps, values, batchSize);
   }
@@ -156,8 +221,12 @@ public class PageWriter {
    */
   public void write(long[] timestamps, int[] values, int batchSize) {
     for (int i = 0; i < batchSize; i++) {
+      Statistics subPageStatistics = prepareWrite(timestamps[i]);
       timeEncoder.encode(timestamps[i], timeOut);
       valueEncoder.encode(values[i], valueOut);
+      if (subPageStatistics != null) {
+        subPageStatistics.update(timestamps[i], values[i]);
+      }
     }
     statistics.update(timestamps, values, batchSize);
   }
@@ -167,8 +236,12 @@ public class PageWriter {
    */
   public void write(long[] timestamps, long[] values, int batchSize) {
     for (int i = 0; i < batchSize; i++) {
+      Statistics subPageStatistics = prepareWrite(timestamps[i]);
       timeEncoder.encode(timestamps[i], timeOut);
       valueEncoder.encode(values[i], valueOut);
+      if (subPageStatistics != null) {
+        subPageStatistics.update(timestamps[i], values[i]);
+      }
     }
     statistics.update(timestamps, values, batchSize);
   }
@@ -178,8 +251,12 @@ public class PageWriter {
    */
   public void write(long[] timestamps, float[] values, int batchSize) {
     for (int i = 0; i < batchSize; i++) {
+      Statistics subPageStatistics = prepareWrite(timestamps[i]);
       timeEncoder.encode(timestamps[i], timeOut);
       valueEncoder.encode(values[i], valueOut);
+      if (subPageStatistics != null) {
+        subPageStatistics.update(timestamps[i], values[i]);
+      }
     }
     statistics.update(timestamps, values, batchSize);
   }
@@ -189,8 +266,12 @@ public class PageWriter {
    */
   public void write(long[] timestamps, double[] values, int batchSize) {
     for (int i = 0; i < batchSize; i++) {
+      Statistics subPageStatistics = prepareWrite(timestamps[i]);
       timeEncoder.encode(timestamps[i], timeOut);
       valueEncoder.encode(values[i], valueOut);
+      if (subPageStatistics != null) {
+        subPageStatistics.update(timestamps[i], values[i]);
+      }
     }
     statistics.update(timestamps, values, batchSize);
   }
@@ -200,12 +281,63 @@ public class PageWriter {
    */
   public void write(long[] timestamps, Binary[] values, int batchSize) {
     for (int i = 0; i < batchSize; i++) {
+      Statistics subPageStatistics = prepareWrite(timestamps[i]);
       timeEncoder.encode(timestamps[i], timeOut);
       valueEncoder.encode(values[i], valueOut);
+      if (subPageStatistics != null) {
+        subPageStatistics.update(timestamps[i], values[i]);
+      }
     }
     statistics.update(timestamps, values, batchSize);
   }
 
+  /**
+   * do the bookkeeping of the time index and the sub-page statistics before writing a point, the
+   * time must not be smaller than the last written one.
+   *
+   * @return the sub-page statistics to update with the point, or null if they are not written
+   */
+  private Statistics prepareWrite(long time) {
+    if (timeIndexInterval > 0) {
+      updateTimeIndex(time);
+    }
+    return subStatisticsInterval > 0 ? getSubStatistics(time) : null;
+  }
+
+  /**
+   * get the sub-page statistics of the interval the given time falls in.
+   */
+  private Statistics getSubStatistics(long time) {
+    long interval = Math.floorDiv(time, subStatisticsInterval);
+    if (!subStatistics.isEmpty()) {
+      Statistics last = subStatistics.get(subStatistics.size() - 1);
+      if (Math.floorDiv(last.getStartTime(), subStatisticsInterval) == interval) {
+        return last;
+      }
+    }
+    Statistics newStatistics = Statistics.getStatsByType(statistics.getType());
+    subStatistics.add(newStatistics);
+    return newStatistics;
+  }
+
+  /**
+   * start a new segment of the time index every timeIndexInterval points. The encoders are flushed
+   * at the start of a segment, so that the segment can be decoded from its own offsets.
+   */
+  private void updateTimeIndex(long time) {
+    if (timeIndexPointNum % timeIndexInterval == 0) {
+      if (timeIndexPointNum > 0) {
+        try {
+          prepareEndWriteOnePage();
+        } catch (IOException e) {
+          throw new TsFileEncodingException(e);
+        }
+      }
+      timeIndex.add(time, timeOut.size(), valueOut.size());
+    }
+    timeIndexPointNum++;
+  }
+
   /**
    * flush all data remained in encoders.
    */
@@ -238,7 +370,24 @@ public class PageWriter {
       return;
     }
 
-    ByteBuffer pageData = getUncompressedBytes();
+    // sub-page statistics and the time index are only useful when the page covers more than one
+    // interval
+    writePageHeaderAndDataIntoBuff(compressor, getUncompressedBytes(), statistics,
+        subStatistics.size() > 1 ? subStatistics : null,
+        timeIndex != null && timeIndex.size() > 1 ? timeIndex : null, pageBuffer);
+  }
+
+  /**
+   * compress the page data and write it with its page header into the output stream.
+   *
+   * @param pageData      the uncompressed page data, whose array is never direct
+   * @param subStatistics null if they are not written
+   * @param timeIndex     null if it is not written
+   */
+  public static void writePageHeaderAndDataIntoBuff(ICompressor compressor, ByteBuffer pageData,
+      Statistics<?> statistics, List<Statistics> subStatistics, PageTimeIndex timeIndex,
+      PublicBAOS pageBuffer)
+      throws IOException {
     int uncompressedSize = pageData.remaining();
     int compressedSize;
     int compressedPosition = 0;
@@ -254,7 +403,8 @@ public class PageWriter {
     }
 
     // write the page header to IOWriter
-    PageHeader header = new PageHeader(uncompressedSize, compressedSize, statistics);
+    PageHeader header = new PageHeader(uncompressedSize, compressedSize, statistics,
+        subStatistics, timeIndex);
     header.serializeTo(pageBuffer);
 
     // write page content to temp PBAOS
@@ -269,6 +419,20 @@ public class PageWriter {
     logger.debug("start to flush a page data into buffer, buffer position {} ", pageBuffer.size());
   }
 
+  /**
+   * @return the size of the sub-page statistics in the page header, 0 if they are not written
+   */
+  public int getSubStatisticsSerializedSize() {
+    if (subStatistics.size() <= 1) {
+      return 0;
+    }
+    int size = Integer.BYTES;
+    for (Statistics subStatistic : subStatistics) {
+      size += subStatistic.getSerializedSize();
+    }
+    return size;
+  }
+
   /**
    * calculate max possible memory size it occupies, including time outputStream
    * and value outputStream, because size outputStream is never used until
@@ -287,6 +451,11 @@ public class PageWriter {
     timeOut.reset();
     valueOut.reset();
     statistics = Statistics.getStatsByType(measurementSchema.getType());
+    subStatistics = new ArrayList<>();
+    if (timeIndex != null) {
+      timeIndex = new PageTimeIndex(timeIndexInterval);
+      timeIndexPointNum = 0;
+    }
   }
 
   public void setTimeEncoder(Encoder encoder) {
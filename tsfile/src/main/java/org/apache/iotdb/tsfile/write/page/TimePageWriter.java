@@ -0,0 +1,103 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iotdb.tsfile.write.page;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import org.apache.iotdb.tsfile.compress.ICompressor;
+import org.apache.iotdb.tsfile.encoding.encoder.Encoder;
+import org.apache.iotdb.tsfile.file.metadata.enums.TSDataType;
+import org.apache.iotdb.tsfile.file.metadata.statistics.Statistics;
+import org.apache.iotdb.tsfile.utils.PublicBAOS;
+import org.apache.iotdb.tsfile.write.schema.MeasurementSchema;
+
+/**
+ * This writer is used to write the times of a page of the time chunk of an aligned device. The page
+ * data is the encoded times only, and the page statistics are those of an INT64 series whose
+ * values are the times.
+ */
+public class TimePageWriter {
+
+  private ICompressor compressor;
+
+  private Encoder timeEncoder;
+  private PublicBAOS timeOut;
+
+  /**
+   * statistic of current page. It will be reset after calling
+   * {@code writePageHeaderAndDataIntoBuff()}
+   */
+  private Statistics<?> statistics;
+
+  public TimePageWriter(MeasurementSchema timeSchema) {
+    this.timeOut = new PublicBAOS();
+    this.timeEncoder = timeSchema.getTimeEncoder();
+    this.compressor = ICompressor.getCompressor(timeSchema.getCompressor(),
+        timeSchema.getCompressionLevel());
+    this.statistics = Statistics.getStatsByType(TSDataType.INT64);
+  }
+
+  /**
+   * write a time into encoder
+   */
+  public void write(long time) {
+    timeEncoder.encode(time, timeOut);
+    statistics.update(time, time);
+  }
+
+  /**
+   * write the page header and data into the output stream.
+   */
+  public void writePageHeaderAndDataIntoBuff(PublicBAOS pageBuffer) throws IOException {
+    if (statistics.getCount() == 0) {
+      return;
+    }
+    timeEncoder.flush(timeOut);
+    ByteBuffer pageData = ByteBuffer.allocate(timeOut.size());
+    pageData.put(timeOut.getBuf(), 0, timeOut.size());
+    pageData.flip();
+    PageWriter.writePageHeaderAndDataIntoBuff(compressor, pageData, statistics, null, null,
+        pageBuffer);
+  }
+
+  /**
+   * calculate max possible memory size it occupies.
+   *
+   * @return allocated size in time outputStream
+   */
+  public long estimateMaxMemSize() {
+    return timeOut.size() + timeEncoder.getMaxByteSize();
+  }
+
+  /**
+   * reset this page
+   */
+  public void reset() {
+    timeOut.reset();
+    statistics = Statistics.getStatsByType(TSDataType.INT64);
+  }
+
+  public long getPointNumber() {
+    return statistics.getCount();
+  }
+
+  public Statistics<?> getStatistics() {
+    return statistics;
+  }
+}
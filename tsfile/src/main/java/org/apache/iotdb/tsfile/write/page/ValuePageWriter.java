@@ -0,0 +1,195 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iotdb.tsfile.write.page;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import org.apache.iotdb.tsfile.compress.ICompressor;
+import org.apache.iotdb.tsfile.encoding.encoder.Encoder;
+import org.apache.iotdb.tsfile.file.metadata.statistics.Statistics;
+import org.apache.iotdb.tsfile.utils.Binary;
+import org.apache.iotdb.tsfile.utils.PublicBAOS;
+import org.apache.iotdb.tsfile.utils.ReadWriteForEncodingUtils;
+import org.apache.iotdb.tsfile.write.schema.MeasurementSchema;
+
+/**
+ * This writer is used to write the values of a measurement of an aligned device into a page, whose
+ * rows are those of the page of the same index of the time chunk. The page data is
+ * <code>row number, null bitmap, value list</code>, where bit i of the bitmap is set if row i has a
+ * value. The page statistics only cover the rows having a value.
+ */
+public class ValuePageWriter {
+
+  private ICompressor compressor;
+
+  private Encoder valueEncoder;
+  private PublicBAOS valueOut;
+
+  private PublicBAOS bitmapOut;
+  // the bits of the rows not yet written into bitmapOut
+  private int currentBitmapByte;
+  private int rowCount;
+
+  /**
+   * statistic of current page. It will be reset after calling
+   * {@code writePageHeaderAndDataIntoBuff()}
+   */
+  private Statistics<?> statistics;
+
+  public ValuePageWriter(MeasurementSchema measurementSchema) {
+    this.valueOut = new PublicBAOS();
+    this.bitmapOut = new PublicBAOS();
+    this.valueEncoder = measurementSchema.getValueEncoder();
+    this.compressor = ICompressor.getCompressor(measurementSchema.getCompressor(),
+        measurementSchema.getCompressionLevel());
+    this.statistics = Statistics.getStatsByType(measurementSchema.getType());
+  }
+
+  /**
+   * write a row without a value
+   */
+  public void writeNull() {
+    nextRow(false);
+  }
+
+  /**
+   * write a time value pair into encoder
+   */
+  public void write(long time, boolean value) {
+    valueEncoder.encode(value, valueOut);
+    statistics.update(time, value);
+    nextRow(true);
+  }
+
+  /**
+   * write a time value pair into encoder
+   */
+  public void write(long time, int value) {
+    valueEncoder.encode(value, valueOut);
+    statistics.update(time, value);
+    nextRow(true);
+  }
+
+  /**
+   * write a time value pair into encoder
+   */
+  public void write(long time, long value) {
+    valueEncoder.encode(value, valueOut);
+    statistics.update(time, value);
+    nextRow(true);
+  }
+
+  /**
+   * write a time value pair into encoder
+   */
+  public void write(long time, float value) {
+    valueEncoder.encode(value, valueOut);
+    statistics.update(time, value);
+    nextRow(true);
+  }
+
+  /**
+   * write a time value pair into encoder
+   */
+  public void write(long time, double value) {
+    valueEncoder.encode(value, valueOut);
+    statistics.update(time, value);
+    nextRow(true);
+  }
+
+  /**
+   * write a time value pair into encoder
+   */
+  public void write(long time, Binary value) {
+    valueEncoder.encode(value, valueOut);
+    statistics.update(time, value);
+    nextRow(true);
+  }
+
+  private void nextRow(boolean hasValue) {
+    if (hasValue) {
+      currentBitmapByte |= 1 << (rowCount % Byte.SIZE);
+    }
+    rowCount++;
+    if (rowCount % Byte.SIZE == 0) {
+      bitmapOut.write(currentBitmapByte);
+      currentBitmapByte = 0;
+    }
+  }
+
+  /**
+   * getUncompressedBytes return data what it has been written in form of
+   * <code>row number, null bitmap, value list</code>
+   *
+   * @return a new readable ByteBuffer whose position is 0.
+   */
+  public ByteBuffer getUncompressedBytes() throws IOException {
+    valueEncoder.flush(valueOut);
+    if (rowCount % Byte.SIZE != 0) {
+      bitmapOut.write(currentBitmapByte);
+      currentBitmapByte = 0;
+    }
+    ByteBuffer buffer = ByteBuffer.allocate(bitmapOut.size() + valueOut.size() + 4);
+    ReadWriteForEncodingUtils.writeUnsignedVarInt(rowCount, buffer);
+    buffer.put(bitmapOut.getBuf(), 0, bitmapOut.size());
+    buffer.put(valueOut.getBuf(), 0, valueOut.size());
+    buffer.flip();
+    return buffer;
+  }
+
+  /**
+   * write the page header and data into the output stream. A page is written even if it has no
+   * values, so that it stays aligned with the page of the time chunk.
+   */
+  public void writePageHeaderAndDataIntoBuff(PublicBAOS pageBuffer) throws IOException {
+    if (rowCount == 0) {
+      return;
+    }
+    PageWriter.writePageHeaderAndDataIntoBuff(compressor, getUncompressedBytes(), statistics,
+        null, null, pageBuffer);
+  }
+
+  /**
+   * calculate max possible memory size it occupies.
+   *
+   * @return allocated size in value and bitmap outputStream
+   */
+  public long estimateMaxMemSize() {
+    return bitmapOut.size() + valueOut.size() + valueEncoder.getMaxByteSize() + 1;
+  }
+
+  /**
+   * reset this page
+   */
+  public void reset(MeasurementSchema measurementSchema) {
+    valueOut.reset();
+    bitmapOut.reset();
+    currentBitmapByte = 0;
+    rowCount = 0;
+    statistics = Statistics.getStatsByType(measurementSchema.getType());
+  }
+
+  public int getRowCount() {
+    return rowCount;
+  }
+
+  public Statistics<?> getStatistics() {
+    return statistics;
+  }
+}
@@ -28,6 +28,7 @@ import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
 import org.apache.iotdb.tsfile.common.conf.TSFileDescriptor;
+import org.apache.iotdb.tsfile.compress.ICompressor;
 import org.apache.iotdb.tsfile.encoding.encoder.Encoder;
 import org.apache.iotdb.tsfile.encoding.encoder.TSEncodingBuilder;
 import org.apache.iotdb.tsfile.file.metadata.enums.CompressionType;
@@ -168,6 +169,14 @@ public class MeasurementSchema implements Comparable<MeasurementSchema>, Seriali
     return type;
   }
 
+  /**
+   * @return a copy of this schema with the given encoding, e.g., the one chosen for a series whose
+   * encoding is AUTO
+   */
+  public MeasurementSchema withEncoding(TSEncoding encoding) {
+    return new MeasurementSchema(measurementId, type, encoding, compressor, props);
+  }
+
   public void setProps(Map<String, String> props) {
     this.props = props;
   }
@@ -199,6 +208,16 @@ public class MeasurementSchema implements Comparable<MeasurementSchema>, Seriali
     return compressor;
   }
 
+  /**
+   * @return the compression level in props, or the default one in TSFileConfig if not set
+   */
+  public int getCompressionLevel() {
+    if (props != null && props.containsKey(ICompressor.COMPRESSION_LEVEL)) {
+      return Integer.parseInt(props.get(ICompressor.COMPRESSION_LEVEL));
+    }
+    return TSFileDescriptor.getInstance().getConfig().getCompressionLevel();
+  }
+
   /**
    * function for serializing data to output stream.
    */
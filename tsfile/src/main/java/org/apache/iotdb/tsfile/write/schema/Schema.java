@@ -23,8 +23,10 @@ import org.apache.iotdb.tsfile.read.common.Path;
 
 import java.io.Serializable;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.Set;
 
 /**
  * The schema of timeseries that exist in this file. The deviceTemplates is a simplified manner to
@@ -43,6 +45,11 @@ public class Schema implements Serializable {
    */
   private Map<String, Map<String, MeasurementSchema>> deviceTemplates;
 
+  /**
+   * the devices whose measurements share one time column
+   */
+  private Set<String> alignedDevices = new HashSet<>();
+
   public Schema() {
     this.registeredTimeseries = new LinkedHashMap<>();
   }
@@ -83,6 +90,14 @@ public class Schema implements Serializable {
     }
   }
 
+  public void registerAlignedDevice(String deviceId) {
+    alignedDevices.add(deviceId);
+  }
+
+  public boolean isAlignedDevice(String deviceId) {
+    return alignedDevices.contains(deviceId);
+  }
+
   public MeasurementSchema getSeriesSchema(Path path) {
     return registeredTimeseries.get(path);
   }
@@ -86,6 +86,9 @@ public class TsFileIOWriter {
   private long markedPosition;
   private String currentChunkGroupDeviceId;
   private long currentChunkGroupStartOffset;
+  // the time chunk of aligned chunks last copied into the current ChunkGroup and its new offset
+  private Chunk copiedTimeChunk;
+  private long copiedTimeChunkOffset;
   protected List<Pair<Long, Long>> versionInfo = new ArrayList<>();
   
   // for upgrade tool
@@ -146,6 +149,7 @@ public class TsFileIOWriter {
       logger.debug("start chunk group:{}, file position {}", deviceId, out.getPosition());
     }
     chunkMetadataList = new ArrayList<>();
+    copiedTimeChunk = null;
   }
 
   /**
@@ -189,11 +193,60 @@ public class TsFileIOWriter {
 
   }
 
+  /**
+   * Write the time chunk of an aligned device. A time chunk has no ChunkMetadata, it is found
+   * through the headers of the value chunks that follow it in the same ChunkGroup.
+   *
+   * @param pageBuffer - the serialized pages of the time chunk
+   * @return the offset of the time chunk
+   * @throws IOException if I/O error occurs
+   */
+  public long writeTimeChunk(CompressionType compressionCodecName, TSEncoding encodingType,
+      PublicBAOS pageBuffer, int numOfPages) throws IOException {
+    long offset = out.getPosition();
+    ChunkHeader header = new ChunkHeader(MetaMarker.TIME_CHUNK_HEADER, "", pageBuffer.size(),
+        TSDataType.INT64, compressionCodecName, encodingType, numOfPages, -1);
+    header.serializeTo(out.wrapAsStream());
+    writeBytesToStream(pageBuffer);
+    return offset;
+  }
+
+  /**
+   * start a {@linkplain ChunkMetadata ChunkMetaData} of a value chunk of an aligned device.
+   *
+   * @param timeChunkOffset - the offset of the time chunk written by writeTimeChunk()
+   * @throws IOException if I/O error occurs
+   */
+  public void startFlushValueChunk(MeasurementSchema measurementSchema,
+      CompressionType compressionCodecName, TSDataType tsDataType, TSEncoding encodingType,
+      Statistics<?> statistics, int dataSize, int numOfPages, long timeChunkOffset)
+      throws IOException {
+
+    currentChunkMetadata = new ChunkMetadata(measurementSchema.getMeasurementId(), tsDataType,
+        out.getPosition(), statistics);
+
+    ChunkHeader header = new ChunkHeader(MetaMarker.VALUE_CHUNK_HEADER,
+        measurementSchema.getMeasurementId(), dataSize, tsDataType, compressionCodecName,
+        encodingType, numOfPages, timeChunkOffset);
+    header.serializeTo(out.wrapAsStream());
+  }
+
   /**
    * Write a whole chunk in another file into this file. Providing fast merge for IoTDB.
    */
   public void writeChunk(Chunk chunk, ChunkMetadata chunkMetadata) throws IOException {
     ChunkHeader chunkHeader = chunk.getHeader();
+    if (chunk.getTimeChunk() != null) {
+      // a value chunk is copied with its time chunk, which is copied once for the value chunks
+      // sharing it in a ChunkGroup
+      if (chunk.getTimeChunk() != copiedTimeChunk) {
+        copiedTimeChunk = chunk.getTimeChunk();
+        copiedTimeChunkOffset = out.getPosition();
+        copiedTimeChunk.getHeader().serializeTo(out.wrapAsStream());
+        out.write(copiedTimeChunk.getData().duplicate());
+      }
+      chunkHeader = chunkHeader.withTimeChunkOffset(copiedTimeChunkOffset);
+    }
     currentChunkMetadata = new ChunkMetadata(chunkHeader.getMeasurementID(),
         chunkHeader.getDataType(),
         out.getPosition(), chunkMetadata.getStatistics());
@@ -321,6 +374,13 @@ public class TsFileIOWriter {
     return out.getPosition();
   }
 
+  /**
+   * @return all ChunkGroups that have been flushed, without the current one
+   */
+  public List<ChunkGroupMetadata> getChunkGroupMetadataList() {
+    return chunkGroupMetadataList;
+  }
+
   // device -> ChunkMetadataList
   public Map<String, List<ChunkMetadata>> getDeviceChunkMetadataMap() {
     Map<String, List<ChunkMetadata>> deviceChunkMetadataMap = new HashMap<>();
@@ -0,0 +1,106 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iotdb.tsfile.compress;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ThreadLocalRandom;
+import org.apache.iotdb.tsfile.compress.ICompressor.GZIPCompressor;
+import org.apache.iotdb.tsfile.compress.IUnCompressor.GZIPUnCompressor;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class GZIPTest {
+
+  private String randomString(int length) {
+    StringBuilder builder = new StringBuilder(length);
+    for (int i = 0; i < length; i++) {
+      builder.append((char) (ThreadLocalRandom.current().nextInt(33, 128)));
+    }
+    return builder.toString();
+  }
+
+  @Test
+  public void testBytes() throws IOException {
+    String input = randomString(2000000);
+    byte[] uncom = input.getBytes(StandardCharsets.UTF_8);
+    ICompressor compressor = new GZIPCompressor(0);
+
+    byte[] compressed = compressor.compress(uncom);
+    // the entropy coding shortens the 7-bit characters
+    Assert.assertTrue(compressed.length < uncom.length);
+    Assert.assertTrue(compressed.length <= compressor.getMaxBytesForCompression(uncom.length));
+
+    IUnCompressor unCompressor = new GZIPUnCompressor();
+    Assert.assertEquals(uncom.length,
+        unCompressor.getUncompressedLength(compressed, 0, compressed.length));
+    byte[] uncompressed = new byte[uncom.length];
+    unCompressor.uncompress(compressed, 0, compressed.length, uncompressed, 0);
+
+    Assert.assertArrayEquals(uncom, uncompressed);
+    Assert.assertArrayEquals(uncom, unCompressor.uncompress(compressed));
+  }
+
+  @Test
+  public void testDefaultLevel() throws IOException {
+    byte[] uncom = randomString(10000).getBytes(StandardCharsets.UTF_8);
+    // level 0 stands for the default level 6
+    Assert.assertArrayEquals(new GZIPCompressor(6).compress(uncom), new GZIPCompressor(0).compress(uncom));
+  }
+
+  @Test
+  public void testByteRange() throws IOException {
+    byte[] uncom = randomString(10000).getBytes(StandardCharsets.UTF_8);
+    ICompressor compressor = new GZIPCompressor(9);
+    byte[] compressed = new byte[compressor.getMaxBytesForCompression(1000) + 10];
+    int compressedLength = compressor.compress(uncom, 100, 1000, compressed);
+
+    IUnCompressor unCompressor = new GZIPUnCompressor();
+    byte[] uncompressed = new byte[1010];
+    Assert.assertEquals(1000,
+        unCompressor.uncompress(compressed, 0, compressedLength, uncompressed, 10));
+    for (int i = 0; i < 1000; i++) {
+      Assert.assertEquals(uncom[100 + i], uncompressed[10 + i]);
+    }
+  }
+
+  @Test
+  public void testByteBuffer() throws IOException {
+    String input = randomString(2000);
+    ByteBuffer source = ByteBuffer.allocateDirect(input.length());
+    source.put(input.getBytes(StandardCharsets.UTF_8));
+    source.flip();
+
+    ICompressor compressor = new GZIPCompressor(0);
+    ByteBuffer compressed = ByteBuffer
+        .allocateDirect(compressor.getMaxBytesForCompression(source.remaining()));
+    int compressedSize = compressor.compress(source, compressed);
+    Assert.assertEquals(compressedSize, compressed.remaining());
+
+    IUnCompressor unCompressor = new GZIPUnCompressor();
+    Assert.assertEquals(input.length(), unCompressor.getUncompressedLength(compressed));
+    ByteBuffer uncompressedByteBuffer = ByteBuffer.allocateDirect(input.length());
+    Assert.assertEquals(input.length(), unCompressor.uncompress(compressed,
+        uncompressedByteBuffer));
+    byte[] uncompressed = new byte[uncompressedByteBuffer.remaining()];
+    uncompressedByteBuffer.get(uncompressed);
+    Assert.assertEquals(input, new String(uncompressed, StandardCharsets.UTF_8));
+  }
+}
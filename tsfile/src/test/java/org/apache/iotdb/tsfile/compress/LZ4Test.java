@@ -50,20 +50,32 @@ public class LZ4Test {
   public void testBytes() throws IOException {
     String input = randomString(2000000);
     byte[] uncom = input.getBytes(StandardCharsets.UTF_8);
-    long time = System.currentTimeMillis();
     ICompressor compressor = new IOTDBLZ4Compressor();
 
     byte[] compressed = compressor.compress(uncom);
-    System.out.println("compression time cost:" + (System.currentTimeMillis() - time));
-    time = System.currentTimeMillis();
-    System.out.println("ratio: " + (double) compressed.length / uncom.length);
+    Assert.assertTrue(compressed.length <= compressor.getMaxBytesForCompression(uncom.length));
 
     IUnCompressor unCompressor = new LZ4UnCompressor();
     byte[] uncompressed = new byte[uncom.length];
     unCompressor.uncompress(compressed, 0, compressed.length, uncompressed, 0);
-    System.out.println("decompression time cost:" + (System.currentTimeMillis() - time));
 
     Assert.assertArrayEquals(uncom, uncompressed);
   }
 
+  @Test
+  public void testBytesWithOffset() throws IOException {
+    byte[] uncom = randomString(10000).getBytes(StandardCharsets.UTF_8);
+    byte[] compressed = new IOTDBLZ4Compressor().compress(uncom);
+    byte[] input = new byte[compressed.length + 7];
+    System.arraycopy(compressed, 0, input, 7, compressed.length);
+
+    byte[] uncompressed = new byte[uncom.length + 3];
+    int length = new LZ4UnCompressor()
+        .uncompress(input, 7, compressed.length, uncompressed, 3);
+    Assert.assertEquals(uncom.length, length);
+    for (int i = 0; i < uncom.length; i++) {
+      Assert.assertEquals(uncom[i], uncompressed[i + 3]);
+    }
+  }
+
 }
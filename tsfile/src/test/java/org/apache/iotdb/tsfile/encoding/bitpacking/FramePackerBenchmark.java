@@ -0,0 +1,66 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iotdb.tsfile.encoding.bitpacking;
+
+import java.util.Random;
+
+import org.apache.iotdb.tsfile.utils.BytesUtils;
+
+/**
+ * Unpacking benchmark. Compares unpacking frames of timestamp deltas by FramePacker with
+ * unpacking them bit by bit.
+ */
+public class FramePackerBenchmark {
+
+  private static int width = 17;
+  private static int frameNum = 10000;
+  private static int rounds = 5;
+
+  public static void main(String[] args) {
+    int frameSize = FramePacker.FRAME_SIZE;
+    byte[] packed = new byte[FramePacker.getPackedLength(frameSize, width)];
+    long[] values = new long[frameSize];
+    Random random = new Random(2);
+    for (int i = 0; i < frameSize; i++) {
+      values[i] = random.nextInt(1 << width);
+    }
+    FramePacker.pack(values, 0, frameSize, width, packed, 0);
+
+    long[] unpacked = new long[frameSize];
+    // the first rounds warm up the JIT
+    for (int round = 0; round < rounds; round++) {
+      long startTime = System.nanoTime();
+      for (int i = 0; i < frameNum; i++) {
+        FramePacker.unpack(packed, 0, width, unpacked, 0, frameSize);
+      }
+      long frameTime = System.nanoTime() - startTime;
+
+      startTime = System.nanoTime();
+      for (int i = 0; i < frameNum; i++) {
+        for (int j = 0; j < frameSize; j++) {
+          unpacked[j] = BytesUtils.bytesToLong(packed, width * j, width);
+        }
+      }
+      long bitTime = System.nanoTime() - startTime;
+      System.out.println(String.format(
+          "Round %d, unpacking %d frames of %d-bit values takes %d us, and %d us bit by bit",
+          round, frameNum, width, frameTime / 1000, bitTime / 1000));
+    }
+  }
+}
@@ -0,0 +1,278 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iotdb.tsfile.encoding.bitpacking;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * FramePackerGenerator generates the source of {@link FramePacker}, whose kernels unroll the
+ * shifts and masks of packing (unpacking) 8 values of each width. FramePackerTest checks that the
+ * source in the tree is the same as the generated one, so FramePacker is changed by changing this
+ * class and running it from the tsfile module:
+ * <pre>
+ *   java -cp target/test-classes:target/classes \
+ *     org.apache.iotdb.tsfile.encoding.bitpacking.FramePackerGenerator
+ * </pre>
+ */
+public class FramePackerGenerator {
+
+  static final String SOURCE_PATH = String.join(File.separator, "src", "main", "java", "org",
+      "apache", "iotdb", "tsfile", "encoding", "bitpacking", "FramePacker.java");
+
+  private static final int MAX_WIDTH = Long.SIZE;
+  private static final int MAX_LINE_LENGTH = 100;
+
+  private static final String HEADER = "/*\n"
+      + " * Licensed to the Apache Software Foundation (ASF) under one\n"
+      + " * or more contributor license agreements.  See the NOTICE file\n"
+      + " * distributed with this work for additional information\n"
+      + " * regarding copyright ownership.  The ASF licenses this file\n"
+      + " * to you under the Apache License, Version 2.0 (the\n"
+      + " * \"License\"); you may not use this file except in compliance\n"
+      + " * with the License.  You may obtain a copy of the License at\n"
+      + " *\n"
+      + " *     http://www.apache.org/licenses/LICENSE-2.0\n"
+      + " *\n"
+      + " * Unless required by applicable law or agreed to in writing,\n"
+      + " * software distributed under the License is distributed on an\n"
+      + " * \"AS IS\" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY\n"
+      + " * KIND, either express or implied.  See the License for the\n"
+      + " * specific language governing permissions and limitations\n"
+      + " * under the License.\n"
+      + " */\n"
+      + "package org.apache.iotdb.tsfile.encoding.bitpacking;\n"
+      + "\n"
+      + "import java.util.Arrays;\n"
+      + "\n"
+      + "/**\n"
+      + " * FramePacker packs (unpacks) longs of a given bit-width into (from) bytes, with the same layout\n"
+      + " * as {@link LongPacker}: the values are stored one after another, the highest bit first, so every\n"
+      + " * 8 values take width bytes.\n"
+      + " * <p>\n"
+      + " * Unlike LongPacker, which walks through the bits of each value, there is one kernel for each\n"
+      + " * width from 0 to 64 in which the shifts and masks of a group of 8 values are unrolled and\n"
+      + " * constant, so a whole frame of values is packed or unpacked in one call without branches. The\n"
+      + " * kernels are generated by FramePackerGenerator in the tests of this module, and should not be\n"
+      + " * edited by hand.\n"
+      + " */\n"
+      + "public class FramePacker {\n"
+      + "\n"
+      + "  /**\n"
+      + "   * the number of values in a frame.\n"
+      + "   */\n"
+      + "  public static final int FRAME_SIZE = 128;\n"
+      + "\n"
+      + "  private FramePacker() {\n"
+      + "    // util class\n"
+      + "  }\n"
+      + "\n"
+      + "  /**\n"
+      + "   * @return the number of bytes that valueNum values of width bits take after packing, with the\n"
+      + "   * last group of 8 values padded\n"
+      + "   */\n"
+      + "  public static int getPackedLength(int valueNum, int width) {\n"
+      + "    return (valueNum + 7) / 8 * width;\n"
+      + "  }\n"
+      + "\n"
+      + "  /**\n"
+      + "   * pack values[valueOffset, valueOffset + valueNum) into buf from offset. valueNum is rounded up\n"
+      + "   * to a multiple of 8, so values and buf must have room for the padding. Every value must be\n"
+      + "   * less than 2^width.\n"
+      + "   */\n"
+      + "  public static void pack(long[] values, int valueOffset, int valueNum, int width, byte[] buf,\n"
+      + "      int offset) {\n"
+      + "    int groupNum = (valueNum + 7) / 8;\n"
+      + "    switch (width) {\n"
+      + "      case 0:\n"
+      + "        break;\n";
+
+  private final List<String> lines = new ArrayList<>();
+
+  private FramePackerGenerator() {
+  }
+
+  public static void main(String[] args) throws IOException {
+    String path = args.length > 0 ? args[0] : SOURCE_PATH;
+    Files.write(new File(path).toPath(), generate().getBytes(StandardCharsets.UTF_8));
+  }
+
+  /**
+   * @return the source of FramePacker
+   */
+  static String generate() {
+    FramePackerGenerator generator = new FramePackerGenerator();
+    generator.generateDispatch();
+    generator.generateKernels();
+    generator.emit("}");
+    return HEADER + String.join("\n", generator.lines) + "\n";
+  }
+
+  private void generateDispatch() {
+    for (int w = 1; w <= MAX_WIDTH; w++) {
+      emit("      case " + w + ":");
+      emit("        pack" + w + "(values, valueOffset, buf, offset, groupNum);");
+      emit("        break;");
+    }
+    emit("      default:");
+    emit("        throw new IllegalArgumentException(\"Unsupported bit width: \" + width);");
+    emit("    }");
+    emit("  }");
+    emit("");
+    emit("  /**");
+    emit("   * unpack valueNum values of width bits from buf at offset into values from valueOffset. "
+        + "valueNum");
+    emit("   * is rounded up to a multiple of 8, so values and buf must have room for the padding.");
+    emit("   */");
+    emit("  public static void unpack(byte[] buf, int offset, int width, long[] values, "
+        + "int valueOffset,");
+    emit("      int valueNum) {");
+    emit("    int groupNum = (valueNum + 7) / 8;");
+    emit("    switch (width) {");
+    for (int w = 0; w <= MAX_WIDTH; w++) {
+      emit("      case " + w + ":");
+      emit("        unpack" + w + "(buf, offset, values, valueOffset, groupNum);");
+      emit("        break;");
+    }
+    emit("      default:");
+    emit("        throw new IllegalArgumentException(\"Unsupported bit width: \" + width);");
+    emit("    }");
+    emit("  }");
+    emit("");
+  }
+
+  private void generateKernels() {
+    emit("  private static void unpack0(byte[] buf, int offset, long[] values, int valueOffset,");
+    emit("      int groupNum) {");
+    emit("    Arrays.fill(values, valueOffset, valueOffset + groupNum * 8, 0L);");
+    emit("  }");
+    for (int w = 1; w <= MAX_WIDTH; w++) {
+      emit("");
+      emit("  private static void pack" + w
+          + "(long[] values, int valueOffset, byte[] buf, int offset,");
+      emit("      int groupNum) {");
+      emit("    for (int g = 0; g < groupNum; g++, valueOffset += 8, offset += " + w + ") {");
+      for (int j = 0; j < 8; j++) {
+        emit("      long v" + j + " = values[" + index("valueOffset", j) + "];");
+      }
+      for (int k = 0; k < w; k++) {
+        emitExpression("buf[" + index("offset", k) + "] = (byte) (", packTerms(w, k), ");");
+      }
+      emit("    }");
+      emit("  }");
+      emit("");
+      emit("  private static void unpack" + w
+          + "(byte[] buf, int offset, long[] values, int valueOffset,");
+      emit("      int groupNum) {");
+      emit("    for (int g = 0; g < groupNum; g++, offset += " + w + ", valueOffset += 8) {");
+      for (int k = 0; k < w; k++) {
+        emit("      long b" + k + " = buf[" + index("offset", k) + "] & 0xFF;");
+      }
+      for (int j = 0; j < 8; j++) {
+        emitExpression("values[" + index("valueOffset", j) + "] = ", unpackTerms(w, j), ";");
+      }
+      emit("    }");
+      emit("  }");
+    }
+  }
+
+  /**
+   * @return the terms of byte k of a group of 8 values of width w, each being the bits of a value
+   * shifted to their place in the byte
+   */
+  private static List<String> packTerms(int w, int k) {
+    List<String> terms = new ArrayList<>();
+    for (int j = 0; j < 8; j++) {
+      int start = j * w;
+      int end = (j + 1) * w;
+      int lo = Math.max(start, 8 * k);
+      int hi = Math.min(end, 8 * k + 8);
+      if (lo >= hi) {
+        continue;
+      }
+      String term = "v" + j;
+      if (end > hi) {
+        term = term + " >>> " + (end - hi);
+      } else if (8 * k + 8 - hi != 0) {
+        term = term + " << " + (8 * k + 8 - hi);
+      }
+      terms.add(term);
+    }
+    return terms;
+  }
+
+  /**
+   * @return the terms of value j of a group of 8 values of width w, each being the bits of a byte
+   * masked and shifted to their place in the value
+   */
+  private static List<String> unpackTerms(int w, int j) {
+    int start = j * w;
+    int end = (j + 1) * w;
+    List<String> terms = new ArrayList<>();
+    for (int k = start / 8; k <= (end - 1) / 8; k++) {
+      int lo = Math.max(start, 8 * k);
+      int hi = Math.min(end, 8 * k + 8);
+      String term = "b" + k;
+      int rightShift = 8 * k + 8 - hi;
+      if (rightShift != 0) {
+        term = term + " >>> " + rightShift;
+      }
+      boolean masked = lo > 8 * k;
+      if (masked) {
+        long mask = (1L << (hi - lo)) - 1;
+        term = (rightShift != 0 ? "(" + term + ")" : term) + " & " + mask;
+      }
+      int leftShift = end - hi;
+      if (leftShift != 0) {
+        term = (rightShift != 0 || masked ? "(" + term + ")" : term) + " << " + leftShift;
+      }
+      terms.add(term);
+    }
+    return terms;
+  }
+
+  private static String index(String name, int i) {
+    return i == 0 ? name : name + " + " + i;
+  }
+
+  /**
+   * emit the terms joined by " | ", wrapped before the line gets longer than MAX_LINE_LENGTH
+   */
+  private void emitExpression(String prefix, List<String> terms, String suffix) {
+    String indent = "      ";
+    StringBuilder line = new StringBuilder(indent).append(prefix).append(terms.get(0));
+    for (String term : terms.subList(1, terms.size())) {
+      if (line.length() + 3 + term.length() + suffix.length() > MAX_LINE_LENGTH) {
+        emit(line.toString());
+        line = new StringBuilder(indent).append("    | ").append(term);
+      } else {
+        line.append(" | ").append(term);
+      }
+    }
+    emit(line.append(suffix).toString());
+  }
+
+  private void emit(String line) {
+    lines.add(line);
+  }
+}
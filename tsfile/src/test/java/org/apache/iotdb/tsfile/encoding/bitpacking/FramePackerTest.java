@@ -0,0 +1,162 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iotdb.tsfile.encoding.bitpacking;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Random;
+
+import org.junit.Test;
+
+import org.apache.iotdb.tsfile.utils.BytesUtils;
+
+public class FramePackerTest {
+
+  @Test
+  public void testAllWidths() {
+    Random random = new Random(1);
+    int frameSize = FramePacker.FRAME_SIZE;
+    for (int width = 0; width <= Long.SIZE; width++) {
+      long[] values = new long[frameSize];
+      for (int i = 0; i < frameSize; i++) {
+        long value = random.nextLong();
+        values[i] = width == Long.SIZE ? value : value & ((1L << width) - 1);
+      }
+      // the largest value of the width
+      values[random.nextInt(frameSize)] = width == Long.SIZE ? -1L : (1L << width) - 1;
+
+      byte[] packed = new byte[FramePacker.getPackedLength(frameSize, width)];
+      FramePacker.pack(values, 0, frameSize, width, packed, 0);
+      // the same layout as the values packed one by one
+      byte[] expected = new byte[packed.length];
+      for (int i = 0; i < frameSize; i++) {
+        BytesUtils.longToBytes(values[i], expected, i * width, width);
+      }
+      assertArrayEquals(expected, packed);
+
+      long[] unpacked = new long[frameSize];
+      FramePacker.unpack(packed, 0, width, unpacked, 0, frameSize);
+      assertArrayEquals(values, unpacked);
+    }
+  }
+
+  /**
+   * FramePacker must be regenerated by FramePackerGenerator instead of being edited by hand.
+   */
+  @Test
+  public void testGeneratedSource() throws IOException {
+    String source = new String(
+        Files.readAllBytes(new File(FramePackerGenerator.SOURCE_PATH).toPath()),
+        StandardCharsets.UTF_8);
+    assertEquals(FramePackerGenerator.generate(), source);
+  }
+
+  @Test
+  public void testSameAsLongPacker() {
+    Random random = new Random(3);
+    for (int width = 1; width <= Long.SIZE; width++) {
+      long[] values = new long[8];
+      for (int i = 0; i < 8; i++) {
+        long value = random.nextLong();
+        values[i] = width == Long.SIZE ? value : value & ((1L << width) - 1);
+      }
+      byte[] expected = new byte[width];
+      new LongPacker(width).pack8Values(values, 0, expected);
+      byte[] packed = new byte[width];
+      FramePacker.pack(values, 0, 8, width, packed, 0);
+      assertArrayEquals(expected, packed);
+
+      long[] unpacked = new long[8];
+      FramePacker.unpack(expected, 0, width, unpacked, 0, 8);
+      assertArrayEquals(values, unpacked);
+    }
+  }
+
+  @Test
+  public void testSameAsIntPacker() {
+    Random random = new Random(4);
+    for (int width = 1; width <= Integer.SIZE; width++) {
+      int[] intValues = new int[8];
+      long[] values = new long[8];
+      for (int i = 0; i < 8; i++) {
+        int value = random.nextInt();
+        intValues[i] = width == Integer.SIZE ? value : value & ((1 << width) - 1);
+        values[i] = intValues[i] & 0xFFFFFFFFL;
+      }
+      byte[] expected = new byte[width];
+      new IntPacker(width).pack8Values(intValues, 0, expected);
+      byte[] packed = new byte[width];
+      FramePacker.pack(values, 0, 8, width, packed, 0);
+      assertArrayEquals(expected, packed);
+
+      long[] unpacked = new long[8];
+      FramePacker.unpack(expected, 0, width, unpacked, 0, 8);
+      assertArrayEquals(values, unpacked);
+    }
+  }
+
+  @Test
+  public void testOffsetAndPadding() {
+    int width = 13;
+    // 19 values are padded to 24
+    long[] values = new long[3 + 24];
+    for (int i = 0; i < 19; i++) {
+      values[i + 3] = i * 397L % (1 << width);
+    }
+    byte[] packed = new byte[5 + FramePacker.getPackedLength(19, width)];
+    FramePacker.pack(values, 3, 19, width, packed, 5);
+
+    long[] unpacked = new long[30];
+    FramePacker.unpack(packed, 5, width, unpacked, 2, 19);
+    for (int i = 0; i < 19; i++) {
+      assertEquals(values[i + 3], unpacked[i + 2]);
+    }
+  }
+
+  /**
+   * Unpacking a frame of timestamp deltas gives the same values as unpacking them bit by bit.
+   */
+  @Test
+  public void testUnpackTime() {
+    int width = 17;
+    int frameSize = FramePacker.FRAME_SIZE;
+    byte[] packed = new byte[FramePacker.getPackedLength(frameSize, width)];
+    long[] values = new long[frameSize];
+    Random random = new Random(2);
+    for (int i = 0; i < frameSize; i++) {
+      values[i] = random.nextInt(1 << width);
+    }
+    FramePacker.pack(values, 0, frameSize, width, packed, 0);
+
+    long[] unpacked = new long[frameSize];
+    FramePacker.unpack(packed, 0, width, unpacked, 0, frameSize);
+    assertArrayEquals(values, unpacked);
+
+    long[] unpackedBitByBit = new long[frameSize];
+    for (int j = 0; j < frameSize; j++) {
+      unpackedBitByBit[j] = BytesUtils.bytesToLong(packed, width * j, width);
+    }
+    assertArrayEquals(unpacked, unpackedBitByBit);
+  }
+}
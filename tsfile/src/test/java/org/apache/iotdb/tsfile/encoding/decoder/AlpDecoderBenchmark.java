@@ -0,0 +1,96 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iotdb.tsfile.encoding.decoder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Random;
+
+import org.apache.iotdb.tsfile.encoding.encoder.AlpEncoder;
+import org.apache.iotdb.tsfile.encoding.encoder.ChimpEncoder;
+import org.apache.iotdb.tsfile.encoding.encoder.DoublePrecisionEncoder;
+import org.apache.iotdb.tsfile.encoding.encoder.Encoder;
+
+/**
+ * Double decoding benchmark. Compares the encoded sizes and the decoding time of GORILLA, CHIMP
+ * and ALP on sensor-like series: noisy readings with one decimal digit, slowly changing readings
+ * with two decimal digits and many repeats, and full-precision values.
+ */
+public class AlpDecoderBenchmark {
+
+  private static int numOfPoint = 1000000;
+  private static int rounds = 5;
+
+  public static void main(String[] args) throws IOException {
+    Random random = new Random(4);
+    double[] temperature = new double[numOfPoint];
+    double[] voltage = new double[numOfPoint];
+    double[] fullPrecision = new double[numOfPoint];
+    double t = 25;
+    double v = 220;
+    for (int i = 0; i < numOfPoint; i++) {
+      t += random.nextGaussian() * 0.1;
+      temperature[i] = Math.round(t * 10) / 10.0;
+      if (random.nextInt(10) == 0) {
+        v += random.nextGaussian();
+      }
+      voltage[i] = Math.round(v * 100) / 100.0;
+      fullPrecision[i] = t + random.nextDouble();
+    }
+
+    String[] names = {"temperature", "voltage", "full precision"};
+    double[][] series = {temperature, voltage, fullPrecision};
+    for (int i = 0; i < series.length; i++) {
+      byte[] gorilla = encode(new DoublePrecisionEncoder(), series[i]);
+      byte[] chimp = encode(new ChimpEncoder.DoubleChimpEncoder(), series[i]);
+      byte[] alp = encode(new AlpEncoder.DoubleAlpEncoder(), series[i]);
+      System.out.println(String.format("%s, encoded bytes: GORILLA %d, CHIMP %d, ALP %d",
+          names[i], gorilla.length, chimp.length, alp.length));
+      // the first rounds warm up the JIT
+      for (int round = 0; round < rounds; round++) {
+        long gorillaTime = timeDecoding(new DoublePrecisionDecoder(), gorilla);
+        long chimpTime = timeDecoding(new ChimpDecoder.DoubleChimpDecoder(), chimp);
+        long alpTime = timeDecoding(new AlpDecoder.DoubleAlpDecoder(), alp);
+        System.out.println(String.format(
+            "%s, round %d, decoding %d values takes: GORILLA %d ms, CHIMP %d ms, ALP %d ms",
+            names[i], round, numOfPoint, gorillaTime / 1000000, chimpTime / 1000000,
+            alpTime / 1000000));
+      }
+    }
+  }
+
+  private static byte[] encode(Encoder encoder, double[] values) throws IOException {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    for (double value : values) {
+      encoder.encode(value, out);
+    }
+    encoder.flush(out);
+    return out.toByteArray();
+  }
+
+  private static long timeDecoding(Decoder decoder, byte[] bytes) throws IOException {
+    ByteBuffer buffer = ByteBuffer.wrap(bytes);
+    long startTime = System.nanoTime();
+    for (int i = 0; i < numOfPoint; i++) {
+      decoder.readDouble(buffer);
+    }
+    return System.nanoTime() - startTime;
+  }
+}
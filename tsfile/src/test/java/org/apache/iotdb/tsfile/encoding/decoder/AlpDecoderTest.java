@@ -0,0 +1,197 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iotdb.tsfile.encoding.decoder;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Random;
+
+import org.junit.Test;
+
+import org.apache.iotdb.tsfile.encoding.encoder.AlpEncoder;
+import org.apache.iotdb.tsfile.encoding.encoder.ChimpEncoder;
+import org.apache.iotdb.tsfile.encoding.encoder.DoublePrecisionEncoder;
+import org.apache.iotdb.tsfile.encoding.encoder.Encoder;
+
+public class AlpDecoderTest {
+
+  @Test
+  public void testDecimalDouble() throws IOException {
+    Random random = new Random(1);
+    double[] values = new double[3000];
+    double value = 20;
+    for (int i = 0; i < values.length; i++) {
+      value += random.nextGaussian();
+      values[i] = Math.round(value * 100) / 100.0;
+    }
+    checkDoubles(values);
+  }
+
+  @Test
+  public void testExceptions() throws IOException {
+    Random random = new Random(2);
+    double[] values = new double[2100];
+    for (int i = 0; i < values.length; i++) {
+      switch (i % 7) {
+        case 0:
+          values[i] = Double.NaN;
+          break;
+        case 1:
+          values[i] = -0.0;
+          break;
+        case 2:
+          values[i] = i % 2 == 0 ? Double.POSITIVE_INFINITY : Double.NEGATIVE_INFINITY;
+          break;
+        case 3:
+          values[i] = random.nextDouble();
+          break;
+        case 4:
+          values[i] = i % 2 == 0 ? Double.MAX_VALUE : -Double.MIN_VALUE;
+          break;
+        default:
+          values[i] = random.nextInt(100000) / 1000.0;
+          break;
+      }
+    }
+    checkDoubles(values);
+    // a vector of exceptions only
+    checkDoubles(new double[]{Double.NaN, Math.PI, Math.E});
+    checkDoubles(new double[]{0.5});
+    checkDoubles(new double[]{Long.MAX_VALUE, Long.MIN_VALUE, 1e300, -1e300, 1e-300});
+  }
+
+  @Test
+  public void testFloat() throws IOException {
+    Random random = new Random(3);
+    float[] values = new float[2500];
+    for (int i = 0; i < values.length; i++) {
+      if (i % 100 == 0) {
+        values[i] = i % 200 == 0 ? Float.NaN : -0.0f;
+      } else if (i % 3 == 0) {
+        values[i] = random.nextFloat() * 1000;
+      } else {
+        values[i] = random.nextInt(100000) / 10.0f;
+      }
+    }
+    Encoder encoder = new AlpEncoder.FloatAlpEncoder();
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    for (float v : values) {
+      encoder.encode(v, out);
+    }
+    encoder.flush(out);
+
+    ByteBuffer buffer = ByteBuffer.wrap(out.toByteArray());
+    Decoder decoder = new AlpDecoder.FloatAlpDecoder();
+    for (float v : values) {
+      assertTrue(decoder.hasNext(buffer));
+      assertEquals(Float.floatToRawIntBits(v), Float.floatToRawIntBits(decoder.readFloat(buffer)));
+    }
+    assertFalse(decoder.hasNext(buffer));
+
+    buffer.rewind();
+    decoder.reset();
+    float[] result = new float[values.length];
+    assertEquals(values.length, decoder.readFloats(buffer, result, 0, values.length));
+    for (int i = 0; i < values.length; i++) {
+      assertEquals(Float.floatToRawIntBits(values[i]), Float.floatToRawIntBits(result[i]));
+    }
+  }
+
+  /**
+   * Compares the encoded sizes with GORILLA on sensor-like series: noisy readings with one decimal
+   * digit, slowly changing readings with two decimal digits and many repeats, and full-precision
+   * values. AlpDecoderBenchmark compares the decoding time.
+   */
+  @Test
+  public void testCompareWithGorilla() throws IOException {
+    Random random = new Random(4);
+    int size = 100000;
+    double[] temperature = new double[size];
+    double[] voltage = new double[size];
+    double[] fullPrecision = new double[size];
+    double t = 25;
+    double v = 220;
+    for (int i = 0; i < size; i++) {
+      t += random.nextGaussian() * 0.1;
+      temperature[i] = Math.round(t * 10) / 10.0;
+      if (random.nextInt(10) == 0) {
+        v += random.nextGaussian();
+      }
+      voltage[i] = Math.round(v * 100) / 100.0;
+      fullPrecision[i] = t + random.nextDouble();
+    }
+
+    for (double[] series : new double[][]{temperature, voltage, fullPrecision}) {
+      byte[] gorilla = encode(new DoublePrecisionEncoder(), series);
+      byte[] chimp = encode(new ChimpEncoder.DoubleChimpEncoder(), series);
+      byte[] alp = encode(new AlpEncoder.DoubleAlpEncoder(), series);
+      assertTrue(chimp.length < gorilla.length);
+      // ALP does not benefit from repeated values, so it only wins on the noisy decimal series
+      if (series == temperature) {
+        assertTrue(alp.length < chimp.length);
+      }
+    }
+  }
+
+  private byte[] encode(Encoder encoder, double[] values) throws IOException {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    for (double value : values) {
+      encoder.encode(value, out);
+    }
+    encoder.flush(out);
+    return out.toByteArray();
+  }
+
+  private void checkDoubles(double[] values) throws IOException {
+    Encoder encoder = new AlpEncoder.DoubleAlpEncoder();
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    for (double v : values) {
+      encoder.encode(v, out);
+    }
+    encoder.flush(out);
+
+    ByteBuffer buffer = ByteBuffer.wrap(out.toByteArray());
+    Decoder decoder = new AlpDecoder.DoubleAlpDecoder();
+    for (double v : values) {
+      assertTrue(decoder.hasNext(buffer));
+      assertEquals(Double.doubleToRawLongBits(v),
+          Double.doubleToRawLongBits(decoder.readDouble(buffer)));
+    }
+    assertFalse(decoder.hasNext(buffer));
+
+    buffer.rewind();
+    decoder.reset();
+    double[] result = new double[values.length];
+    int readNum = 0;
+    int read;
+    while ((read = decoder.readDoubles(buffer, result, readNum,
+        Math.min(300, values.length - readNum))) > 0) {
+      readNum += read;
+    }
+    assertEquals(values.length, readNum);
+    for (int i = 0; i < values.length; i++) {
+      assertEquals(Double.doubleToRawLongBits(values[i]), Double.doubleToRawLongBits(result[i]));
+    }
+  }
+}
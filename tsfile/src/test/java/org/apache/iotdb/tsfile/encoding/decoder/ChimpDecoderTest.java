@@ -0,0 +1,132 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iotdb.tsfile.encoding.decoder;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Random;
+
+import org.junit.Test;
+
+import org.apache.iotdb.tsfile.encoding.encoder.ChimpEncoder;
+import org.apache.iotdb.tsfile.encoding.encoder.Encoder;
+
+public class ChimpDecoderTest {
+
+  private static final double[] SPECIAL_DOUBLES = {0.0, -0.0, Double.NaN, Double.POSITIVE_INFINITY,
+      Double.NEGATIVE_INFINITY, Double.MIN_VALUE, Double.MAX_VALUE, -Double.MAX_VALUE, 1.0, 1.0};
+
+  @Test
+  public void testDouble() throws IOException {
+    Random random = new Random(1);
+    double[] values = new double[5000];
+    double value = 20;
+    for (int i = 0; i < values.length; i++) {
+      if (i % 1000 < SPECIAL_DOUBLES.length) {
+        values[i] = SPECIAL_DOUBLES[i % 1000];
+      } else if (i < 2500) {
+        value += random.nextGaussian();
+        values[i] = Math.round(value * 100) / 100.0;
+      } else {
+        values[i] = random.nextDouble() * Math.pow(10, random.nextInt(20) - 10);
+      }
+    }
+    checkDoubles(values, 1);
+    checkDoubles(values, 3);
+  }
+
+  @Test
+  public void testFloat() throws IOException {
+    Random random = new Random(2);
+    float[] values = new float[5000];
+    float value = 20;
+    for (int i = 0; i < values.length; i++) {
+      if (i % 1000 < SPECIAL_DOUBLES.length) {
+        values[i] = (float) SPECIAL_DOUBLES[i % 1000];
+      } else if (i < 2500) {
+        value += (float) random.nextGaussian();
+        values[i] = Math.round(value * 10) / 10.0f;
+      } else {
+        values[i] = random.nextFloat() * random.nextInt(1000);
+      }
+    }
+    Encoder encoder = new ChimpEncoder.FloatChimpEncoder();
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    for (float v : values) {
+      encoder.encode(v, out);
+    }
+    encoder.flush(out);
+    ByteBuffer buffer = ByteBuffer.wrap(out.toByteArray());
+    Decoder decoder = new ChimpDecoder.FloatChimpDecoder();
+    for (float v : values) {
+      assertEquals(Float.floatToRawIntBits(v), Float.floatToRawIntBits(decoder.readFloat(buffer)));
+    }
+    assertFalse(decoder.hasNext(buffer));
+  }
+
+  @Test
+  public void testEmptyAndSingle() throws IOException {
+    Encoder encoder = new ChimpEncoder.DoubleChimpEncoder();
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    encoder.flush(out);
+    assertEquals(0, out.size());
+    checkDoubles(new double[]{-3.5}, 1);
+  }
+
+  /**
+   * encode the values in blockNum blocks, then read them with both readDouble and readDoubles.
+   */
+  private void checkDoubles(double[] values, int blockNum) throws IOException {
+    Encoder encoder = new ChimpEncoder.DoubleChimpEncoder();
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    int blockSize = (values.length + blockNum - 1) / blockNum;
+    for (int i = 0; i < values.length; i++) {
+      encoder.encode(values[i], out);
+      if ((i + 1) % blockSize == 0) {
+        encoder.flush(out);
+      }
+    }
+    encoder.flush(out);
+
+    ByteBuffer buffer = ByteBuffer.wrap(out.toByteArray());
+    Decoder decoder = new ChimpDecoder.DoubleChimpDecoder();
+    for (double value : values) {
+      assertEquals(Double.doubleToRawLongBits(value),
+          Double.doubleToRawLongBits(decoder.readDouble(buffer)));
+    }
+    assertFalse(decoder.hasNext(buffer));
+
+    buffer.rewind();
+    decoder.reset();
+    double[] result = new double[values.length + 10];
+    int readNum = 0;
+    int read;
+    while ((read = decoder.readDoubles(buffer, result, readNum, 7)) > 0) {
+      readNum += read;
+    }
+    assertEquals(values.length, readNum);
+    for (int i = 0; i < values.length; i++) {
+      assertEquals(Double.doubleToRawLongBits(values[i]), Double.doubleToRawLongBits(result[i]));
+    }
+  }
+}
@@ -0,0 +1,110 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iotdb.tsfile.encoding.encoder;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.Random;
+import org.apache.iotdb.tsfile.file.metadata.enums.TSDataType;
+import org.apache.iotdb.tsfile.file.metadata.enums.TSEncoding;
+import org.apache.iotdb.tsfile.utils.Binary;
+import org.apache.iotdb.tsfile.write.schema.MeasurementSchema;
+import org.junit.Test;
+
+public class EncodingSelectorTest {
+
+  private static final int SAMPLE_SIZE = 1024;
+
+  @Test
+  public void testLong() {
+    Random random = new Random(1);
+    // a monotonic counter
+    EncodingSelector selector = new EncodingSelector(TSDataType.INT64, null);
+    long value = 0;
+    for (int i = 0; i < SAMPLE_SIZE; i++) {
+      value += 1000 + random.nextInt(10);
+      selector.encode(value);
+    }
+    assertEquals(TSEncoding.TS_2DIFF, selector.select());
+
+    // a few distinct values with long repeats
+    selector = new EncodingSelector(TSDataType.INT32, null);
+    for (int i = 0; i < SAMPLE_SIZE; i++) {
+      selector.encode(i / 100 % 3);
+    }
+    assertEquals(TSEncoding.RLE, selector.select());
+  }
+
+  @Test
+  public void testDouble() {
+    Random random = new Random(1);
+    // noisy readings with one decimal
+    EncodingSelector selector = new EncodingSelector(TSDataType.DOUBLE, null);
+    double value = 20;
+    for (int i = 0; i < SAMPLE_SIZE; i++) {
+      value += (random.nextInt(21) - 10) / 10.0;
+      selector.encode(Math.round(value * 10) / 10.0);
+    }
+    assertEquals(TSEncoding.ALP, selector.select());
+
+    // values with full precision, only their common sign and exponent bits are saved
+    selector = new EncodingSelector(TSDataType.DOUBLE, null);
+    for (int i = 0; i < SAMPLE_SIZE; i++) {
+      selector.encode(random.nextDouble());
+    }
+    assertEquals(TSEncoding.CHIMP, selector.select());
+
+    // values with full precision and random exponents
+    selector = new EncodingSelector(TSDataType.DOUBLE, null);
+    for (int i = 0; i < SAMPLE_SIZE; i++) {
+      selector.encode(Double.longBitsToDouble(random.nextLong() & Long.MAX_VALUE >>> 1));
+    }
+    assertEquals(TSEncoding.PLAIN, selector.select());
+  }
+
+  @Test
+  public void testText() {
+    EncodingSelector selector = new EncodingSelector(TSDataType.TEXT, null);
+    for (int i = 0; i < SAMPLE_SIZE; i++) {
+      selector.encode(new Binary("STATUS" + (i % 5)));
+    }
+    assertEquals(TSEncoding.PLAIN_DICTIONARY, selector.select());
+  }
+
+  @Test
+  public void testRuns() {
+    // each run is encoded on its own, so the runs of a counter far apart stay small for TS_2DIFF
+    EncodingSelector selector = new EncodingSelector(TSDataType.INT64, null);
+    for (int run = 0; run < 4; run++) {
+      for (int i = 0; i < SAMPLE_SIZE / 4; i++) {
+        selector.encode(run * 1_000_000_000L + i * 7L);
+      }
+      selector.endRun();
+    }
+    assertEquals(TSEncoding.TS_2DIFF, selector.select());
+  }
+
+  @Test
+  public void testResolveAuto() {
+    MeasurementSchema schema = new MeasurementSchema("s1", TSDataType.FLOAT, TSEncoding.AUTO);
+    assertEquals(TSEncoding.GORILLA, EncodingSelector.resolveAuto(schema).getEncodingType());
+    schema = new MeasurementSchema("s1", TSDataType.FLOAT, TSEncoding.CHIMP);
+    assertEquals(TSEncoding.CHIMP, EncodingSelector.resolveAuto(schema).getEncodingType());
+  }
+}
@@ -0,0 +1,114 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iotdb.tsfile.read.arrow;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+import org.apache.arrow.memory.BufferAllocator;
+import org.apache.arrow.memory.RootAllocator;
+import org.apache.arrow.vector.FieldVector;
+import org.apache.arrow.vector.VectorSchemaRoot;
+import org.apache.iotdb.tsfile.read.ReadOnlyTsFile;
+import org.apache.iotdb.tsfile.read.TsFileSequenceReader;
+import org.apache.iotdb.tsfile.read.common.Field;
+import org.apache.iotdb.tsfile.read.common.Path;
+import org.apache.iotdb.tsfile.read.common.RowRecord;
+import org.apache.iotdb.tsfile.read.expression.QueryExpression;
+import org.apache.iotdb.tsfile.read.expression.impl.GlobalTimeExpression;
+import org.apache.iotdb.tsfile.read.filter.TimeFilter;
+import org.apache.iotdb.tsfile.read.filter.basic.Filter;
+import org.apache.iotdb.tsfile.read.filter.factory.FilterFactory;
+import org.apache.iotdb.tsfile.read.query.dataset.QueryDataSet;
+import org.apache.iotdb.tsfile.utils.TsFileGeneratorForTest;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class TsFileArrowReaderTest {
+
+  private static final String FILE_PATH = TsFileGeneratorForTest.outputDataFile;
+  private static final int BATCH_SIZE = 100;
+
+  private BufferAllocator allocator;
+
+  @Before
+  public void before() throws IOException {
+    TsFileGeneratorForTest.generateFile(1000, 16 * 1024 * 1024, 10000);
+    allocator = new RootAllocator(Long.MAX_VALUE);
+  }
+
+  @After
+  public void after() {
+    allocator.close();
+    TsFileGeneratorForTest.after();
+  }
+
+  @Test
+  public void testReadAll() throws IOException {
+    checkSameAsQuery(null);
+  }
+
+  @Test
+  public void testTimeFilter() throws IOException {
+    checkSameAsQuery(FilterFactory.and(TimeFilter.gtEq(1480562618050L),
+        TimeFilter.lt(1480562618777L)));
+  }
+
+  private void checkSameAsQuery(Filter timeFilter) throws IOException {
+    // d2.s2 has null values and all types are covered
+    List<Path> paths = Arrays.asList(new Path("d1.s1"), new Path("d1.s4"), new Path("d1.s5"),
+        new Path("d1.s6"), new Path("d1.s7"), new Path("d2.s2"));
+    QueryExpression queryExpression = QueryExpression.create(paths,
+        timeFilter == null ? null : new GlobalTimeExpression(timeFilter));
+    try (ReadOnlyTsFile tsFile = new ReadOnlyTsFile(new TsFileSequenceReader(FILE_PATH));
+        TsFileArrowReader arrowReader = new TsFileArrowReader(
+            new TsFileSequenceReader(FILE_PATH), paths, timeFilter, allocator, BATCH_SIZE)) {
+      QueryDataSet queryDataSet = tsFile.query(queryExpression);
+      assertEquals(paths.size() + 1, arrowReader.getSchema().getFields().size());
+      int rowCount = 0;
+      while (arrowReader.hasNextBatch()) {
+        VectorSchemaRoot root = arrowReader.nextBatch();
+        assertTrue(root.getRowCount() <= BATCH_SIZE);
+        List<FieldVector> vectors = root.getFieldVectors();
+        for (int i = 0; i < root.getRowCount(); i++) {
+          assertTrue(queryDataSet.hasNext());
+          RowRecord rowRecord = queryDataSet.next();
+          assertEquals(rowRecord.getTimestamp(), vectors.get(0).getObject(i));
+          for (int j = 0; j < paths.size(); j++) {
+            Field field = rowRecord.getFields().get(j);
+            FieldVector vector = vectors.get(j + 1);
+            if (field == null) {
+              assertTrue(vector.isNull(i));
+            } else {
+              assertEquals(field.getStringValue(), String.valueOf(vector.getObject(i)));
+            }
+          }
+          rowCount++;
+        }
+      }
+      assertFalse(queryDataSet.hasNext());
+      assertTrue(rowCount > 0);
+    }
+  }
+}
@@ -22,27 +22,42 @@ import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.List;
+import org.apache.iotdb.tsfile.common.conf.TSFileConfig;
+import org.apache.iotdb.tsfile.common.conf.TSFileDescriptor;
+import org.apache.iotdb.tsfile.compress.IUnCompressor;
 import org.apache.iotdb.tsfile.encoding.common.EndianType;
 import org.apache.iotdb.tsfile.encoding.decoder.Decoder;
 import org.apache.iotdb.tsfile.encoding.decoder.DeltaBinaryDecoder;
+import org.apache.iotdb.tsfile.encoding.decoder.DictionaryDecoder;
 import org.apache.iotdb.tsfile.encoding.decoder.DoublePrecisionDecoder;
 import org.apache.iotdb.tsfile.encoding.decoder.IntRleDecoder;
 import org.apache.iotdb.tsfile.encoding.decoder.LongRleDecoder;
 import org.apache.iotdb.tsfile.encoding.decoder.PlainDecoder;
 import org.apache.iotdb.tsfile.encoding.decoder.SinglePrecisionDecoder;
 import org.apache.iotdb.tsfile.encoding.encoder.DeltaBinaryEncoder;
+import org.apache.iotdb.tsfile.encoding.encoder.DictionaryEncoder;
 import org.apache.iotdb.tsfile.encoding.encoder.DoublePrecisionEncoder;
 import org.apache.iotdb.tsfile.encoding.encoder.Encoder;
 import org.apache.iotdb.tsfile.encoding.encoder.IntRleEncoder;
 import org.apache.iotdb.tsfile.encoding.encoder.LongRleEncoder;
 import org.apache.iotdb.tsfile.encoding.encoder.PlainEncoder;
 import org.apache.iotdb.tsfile.encoding.encoder.SinglePrecisionEncoder;
+import org.apache.iotdb.tsfile.file.header.PageHeader;
+import org.apache.iotdb.tsfile.file.metadata.enums.CompressionType;
 import org.apache.iotdb.tsfile.file.metadata.enums.TSDataType;
+import org.apache.iotdb.tsfile.file.metadata.enums.TSEncoding;
+import org.apache.iotdb.tsfile.read.TimeValuePair;
 import org.apache.iotdb.tsfile.read.common.BatchData;
 import org.apache.iotdb.tsfile.read.common.TimeRange;
+import org.apache.iotdb.tsfile.read.filter.TimeFilter;
+import org.apache.iotdb.tsfile.read.filter.ValueFilter;
+import org.apache.iotdb.tsfile.read.filter.basic.Filter;
+import org.apache.iotdb.tsfile.read.filter.factory.FilterFactory;
 import org.apache.iotdb.tsfile.read.reader.page.PageReader;
 import org.apache.iotdb.tsfile.utils.Binary;
+import org.apache.iotdb.tsfile.utils.PublicBAOS;
 import org.apache.iotdb.tsfile.write.page.PageWriter;
+import org.apache.iotdb.tsfile.write.schema.MeasurementSchema;
 import org.junit.Assert;
 import org.junit.Test;
 
@@ -145,6 +160,210 @@ public class PageReaderTest {
     test.test(TSDataType.TEXT);
   }
 
+  @Test
+  public void testDictionaryBinary() {
+    LoopWriteReadTest test = new LoopWriteReadTest("Test Dictionary",
+        new DictionaryEncoder(1024, 1000), new DictionaryDecoder(), TSDataType.TEXT,
+        POINTS_COUNT_IN_ONE_PAGE) {
+      @Override
+      public Object generateValueByIndex(int i) {
+        return new Binary("STATUS" + (i % 20));
+      }
+    };
+    test.test(TSDataType.TEXT);
+
+    // more distinct values than the dictionary can hold, so the page falls back to plain
+    LoopWriteReadTest test2 = new LoopWriteReadTest("Test Dictionary Overflow",
+        new DictionaryEncoder(16, 1000), new DictionaryDecoder(), TSDataType.TEXT, 1000) {
+      @Override
+      public Object generateValueByIndex(int i) {
+        return new Binary("STATUS" + (i % 20));
+      }
+    };
+    test2.test(TSDataType.TEXT);
+  }
+
+  @Test
+  public void testDictionaryBinaryWithFilter() throws IOException {
+    PageWriter pageWriter = new PageWriter();
+    pageWriter.setTimeEncoder(new DeltaBinaryEncoder.LongDeltaEncoder());
+    pageWriter.setValueEncoder(new DictionaryEncoder(1024, 1000));
+    pageWriter.initStatistics(TSDataType.TEXT);
+    for (int i = 0; i < 1000; i++) {
+      pageWriter.write(i, new Binary("STATUS" + (i % 20)));
+    }
+    ByteBuffer page = pageWriter.getUncompressedBytes();
+
+    // a filter on values only is evaluated on the codes
+    PageReader pageReader = new PageReader(page.duplicate(), TSDataType.TEXT,
+        new DictionaryDecoder(), new DeltaBinaryDecoder.LongDeltaDecoder(),
+        ValueFilter.eq(new Binary("STATUS3")));
+    BatchData data = pageReader.getAllSatisfiedPageData();
+    int count = 0;
+    while (data.hasCurrent()) {
+      Assert.assertEquals(3, data.currentTime() % 20);
+      Assert.assertEquals(new Binary("STATUS3"), data.getBinary());
+      data.next();
+      count++;
+    }
+    Assert.assertEquals(50, count);
+
+    pageReader = new PageReader(page.duplicate(), TSDataType.TEXT, new DictionaryDecoder(),
+        new DeltaBinaryDecoder.LongDeltaDecoder(),
+        FilterFactory.and(TimeFilter.lt(100L), ValueFilter.notEq(new Binary("STATUS3"))));
+    data = pageReader.getAllSatisfiedPageData();
+    count = 0;
+    while (data.hasCurrent()) {
+      Assert.assertNotEquals(3, data.currentTime() % 20);
+      data.next();
+      count++;
+    }
+    Assert.assertEquals(95, count);
+  }
+
+  @Test
+  public void testTimeIndex() throws IOException {
+    TSFileConfig config = TSFileDescriptor.getInstance().getConfig();
+    int prevInterval = config.getPageTimeIndexInterval();
+    config.setPageTimeIndexInterval(256);
+    try {
+      testTimeIndex(TSDataType.INT64, TSEncoding.RLE);
+      testTimeIndex(TSDataType.DOUBLE, TSEncoding.GORILLA);
+      // like GORILLA, the flushed blocks of these cannot be decoded in one pass
+      testTimeIndex(TSDataType.DOUBLE, TSEncoding.RLE);
+      testTimeIndex(TSDataType.DOUBLE, TSEncoding.TS_2DIFF);
+      testTimeIndex(TSDataType.TEXT, TSEncoding.PLAIN_DICTIONARY);
+    } finally {
+      config.setPageTimeIndexInterval(prevInterval);
+    }
+  }
+
+  private void testTimeIndex(TSDataType dataType, TSEncoding encoding) throws IOException {
+    MeasurementSchema schema = new MeasurementSchema("s1", dataType, encoding,
+        CompressionType.UNCOMPRESSED);
+    PageWriter pageWriter = new PageWriter(schema);
+    for (int i = 0; i < 10000; i++) {
+      switch (dataType) {
+        case INT64:
+          pageWriter.write(i * 2L, (long) i);
+          break;
+        case DOUBLE:
+          pageWriter.write(i * 2L, i / 10.0);
+          break;
+        default:
+          pageWriter.write(i * 2L, new Binary("STATUS" + (i % 20)));
+          break;
+      }
+    }
+    PublicBAOS out = new PublicBAOS();
+    pageWriter.writePageHeaderAndDataIntoBuff(out);
+    ByteBuffer buffer = ByteBuffer.wrap(out.getBuf(), 0, out.size());
+    PageHeader pageHeader = PageHeader.deserializeFrom(buffer, dataType);
+    Assert.assertEquals(40, pageHeader.getTimeIndex().size());
+    ByteBuffer page = buffer.slice();
+
+    // all segments
+    BatchData data = newTimeIndexPageReader(pageHeader, page, schema, null)
+        .getAllSatisfiedPageData();
+    int index = 0;
+    while (data.hasCurrent()) {
+      Assert.assertEquals(index * 2L, data.currentTime());
+      Assert.assertEquals(getTimeIndexValue(dataType, index), data.currentValue());
+      data.next();
+      index++;
+    }
+    Assert.assertEquals(10000, index);
+
+    // the segments out of the time filter are skipped
+    data = newTimeIndexPageReader(pageHeader, page, schema,
+        FilterFactory.and(TimeFilter.gtEq(3001L), TimeFilter.lt(4000L)))
+        .getAllSatisfiedPageData();
+    index = 1501;
+    while (data.hasCurrent()) {
+      Assert.assertEquals(index * 2L, data.currentTime());
+      Assert.assertEquals(getTimeIndexValue(dataType, index), data.currentValue());
+      data.next();
+      index++;
+    }
+    Assert.assertEquals(2000, index);
+
+    PageReader pageReader = newTimeIndexPageReader(pageHeader, page, schema, null);
+    TimeValuePair pair = pageReader.getLastPairBeforeOrEqualTimestamp(5001);
+    Assert.assertEquals(5000, pair.getTimestamp());
+    Assert.assertEquals(getTimeIndexValue(dataType, 2500), pair.getValue().getValue());
+    Assert.assertEquals(19998, pageReader.getLastPairBeforeOrEqualTimestamp(100000)
+        .getTimestamp());
+    Assert.assertNull(pageReader.getLastPairBeforeOrEqualTimestamp(-1).getValue());
+
+    // the last point before the deleted ones is in an earlier segment
+    List<TimeRange> deleteIntervals = new ArrayList<>();
+    deleteIntervals.add(new TimeRange(1000, 1010));
+    deleteIntervals.add(new TimeRange(4000, 5010));
+    pageReader.setDeleteIntervalList(deleteIntervals);
+    Assert.assertEquals(3998, pageReader.getLastPairBeforeOrEqualTimestamp(5005).getTimestamp());
+    Assert.assertEquals(998, pageReader.getLastPairBeforeOrEqualTimestamp(1005).getTimestamp());
+  }
+
+  @Test
+  public void testCompressedPage() throws IOException {
+    for (CompressionType compressionType : new CompressionType[]{CompressionType.SNAPPY,
+        CompressionType.LZ4, CompressionType.GZIP, CompressionType.ZSTD}) {
+      MeasurementSchema schema = new MeasurementSchema("s1", TSDataType.INT64, TSEncoding.RLE,
+          compressionType);
+      PageWriter pageWriter = new PageWriter(schema);
+      for (int i = 0; i < 10000; i++) {
+        pageWriter.write(i, (long) i * 3);
+      }
+      PublicBAOS out = new PublicBAOS();
+      pageWriter.writePageHeaderAndDataIntoBuff(out);
+      // the page body is read in place from a larger buffer
+      ByteBuffer buffer = ByteBuffer.wrap(out.getBuf(), 0, out.size()).slice();
+      PageHeader pageHeader = PageHeader.deserializeFrom(buffer, TSDataType.INT64);
+      ByteBuffer pageBody = buffer.slice();
+
+      PageReader pageReader = new PageReader(pageHeader, pageBody,
+          IUnCompressor.getUnCompressor(compressionType), TSDataType.INT64,
+          Decoder.getDecoderByType(TSEncoding.RLE, TSDataType.INT64),
+          new DeltaBinaryDecoder.LongDeltaDecoder(), TimeFilter.gtEq(100L));
+      // each read uncompresses the page again, the second one into the array of the first one
+      for (int round = 0; round < 2; round++) {
+        BatchData data = pageReader.getAllSatisfiedPageData();
+        int index = 100;
+        while (data.hasCurrent()) {
+          Assert.assertEquals(index, data.currentTime());
+          Assert.assertEquals(index * 3L, data.getLong());
+          data.next();
+          index++;
+        }
+        Assert.assertEquals(10000, index);
+      }
+      TimeValuePair pair = pageReader.getLastPairBeforeOrEqualTimestamp(5000);
+      Assert.assertEquals(5000, pair.getTimestamp());
+      Assert.assertEquals(15000L, pair.getValue().getLong());
+      Assert.assertEquals(pageBody.limit(), pageBody.remaining());
+    }
+  }
+
+  private PageReader newTimeIndexPageReader(PageHeader pageHeader, ByteBuffer page,
+      MeasurementSchema schema, Filter filter) {
+    return new PageReader(pageHeader, page.duplicate(), schema.getType(),
+        Decoder.getDecoderByType(schema.getEncodingType(), schema.getType()),
+        Decoder.getDecoderByType(TSEncoding.valueOf(
+            TSFileDescriptor.getInstance().getConfig().getTimeEncoder()), TSDataType.INT64),
+        filter);
+  }
+
+  private Object getTimeIndexValue(TSDataType dataType, int i) {
+    switch (dataType) {
+      case INT64:
+        return (long) i;
+      case DOUBLE:
+        return i / 10.0;
+      default:
+        return new Binary("STATUS" + (i % 20));
+    }
+  }
+
   private abstract static class LoopWriteReadTest {
 
     private Encoder encoder;
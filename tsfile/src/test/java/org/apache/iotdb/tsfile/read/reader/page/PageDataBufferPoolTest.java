@@ -0,0 +1,88 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iotdb.tsfile.read.reader.page;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class PageDataBufferPoolTest {
+
+  @Before
+  @After
+  public void clearPool() {
+    // other tests of this thread may have left arrays in the pool
+    for (int i = 0; i < PageDataBufferPool.MAX_BUFFERS; i++) {
+      PageDataBufferPool.borrow(1);
+    }
+  }
+
+  @Test
+  public void testReuse() {
+    byte[] buffer = PageDataBufferPool.borrow(65 * 1024 + 1);
+    // rounded up to 4KB instead of to the next power of two
+    assertEquals(68 * 1024, buffer.length);
+    PageDataBufferPool.release(buffer);
+    assertSame(buffer, PageDataBufferPool.borrow(65 * 1024));
+    // a borrowed array is not handed out again
+    assertNotSame(buffer, PageDataBufferPool.borrow(65 * 1024));
+    PageDataBufferPool.release(buffer);
+    assertSame(buffer, PageDataBufferPool.borrow(1));
+  }
+
+  @Test
+  public void testBestFit() {
+    byte[] small = PageDataBufferPool.borrow(8 * 1024);
+    byte[] large = PageDataBufferPool.borrow(64 * 1024);
+    PageDataBufferPool.release(large);
+    PageDataBufferPool.release(small);
+    assertSame(small, PageDataBufferPool.borrow(4 * 1024));
+    assertSame(large, PageDataBufferPool.borrow(4 * 1024));
+  }
+
+  @Test
+  public void testRetainedSizeIsCapped() {
+    for (int i = 1; i <= 10; i++) {
+      PageDataBufferPool.release(PageDataBufferPool.borrow(i * 512 * 1024));
+      assertTrue(PageDataBufferPool.getRetainedSize() <= PageDataBufferPool.MAX_RETAINED_SIZE);
+    }
+    // the 1.5MB and 2MB arrays replaced the smaller ones, and the larger ones did not fit
+    assertEquals(3584 * 1024, PageDataBufferPool.getRetainedSize());
+
+    byte[] huge = PageDataBufferPool.borrow(PageDataBufferPool.MAX_RETAINED_SIZE + 1);
+    assertEquals(PageDataBufferPool.MAX_RETAINED_SIZE + 4096, huge.length);
+    PageDataBufferPool.release(huge);
+    assertEquals(3584 * 1024, PageDataBufferPool.getRetainedSize());
+  }
+
+  @Test
+  public void testArraysNotFromThePool() {
+    PageDataBufferPool.release(new byte[5000]);
+    assertEquals(0, PageDataBufferPool.getRetainedSize());
+    byte[] buffer = PageDataBufferPool.borrow(100);
+    PageDataBufferPool.release(buffer);
+    PageDataBufferPool.release(buffer);
+    assertEquals(buffer.length, PageDataBufferPool.getRetainedSize());
+  }
+}
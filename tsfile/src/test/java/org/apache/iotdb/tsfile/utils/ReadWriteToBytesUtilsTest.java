@@ -23,8 +23,10 @@ import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.nio.ByteBuffer;
 
+import org.junit.Assert;
 import org.junit.Test;
 
+import org.apache.iotdb.tsfile.file.metadata.enums.TSEncoding;
 import org.apache.iotdb.tsfile.utils.ReadWriteIOUtils;
 
 public class ReadWriteToBytesUtilsTest {
@@ -66,4 +68,14 @@ public class ReadWriteToBytesUtilsTest {
     }
   }
 
+  @Test
+  public void testEncoding() {
+    for (TSEncoding encoding : TSEncoding.values()) {
+      ByteBuffer output = ByteBuffer.allocate(TSEncoding.getSerializedSize());
+      ReadWriteIOUtils.write(encoding, output);
+      output.flip();
+      Assert.assertEquals(encoding, ReadWriteIOUtils.readEncoding(output));
+    }
+  }
+
 }
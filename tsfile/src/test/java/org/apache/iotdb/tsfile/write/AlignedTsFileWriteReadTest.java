@@ -0,0 +1,355 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iotdb.tsfile.write;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import org.apache.iotdb.tsfile.common.conf.TSFileConfig;
+import org.apache.iotdb.tsfile.common.conf.TSFileDescriptor;
+import org.apache.iotdb.tsfile.constant.TestConstant;
+import org.apache.iotdb.tsfile.exception.write.WriteProcessException;
+import org.apache.iotdb.tsfile.file.MetaMarker;
+import org.apache.iotdb.tsfile.file.metadata.ChunkGroupMetadata;
+import org.apache.iotdb.tsfile.file.metadata.ChunkMetadata;
+import org.apache.iotdb.tsfile.file.metadata.enums.CompressionType;
+import org.apache.iotdb.tsfile.file.metadata.enums.TSDataType;
+import org.apache.iotdb.tsfile.file.metadata.enums.TSEncoding;
+import org.apache.iotdb.tsfile.read.ReadOnlyTsFile;
+import org.apache.iotdb.tsfile.read.TsFileSequenceReader;
+import org.apache.iotdb.tsfile.read.common.Chunk;
+import org.apache.iotdb.tsfile.read.common.Path;
+import org.apache.iotdb.tsfile.read.common.RowRecord;
+import org.apache.iotdb.tsfile.read.expression.QueryExpression;
+import org.apache.iotdb.tsfile.read.expression.impl.GlobalTimeExpression;
+import org.apache.iotdb.tsfile.read.filter.TimeFilter;
+import org.apache.iotdb.tsfile.read.filter.factory.FilterFactory;
+import org.apache.iotdb.tsfile.read.query.dataset.AlignedDataSet;
+import org.apache.iotdb.tsfile.read.query.dataset.QueryDataSet;
+import org.apache.iotdb.tsfile.utils.Binary;
+import org.apache.iotdb.tsfile.write.chunk.ChunkWriterImpl;
+import org.apache.iotdb.tsfile.write.record.TSRecord;
+import org.apache.iotdb.tsfile.write.record.Tablet;
+import org.apache.iotdb.tsfile.write.record.datapoint.DoubleDataPoint;
+import org.apache.iotdb.tsfile.write.record.datapoint.IntDataPoint;
+import org.apache.iotdb.tsfile.write.record.datapoint.StringDataPoint;
+import org.apache.iotdb.tsfile.write.schema.MeasurementSchema;
+import org.apache.iotdb.tsfile.write.writer.TsFileIOWriter;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class AlignedTsFileWriteReadTest {
+
+  private static final String DEVICE = "device_1";
+  private static final int ROW_NUM = 1000;
+
+  private final TSFileConfig config = TSFileDescriptor.getInstance().getConfig();
+  private int prevMaxNumberOfPointsInPage;
+  private String path = TestConstant.BASE_OUTPUT_PATH.concat("aligned.tsfile");
+  private File f;
+
+  @Before
+  public void setUp() {
+    prevMaxNumberOfPointsInPage = config.getMaxNumberOfPointsInPage();
+    config.setMaxNumberOfPointsInPage(100);
+    f = new File(path);
+    if (f.exists()) {
+      assertTrue(f.delete());
+    }
+  }
+
+  @After
+  public void tearDown() {
+    config.setMaxNumberOfPointsInPage(prevMaxNumberOfPointsInPage);
+    if (f.exists()) {
+      assertTrue(f.delete());
+    }
+  }
+
+  @Test
+  public void testWriteRecords() throws IOException, WriteProcessException {
+    try (TsFileWriter writer = new TsFileWriter(f)) {
+      writer.registerAlignedTimeseries(DEVICE, Arrays.asList(
+          new MeasurementSchema("s1", TSDataType.INT32, TSEncoding.RLE),
+          new MeasurementSchema("s2", TSDataType.DOUBLE, TSEncoding.GORILLA,
+              CompressionType.SNAPPY),
+          // the value pages of s3 are read in place
+          new MeasurementSchema("s3", TSDataType.TEXT, TSEncoding.PLAIN,
+              CompressionType.UNCOMPRESSED)));
+      for (int i = 0; i < ROW_NUM; i++) {
+        TSRecord record = new TSRecord(i, DEVICE);
+        record.addTuple(new IntDataPoint("s1", i));
+        if (i % 2 == 0) {
+          record.addTuple(new DoubleDataPoint("s2", i * 0.5));
+        }
+        // s3 has no value before row 350, so its first pages only have nulls
+        if (i >= 350 && i % 3 == 0) {
+          record.addTuple(new StringDataPoint("s3", new Binary("v" + i)));
+        }
+        writer.write(record);
+      }
+    }
+
+    checkChunks();
+    checkRows();
+  }
+
+  @Test
+  public void testWriteTablet() throws IOException, WriteProcessException {
+    List<MeasurementSchema> schemas = Arrays.asList(
+        new MeasurementSchema("s1", TSDataType.INT32, TSEncoding.RLE),
+        new MeasurementSchema("s2", TSDataType.DOUBLE, TSEncoding.GORILLA));
+    try (TsFileWriter writer = new TsFileWriter(f)) {
+      writer.registerAlignedTimeseries(DEVICE, schemas);
+      Tablet tablet = new Tablet(DEVICE, schemas, ROW_NUM);
+      for (int i = 0; i < ROW_NUM; i++) {
+        tablet.timestamps[i] = i;
+        ((int[]) tablet.values[0])[i] = i;
+        ((double[]) tablet.values[1])[i] = i * 0.5;
+      }
+      tablet.rowSize = ROW_NUM;
+      writer.write(tablet);
+    }
+
+    try (TsFileSequenceReader reader = new TsFileSequenceReader(path)) {
+      ReadOnlyTsFile readOnlyTsFile = new ReadOnlyTsFile(reader);
+      QueryDataSet dataSet = readOnlyTsFile.query(QueryExpression.create(
+          Arrays.asList(new Path(DEVICE, "s1"), new Path(DEVICE, "s2")), null));
+      int count = 0;
+      while (dataSet.hasNext()) {
+        RowRecord record = dataSet.next();
+        assertEquals(count, record.getTimestamp());
+        assertEquals(count, record.getFields().get(0).getIntV());
+        assertEquals(count * 0.5, record.getFields().get(1).getDoubleV(), 0.0);
+        count++;
+      }
+      assertEquals(ROW_NUM, count);
+    }
+  }
+
+  private void checkChunks() throws IOException {
+    try (TsFileSequenceReader reader = new TsFileSequenceReader(path)) {
+      for (String measurement : new String[]{"s1", "s2", "s3"}) {
+        List<ChunkMetadata> chunkMetadataList = reader
+            .getChunkMetadataList(new Path(DEVICE, measurement));
+        assertEquals(1, chunkMetadataList.size());
+        Chunk chunk = reader.readMemChunk(chunkMetadataList.get(0));
+        assertEquals(MetaMarker.VALUE_CHUNK_HEADER, chunk.getHeader().getChunkType());
+        assertNotNull(chunk.getTimeChunk());
+        assertEquals(ROW_NUM / 100, chunk.getHeader().getNumOfPages());
+        assertEquals(ROW_NUM / 100, chunk.getTimeChunk().getHeader().getNumOfPages());
+      }
+      assertEquals(ROW_NUM / 2, reader.getChunkMetadataList(new Path(DEVICE, "s2")).get(0)
+          .getStatistics().getCount());
+
+      // recovering the file finds the value chunks and skips the time chunk
+      List<ChunkGroupMetadata> chunkGroupMetadataList = new ArrayList<>();
+      reader.selfCheck(null, chunkGroupMetadataList, new ArrayList<>(), false);
+      assertEquals(1, chunkGroupMetadataList.size());
+      assertEquals(3, chunkGroupMetadataList.get(0).getChunkMetadataList().size());
+      assertEquals(ROW_NUM / 2,
+          chunkGroupMetadataList.get(0).getChunkMetadataList().get(1).getStatistics().getCount());
+    }
+  }
+
+  private void checkRows() throws IOException {
+    try (TsFileSequenceReader reader = new TsFileSequenceReader(path)) {
+      ReadOnlyTsFile readOnlyTsFile = new ReadOnlyTsFile(reader);
+      QueryDataSet dataSet = readOnlyTsFile.query(QueryExpression.create(
+          Arrays.asList(new Path(DEVICE, "s1"), new Path(DEVICE, "s2"), new Path(DEVICE, "s3")),
+          null));
+      int count = 0;
+      while (dataSet.hasNext()) {
+        RowRecord record = dataSet.next();
+        int i = (int) record.getTimestamp();
+        assertEquals(count, i);
+        assertEquals(i, record.getFields().get(0).getIntV());
+        if (i % 2 == 0) {
+          assertEquals(i * 0.5, record.getFields().get(1).getDoubleV(), 0.0);
+        } else {
+          assertNull(record.getFields().get(1));
+        }
+        if (i >= 350 && i % 3 == 0) {
+          assertEquals("v" + i, record.getFields().get(2).getStringValue());
+        } else {
+          assertNull(record.getFields().get(2));
+        }
+        count++;
+      }
+      assertEquals(ROW_NUM, count);
+      assertFalse(dataSet.hasNext());
+    }
+  }
+
+  @Test
+  public void testReadRowsOfChunkGroups() throws IOException, WriteProcessException {
+    try (TsFileWriter writer = new TsFileWriter(f)) {
+      writer.registerAlignedTimeseries(DEVICE, Arrays.asList(
+          new MeasurementSchema("s1", TSDataType.INT32, TSEncoding.RLE),
+          new MeasurementSchema("s2", TSDataType.DOUBLE, TSEncoding.GORILLA,
+              CompressionType.SNAPPY)));
+      for (int i = 0; i < ROW_NUM; i++) {
+        TSRecord record = new TSRecord(i, DEVICE);
+        record.addTuple(new IntDataPoint("s1", i));
+        // s2 has no value chunk in the first chunk group
+        if (i >= ROW_NUM / 2 && i % 2 == 0) {
+          record.addTuple(new DoubleDataPoint("s2", i * 0.5));
+        }
+        writer.write(record);
+        if (i == ROW_NUM / 2 - 1) {
+          writer.flushAllChunkGroups();
+        }
+      }
+    }
+
+    try (TsFileSequenceReader reader = new TsFileSequenceReader(path)) {
+      assertEquals(2, reader.getChunkMetadataList(new Path(DEVICE, "s1")).size());
+      assertEquals(1, reader.getChunkMetadataList(new Path(DEVICE, "s2")).size());
+      ReadOnlyTsFile readOnlyTsFile = new ReadOnlyTsFile(reader);
+      // the selected rows span both chunk groups
+      QueryDataSet dataSet = readOnlyTsFile.query(QueryExpression.create(
+          Arrays.asList(new Path(DEVICE, "s1"), new Path(DEVICE, "s2")),
+          new GlobalTimeExpression(FilterFactory.and(TimeFilter.gtEq(250), TimeFilter.lt(750)))));
+      assertTrue(dataSet instanceof AlignedDataSet);
+      int count = 0;
+      while (dataSet.hasNext()) {
+        RowRecord record = dataSet.next();
+        int i = (int) record.getTimestamp();
+        assertEquals(250 + count, i);
+        assertEquals(i, record.getFields().get(0).getIntV());
+        if (i >= ROW_NUM / 2 && i % 2 == 0) {
+          assertEquals(i * 0.5, record.getFields().get(1).getDoubleV(), 0.0);
+        } else {
+          assertNull(record.getFields().get(1));
+        }
+        count++;
+      }
+      assertEquals(500, count);
+
+      // the rows without a value of the selected measurement are skipped
+      dataSet = readOnlyTsFile.query(QueryExpression.create(
+          Collections.singletonList(new Path(DEVICE, "s2")), null));
+      count = 0;
+      while (dataSet.hasNext()) {
+        assertEquals(ROW_NUM / 2 + count * 2, dataSet.next().getTimestamp());
+        count++;
+      }
+      assertEquals(ROW_NUM / 4, count);
+    }
+  }
+
+  @Test
+  public void testCopyChunk() throws IOException, WriteProcessException {
+    try (TsFileWriter writer = new TsFileWriter(f)) {
+      writer.registerAlignedTimeseries(DEVICE, Arrays.asList(
+          new MeasurementSchema("s1", TSDataType.INT32, TSEncoding.RLE),
+          new MeasurementSchema("s2", TSDataType.DOUBLE, TSEncoding.GORILLA)));
+      for (int i = 0; i < ROW_NUM; i++) {
+        TSRecord record = new TSRecord(i, DEVICE);
+        record.addTuple(new IntDataPoint("s1", i));
+        if (i % 2 == 0) {
+          record.addTuple(new DoubleDataPoint("s2", i * 0.5));
+        }
+        writer.write(record);
+      }
+    }
+
+    // copy the value chunks into another file, their time chunk is copied once
+    File copy = new File(TestConstant.BASE_OUTPUT_PATH.concat("aligned_copy.tsfile"));
+    long sourceTimeChunkOffset;
+    try (TsFileSequenceReader reader = new TsFileSequenceReader(path)) {
+      sourceTimeChunkOffset = reader
+          .readMemChunk(reader.getChunkMetadataList(new Path(DEVICE, "s1")).get(0)).getHeader()
+          .getTimeChunkOffset();
+      TsFileIOWriter ioWriter = new TsFileIOWriter(copy);
+      // a chunk group before the copied one moves the time chunk to another offset
+      ioWriter.startChunkGroup("device_0");
+      ChunkWriterImpl chunkWriter = new ChunkWriterImpl(
+          new MeasurementSchema("s0", TSDataType.INT64, TSEncoding.PLAIN));
+      chunkWriter.write(0, 0L);
+      chunkWriter.writeToFileWriter(ioWriter);
+      ioWriter.endChunkGroup();
+      ioWriter.startChunkGroup(DEVICE);
+      for (String measurement : new String[]{"s1", "s2"}) {
+        ChunkMetadata chunkMetadata = reader.getChunkMetadataList(new Path(DEVICE, measurement))
+            .get(0);
+        ioWriter.writeChunk(reader.readMemChunk(chunkMetadata), chunkMetadata);
+      }
+      ioWriter.endChunkGroup();
+      ioWriter.endFile();
+    }
+    try (TsFileSequenceReader reader = new TsFileSequenceReader(copy.getPath())) {
+      long copiedTimeChunkOffset = reader
+          .readMemChunk(reader.getChunkMetadataList(new Path(DEVICE, "s1")).get(0)).getHeader()
+          .getTimeChunkOffset();
+      assertNotEquals(sourceTimeChunkOffset, copiedTimeChunkOffset);
+      assertEquals(copiedTimeChunkOffset,
+          reader.readMemChunk(reader.getChunkMetadataList(new Path(DEVICE, "s2")).get(0))
+              .getHeader().getTimeChunkOffset());
+      ReadOnlyTsFile readOnlyTsFile = new ReadOnlyTsFile(reader);
+      QueryDataSet dataSet = readOnlyTsFile.query(QueryExpression.create(
+          Arrays.asList(new Path(DEVICE, "s1"), new Path(DEVICE, "s2")), null));
+      int count = 0;
+      while (dataSet.hasNext()) {
+        RowRecord record = dataSet.next();
+        assertEquals(count, record.getFields().get(0).getIntV());
+        count++;
+      }
+      assertEquals(ROW_NUM, count);
+    } finally {
+      assertTrue(copy.delete());
+    }
+  }
+
+  @Test(expected = UnsupportedOperationException.class)
+  public void testMergeValueChunks() throws IOException, WriteProcessException {
+    try (TsFileWriter writer = new TsFileWriter(f)) {
+      writer.registerAlignedTimeseries(DEVICE, Arrays.asList(
+          new MeasurementSchema("s1", TSDataType.INT32, TSEncoding.RLE)));
+      for (int i = 0; i < ROW_NUM; i++) {
+        TSRecord record = new TSRecord(i, DEVICE);
+        record.addTuple(new IntDataPoint("s1", i));
+        writer.write(record);
+        if (i == ROW_NUM / 2) {
+          writer.flushAllChunkGroups();
+        }
+      }
+    }
+
+    // concatenated value chunks would lose the pairing with the pages of their time chunks
+    try (TsFileSequenceReader reader = new TsFileSequenceReader(path)) {
+      List<ChunkMetadata> chunkMetadataList = reader
+          .getChunkMetadataList(new Path(DEVICE, "s1"));
+      assertEquals(2, chunkMetadataList.size());
+      Chunk chunk = reader.readMemChunk(chunkMetadataList.get(0));
+      chunk.mergeChunk(reader.readMemChunk(chunkMetadataList.get(1)));
+    }
+  }
+}
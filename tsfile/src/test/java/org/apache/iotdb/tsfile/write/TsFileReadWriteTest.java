@@ -84,6 +84,14 @@ public class TsFileReadWriteTest {
     readData((i, field, delta) -> assertEquals(i, field.getLongV()));
   }
 
+  @Test
+  public void autoEncodingTest() throws IOException, WriteProcessException {
+    // chunks written without sampling use the default encoding of the data type
+    writeDataByTSRecord(TSDataType.DOUBLE, (i) -> new DoubleDataPoint("sensor_1", (double) i),
+        TSEncoding.AUTO);
+    readData((i, field, delta) -> assertEquals(i, field.getDoubleV(), delta));
+  }
+
   @Test
   public void floatTest() throws IOException, WriteProcessException {
     writeDataByTSRecord(TSDataType.FLOAT, (i) -> new FloatDataPoint("sensor_1", (float) i), TSEncoding.RLE);
@@ -18,13 +18,19 @@
  */
 package org.apache.iotdb.tsfile.write.writer;
 
+import org.apache.iotdb.tsfile.common.conf.TSFileConfig;
+import org.apache.iotdb.tsfile.common.conf.TSFileDescriptor;
 import org.apache.iotdb.tsfile.constant.TestConstant;
 import org.apache.iotdb.tsfile.encoding.common.EndianType;
 import org.apache.iotdb.tsfile.encoding.decoder.PlainDecoder;
 import org.apache.iotdb.tsfile.encoding.encoder.PlainEncoder;
+import org.apache.iotdb.tsfile.file.header.PageHeader;
+import org.apache.iotdb.tsfile.file.metadata.enums.CompressionType;
 import org.apache.iotdb.tsfile.file.metadata.enums.TSDataType;
 import org.apache.iotdb.tsfile.file.metadata.enums.TSEncoding;
+import org.apache.iotdb.tsfile.file.metadata.statistics.Statistics;
 import org.apache.iotdb.tsfile.utils.Binary;
+import org.apache.iotdb.tsfile.utils.PublicBAOS;
 import org.apache.iotdb.tsfile.utils.ReadWriteForEncodingUtils;
 import org.apache.iotdb.tsfile.write.page.PageWriter;
 import org.apache.iotdb.tsfile.write.schema.MeasurementSchema;
@@ -32,8 +38,10 @@ import org.apache.iotdb.tsfile.constant.TestConstant;
 
 import java.io.IOException;
 import java.nio.ByteBuffer;
+import java.util.List;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.fail;
 import org.junit.Test;
 
@@ -218,4 +226,68 @@ public class PageWriterTest {
       fail();
     }
   }
+
+  @Test
+  public void testWriteSubStatistics() throws IOException {
+    TSFileConfig config = TSFileDescriptor.getInstance().getConfig();
+    long prevInterval = config.getSubPageStatisticsInterval();
+    config.setSubPageStatisticsInterval(10);
+    try {
+      PageWriter writer = new PageWriter(new MeasurementSchema("s0", TSDataType.INT64,
+          TSEncoding.PLAIN, CompressionType.UNCOMPRESSED));
+      // points in [0, 10), [10, 20), [20, 30) and a single point in [40, 50), written one by one
+      // and in a batch
+      for (long time = 0; time < 15; time++) {
+        writer.write(time, time * 2);
+      }
+      long[] timestamps = new long[16];
+      long[] values = new long[16];
+      for (int i = 0; i < 15; i++) {
+        timestamps[i] = 15 + i;
+        values[i] = timestamps[i] * 2;
+      }
+      timestamps[15] = 45;
+      values[15] = 90;
+      writer.write(timestamps, values, 16);
+      int subStatisticsSize = writer.getSubStatisticsSerializedSize();
+      int statisticsSize = writer.getStatistics().getSerializedSize();
+      PublicBAOS pageBuffer = new PublicBAOS();
+      writer.writePageHeaderAndDataIntoBuff(pageBuffer);
+
+      ByteBuffer buffer = ByteBuffer.wrap(pageBuffer.getBuf(), 0, pageBuffer.size());
+      PageHeader header = PageHeader.deserializeFrom(buffer, TSDataType.INT64);
+      assertEquals(31, header.getNumOfValues());
+      assertEquals(buffer.remaining(), header.getUncompressedSize());
+      // the header size the chunk writer estimates with
+      assertEquals(pageBuffer.size() - header.getUncompressedSize(),
+          PageHeader.calculatePageHeaderSizeWithoutStatistics() + statisticsSize
+              + subStatisticsSize);
+      List<Statistics> subStatistics = header.getSubStatistics();
+      assertEquals(4, subStatistics.size());
+      long[][] expected = {{0, 9, 10}, {10, 19, 10}, {20, 29, 10}, {45, 45, 1}};
+      for (int i = 0; i < expected.length; i++) {
+        Statistics statistics = subStatistics.get(i);
+        assertEquals(expected[i][0], statistics.getStartTime());
+        assertEquals(expected[i][1], statistics.getEndTime());
+        assertEquals(expected[i][2], statistics.getCount());
+        assertEquals(expected[i][0] * 2, (long) statistics.getMinValue());
+      }
+
+      // a page inside one interval does not carry sub-page statistics
+      writer.reset(new MeasurementSchema("s0", TSDataType.INT64, TSEncoding.PLAIN,
+          CompressionType.UNCOMPRESSED));
+      writer.initStatistics(TSDataType.INT64);
+      writer.write(50, 1L);
+      writer.write(51, 2L);
+      assertEquals(0, writer.getSubStatisticsSerializedSize());
+      pageBuffer.reset();
+      writer.writePageHeaderAndDataIntoBuff(pageBuffer);
+      header = PageHeader.deserializeFrom(ByteBuffer.wrap(pageBuffer.getBuf(), 0,
+          pageBuffer.size()), TSDataType.INT64);
+      assertEquals(2, header.getNumOfValues());
+      assertNull(header.getSubStatistics());
+    } finally {
+      config.setSubPageStatisticsInterval(prevInterval);
+    }
+  }
 }